@@ -1,31 +1,69 @@
 package org.kaiaccount.account.eco;
 
+import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.account.BulkBalances;
+import org.kaiaccount.account.eco.account.bank.BankAccessIndex;
 import org.kaiaccount.account.eco.account.named.EcoNamedAccount;
 import org.kaiaccount.account.eco.account.player.EcoPlayerAccount;
 import org.kaiaccount.account.eco.account.bank.EcoBankAccount;
+import org.kaiaccount.account.eco.account.leaderboard.Leaderboards;
+import org.kaiaccount.account.eco.account.placeholder.BalancePlaceholders;
+import org.kaiaccount.account.eco.account.player.KnownPlayerIndex;
+import org.kaiaccount.account.eco.account.player.PlayerLookups;
+import org.kaiaccount.account.eco.account.supply.CurrencyHolders;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
 import org.kaiaccount.account.eco.currency.EcoCurrency;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
+import org.kaiaccount.account.eco.currency.migration.CurrencyMigrations;
+import org.kaiaccount.account.eco.job.EconomyJobs;
+import org.kaiaccount.account.eco.schedule.PaymentScheduler;
+import org.kaiaccount.account.eco.utils.PrefixTrie;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.currency.ToCurrency;
 import org.kaiaccount.account.inter.type.named.NamedAccount;
 import org.kaiaccount.account.inter.type.named.ToNamedAccount;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
 import org.kaiaccount.account.inter.type.named.bank.player.ToBankAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccountBuilder;
 import org.kaiaccount.account.inter.type.player.ToPlayerAccount;
 
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.Collections;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
 import java.util.concurrent.LinkedBlockingQueue;
-import java.util.concurrent.LinkedTransferQueue;
 
 public class EcoManager implements AccountInterfaceManager {
-    private final Collection<Currency<?>> currencies = new LinkedTransferQueue<>();
+    private final CurrencyRegistry currencies = new CurrencyRegistry();
+    private final ExchangeRates exchangeRates = new ExchangeRates(this.currencies);
+    private final Leaderboards leaderboards = new Leaderboards(this.currencies);
+    private final MoneySupply moneySupply = new MoneySupply(this.currencies);
+    private final CurrencyHolders currencyHolders = new CurrencyHolders();
+    private final BalancePlaceholders placeholders = new BalancePlaceholders();
+    private final CurrencyMigrations migrations = new CurrencyMigrations();
+    private final EconomyJobs jobs = new EconomyJobs();
+    private final PaymentScheduler scheduler = new PaymentScheduler();
     private final Collection<PlayerAccount> playerAccounts = new LinkedBlockingQueue<>();
+    private final Map<UUID, PlayerAccount> playersById = new ConcurrentHashMap<>();
+    private final PlayerLookups playerLookups = new PlayerLookups();
+    private final KnownPlayerIndex knownPlayers = new KnownPlayerIndex();
     private final Collection<NamedAccount> namedAccounts = new LinkedBlockingQueue<>();
+    private final PrefixTrie<NamedAccount> namedAccountNames = new PrefixTrie<>();
+    private final PrefixTrie<PlayerBankAccount> bankNames = new PrefixTrie<>();
+    private final PrefixTrie<Currency<?>> currencyNames = new PrefixTrie<>();
+    private final PrefixTrie<Currency<?>> currencySymbols = new PrefixTrie<>();
+    private final BankAccessIndex bankAccess = new BankAccessIndex();
 
     @Override
     public @NotNull EcoToolPlugin getVaultPlugin() {
@@ -54,7 +92,7 @@ public class EcoManager implements AccountInterfaceManager {
 
     @Override
     public @NotNull Collection<Currency<?>> getCurrencies() {
-        return Collections.unmodifiableCollection(this.currencies);
+        return this.currencies.getCurrencies();
     }
 
     @Override
@@ -67,9 +105,206 @@ public class EcoManager implements AccountInterfaceManager {
         return Collections.unmodifiableCollection(this.namedAccounts);
     }
 
+    /**
+     * @param player The uuid of the player
+     * @return The account of the player if it is loaded, found without scanning every player
+     */
+    public @NotNull Optional<PlayerAccount> getLoadedPlayerAccount(@NotNull UUID player) {
+        return Optional.ofNullable(this.playersById.get(player));
+    }
+
+    @Override
+    public @NotNull PlayerAccount getPlayerAccount(@NotNull OfflinePlayer player) {
+        long start = System.nanoTime();
+        PlayerAccount account = this.playersById.get(player.getUniqueId());
+        boolean hit = account != null;
+        if (account == null) {
+            account = this.loadPlayerAccount(player);
+        }
+        this.playerLookups.record(PlayerLookups.Method.OFFLINE_PLAYER, hit, System.nanoTime() - start);
+        return account;
+    }
+
+    @Override
+    public @NotNull PlayerAccount getPlayerAccount(@NotNull UUID player) {
+        long start = System.nanoTime();
+        PlayerAccount account = this.playersById.get(player);
+        boolean hit = account != null;
+        if (account == null) {
+            account = this.loadPlayerAccount(Bukkit.getOfflinePlayer(player));
+        }
+        this.playerLookups.record(PlayerLookups.Method.UUID, hit, System.nanoTime() - start);
+        return account;
+    }
+
+    /**
+     * Finds the account of a player by their name, as the Vault bridge does for plugins still using names. Once a
+     * name's uuid is known the account is found through the uuid index, so Bukkit is only asked for a name it has not
+     * seen before
+     *
+     * @param name The name of the player, in any case
+     * @return The account of the player, loaded if it was not already
+     */
+    @SuppressWarnings("deprecation")
+    public @NotNull PlayerAccount getPlayerAccountByName(@NotNull String name) {
+        long start = System.nanoTime();
+        Optional<UUID> cached = this.playerLookups.getUniqueId(name);
+        OfflinePlayer player = null;
+        UUID id;
+        if (cached.isPresent()) {
+            id = cached.get();
+        } else {
+            player = Bukkit.getOfflinePlayer(name);
+            id = player.getUniqueId();
+            if (player.isOnline() || player.hasPlayedBefore()) {
+                this.playerLookups.updateName(id, name);
+            }
+        }
+        PlayerAccount account = this.playersById.get(id);
+        boolean hit = account != null && cached.isPresent();
+        if (account == null) {
+            account = this.loadPlayerAccount(player == null ? Bukkit.getOfflinePlayer(id) : player);
+        }
+        this.playerLookups.record(PlayerLookups.Method.NAME, hit, System.nanoTime() - start);
+        return account;
+    }
+
+    public @NotNull PlayerLookups getPlayerLookups() {
+        return this.playerLookups;
+    }
+
+    public @NotNull KnownPlayerIndex getKnownPlayers() {
+        return this.knownPlayers;
+    }
+
+    /**
+     * Reads the balances of many players at once. Players that are not loaded are read from their file and are not
+     * loaded by this
+     *
+     * @param players  The players to read
+     * @param currency Only read this currency, or null for every currency
+     * @return The non-zero balances of each player. Players with no account are left out
+     * @see BulkBalances
+     */
+    public @NotNull Map<UUID, Map<Currency<?>, BigDecimal>> getBalances(@NotNull Collection<UUID> players,
+                                                                        @Nullable Currency<?> currency) {
+        return BulkBalances.read(this, players, currency, this.getVaultPlugin()::readPlayerBalances);
+    }
+
+    public @NotNull PrefixTrie<NamedAccount> getNamedAccountNames() {
+        return this.namedAccountNames;
+    }
+
+    public @NotNull PrefixTrie<PlayerBankAccount> getBankNames() {
+        return this.bankNames;
+    }
+
+    @Override
+    public @NotNull Optional<Currency<?>> getCurrency(@NotNull Plugin plugin, @NotNull String keyName) {
+        return this.currencies.get(plugin.getName(), keyName);
+    }
+
+    @Override
+    public @NotNull Currency<?> getDefaultCurrency() {
+        return this.currencies.getDefault().orElseThrow(() -> new RuntimeException("No default currency"));
+    }
+
+    public @NotNull CurrencyRegistry getCurrencyRegistry() {
+        return this.currencies;
+    }
+
+    public @NotNull ExchangeRates getExchangeRates() {
+        return this.exchangeRates;
+    }
+
+    public @NotNull Leaderboards getLeaderboards() {
+        return this.leaderboards;
+    }
+
+    public @NotNull MoneySupply getMoneySupply() {
+        return this.moneySupply;
+    }
+
+    public @NotNull CurrencyHolders getCurrencyHolders() {
+        return this.currencyHolders;
+    }
+
+    public @NotNull BalancePlaceholders getPlaceholders() {
+        return this.placeholders;
+    }
+
+    public @NotNull CurrencyMigrations getMigrations() {
+        return this.migrations;
+    }
+
+    public @NotNull EconomyJobs getJobs() {
+        return this.jobs;
+    }
+
+    public @NotNull PaymentScheduler getScheduler() {
+        return this.scheduler;
+    }
+
+    public @NotNull PrefixTrie<Currency<?>> getCurrencyNames() {
+        return this.currencyNames;
+    }
+
+    public @NotNull PrefixTrie<Currency<?>> getCurrencySymbols() {
+        return this.currencySymbols;
+    }
+
+    public @NotNull BankAccessIndex getBankAccess() {
+        return this.bankAccess;
+    }
+
+    public void registerBank(@NotNull PlayerBankAccount bank) {
+        this.bankAccess.index(bank);
+        this.moneySupply.add(bank);
+        this.currencyHolders.add(bank);
+        this.bankNames.put(bank.getAccountName(), bank);
+        String owner = bank.getAccountHolder().getPlayer().getName();
+        if (owner != null) {
+            this.bankNames.put(owner + "." + bank.getAccountName(), bank);
+        }
+    }
+
+    public void deregisterBank(@NotNull PlayerBankAccount bank) {
+        this.bankAccess.remove(bank);
+        this.moneySupply.remove(bank);
+        this.currencyHolders.remove(bank);
+        this.bankNames.remove(bank.getAccountName(), bank);
+        String owner = bank.getAccountHolder().getPlayer().getName();
+        if (owner != null) {
+            this.bankNames.remove(owner + "." + bank.getAccountName(), bank);
+        }
+    }
+
+    /**
+     * Moves the banks a player owns from their previous name to their new one, as banks are also known by
+     * {@code owner.bank}
+     *
+     * @param owner    The player that changed name
+     * @param previous The name the banks were known under, if any
+     * @param name     The player's new name
+     */
+    public void renameBankOwner(@NotNull PlayerAccount owner, @Nullable String previous, @NotNull String name) {
+        for (PlayerBankAccount bank : owner.getBanks()) {
+            if (previous != null) {
+                this.bankNames.remove(previous + "." + bank.getAccountName(), bank);
+            }
+            this.bankNames.put(name + "." + bank.getAccountName(), bank);
+        }
+    }
+
     @Override
     public void registerPlayerAccount(@NotNull PlayerAccount account) {
         this.playerAccounts.add(account);
+        this.playersById.put(account.getPlayer().getUniqueId(), account);
+        this.knownPlayers.add(account.getPlayer());
+        account.getBanks().forEach(this::registerBank);
+        this.leaderboards.add(account);
+        this.moneySupply.add(account);
+        this.currencyHolders.add(account);
     }
 
     @Override
@@ -78,6 +313,9 @@ public class EcoManager implements AccountInterfaceManager {
             throw new IllegalArgumentException("Account is already registered");
         }
         this.namedAccounts.add(account);
+        this.namedAccountNames.put(account.getAccountName(), account);
+        this.moneySupply.add(account);
+        this.currencyHolders.add(account);
     }
 
     @Override
@@ -95,20 +333,39 @@ public class EcoManager implements AccountInterfaceManager {
     @Override
     public void deregisterPlayerAccount(@NotNull PlayerAccount account) {
         this.playerAccounts.remove(account);
+        this.playersById.remove(account.getPlayer().getUniqueId(), account);
+        account.getBanks().forEach(this::deregisterBank);
+        this.leaderboards.remove(account);
+        this.moneySupply.remove(account);
+        this.currencyHolders.remove(account);
+        this.placeholders.remove(account.getPlayer().getUniqueId());
     }
 
     @Override
     public void deregisterNamedAccount(@NotNull NamedAccount account) {
         this.namedAccounts.remove(account);
+        this.namedAccountNames.remove(account.getAccountName(), account);
+        this.moneySupply.remove(account);
+        this.currencyHolders.remove(account);
     }
 
     @Override
     public void registerCurrency(@NotNull Currency<?> currency) {
-        this.currencies.add(currency);
+        this.currencies.register(currency);
+        this.exchangeRates.invalidate();
+        this.currencyNames.put(currency.getPlugin().getName() + "." + currency.getKeyName(), currency);
+        this.currencySymbols.put(currency.getSymbol(), currency);
     }
 
     @Override
     public void deregisterCurrency(@NotNull Currency<?> currency) {
-        this.currencies.remove(currency);
+        this.currencies.deregister(currency);
+        this.exchangeRates.invalidate();
+        this.leaderboards.removeCurrency(currency);
+        this.moneySupply.removeCurrency(currency);
+        this.currencyHolders.removeCurrency(currency);
+        this.placeholders.invalidate();
+        this.currencyNames.remove(currency.getPlugin().getName() + "." + currency.getKeyName(), currency);
+        this.currencySymbols.remove(currency.getSymbol(), currency);
     }
 }
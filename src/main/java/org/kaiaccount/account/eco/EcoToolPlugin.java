@@ -3,6 +3,7 @@ package org.kaiaccount.account.eco;
 import net.milkbowl.vault.economy.Economy;
 import org.bukkit.Bukkit;
 import org.bukkit.command.PluginCommand;
+import org.bukkit.configuration.InvalidConfigurationException;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.bukkit.plugin.RegisteredServiceProvider;
 import org.bukkit.plugin.ServicePriority;
@@ -10,21 +11,44 @@ import org.bukkit.plugin.java.JavaPlugin;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.account.player.DeferredSaves;
 import org.kaiaccount.account.eco.account.player.EcoPlayerAccount;
+import org.kaiaccount.account.eco.account.player.PlayerNameListener;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.commands.AsyncTabCompleteBridge;
 import org.kaiaccount.account.eco.commands.BukkitCommands;
+import org.kaiaccount.account.eco.currency.migration.CurrencyMigrations;
 import org.kaiaccount.account.eco.io.EcoSerializers;
+import org.kaiaccount.account.eco.job.EconomyJob;
+import org.kaiaccount.account.eco.job.EconomyJobs;
+import org.kaiaccount.account.eco.message.Messages;
+import org.kaiaccount.account.eco.metrics.AccountMetrics;
+import org.kaiaccount.account.eco.metrics.Histogram;
+import org.kaiaccount.account.eco.metrics.Metrics;
+import org.kaiaccount.account.eco.schedule.PaymentScheduler;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
+import org.kaiaccount.account.eco.utils.concurrent.ServerTick;
+import org.kaiaccount.account.eco.vault.RecordingEconomy;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.io.Serializable;
 import org.kaiaccount.account.inter.io.Serializer;
+import org.kaiaccount.account.inter.type.Account;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
 import org.kaiaccount.account.inter.vault.VaultEmulationUtils;
 import org.mose.command.BukkitCommandWrapper;
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.ArrayList;
 import java.util.Arrays;
 import java.util.Collection;
+import java.util.List;
+import java.util.Map;
 import java.util.Objects;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.function.Consumer;
 
@@ -32,44 +56,50 @@ public class EcoToolPlugin extends JavaPlugin {
 
     private static EcoToolPlugin plugin;
 
+    private AsyncTabCompleteBridge asyncTabComplete;
+
     public EcoToolPlugin() {
         plugin = this;
     }
 
-    private <T extends Serializable<T>> boolean load(File folder, Serializer<T> serializer, Consumer<T> onEach) {
+    private <T extends Serializable<T>> boolean load(File folder, Serializer<T> serializer, AccountMetrics.LoadKind kind, Consumer<T> onEach) {
         File[] files = folder.listFiles();
         if (files == null) {
             return false;
         }
-        Arrays.stream(files).parallel().filter(File::isFile).map(file -> {
-            YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        List<T> loaded = ComputePool.getInstance().compute(Arrays.asList(files), stream -> stream.filter(File::isFile).map(file -> {
+            long start = System.nanoTime();
             try {
-                return serializer.deserialize(config);
+                byte[] data = Files.readAllBytes(file.toPath());
+                T value = serializer.deserialize(readConfiguration(data));
+                AccountMetrics.recordLoad(kind, start, data.length);
+                return value;
             } catch (IOException e) {
                 System.err.println("Failed to load file: " + file.getPath() + " with " + serializer.getClass().getSimpleName());
                 e.printStackTrace();
                 //noinspection ReturnOfNull
                 return null;
             }
-        }).filter(Objects::nonNull).forEach(onEach);
+        }).filter(Objects::nonNull).toList());
+        loaded.forEach(onEach);
         return true;
     }
 
     private void loadBankAccounts() {
         for (PlayerAccount account : AccountInterface.getManager().getPlayerAccounts()) {
             File folder = new File("plugins/eco/players/" + this.getName() + "/Bank/" + account.getPlayer().getUniqueId() + "/");
-            load(folder, EcoSerializers.BANK, account::registerBank);
+            load(folder, EcoSerializers.BANK, AccountMetrics.LoadKind.BANK, account::registerBank);
         }
     }
 
     private boolean loadCurrencies() {
         File folder = new File("plugins/eco/currencies/" + this.getName() + "/");
-        return load(folder, EcoSerializers.CURRENCY, (c) -> AccountInterface.getManager().registerCurrency(c));
+        return load(folder, EcoSerializers.CURRENCY, AccountMetrics.LoadKind.CURRENCY, (c) -> AccountInterface.getManager().registerCurrency(c));
     }
 
     private boolean loadNamedAccounts() {
         File folder = new File("plugins/eco/named/" + this.getName() + "/");
-        return load(folder, EcoSerializers.NAMED_ACCOUNT, (account) -> AccountInterface.getManager().registerNamedAccount(account));
+        return load(folder, EcoSerializers.NAMED_ACCOUNT, AccountMetrics.LoadKind.NAMED, (account) -> AccountInterface.getManager().registerNamedAccount(account));
     }
 
     public EcoPlayerAccount loadPlayerAccount(@NotNull UUID player) throws IllegalStateException {
@@ -78,26 +108,80 @@ public class EcoToolPlugin extends JavaPlugin {
             throw new IllegalStateException("No file for player");
         }
         try {
-            return loadSingle(file, EcoSerializers.PLAYER);
+            return loadSingle(file, EcoSerializers.PLAYER, AccountMetrics.LoadKind.PLAYER);
         } catch (IOException e) {
             throw new RuntimeException("load error", e);
         }
     }
 
+    /**
+     * Reads only the balances of a player from their file, without making an account for them
+     *
+     * @param player The uuid of the player
+     * @return The non-zero balances, empty if the player has no file
+     */
+    public @NotNull Optional<Map<Currency<?>, BigDecimal>> readPlayerBalances(@NotNull UUID player) {
+        File file = new File("plugins/eco/players/" + this.getName() + "/" + player + ".yml");
+        if (!file.exists()) {
+            return Optional.empty();
+        }
+        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
+        return Optional.of(EcoSerializers.readBalances(config.getConfigurationSection("balance"), file.getName()));
+    }
+
     private boolean loadPlayerAccounts() {
         File folder = new File("plugins/eco/players/" + this.getName() + "/");
-        return load(folder, EcoSerializers.PLAYER, (player) -> AccountInterface.getManager().registerPlayerAccount(player));
+        return load(folder, EcoSerializers.PLAYER, AccountMetrics.LoadKind.PLAYER, (player) -> AccountInterface.getManager().registerPlayerAccount(player));
     }
 
     @SuppressWarnings("SameParameterValue")
-    private <T extends Serializable<T>> T loadSingle(@NotNull File file, @NotNull Serializer<T> serializer) throws IOException {
-        YamlConfiguration config = YamlConfiguration.loadConfiguration(file);
-        return serializer.deserialize(config);
+    private <T extends Serializable<T>> T loadSingle(@NotNull File file, @NotNull Serializer<T> serializer,
+                                                     @NotNull AccountMetrics.LoadKind kind) throws IOException {
+        long start = System.nanoTime();
+        byte[] data = Files.readAllBytes(file.toPath());
+        T value = serializer.deserialize(readConfiguration(data));
+        AccountMetrics.recordLoad(kind, start, data.length);
+        return value;
+    }
+
+    /**
+     * Reads a configuration from the bytes of a file, so the size read is known without asking the file
+     */
+    private static @NotNull YamlConfiguration readConfiguration(byte[] data) throws IOException {
+        YamlConfiguration config = new YamlConfiguration();
+        try {
+            config.loadFromString(new String(data, StandardCharsets.UTF_8));
+        } catch (InvalidConfigurationException e) {
+            throw new IOException(e);
+        }
+        return config;
+    }
+
+    /**
+     * Reads messages.yml from the plugin folder, writing the default file first if there is none
+     *
+     * @return The number of messages read
+     */
+    public int loadMessages() {
+        File file = new File(this.getDataFolder(), "messages.yml");
+        if (!file.exists()) {
+            this.saveResource("messages.yml", false);
+        }
+        return Messages.load(file);
+    }
+
+    private void loadComputePool() {
+        int threads = this.getConfig().getInt("compute.threads", 0);
+        int threshold = this.getConfig().getInt("compute.parallel-threshold", ComputePool.DEFAULT_PARALLEL_THRESHOLD);
+        ComputePool.configure(threads, threshold);
     }
 
     @Override
     public void onLoad() {
+        this.saveDefaultConfig();
+        loadComputePool();
         VaultEmulationUtils.loadService(this);
+        RecordingEconomy.register(this);
         Bukkit.getServicesManager().register(AccountInterfaceManager.class, new EcoManager(), this, ServicePriority.Normal);
         loadCurrencies();
     }
@@ -105,13 +189,36 @@ public class EcoToolPlugin extends JavaPlugin {
     @Override
     public void onEnable() {
         if (!AccountInterface.getManager().getCurrencies().isEmpty()) {
-            if (AccountInterface.getManager().getCurrencies().parallelStream().noneMatch(Currency::isDefault)) {
+            if (AccountInterface.getManager().getCurrencies().stream().noneMatch(Currency::isDefault)) {
                 AccountInterface.getManager().getCurrencies().iterator().next().setDefault(true);
             }
         }
+        loadMessages();
         loadNamedAccounts();
         loadPlayerAccounts();
         loadBankAccounts();
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.getLeaderboards().start(manager.getPlayerAccounts());
+            manager.getPlaceholders().start();
+            Bukkit.getOnlinePlayers()
+                    .forEach(player -> manager.getPlayerLookups().updateName(player.getUniqueId(), player.getName()));
+            Bukkit.getPluginManager().registerEvents(new PlayerNameListener(manager), this);
+            startAccountIndexes(manager);
+            manager.getMigrations().configure(
+                    this.getConfig().getInt("migration.chunk-size", CurrencyMigrations.DEFAULT_CHUNK_SIZE),
+                    this.getConfig().getLong("migration.tick-budget-millis", CurrencyMigrations.DEFAULT_TICK_BUDGET_MILLIS));
+            manager.getJobs().configure(
+                    this.getConfig().getInt("jobs.chunk-size", EconomyJobs.DEFAULT_CHUNK_SIZE),
+                    this.getConfig().getLong("jobs.tick-budget-millis", EconomyJobs.DEFAULT_TICK_BUDGET_MILLIS));
+            manager.getMigrations().resumeAll(this, manager, manager.getCurrencyRegistry(), getLogger()::info);
+            manager.getScheduler().start(this, manager, manager.getCurrencyRegistry(),
+                    this.getConfig().getLong("interest.interval-hours", PaymentScheduler.DEFAULT_INTEREST_HOURS),
+                    getLogger()::info);
+        }
+        ServerTick.start(this);
+        DeferredSaves.start(this);
+        registerGauges();
+        this.asyncTabComplete = AsyncTabCompleteBridge.register(this).orElse(null);
         registerCommand("balance", BukkitCommands.BALANCE);
         registerCommand("currency", BukkitCommands.CURRENCY);
         registerCommand("ecotools", BukkitCommands.ECOTOOLS);
@@ -126,13 +233,73 @@ public class EcoToolPlugin extends JavaPlugin {
 
     }
 
+    @Override
+    public void onDisable() {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.getJobs().cancel();
+            manager.getScheduler().stop();
+            manager.getMigrations().stopAll();
+            manager.getLeaderboards().stop();
+            manager.getPlaceholders().stop();
+            manager.getMoneySupply().stop();
+            manager.getCurrencyHolders().stop();
+        }
+        DeferredSaves.stop();
+        ServerTick.stop();
+        ComputePool.close();
+    }
+
+    private void registerGauges() {
+        Metrics.gauge("queue.deferred-saves", DeferredSaves::getPendingCount);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            Metrics.gauge("accounts.players", () -> manager.getPlayerAccounts().size());
+            Metrics.gauge("accounts.named", () -> manager.getNamedAccounts().size());
+            Metrics.gauge("accounts.known-players", () -> manager.getKnownPlayers().size());
+            Metrics.gauge("queue.standing-orders", () -> manager.getScheduler().getOrders().size());
+            Metrics.gauge("queue.job", () -> manager
+                    .getJobs()
+                    .getCurrent()
+                    .filter(job -> job.getState() == EconomyJob.State.RUNNING)
+                    .map(job -> (long) (job.getSize() - job.getPosition()))
+                    .orElse(0L));
+        }
+    }
+
+    private void startAccountIndexes(@NotNull EcoManager manager) {
+        List<Account> accounts = new ArrayList<>(manager.getPlayerAccounts());
+        manager.getPlayerAccounts().forEach(account -> accounts.addAll(account.getBanks()));
+        accounts.addAll(manager.getNamedAccounts());
+        manager.getCurrencyHolders().start(accounts);
+        MoneySupply supply = manager.getMoneySupply();
+        supply.start(accounts);
+
+        long minutes = this.getConfig().getLong("money-supply.reconcile-minutes", 30);
+        if (minutes <= 0) {
+            return;
+        }
+        long ticks = minutes * 60 * 20;
+        Bukkit.getScheduler().runTaskTimer(this, () -> supply.reconcile().forEach((currency, drift) -> getLogger().warning(
+                "Money supply of " + currency.getKeyName() + " was out by " + drift + ". It has been corrected")), ticks, ticks);
+    }
+
     private void registerCommand(@NotNull String command, @NotNull BukkitCommandWrapper wrapper) {
         PluginCommand bCommand = this.getCommand(command);
         if (bCommand == null) {
             throw new RuntimeException("Unknown command of " + command);
         }
-        bCommand.setExecutor(wrapper);
+        Histogram latency = Metrics.histogram("command." + command + ".nanos");
+        bCommand.setExecutor((sender, bukkitCommand, label, args) -> {
+            long start = System.nanoTime();
+            try {
+                return wrapper.onCommand(sender, bukkitCommand, label, args);
+            } finally {
+                latency.recordSince(start);
+            }
+        });
         bCommand.setTabCompleter(wrapper);
+        if (this.asyncTabComplete != null) {
+            this.asyncTabComplete.register(bCommand, wrapper, BukkitCommands.getCommands(wrapper));
+        }
     }
 
     public static EcoToolPlugin getInstance() {
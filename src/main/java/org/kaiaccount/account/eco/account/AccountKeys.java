@@ -0,0 +1,117 @@
+package org.kaiaccount.account.eco.account;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.named.NamedAccount;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+
+/**
+ * A string key for any account, so a reference to it can be written to disk and found again after a restart.
+ * <p>
+ * Keys are {@code player:<uuid>}, {@code bank:<owner uuid>:<bank name>} and {@code named:<account name>}.
+ */
+public final class AccountKeys {
+
+    private static final String PLAYER = "player:";
+    private static final String BANK = "bank:";
+    private static final String NAMED = "named:";
+
+    private AccountKeys() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static @NotNull Optional<String> toKey(@NotNull Account account) {
+        if (account instanceof PlayerBankAccount bank) {
+            return Optional.of(BANK + bank.getAccountHolder().getPlayer().getUniqueId() + ":" + bank.getAccountName());
+        }
+        if (account instanceof PlayerAccount player) {
+            return Optional.of(PLAYER + player.getPlayer().getUniqueId());
+        }
+        if (account instanceof NamedAccount named) {
+            return Optional.of(NAMED + named.getAccountName());
+        }
+        return Optional.empty();
+    }
+
+    /**
+     * Finds the accounts for many keys. EcoTools looks each key up by uuid or name, other managers are searched in one
+     * pass over the registered accounts
+     *
+     * @param manager The manager holding the accounts
+     * @param keys    The keys to look for
+     * @return The accounts found, by key. Keys with no account are left out
+     */
+    public static @NotNull Map<String, Account> resolve(@NotNull AccountInterfaceManager manager,
+                                                        @NotNull Collection<String> keys) {
+        Map<String, Account> found = new HashMap<>();
+        if (manager instanceof EcoManager ecoManager) {
+            for (String key : keys) {
+                find(ecoManager, key).ifPresent(account -> found.put(key, account));
+            }
+            return found;
+        }
+        Set<String> wanted = new HashSet<>(keys);
+        for (PlayerAccount player : manager.getPlayerAccounts()) {
+            collect(player, wanted, found);
+            for (PlayerBankAccount bank : player.getBanks()) {
+                collect(bank, wanted, found);
+            }
+        }
+        for (NamedAccount named : manager.getNamedAccounts()) {
+            collect(named, wanted, found);
+        }
+        return found;
+    }
+
+    /**
+     * Finds the account of a key from the manager's indexes, without going through every account
+     *
+     * @return The account, if it is loaded
+     */
+    public static @NotNull Optional<Account> find(@NotNull EcoManager manager, @NotNull String key) {
+        try {
+            if (key.startsWith(PLAYER)) {
+                UUID player = UUID.fromString(key.substring(PLAYER.length()));
+                return manager.getLoadedPlayerAccount(player).map(account -> account);
+            }
+            if (key.startsWith(BANK)) {
+                int split = key.indexOf(':', BANK.length());
+                if (split == -1) {
+                    return Optional.empty();
+                }
+                UUID owner = UUID.fromString(key.substring(BANK.length(), split));
+                String bankName = key.substring(split + 1);
+                return manager.getLoadedPlayerAccount(owner).flatMap(account -> account.getBank(bankName)).map(bank -> bank);
+            }
+        } catch (IllegalArgumentException e) {
+            return Optional.empty();
+        }
+        if (key.startsWith(NAMED)) {
+            String name = key.substring(NAMED.length());
+            return manager
+                    .getNamedAccountNames()
+                    .get(name)
+                    .stream()
+                    .filter(named -> named.getAccountName().equals(name))
+                    .<Account>map(named -> named)
+                    .findAny();
+        }
+        return Optional.empty();
+    }
+
+    private static void collect(@NotNull Account account, @NotNull Set<String> wanted,
+                                @NotNull Map<String, Account> found) {
+        toKey(account).filter(wanted::contains).ifPresent(key -> found.put(key, account));
+    }
+}
@@ -0,0 +1,31 @@
+package org.kaiaccount.account.eco.account;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.math.BigDecimal;
+
+@FunctionalInterface
+public interface BalanceChangeListener {
+
+    void onBalanceChange(@NotNull Account account,
+                         @NotNull Currency<?> currency,
+                         @NotNull BigDecimal previous,
+                         @NotNull BigDecimal current);
+
+    /**
+     * Called instead of {@link #onBalanceChange(Account, Currency, BigDecimal, BigDecimal)} by
+     * {@link DenseBalances}, which passes the version its balances were given by this change. The version is taken
+     * while the change is being made, so unlike {@link DenseBalances#getVersion()} it is never that of a later change
+     *
+     * @param version The version of the account's balances that this change produced
+     */
+    default void onBalanceChange(@NotNull Account account,
+                                 @NotNull Currency<?> currency,
+                                 @NotNull BigDecimal previous,
+                                 @NotNull BigDecimal current,
+                                 long version) {
+        this.onBalanceChange(account, currency, previous, current);
+    }
+}
@@ -0,0 +1,119 @@
+package org.kaiaccount.account.eco.account;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.function.Function;
+import java.util.stream.Collectors;
+
+/**
+ * The balances of many players in one call, for leaderboards, team totals and upkeep that would otherwise look up each
+ * player one at a time.
+ * <p>
+ * Loaded players are found through the manager's index by uuid and read from a snapshot of their balances, so the
+ * currencies of one player are always from the same moment. Players that are not loaded have their balances read from
+ * disk without an account being made for them.
+ */
+public final class BulkBalances {
+
+    private BulkBalances() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    /**
+     * @param manager  The manager holding the loaded players
+     * @param players  The players to read
+     * @param currency Only read this currency, or null for every currency
+     * @param unloaded Reads the balances of a player that is not loaded, empty if the player has no account
+     * @return The non-zero balances of each player, in the order given. Players with no account are left out
+     */
+    public static @NotNull Map<UUID, Map<Currency<?>, BigDecimal>> read(@NotNull EcoManager manager,
+                                                                        @NotNull Collection<UUID> players,
+                                                                        @Nullable Currency<?> currency,
+                                                                        @NotNull Function<UUID, Optional<Map<Currency<?>, BigDecimal>>> unloaded) {
+        Map<UUID, Map<Currency<?>, BigDecimal>> found = new HashMap<>();
+        List<UUID> missing = new ArrayList<>();
+        Collection<UUID> unique = new LinkedHashSet<>(players);
+        for (UUID player : unique) {
+            Optional<PlayerAccount> opAccount = manager.getLoadedPlayerAccount(player);
+            if (opAccount.isEmpty()) {
+                missing.add(player);
+                continue;
+            }
+            found.put(player, balances(manager.getCurrencyRegistry(), opAccount.get(), currency));
+        }
+        if (!missing.isEmpty()) {
+            Map<UUID, Map<Currency<?>, BigDecimal>> read = ComputePool.getInstance()
+                    .compute(missing, stream -> stream
+                            .map(player -> unloaded.apply(player).map(balances -> Map.entry(player,
+                                    filter(balances, currency))))
+                            .flatMap(Optional::stream)
+                            .collect(Collectors.toMap(Map.Entry::getKey, Map.Entry::getValue)));
+            found.putAll(read);
+        }
+
+        Map<UUID, Map<Currency<?>, BigDecimal>> ordered = new LinkedHashMap<>();
+        for (UUID player : unique) {
+            Map<Currency<?>, BigDecimal> balances = found.get(player);
+            if (balances != null) {
+                ordered.put(player, balances);
+            }
+        }
+        return Collections.unmodifiableMap(ordered);
+    }
+
+    private static @NotNull Map<Currency<?>, BigDecimal> balances(@NotNull CurrencyRegistry registry,
+                                                                  @NotNull PlayerAccount account,
+                                                                  @Nullable Currency<?> currency) {
+        if (!(account instanceof EcoAccount<?> eco)) {
+            return filter(account.getBalances(), currency);
+        }
+        BigDecimal[] snapshot = eco.getDenseBalances().snapshot().balances();
+        Map<Currency<?>, BigDecimal> balances = new HashMap<>();
+        if (currency != null) {
+            registry.getId(currency)
+                    .stream()
+                    .filter(id -> id < snapshot.length && snapshot[id] != null && snapshot[id].signum() != 0)
+                    .forEach(id -> balances.put(currency, snapshot[id]));
+            return Collections.unmodifiableMap(balances);
+        }
+        for (int id = 0; id < snapshot.length; id++) {
+            BigDecimal amount = snapshot[id];
+            if (amount == null || amount.signum() == 0) {
+                continue;
+            }
+            Currency<?> idCurrency = registry.getById(id);
+            if (idCurrency != null) {
+                balances.put(idCurrency, amount);
+            }
+        }
+        return Collections.unmodifiableMap(balances);
+    }
+
+    private static @NotNull Map<Currency<?>, BigDecimal> filter(@NotNull Map<Currency<?>, BigDecimal> balances,
+                                                                @Nullable Currency<?> currency) {
+        Map<Currency<?>, BigDecimal> filtered = new HashMap<>();
+        balances.forEach((key, amount) -> {
+            if ((currency == null || currency.equals(key)) && amount.signum() != 0) {
+                filtered.put(key, amount);
+            }
+        });
+        return Collections.unmodifiableMap(filtered);
+    }
+}
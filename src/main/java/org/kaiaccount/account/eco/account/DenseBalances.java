@@ -0,0 +1,485 @@
+package org.kaiaccount.account.eco.account;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
+import org.kaiaccount.account.eco.metrics.AccountMetrics;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.Transaction;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.math.BigDecimal;
+import java.util.AbstractMap;
+import java.util.AbstractSet;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashSet;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * An account's balances held in an array indexed by {@link CurrencyRegistry} id.
+ * <p>
+ * The account remains the owner of its balances, this is a copy that is rebuilt the next time it is read after the
+ * account changes. Anything in EcoTools that walks balances of many accounts (worth, leaderboards, totals) should read
+ * from here rather than the account's map. The array grows to fit any currency registered since it was last built.
+ * <p>
+ * When the account says which currencies changed only those slots are updated, and the total worth in the default
+ * currency is adjusted by the difference. The worth is only worked out from scratch when the exchange rates or the
+ * default currency change, or when the account could not say what changed.
+ * <p>
+ * Changes can also be left pending with {@link #markPending(TransactionResult)}, in which case the slots are updated
+ * and listeners told once per currency on the next {@link #flush()} or read, rather than on every change.
+ */
+public class DenseBalances {
+
+    private static final BigDecimal[] EMPTY = new BigDecimal[0];
+    private static final Collection<BalanceChangeListener> LISTENERS = new CopyOnWriteArrayList<>();
+
+    private final @NotNull Account account;
+    private final Set<Currency<?>> pending = ConcurrentHashMap.newKeySet();
+    private volatile boolean pendingRefresh;
+    private volatile BigDecimal[] values = EMPTY;
+    private volatile boolean stale = true;
+    private volatile @Nullable Worth worth;
+    private boolean loaded;
+    private long version;
+
+    public DenseBalances(@NotNull Account account) {
+        this.account = account;
+    }
+
+    public @NotNull Account getAccount() {
+        return this.account;
+    }
+
+    public @NotNull BigDecimal get(int currencyId) {
+        this.flush();
+        BigDecimal[] current = this.current();
+        if (currencyId < 0 || currencyId >= current.length || current[currencyId] == null) {
+            return BigDecimal.ZERO;
+        }
+        return current[currencyId];
+    }
+
+    public @NotNull BigDecimal get(@NotNull Currency<?> currency) {
+        CurrencyRegistry registry = registry();
+        if (registry == null) {
+            return this.account.getBalance(currency);
+        }
+        OptionalInt id = registry.getId(currency);
+        if (id.isEmpty()) {
+            return BigDecimal.ZERO;
+        }
+        return this.get(id.getAsInt());
+    }
+
+    /**
+     * @return A copy of the balances, index by currency id. Currencies the account has never held are null
+     */
+    public @Nullable BigDecimal @NotNull [] toArray() {
+        this.flush();
+        return this.current().clone();
+    }
+
+    /**
+     * @return A map view of the balances, built from the array as it is iterated
+     */
+    @UnmodifiableView
+    public @NotNull Map<Currency<?>, BigDecimal> asMap() {
+        CurrencyRegistry registry = registry();
+        if (registry == null) {
+            return this.account.getBalances();
+        }
+        this.flush();
+        BigDecimal[] current = this.current();
+        return new AbstractMap<>() {
+            @Override
+            public @NotNull Set<Entry<Currency<?>, BigDecimal>> entrySet() {
+                return new AbstractSet<>() {
+                    @Override
+                    public @NotNull Iterator<Entry<Currency<?>, BigDecimal>> iterator() {
+                        return new EntryIterator(registry, current);
+                    }
+
+                    @Override
+                    public int size() {
+                        int size = 0;
+                        for (Iterator<?> iterator = this.iterator(); iterator.hasNext(); iterator.next()) {
+                            size++;
+                        }
+                        return size;
+                    }
+                };
+            }
+        };
+    }
+
+    /**
+     * Called by the account once its balances have been changed
+     */
+    public void markChanged() {
+        if (LISTENERS.isEmpty()) {
+            this.stale = true;
+            this.worth = null;
+            return;
+        }
+        List<Runnable> notifications;
+        synchronized (this) {
+            notifications = this.refresh(true);
+        }
+        notifications.forEach(Runnable::run);
+    }
+
+    /**
+     * Called by the account once a transaction has been applied to it
+     *
+     * @param result The result, or null if what changed is not known
+     */
+    public void markChanged(@Nullable TransactionResult result) {
+        if (result != null) {
+            AccountMetrics.recordTransaction(this.account, result);
+        }
+        if (result instanceof FailedTransactionResult) {
+            return;
+        }
+        if (result == null) {
+            this.markChanged();
+            return;
+        }
+        Set<Currency<?>> changed = new HashSet<>();
+        for (Transaction transaction : result.getTransactions()) {
+            if (transaction.getTarget().equals(this.account)) {
+                changed.add(transaction.getPayment().getCurrency());
+            }
+        }
+        if (changed.isEmpty()) {
+            this.markChanged();
+            return;
+        }
+        this.update(changed);
+    }
+
+    /**
+     * Called by the account once a transaction has been applied to it, leaving the array and listeners to be updated
+     * on the next {@link #flush()}. Many changes to the same currency before then are told to listeners as one
+     *
+     * @param result The result
+     */
+    public void markPending(@NotNull TransactionResult result) {
+        AccountMetrics.recordTransaction(this.account, result);
+        if (result instanceof FailedTransactionResult) {
+            return;
+        }
+        boolean found = false;
+        for (Transaction transaction : result.getTransactions()) {
+            if (transaction.getTarget().equals(this.account)) {
+                this.pending.add(transaction.getPayment().getCurrency());
+                found = true;
+            }
+        }
+        if (!found) {
+            this.pendingRefresh = true;
+        }
+    }
+
+    /**
+     * Applies any changes left by {@link #markPending(TransactionResult)}. Reads flush first, so the array never
+     * falls behind the account
+     */
+    public void flush() {
+        if (this.pendingRefresh) {
+            this.pendingRefresh = false;
+            this.pending.clear();
+            this.markChanged();
+            return;
+        }
+        if (this.pending.isEmpty()) {
+            return;
+        }
+        Set<Currency<?>> changed = new HashSet<>();
+        Iterator<Currency<?>> iterator = this.pending.iterator();
+        while (iterator.hasNext()) {
+            changed.add(iterator.next());
+            iterator.remove();
+        }
+        if (!changed.isEmpty()) {
+            this.update(changed);
+        }
+    }
+
+    /**
+     * @return The total worth of the account in the default currency, or empty if the default currency has no worth
+     */
+    public @NotNull Optional<BigDecimal> getWorth() {
+        CurrencyRegistry registry = registry();
+        if (registry == null) {
+            return this.calculateWorth();
+        }
+        this.flush();
+        Optional<Currency<?>> opDefault = registry.getDefault();
+        OptionalInt defaultId = opDefault.map(registry::getId).orElse(OptionalInt.empty());
+        ExchangeRates.Table rates = ExchangeRates.current();
+        if (defaultId.isEmpty() || !rates.hasWorth(opDefault.get())) {
+            return Optional.empty();
+        }
+        Worth cached = this.worth;
+        if (cached != null && !this.stale && cached.isFor(rates, defaultId.getAsInt())) {
+            return Optional.of(cached.value());
+        }
+        synchronized (this) {
+            BigDecimal[] current = this.current();
+            cached = this.worth;
+            if (cached != null && cached.isFor(rates, defaultId.getAsInt())) {
+                return Optional.of(cached.value());
+            }
+            BigDecimal total = BigDecimal.ZERO;
+            for (int id = 0; id < current.length; id++) {
+                total = total.add(convert(rates, id, defaultId.getAsInt(), current[id]));
+            }
+            this.worth = new Worth(rates, defaultId.getAsInt(), total);
+            return Optional.of(total);
+        }
+    }
+
+    private @NotNull Optional<BigDecimal> calculateWorth() {
+        Currency<?> defaultCurrency;
+        try {
+            defaultCurrency = AccountInterface.getManager().getDefaultCurrency();
+        } catch (RuntimeException e) {
+            return Optional.empty();
+        }
+        ExchangeRates.Table rates = ExchangeRates.current();
+        if (!rates.hasWorth(defaultCurrency)) {
+            return Optional.empty();
+        }
+        return Optional.of(rates.convertAll(this.account.getBalances(), defaultCurrency));
+    }
+
+    /**
+     * @return A number that goes up every time the balances are rebuilt or changed. This may already be the version
+     * of a later change by the time a listener reads it, listeners should use the version they are given instead
+     */
+    public synchronized long getVersion() {
+        return this.version;
+    }
+
+    /**
+     * @return The balances along with the version they are from
+     */
+    public @NotNull Snapshot snapshot() {
+        this.flush();
+        synchronized (this) {
+            BigDecimal[] current = this.current();
+            return new Snapshot(this.version, current.clone());
+        }
+    }
+
+    /**
+     * Builds the array now so that the next change can be compared against it
+     */
+    public synchronized void load() {
+        if (this.loaded && !this.stale) {
+            return;
+        }
+        this.refresh(false);
+    }
+
+    private @NotNull BigDecimal[] current() {
+        if (!this.stale) {
+            return this.values;
+        }
+        synchronized (this) {
+            this.refresh(false);
+            return this.values;
+        }
+    }
+
+    /**
+     * Listeners are told of the changes once the monitor is released, so a listener that reads another account or
+     * takes its own lock cannot deadlock against this account. Listeners may therefore be told of changes out of
+     * order and should use the version they are given
+     */
+    private void update(@NotNull Collection<Currency<?>> changed) {
+        List<Runnable> notifications;
+        synchronized (this) {
+            CurrencyRegistry registry = registry();
+            notifications = (this.stale || !this.loaded || registry == null) ? null : this.apply(registry, changed);
+        }
+        if (notifications == null) {
+            this.markChanged();
+            return;
+        }
+        notifications.forEach(Runnable::run);
+    }
+
+    private @NotNull List<Runnable> apply(@NotNull CurrencyRegistry registry, @NotNull Collection<Currency<?>> changed) {
+        BigDecimal[] previous = this.values;
+        BigDecimal[] next = Arrays.copyOf(previous, Math.max(previous.length, registry.getIdCapacity()));
+        Worth cached = this.worth;
+        BigDecimal total = cached == null ? null : cached.value();
+        List<Runnable> notifications = new ArrayList<>();
+        long version = this.version + 1;
+        for (Currency<?> currency : changed) {
+            OptionalInt opId = registry.getId(currency);
+            if (opId.isEmpty() || opId.getAsInt() >= next.length) {
+                continue;
+            }
+            int id = opId.getAsInt();
+            BigDecimal before = next[id] == null ? BigDecimal.ZERO : next[id];
+            BigDecimal after = this.account.getBalance(currency);
+            next[id] = after;
+            if (before.compareTo(after) == 0) {
+                continue;
+            }
+            if (total != null) {
+                total = total
+                        .subtract(convert(cached.rates(), id, cached.currencyId(), before))
+                        .add(convert(cached.rates(), id, cached.currencyId(), after));
+            }
+            for (BalanceChangeListener listener : LISTENERS) {
+                notifications.add(() -> listener.onBalanceChange(this.account, currency, before, after, version));
+            }
+        }
+        this.values = next;
+        this.version = version;
+        if (total != null) {
+            this.worth = new Worth(cached.rates(), cached.currencyId(), total);
+        }
+        return notifications;
+    }
+
+    /**
+     * Rebuilds the array from the account. Must be called while holding the monitor
+     *
+     * @return The notifications to run once the monitor is released, empty unless notify is true
+     */
+    private @NotNull List<Runnable> refresh(boolean notify) {
+        CurrencyRegistry registry = registry();
+        if (registry == null) {
+            return Collections.emptyList();
+        }
+        BigDecimal[] next = new BigDecimal[registry.getIdCapacity()];
+        for (Map.Entry<Currency<?>, BigDecimal> entry : this.account.getBalances().entrySet()) {
+            OptionalInt id = registry.getId(entry.getKey());
+            if (id.isPresent() && id.getAsInt() < next.length) {
+                next[id.getAsInt()] = entry.getValue();
+            }
+        }
+        BigDecimal[] previous = this.values;
+        boolean wasLoaded = this.loaded;
+        this.values = next;
+        long version = ++this.version;
+        this.stale = false;
+        this.loaded = true;
+        this.worth = null;
+
+        List<Runnable> notifications = new ArrayList<>();
+        if (notify && wasLoaded) {
+            int length = Math.max(previous.length, next.length);
+            for (int id = 0; id < length; id++) {
+                BigDecimal before = (id < previous.length && previous[id] != null) ? previous[id] : BigDecimal.ZERO;
+                BigDecimal after = (id < next.length && next[id] != null) ? next[id] : BigDecimal.ZERO;
+                if (before.compareTo(after) == 0) {
+                    continue;
+                }
+                Currency<?> currency = registry.getById(id);
+                if (currency == null) {
+                    continue;
+                }
+                for (BalanceChangeListener listener : LISTENERS) {
+                    notifications.add(() -> listener.onBalanceChange(this.account, currency, before, after, version));
+                }
+            }
+        }
+        return notifications;
+    }
+
+    public static void addListener(@NotNull BalanceChangeListener listener) {
+        LISTENERS.add(listener);
+    }
+
+    public static void removeListener(@NotNull BalanceChangeListener listener) {
+        LISTENERS.remove(listener);
+    }
+
+    private static @NotNull BigDecimal convert(@NotNull ExchangeRates.Table rates, int fromId, int toId,
+                                               @Nullable BigDecimal amount) {
+        if (amount == null || amount.signum() == 0) {
+            return BigDecimal.ZERO;
+        }
+        BigDecimal rate = rates.getRate(fromId, toId);
+        if (rate == null) {
+            return BigDecimal.ZERO;
+        }
+        return amount.multiply(rate, ExchangeRates.MATH_CONTEXT);
+    }
+
+    private static @Nullable CurrencyRegistry registry() {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getCurrencyRegistry();
+        }
+        return null;
+    }
+
+    public record Snapshot(long version, @Nullable BigDecimal @NotNull [] balances) {
+    }
+
+    private record Worth(@NotNull ExchangeRates.Table rates, int currencyId, @NotNull BigDecimal value) {
+
+        private boolean isFor(@NotNull ExchangeRates.Table rates, int currencyId) {
+            return this.rates == rates && this.currencyId == currencyId;
+        }
+    }
+
+    private static final class EntryIterator implements Iterator<Map.Entry<Currency<?>, BigDecimal>> {
+
+        private final CurrencyRegistry registry;
+        private final BigDecimal[] values;
+        private int next = -1;
+
+        private EntryIterator(CurrencyRegistry registry, BigDecimal[] values) {
+            this.registry = registry;
+            this.values = values;
+            this.advance();
+        }
+
+        private void advance() {
+            do {
+                this.next++;
+            } while (this.next < this.values.length
+                    && (this.values[this.next] == null || this.registry.getById(this.next) == null));
+        }
+
+        @Override
+        public boolean hasNext() {
+            return this.next < this.values.length;
+        }
+
+        @Override
+        public Map.Entry<Currency<?>, BigDecimal> next() {
+            if (!this.hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Map.Entry<Currency<?>, BigDecimal> entry = new AbstractMap.SimpleImmutableEntry<>(
+                    this.registry.getById(this.next), this.values[this.next]);
+            this.advance();
+            return entry;
+        }
+    }
+}
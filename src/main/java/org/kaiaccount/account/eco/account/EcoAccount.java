@@ -3,12 +3,19 @@ package org.kaiaccount.account.eco.account;
 import org.bukkit.configuration.file.YamlConfiguration;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.account.eco.account.history.TransactionHistory;
+import org.kaiaccount.account.eco.metrics.AccountMetrics;
 import org.kaiaccount.account.eco.utils.CommonUtils;
 import org.kaiaccount.account.inter.io.Serializable;
 import org.kaiaccount.account.inter.transfer.payment.Payment;
 import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
 import org.kaiaccount.account.inter.type.Account;
 
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.util.Optional;
 import java.util.concurrent.CompletableFuture;
 
 public interface EcoAccount<Self extends Serializable<Self>> extends Account, Serializable<Self> {
@@ -19,6 +26,36 @@ public interface EcoAccount<Self extends Serializable<Self>> extends Account, Se
 
     TransactionHistory getTransactionHistory();
 
+    @NotNull DenseBalances getDenseBalances();
+
+    default @NotNull Optional<BigDecimal> getTotalWorth() {
+        return this.getDenseBalances().getWorth();
+    }
+
+    /**
+     * Writes the account to its file. The metrics are given the size of the data written, so the file is not read
+     * back
+     */
+    @Override
+    default void save() throws IOException {
+        if (!this.isSaving()) {
+            //Will only be false if multiple transactions occur
+            return;
+        }
+        long start = System.nanoTime();
+        YamlConfiguration configuration = new YamlConfiguration();
+        @SuppressWarnings("unchecked") Self self = (Self) this;
+        this.getSerializer().serialize(configuration, self);
+        byte[] data = configuration.saveToString().getBytes(StandardCharsets.UTF_8);
+        File file = this.getFile();
+        File folder = file.getParentFile();
+        if (folder != null) {
+            Files.createDirectories(folder.toPath());
+        }
+        Files.write(file.toPath(), data);
+        AccountMetrics.recordSave(this, start, data.length, this.getTransactionHistory().size());
+    }
+
     @Override
     default void save(@NotNull YamlConfiguration configuration) {
         if (!this.isSaving()) {
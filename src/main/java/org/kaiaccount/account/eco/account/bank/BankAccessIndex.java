@@ -0,0 +1,96 @@
+package org.kaiaccount.account.eco.account.bank;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.inter.type.named.bank.BankPermission;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumSet;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which banks each player can access, and with what permissions.
+ * <p>
+ * Permissions are held as a bitset of {@link BankPermission#ordinal()} so checking one is a single mask. A bank is
+ * reindexed as a whole whenever its accessors change.
+ */
+public class BankAccessIndex {
+
+    private final Map<UUID, Map<PlayerBankAccount, Long>> access = new ConcurrentHashMap<>();
+    private final Map<PlayerBankAccount, Set<UUID>> accessors = new ConcurrentHashMap<>();
+
+    public synchronized void index(@NotNull PlayerBankAccount bank) {
+        this.remove(bank);
+        Set<UUID> ids = new HashSet<>(bank.getAccounts().keySet());
+        ids.add(bank.getAccountHolder().getPlayer().getUniqueId());
+
+        Set<UUID> indexed = new HashSet<>();
+        for (UUID id : ids) {
+            long bits = toBits(bank.getAccountPermissions(id));
+            if (bits == 0) {
+                continue;
+            }
+            this.access.computeIfAbsent(id, key -> new ConcurrentHashMap<>()).put(bank, bits);
+            indexed.add(id);
+        }
+        this.accessors.put(bank, indexed);
+    }
+
+    public synchronized void remove(@NotNull PlayerBankAccount bank) {
+        Set<UUID> previous = this.accessors.remove(bank);
+        if (previous == null) {
+            return;
+        }
+        for (UUID id : previous) {
+            Map<PlayerBankAccount, Long> banks = this.access.get(id);
+            if (banks == null) {
+                continue;
+            }
+            banks.remove(bank);
+            if (banks.isEmpty()) {
+                this.access.remove(id);
+            }
+        }
+    }
+
+    public @NotNull List<PlayerBankAccount> getBanks(@NotNull UUID accessor, @NotNull BankPermission permission) {
+        Map<PlayerBankAccount, Long> banks = this.access.get(accessor);
+        if (banks == null) {
+            return Collections.emptyList();
+        }
+        long mask = 1L << permission.ordinal();
+        return banks.entrySet().stream().filter(entry -> (entry.getValue() & mask) != 0).map(Map.Entry::getKey).toList();
+    }
+
+    public @NotNull Set<BankPermission> getPermissions(@NotNull UUID accessor, @NotNull PlayerBankAccount bank) {
+        Map<PlayerBankAccount, Long> banks = this.access.get(accessor);
+        if (banks == null) {
+            return Collections.emptySet();
+        }
+        Long bits = banks.get(bank);
+        if (bits == null) {
+            return Collections.emptySet();
+        }
+        Set<BankPermission> permissions = EnumSet.noneOf(BankPermission.class);
+        for (BankPermission permission : BankPermission.values()) {
+            if ((bits & (1L << permission.ordinal())) != 0) {
+                permissions.add(permission);
+            }
+        }
+        return permissions;
+    }
+
+    private static long toBits(@NotNull Collection<BankPermission> permissions) {
+        long bits = 0;
+        for (BankPermission permission : permissions) {
+            bits |= 1L << permission.ordinal();
+        }
+        return bits;
+    }
+}
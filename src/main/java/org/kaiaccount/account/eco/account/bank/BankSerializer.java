@@ -11,6 +11,7 @@ import org.kaiaccount.account.eco.account.history.EntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.TransactionHistory;
+import org.kaiaccount.account.eco.io.EcoSerializers;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.io.Serializer;
 import org.kaiaccount.account.inter.transfer.TransactionType;
@@ -30,6 +31,7 @@ public class BankSerializer implements Serializer<EcoBankAccount> {
     public static final String BANK_OWNER = "meta.owner";
     public static final String ACCOUNT_BALANCE = "account.balance";
     public static final String ACCOUNT_ACCESSORS = "account.accessors";
+    public static final String INTEREST_RATE = "account.interest-rate";
 
     @Override
     public void serialize(@NotNull YamlConfiguration configuration, @NotNull EcoBankAccount value) {
@@ -39,11 +41,12 @@ public class BankSerializer implements Serializer<EcoBankAccount> {
         accounts.remove(value.getAccountHolder().getPlayer().getUniqueId());
 
         accounts.forEach((account, permission) -> configuration.set(ACCOUNT_ACCESSORS + "." + account.toString(),
-                permission.parallelStream().map(Enum::name).toList()));
+                permission.stream().map(Enum::name).toList()));
         value
                 .getBalances()
                 .forEach((currency, amount) -> configuration.set(ACCOUNT_BALANCE + "." + currency.getPlugin().getName() + "." + currency.getKeyName(),
                         amount.doubleValue()));
+        value.getInterestRate().ifPresent(rate -> configuration.set(INTEREST_RATE, rate.doubleValue()));
 
         TransactionHistory history = value.getTransactionHistory();
         configuration.set("transactions.size", history.size());
@@ -100,49 +103,21 @@ public class BankSerializer implements Serializer<EcoBankAccount> {
                     continue;
                 }
                 List<String> permissionsString = accountSection.getStringList(accountIdString);
-                List<BankPermission> permissions = permissionsString.parallelStream().map(BankPermission::valueOf).toList();
+                List<BankPermission> permissions = permissionsString.stream().map(BankPermission::valueOf).toList();
                 accounts.put(uuid, permissions);
             }
         }
 
-        ConfigurationSection balanceSection = configuration.getConfigurationSection(ACCOUNT_BALANCE);
-        if (balanceSection != null) {
-            for (String pluginName : balanceSection.getKeys(false)) {
-                ConfigurationSection currencyNameSection = balanceSection.getConfigurationSection(pluginName);
-                if (currencyNameSection == null) {
-                    EcoToolPlugin
-                            .getInstance()
-                            .getLogger()
-                            .warning("Could not read the currencies of the plugin '" + pluginName + "' in yaml " + configuration.getName() + ". Skipping");
-                    continue;
-                }
-                for (String currencyName : currencyNameSection.getKeys(false)) {
-                    double amount = currencyNameSection.getDouble(currencyName);
-                    Optional<Currency<?>> opCurrency = AccountInterface
-                            .getManager()
-                            .getCurrencies()
-                            .parallelStream()
-                            .filter(cur -> cur.getPlugin().getName().equals(pluginName))
-                            .filter(cur -> cur.getKeyName().equals(currencyName))
-                            .findAny();
-                    if (opCurrency.isEmpty()) {
-                        EcoToolPlugin
-                                .getInstance()
-                                .getLogger()
-                                .warning("Could not find the currency of " + pluginName + "." + currencyName + " in yaml " + configuration.getName()
-                                        + ". Skipping");
-                        continue;
-                    }
-                    balance.put(opCurrency.get(), BigDecimal.valueOf(amount));
-                }
-            }
-        }
+        balance.putAll(EcoSerializers.readBalances(configuration.getConfigurationSection(ACCOUNT_BALANCE), configuration.getName()));
         PlayerAccount owner = AccountInterface.getManager().getPlayerAccount(bankOwnerId);
         EcoBankAccount account = new EcoBankAccount(new PlayerBankAccountBuilder()
                 .setAccount(owner)
                 .setName(bankName)
                 .setAccountHolders(accounts)
                 .setInitialBalance(balance));
+        if (configuration.contains(INTEREST_RATE)) {
+            account.setInterestRate(BigDecimal.valueOf(configuration.getDouble(INTEREST_RATE)));
+        }
 
         int transactionSize = configuration.getInt("transactions.size");
         TransactionHistory transactionHistory = account.getTransactionHistory();
@@ -1,6 +1,10 @@
 package org.kaiaccount.account.eco.account.bank;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.DenseBalances;
 import org.kaiaccount.account.eco.account.SyncedEcoAccount;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
@@ -22,8 +26,10 @@ import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccountBuil
 
 import java.io.File;
 import java.io.IOException;
+import java.math.BigDecimal;
 import java.util.Collection;
 import java.util.List;
+import java.util.Optional;
 import java.util.UUID;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -31,7 +37,9 @@ import java.util.function.Function;
 public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerBankAccount, SyncedEcoAccount<EcoBankAccount>, Serializable<EcoBankAccount> {
 
     private final TransactionHistory history;
+    private final DenseBalances denseBalances = new DenseBalances(this);
     private boolean shouldSave = true;
+    private @Nullable BigDecimal interestRate;
 
     public EcoBankAccount(@NotNull PlayerBankAccountBuilder builder) {
         super(builder);
@@ -41,6 +49,7 @@ public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerB
     @Override
     public void addAccount(@NotNull UUID uuid, Collection<BankPermission> permissions) {
         super.addAccount(uuid, permissions);
+        this.reindexAccess();
         try {
             this.save();
         } catch (IOException e) {
@@ -51,6 +60,7 @@ public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerB
     @Override
     public void removeAccount(@NotNull UUID uuid) {
         super.removeAccount(uuid);
+        this.reindexAccess();
         try {
             this.save();
         } catch (IOException e) {
@@ -58,6 +68,23 @@ public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerB
         }
     }
 
+    private void reindexAccess() {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.getBankAccess().index(this);
+        }
+    }
+
+    /**
+     * @return The percentage of each balance paid into the bank as interest, if the bank earns any
+     */
+    public @NotNull Optional<BigDecimal> getInterestRate() {
+        return Optional.ofNullable(this.interestRate);
+    }
+
+    public void setInterestRate(@Nullable BigDecimal interestRate) {
+        this.interestRate = interestRate;
+    }
+
     @Override
     public Serializer<EcoBankAccount> getSerializer() {
         return EcoSerializers.BANK;
@@ -83,6 +110,11 @@ public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerB
         return this.history;
     }
 
+    @Override
+    public @NotNull DenseBalances getDenseBalances() {
+        return this.denseBalances;
+    }
+
     @NotNull
     @Override
     public CompletableFuture<TransactionResult> multipleTransaction(@NotNull Function<IsolatedAccount, CompletableFuture<? extends TransactionResult>>... transactions) {
@@ -90,13 +122,14 @@ public class EcoBankAccount extends AbstractPlayerBankAccount implements PlayerB
     }
 
     private void saveBank(@NotNull TransactionResult result) {
+        this.denseBalances.markChanged(result);
         if (result instanceof FailedTransactionResult) {
             //no changes
             return;
         }
         List<SimpleEntryTransactionHistory> transactions = result
                 .getTransactions()
-                .parallelStream()
+                .stream()
                 .filter(transaction -> transaction.getTarget().equals(EcoBankAccount.this))
                 .map(transaction -> new EntryTransactionHistoryBuilder().fromTransaction(transaction).build())
                 .toList();
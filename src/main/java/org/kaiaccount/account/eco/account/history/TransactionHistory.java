@@ -5,6 +5,7 @@ import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.UnmodifiableView;
 import org.kaiaccount.account.eco.account.EcoAccount;
 import org.kaiaccount.account.eco.utils.SortedList;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
 
 import java.time.LocalDate;
 import java.time.chrono.ChronoLocalDateTime;
@@ -12,6 +13,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.List;
+import java.util.Optional;
 
 public class TransactionHistory extends SortedList<EntryTransactionHistory> {
 
@@ -31,15 +33,24 @@ public class TransactionHistory extends SortedList<EntryTransactionHistory> {
         return this.target;
     }
 
+    @CheckReturnValue
+    public Optional<EntryTransactionHistory> getEarliest() {
+        return Optional.ofNullable(this.peekFirst());
+    }
+
+    @CheckReturnValue
+    public Optional<EntryTransactionHistory> getLatest() {
+        return Optional.ofNullable(this.peekLast());
+    }
 
     @CheckReturnValue
     @UnmodifiableView
     public List<EntryTransactionHistory> getBetween(@NotNull ChronoLocalDateTime<LocalDate> start, @NotNull ChronoLocalDateTime<LocalDate> end) {
-        return this
-                .parallelStream()
-                .filter(history -> history.getTime().isAfter(start))
-                .filter(history -> history.getTime().isBefore(end))
-                .toList();
+        return ComputePool.getInstance()
+                .compute(this, stream -> stream
+                        .filter(history -> history.getTime().isAfter(start))
+                        .filter(history -> history.getTime().isBefore(end))
+                        .toList());
     }
 
     @Override
@@ -0,0 +1,83 @@
+package org.kaiaccount.account.eco.account.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.utils.RankedTree;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.UUID;
+
+/**
+ * Players ordered by a single value, highest first. Players with nothing are left off.
+ */
+public class Leaderboard {
+
+    private final Map<UUID, LeaderboardEntry> entries = new HashMap<>();
+    private final RankedTree<LeaderboardEntry> order = new RankedTree<>(LeaderboardEntry.ORDER);
+
+    public synchronized void update(@NotNull PlayerAccount account, @NotNull BigDecimal value) {
+        UUID id = account.getPlayer().getUniqueId();
+        LeaderboardEntry previous = this.entries.remove(id);
+        if (previous != null) {
+            this.order.remove(previous);
+        }
+        if (value.signum() <= 0) {
+            return;
+        }
+        LeaderboardEntry entry = new LeaderboardEntry(id, account, value);
+        this.entries.put(id, entry);
+        this.order.add(entry);
+    }
+
+    public synchronized void remove(@NotNull UUID id) {
+        LeaderboardEntry previous = this.entries.remove(id);
+        if (previous != null) {
+            this.order.remove(previous);
+        }
+    }
+
+    public synchronized void clear() {
+        this.entries.clear();
+        this.order.clear();
+    }
+
+    public synchronized int size() {
+        return this.order.size();
+    }
+
+    public synchronized @NotNull Optional<LeaderboardEntry> getEntry(@NotNull UUID id) {
+        return Optional.ofNullable(this.entries.get(id));
+    }
+
+    /**
+     * @return The position of the player starting at 1, or empty if the player is not on the board
+     */
+    public synchronized @NotNull OptionalInt getRank(@NotNull UUID id) {
+        LeaderboardEntry entry = this.entries.get(id);
+        if (entry == null) {
+            return OptionalInt.empty();
+        }
+        return OptionalInt.of(this.order.indexOf(entry) + 1);
+    }
+
+    public synchronized @NotNull List<LeaderboardEntry> getTop(int amount) {
+        return this.order.range(0, amount);
+    }
+
+    /**
+     * @param page     The page starting at 1
+     * @param pageSize The entries on each page
+     */
+    public synchronized @NotNull List<LeaderboardEntry> getPage(int page, int pageSize) {
+        return this.order.range((page - 1) * pageSize, pageSize);
+    }
+
+    public synchronized int getPageCount(int pageSize) {
+        return Math.max(1, (this.order.size() + pageSize - 1) / pageSize);
+    }
+}
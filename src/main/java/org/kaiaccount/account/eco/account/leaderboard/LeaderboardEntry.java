@@ -0,0 +1,18 @@
+package org.kaiaccount.account.eco.account.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.Comparator;
+import java.util.UUID;
+
+public record LeaderboardEntry(@NotNull UUID id, @NotNull PlayerAccount account, @NotNull BigDecimal value) {
+
+    /**
+     * Highest value first. Players with the same value are kept in a fixed order by their id
+     */
+    public static final Comparator<LeaderboardEntry> ORDER = Comparator
+            .comparing(LeaderboardEntry::value, Comparator.reverseOrder())
+            .thenComparing(LeaderboardEntry::id);
+}
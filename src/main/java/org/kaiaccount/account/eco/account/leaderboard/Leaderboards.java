@@ -0,0 +1,142 @@
+package org.kaiaccount.account.eco.account.leaderboard;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.eco.account.BalanceChangeListener;
+import org.kaiaccount.account.eco.account.DenseBalances;
+import org.kaiaccount.account.eco.account.player.EcoPlayerAccount;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * A {@link Leaderboard} for each currency and one for total worth, kept up to date as balances change.
+ * <p>
+ * Each balance change moves one player on one currency board, and on the worth board, in O(log n). The worth board
+ * is rebuilt the next time it is read after the exchange rates or default currency change.
+ */
+public class Leaderboards implements BalanceChangeListener {
+
+    private final @NotNull CurrencyRegistry registry;
+    private final Map<UUID, EcoPlayerAccount> accounts = new ConcurrentHashMap<>();
+    private final Map<Currency<?>, Leaderboard> currencies = new ConcurrentHashMap<>();
+    private final Leaderboard worth = new Leaderboard();
+    private volatile @Nullable WorthKey worthKey;
+    private volatile boolean running;
+
+    public Leaderboards(@NotNull CurrencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Builds every board from the accounts and starts listening for balance changes
+     */
+    public synchronized void start(@NotNull Collection<PlayerAccount> players) {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        DenseBalances.addListener(this);
+        players.forEach(this::add);
+    }
+
+    public synchronized void stop() {
+        this.running = false;
+        DenseBalances.removeListener(this);
+        this.accounts.clear();
+        this.currencies.clear();
+        this.worth.clear();
+        this.worthKey = null;
+    }
+
+    public void add(@NotNull PlayerAccount account) {
+        if (!this.running || !(account instanceof EcoPlayerAccount ecoAccount)) {
+            return;
+        }
+        this.accounts.put(account.getPlayer().getUniqueId(), ecoAccount);
+        DenseBalances balances = ecoAccount.getDenseBalances();
+        balances.load();
+        balances.asMap().forEach((currency, amount) -> this.getLeaderboard(currency).update(account, amount));
+        if (this.worthKey != null) {
+            this.worth.update(account, ecoAccount.getTotalWorth().orElse(BigDecimal.ZERO));
+        }
+    }
+
+    public void remove(@NotNull PlayerAccount account) {
+        UUID id = account.getPlayer().getUniqueId();
+        this.accounts.remove(id);
+        this.currencies.values().forEach(board -> board.remove(id));
+        this.worth.remove(id);
+    }
+
+    public void removeCurrency(@NotNull Currency<?> currency) {
+        this.currencies.remove(currency);
+    }
+
+    public @NotNull Leaderboard getLeaderboard(@NotNull Currency<?> currency) {
+        return this.currencies.computeIfAbsent(currency, key -> new Leaderboard());
+    }
+
+    /**
+     * @return The worth board, or empty if the default currency has no worth
+     */
+    public @NotNull Optional<Leaderboard> getWorthLeaderboard() {
+        Optional<Currency<?>> opDefault = this.registry.getDefault();
+        ExchangeRates.Table rates = ExchangeRates.current();
+        if (opDefault.isEmpty() || !rates.hasWorth(opDefault.get())) {
+            return Optional.empty();
+        }
+        WorthKey key = new WorthKey(rates, opDefault.get());
+        if (!key.equals(this.worthKey)) {
+            synchronized (this) {
+                if (!key.equals(this.worthKey)) {
+                    this.worth.clear();
+                    this.accounts.values()
+                            .forEach(account -> this.worth.update(account, account.getTotalWorth().orElse(BigDecimal.ZERO)));
+                    this.worthKey = key;
+                }
+            }
+        }
+        return Optional.of(this.worth);
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current) {
+        if (!(account instanceof EcoPlayerAccount player) || !this.accounts.containsKey(player.getPlayer().getUniqueId())) {
+            return;
+        }
+        this.getLeaderboard(currency).update(player, current);
+        if (this.worthKey != null) {
+            this.worth.update(player, player.getTotalWorth().orElse(BigDecimal.ZERO));
+        }
+    }
+
+    private record WorthKey(@NotNull ExchangeRates.Table rates, @NotNull Currency<?> currency) {
+
+        @Override
+        public boolean equals(Object obj) {
+            return obj instanceof WorthKey other && this.rates == other.rates && this.currency == other.currency;
+        }
+
+        @Override
+        public int hashCode() {
+            return System.identityHashCode(this.rates) * 31 + System.identityHashCode(this.currency);
+        }
+    }
+}
@@ -2,6 +2,7 @@ package org.kaiaccount.account.eco.account.named;
 
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.DenseBalances;
 import org.kaiaccount.account.eco.account.SyncedEcoAccount;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
@@ -28,6 +29,7 @@ import java.util.function.Function;
 public class EcoNamedAccount extends AbstractNamedAccount implements Serializable<EcoNamedAccount>, SyncedEcoAccount<EcoNamedAccount> {
 
     private final TransactionHistory history;
+    private final DenseBalances denseBalances = new DenseBalances(this);
     private boolean shouldSave = true;
 
     public EcoNamedAccount(@NotNull NamedAccountBuilder builder) {
@@ -60,6 +62,11 @@ public class EcoNamedAccount extends AbstractNamedAccount implements Serializabl
         return this.history;
     }
 
+    @Override
+    public @NotNull DenseBalances getDenseBalances() {
+        return this.denseBalances;
+    }
+
     @NotNull
     @Override
     public CompletableFuture<TransactionResult> multipleTransaction(@NotNull Function<IsolatedAccount, CompletableFuture<? extends TransactionResult>>... transactions) {
@@ -73,13 +80,14 @@ public class EcoNamedAccount extends AbstractNamedAccount implements Serializabl
     }
 
     private void saveAccount(@NotNull TransactionResult result) {
+        this.denseBalances.markChanged(result);
         if (result instanceof FailedTransactionResult) {
             //no changes
             return;
         }
         List<SimpleEntryTransactionHistory> transactions = result
                 .getTransactions()
-                .parallelStream()
+                .stream()
                 .filter(transaction -> transaction.getTarget().equals(EcoNamedAccount.this))
                 .map(transaction -> new EntryTransactionHistoryBuilder().fromTransaction(transaction).build())
                 .toList();
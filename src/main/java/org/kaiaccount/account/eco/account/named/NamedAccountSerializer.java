@@ -10,6 +10,7 @@ import org.kaiaccount.account.eco.account.history.EntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.TransactionHistory;
+import org.kaiaccount.account.eco.io.EcoSerializers;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.io.Serializer;
 import org.kaiaccount.account.inter.transfer.TransactionType;
@@ -18,11 +19,9 @@ import org.kaiaccount.account.inter.type.named.NamedAccountBuilder;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.AbstractMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class NamedAccountSerializer implements Serializer<EcoNamedAccount> {
     @Override
@@ -54,18 +53,8 @@ public class NamedAccountSerializer implements Serializer<EcoNamedAccount> {
 
     @Override
     public EcoNamedAccount deserialize(@NotNull YamlConfiguration configuration) throws IOException {
-        Map<Currency<?>, BigDecimal> amount =
-                AccountInterface.getManager()
-                        .getCurrencies()
-                        .parallelStream()
-                        .map(currency -> {
-                            double value = configuration.getDouble(
-                                    "balance." + currency.getPlugin().getName() + "." + currency.getKeyName());
-                            return new AbstractMap.SimpleImmutableEntry<>(currency, value);
-                        })
-                        .filter(entry -> entry.getValue() != 0.0)
-                        .collect(Collectors.toMap(AbstractMap.SimpleImmutableEntry::getKey,
-                                value -> BigDecimal.valueOf(value.getValue())));
+        Map<Currency<?>, BigDecimal> amount = EcoSerializers.readBalances(
+                configuration.getConfigurationSection("balance"), configuration.getName());
         String accountName = configuration.getString("name");
         if (accountName == null) {
             throw new IOException("Account is missing from file: " + configuration.getName());
@@ -0,0 +1,190 @@
+package org.kaiaccount.account.eco.account.placeholder;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.BalanceChangeListener;
+import org.kaiaccount.account.eco.account.DenseBalances;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Formatted balance and worth text for each player, for scoreboards and placeholders that ask every tick.
+ * <p>
+ * A player's text is worked out the first time it is asked for, then replaced only when one of their balances
+ * changes. Reads never format and never lock once a player's text is known, so this can be called from any thread.
+ * Each entry keeps the version of the balances it was made from, so a change is never replaced by older text.
+ */
+public class BalancePlaceholders implements BalanceChangeListener {
+
+    private record Entry(long version, @NotNull Map<Currency<?>, String> balances, @Nullable String worth) {
+    }
+
+    private static final long UNVERSIONED = -1;
+
+    private final Map<UUID, Entry> entries = new ConcurrentHashMap<>();
+    private volatile boolean running;
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    public synchronized void start() {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        DenseBalances.addListener(this);
+    }
+
+    public synchronized void stop() {
+        this.running = false;
+        DenseBalances.removeListener(this);
+        this.entries.clear();
+    }
+
+    /**
+     * @return The player's balance of the currency with its symbol, or empty if the player has no account
+     */
+    public @NotNull Optional<String> getBalance(@NotNull UUID player, @NotNull Currency<?> currency) {
+        return this.entry(player).map(entry -> {
+            String formatted = entry.balances().get(currency);
+            if (formatted == null) {
+                return currency.formatSymbol(BigDecimal.ZERO);
+            }
+            return formatted;
+        });
+    }
+
+    /**
+     * @return The player's total worth in the default currency, or empty if it cannot be worked out
+     */
+    public @NotNull Optional<String> getWorth(@NotNull UUID player) {
+        return this.entry(player).map(Entry::worth);
+    }
+
+    public void remove(@NotNull UUID player) {
+        this.entries.remove(player);
+    }
+
+    /**
+     * Drops all text, such as when a currency is removed or exchange rates change. It is worked out again when next
+     * asked for
+     */
+    public void invalidate() {
+        this.entries.clear();
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current) {
+        this.onBalanceChange(account, currency, previous, current, UNVERSIONED);
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current,
+                                long version) {
+        if (!(account instanceof PlayerAccount player)) {
+            return;
+        }
+        this.entries.computeIfPresent(player.getPlayer().getUniqueId(), (id, entry) -> {
+            if (version != UNVERSIONED && version < entry.version()) {
+                return entry;
+            }
+            Map<Currency<?>, String> balances = new HashMap<>(entry.balances());
+            if (current.signum() == 0) {
+                balances.remove(currency);
+            } else {
+                balances.put(currency, currency.formatSymbol(current));
+            }
+            return new Entry(Math.max(version, entry.version()), Collections.unmodifiableMap(balances), worth(player));
+        });
+    }
+
+    private @NotNull Optional<Entry> entry(@NotNull UUID player) {
+        Entry entry = this.entries.get(player);
+        if (entry != null) {
+            return Optional.of(entry);
+        }
+        Optional<PlayerAccount> opAccount = find(player);
+        if (opAccount.isEmpty()) {
+            return Optional.empty();
+        }
+        Entry created = create(opAccount.get());
+        if (!this.running) {
+            return Optional.of(created);
+        }
+        Entry stored = this.entries.compute(player, (id, existing) -> {
+            if (existing != null && existing.version() >= created.version()) {
+                return existing;
+            }
+            return created;
+        });
+        //a change made after the snapshot but before it was stored would not have been applied to it
+        if (stored == created && opAccount.get() instanceof EcoAccount<?> eco
+                && eco.getDenseBalances().getVersion() != created.version()) {
+            this.entries.remove(player, created);
+        }
+        return Optional.of(stored);
+    }
+
+    private static @NotNull Optional<PlayerAccount> find(@NotNull UUID player) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getLoadedPlayerAccount(player);
+        }
+        return AccountInterface.getManager()
+                .getPlayerAccounts()
+                .stream()
+                .filter(account -> account.getPlayer().getUniqueId().equals(player))
+                .findAny();
+    }
+
+    private static @NotNull Entry create(@NotNull PlayerAccount account) {
+        Map<Currency<?>, String> balances = new HashMap<>();
+        if (account instanceof EcoAccount<?> eco && AccountInterface.getManager() instanceof EcoManager manager) {
+            DenseBalances.Snapshot snapshot = eco.getDenseBalances().snapshot();
+            BigDecimal[] amounts = snapshot.balances();
+            for (int id = 0; id < amounts.length; id++) {
+                Currency<?> currency = manager.getCurrencyRegistry().getById(id);
+                if (currency != null && amounts[id] != null && amounts[id].signum() != 0) {
+                    balances.put(currency, currency.formatSymbol(amounts[id]));
+                }
+            }
+            return new Entry(snapshot.version(), Collections.unmodifiableMap(balances), worth(account));
+        }
+        account.getBalances().forEach((currency, amount) -> {
+            if (amount.signum() != 0) {
+                balances.put(currency, currency.formatSymbol(amount));
+            }
+        });
+        return new Entry(UNVERSIONED, Collections.unmodifiableMap(balances), worth(account));
+    }
+
+    private static @Nullable String worth(@NotNull PlayerAccount account) {
+        if (!(account instanceof EcoAccount<?> ecoAccount)) {
+            return null;
+        }
+        try {
+            Currency<?> defaultCurrency = AccountInterface.getManager().getDefaultCurrency();
+            return ecoAccount.getTotalWorth().map(defaultCurrency::formatSymbol).orElse(null);
+        } catch (RuntimeException e) {
+            return null;
+        }
+    }
+}
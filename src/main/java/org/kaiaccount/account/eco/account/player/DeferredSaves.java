@@ -0,0 +1,83 @@
+package org.kaiaccount.account.eco.account.player;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Iterator;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.AtomicBoolean;
+
+/**
+ * Player accounts waiting to record their history and save, flushed together on the next run of the scheduler.
+ * <p>
+ * Plugins that pay the same player many times in one tick, such as a payment per block mined, would otherwise write the
+ * player's file and tell every balance listener on every payment. The balance still changes straight away, only the
+ * listeners, the history and the file wait. Listeners are told once per account and currency.
+ */
+public final class DeferredSaves {
+
+    private static final Set<EcoPlayerAccount> PENDING = ConcurrentHashMap.newKeySet();
+    private static final AtomicBoolean SCHEDULED = new AtomicBoolean();
+    private static volatile Plugin plugin;
+
+    private DeferredSaves() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    /**
+     * @return If saves can be deferred. When not running accounts should save straight away
+     */
+    public static boolean isRunning() {
+        return plugin != null;
+    }
+
+    public static int getPendingCount() {
+        return PENDING.size();
+    }
+
+    public static synchronized void start(@NotNull Plugin owner) {
+        plugin = owner;
+    }
+
+    /**
+     * Stops deferring and saves everything still waiting
+     */
+    public static synchronized void stop() {
+        plugin = null;
+        flush();
+    }
+
+    static void add(@NotNull EcoPlayerAccount account) {
+        Plugin owner = plugin;
+        if (owner == null) {
+            account.flushPending();
+            return;
+        }
+        PENDING.add(account);
+        if (plugin == null) {
+            //stopped while adding
+            flush();
+            return;
+        }
+        if (SCHEDULED.compareAndSet(false, true)) {
+            Bukkit.getScheduler().runTask(owner, DeferredSaves::flush);
+        }
+    }
+
+    public static void flush() {
+        SCHEDULED.set(false);
+        Iterator<EcoPlayerAccount> iterator = PENDING.iterator();
+        while (iterator.hasNext()) {
+            EcoPlayerAccount account = iterator.next();
+            iterator.remove();
+            try {
+                account.flushPending();
+            } catch (RuntimeException e) {
+                System.err.println("Failed to save player: " + account.getPlayer().getUniqueId());
+                e.printStackTrace();
+            }
+        }
+    }
+}
@@ -2,7 +2,10 @@ package org.kaiaccount.account.eco.account.player;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.DenseBalances;
 import org.kaiaccount.account.eco.account.SyncedEcoAccount;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
@@ -17,11 +20,13 @@ import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
 import org.kaiaccount.account.inter.transfer.result.TransactionResult;
 import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
 import org.kaiaccount.account.inter.type.IsolatedAccount;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
 import org.kaiaccount.account.inter.type.player.AbstractPlayerAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccountBuilder;
 
 import java.io.File;
 import java.io.IOException;
+import java.util.ArrayList;
 import java.util.List;
 import java.util.concurrent.CompletableFuture;
 import java.util.function.Function;
@@ -29,6 +34,8 @@ import java.util.function.Function;
 public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializable<EcoPlayerAccount>, SyncedEcoAccount<EcoPlayerAccount> {
 
     private final @NotNull TransactionHistory transactionHistory;
+    private final DenseBalances denseBalances = new DenseBalances(this);
+    private final List<TransactionResult> pending = new ArrayList<>();
     private boolean shouldSave = true;
 
     public EcoPlayerAccount(PlayerAccountBuilder builder) {
@@ -56,11 +63,41 @@ public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializa
         this.shouldSave = saving;
     }
 
+    @Override
+    public @NotNull PlayerBankAccount createBankAccount(@NotNull String name) {
+        PlayerBankAccount bank = super.createBankAccount(name);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.registerBank(bank);
+        }
+        return bank;
+    }
+
+    @Override
+    public void registerBank(@NotNull PlayerBankAccount bank) {
+        super.registerBank(bank);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.registerBank(bank);
+        }
+    }
+
+    @Override
+    public void deleteBankAccount(@NotNull PlayerBankAccount bank) {
+        super.deleteBankAccount(bank);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.deregisterBank(bank);
+        }
+    }
+
     @Override
     public TransactionHistory getTransactionHistory() {
         return this.transactionHistory;
     }
 
+    @Override
+    public @NotNull DenseBalances getDenseBalances() {
+        return this.denseBalances;
+    }
+
     @NotNull
     @Override
     public CompletableFuture<TransactionResult> multipleTransaction(@NotNull Function<IsolatedAccount, CompletableFuture<? extends TransactionResult>>... transactions) {
@@ -85,18 +122,14 @@ public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializa
     }
 
     private void savePlayer(@Nullable TransactionResult result) {
+        this.denseBalances.markChanged(result);
         if (result instanceof FailedTransactionResult) {
             //no changes
             return;
         }
+        this.recordPending();
         if (result != null) {
-            List<SimpleEntryTransactionHistory> transactions = result
-                    .getTransactions()
-                    .parallelStream()
-                    .filter(transaction -> transaction.getTarget().equals(EcoPlayerAccount.this))
-                    .map(transaction -> new EntryTransactionHistoryBuilder().fromTransaction(transaction).build())
-                    .toList();
-            this.transactionHistory.addAll(transactions);
+            this.record(result);
         }
         try {
             save();
@@ -105,6 +138,65 @@ public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializa
         }
     }
 
+    /**
+     * Changes the balance now but leaves the history, save and balance listeners for {@link DeferredSaves}, so many
+     * synced payments in one tick only write the file and tell each listener once
+     */
+    private void savePlayerLater(@NotNull TransactionResult result) {
+        if (!DeferredSaves.isRunning() || !this.shouldSave) {
+            this.savePlayer(result);
+            return;
+        }
+        this.denseBalances.markPending(result);
+        if (result instanceof FailedTransactionResult) {
+            return;
+        }
+        synchronized (this.pending) {
+            this.pending.add(result);
+        }
+        DeferredSaves.add(this);
+    }
+
+    /**
+     * Tells balance listeners of, records the history of and saves any deferred payments. A failed save is logged rather than thrown, so one
+     * account cannot stop the others waiting on {@link DeferredSaves} from saving
+     */
+    public void flushPending() {
+        this.denseBalances.flush();
+        if (!this.recordPending()) {
+            return;
+        }
+        try {
+            save();
+        } catch (IOException e) {
+            System.err.println("Failed to save player: " + this.getPlayer().getUniqueId());
+            e.printStackTrace();
+        }
+    }
+
+    private boolean recordPending() {
+        List<TransactionResult> results;
+        synchronized (this.pending) {
+            if (this.pending.isEmpty()) {
+                return false;
+            }
+            results = new ArrayList<>(this.pending);
+            this.pending.clear();
+        }
+        results.forEach(this::record);
+        return true;
+    }
+
+    private void record(@NotNull TransactionResult result) {
+        List<SimpleEntryTransactionHistory> transactions = result
+                .getTransactions()
+                .stream()
+                .filter(transaction -> transaction.getTarget().equals(EcoPlayerAccount.this))
+                .map(transaction -> new EntryTransactionHistoryBuilder().fromTransaction(transaction).build())
+                .toList();
+        this.transactionHistory.addAll(transactions);
+    }
+
     @NotNull
     @Override
     public CompletableFuture<SingleTransactionResult> withdraw(@NotNull Payment payment) {
@@ -115,7 +207,7 @@ public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializa
     @Override
     public SingleTransactionResult withdrawSynced(@NotNull Payment payment) {
         SingleTransactionResult result = super.withdrawSynced(payment);
-        savePlayer(result);
+        savePlayerLater(result);
         return result;
     }
 
@@ -129,7 +221,7 @@ public class EcoPlayerAccount extends AbstractPlayerAccount implements Serializa
     @Override
     public SingleTransactionResult depositSynced(@NotNull Payment payment) {
         SingleTransactionResult result = super.depositSynced(payment);
-        savePlayer(result);
+        savePlayerLater(result);
         return result;
     }
 
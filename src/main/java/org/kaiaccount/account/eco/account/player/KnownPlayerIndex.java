@@ -0,0 +1,94 @@
+package org.kaiaccount.account.eco.account.player;
+
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every player EcoTools knows of, from the player files it loads and from players joining.
+ * <p>
+ * Bukkit's own list of offline players reads the whole playerdata folder and makes a new object per player each time
+ * it is asked, which user arguments were doing on every key press. This keeps one entry per player with the name they
+ * last had, and only builds the list handed to arguments again after a player is added or renamed.
+ */
+public class KnownPlayerIndex {
+
+    public record KnownPlayer(@NotNull OfflinePlayer player, @NotNull String name, @NotNull String lowerName) {
+
+        public KnownPlayer(@NotNull OfflinePlayer player, @NotNull String name) {
+            this(player, name, name.toLowerCase(Locale.ROOT));
+        }
+
+        public @NotNull UUID getUniqueId() {
+            return this.player.getUniqueId();
+        }
+    }
+
+    private final Map<UUID, KnownPlayer> players = new ConcurrentHashMap<>();
+    private volatile @Nullable List<OfflinePlayer> list;
+
+    /**
+     * Adds a player under the name Bukkit has for them. Players without a name are left out
+     */
+    public void add(@NotNull OfflinePlayer player) {
+        this.update(player, player.getName());
+    }
+
+    /**
+     * Adds a player or changes the name they are known by
+     *
+     * @param player The player
+     * @param name   The current name of the player. Null names are ignored
+     */
+    public synchronized void update(@NotNull OfflinePlayer player, @Nullable String name) {
+        if (name == null) {
+            return;
+        }
+        KnownPlayer previous = this.players.get(player.getUniqueId());
+        if (previous != null && previous.name().equals(name)) {
+            return;
+        }
+        OfflinePlayer keep = previous == null ? player : previous.player();
+        this.players.put(player.getUniqueId(), new KnownPlayer(keep, name));
+        this.list = null;
+    }
+
+    public @NotNull Optional<KnownPlayer> get(@NotNull UUID player) {
+        return Optional.ofNullable(this.players.get(player));
+    }
+
+    @UnmodifiableView
+    public @NotNull Collection<KnownPlayer> getKnownPlayers() {
+        return Collections.unmodifiableCollection(this.players.values());
+    }
+
+    /**
+     * @return Every known player. The same list is returned until a player is added or renamed
+     */
+    public @NotNull List<OfflinePlayer> getPlayers() {
+        List<OfflinePlayer> current = this.list;
+        if (current != null) {
+            return current;
+        }
+        synchronized (this) {
+            if (this.list == null) {
+                this.list = this.players.values().stream().map(KnownPlayer::player).toList();
+            }
+            return this.list;
+        }
+    }
+
+    public int size() {
+        return this.players.size();
+    }
+}
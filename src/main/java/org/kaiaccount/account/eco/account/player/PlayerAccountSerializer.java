@@ -11,6 +11,7 @@ import org.kaiaccount.account.eco.account.history.EntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistoryBuilder;
 import org.kaiaccount.account.eco.account.history.SimpleEntryTransactionHistory;
 import org.kaiaccount.account.eco.account.history.TransactionHistory;
+import org.kaiaccount.account.eco.io.EcoSerializers;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.io.Serializer;
 import org.kaiaccount.account.inter.transfer.TransactionType;
@@ -19,12 +20,10 @@ import org.kaiaccount.account.inter.type.player.PlayerAccountBuilder;
 import java.io.IOException;
 import java.math.BigDecimal;
 import java.time.LocalDateTime;
-import java.util.AbstractMap;
 import java.util.Map;
 import java.util.Optional;
 import java.util.UUID;
 import java.util.logging.Logger;
-import java.util.stream.Collectors;
 
 public class PlayerAccountSerializer implements Serializer<EcoPlayerAccount> {
 
@@ -59,18 +58,8 @@ public class PlayerAccountSerializer implements Serializer<EcoPlayerAccount> {
 
     @Override
     public EcoPlayerAccount deserialize(@NotNull YamlConfiguration configuration) throws IOException {
-        Map<Currency<?>, BigDecimal> amount =
-                AccountInterface.getManager()
-                        .getCurrencies()
-                        .parallelStream()
-                        .map(currency -> {
-                            double value = configuration.getDouble(
-                                    "balance." + currency.getPlugin().getName() + "." + currency.getKeyName());
-                            return new AbstractMap.SimpleImmutableEntry<>(currency, value);
-                        })
-                        .filter(entry -> entry.getValue() != 0.0)
-                        .collect(Collectors.toMap(AbstractMap.SimpleImmutableEntry::getKey,
-                                value -> BigDecimal.valueOf(value.getValue())));
+        Map<Currency<?>, BigDecimal> amount = EcoSerializers.readBalances(
+                configuration.getConfigurationSection("balance"), configuration.getName());
         String accountId = configuration.getString("id");
         if (accountId == null) {
             throw new IOException("Account is missing from file: " + configuration.getName());
@@ -0,0 +1,104 @@
+package org.kaiaccount.account.eco.account.player;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Remembers which uuid each player name belongs to and counts how player accounts are looked up.
+ * <p>
+ * Plugins that still use Vault by name look up the same few players many times a tick. Resolving the name through
+ * Bukkit each time can read the user cache from disk, so the uuid is kept here instead. A name is only replaced when
+ * that player joins with a different name, or another player joins having taken it.
+ */
+public class PlayerLookups {
+
+    public enum Method {
+        OFFLINE_PLAYER("OfflinePlayer"),
+        UUID("UUID"),
+        NAME("Name");
+
+        private final @NotNull String displayName;
+
+        Method(@NotNull String displayName) {
+            this.displayName = displayName;
+        }
+
+        public @NotNull String getDisplayName() {
+            return this.displayName;
+        }
+    }
+
+    /**
+     * @param calls How many lookups there have been
+     * @param hits  How many lookups found a loaded account without going to Bukkit or disk
+     * @param nanos The total time spent on the lookups
+     */
+    public record Stats(long calls, long hits, long nanos) {
+
+        public long getAverageNanos() {
+            if (this.calls == 0) {
+                return 0;
+            }
+            return this.nanos / this.calls;
+        }
+    }
+
+    private final Map<String, UUID> names = new ConcurrentHashMap<>();
+    private final Map<UUID, String> lastNames = new ConcurrentHashMap<>();
+    private final LongAdder[] calls = adders();
+    private final LongAdder[] hits = adders();
+    private final LongAdder[] nanos = adders();
+
+    public @NotNull Optional<UUID> getUniqueId(@NotNull String name) {
+        return Optional.ofNullable(this.names.get(name.toLowerCase(Locale.ROOT)));
+    }
+
+    /**
+     * Sets the current name of a player, dropping their previous name and any other player that held this name
+     *
+     * @param player The uuid of the player
+     * @param name   The name of the player. Null names are ignored
+     */
+    public synchronized void updateName(@NotNull UUID player, @Nullable String name) {
+        if (name == null) {
+            return;
+        }
+        String key = name.toLowerCase(Locale.ROOT);
+        String previous = this.lastNames.put(player, key);
+        if (previous != null && !previous.equals(key)) {
+            this.names.remove(previous, player);
+        }
+        UUID holder = this.names.put(key, player);
+        if (holder != null && !holder.equals(player)) {
+            this.lastNames.remove(holder, key);
+        }
+    }
+
+    public void record(@NotNull Method method, boolean hit, long nanos) {
+        this.calls[method.ordinal()].increment();
+        if (hit) {
+            this.hits[method.ordinal()].increment();
+        }
+        this.nanos[method.ordinal()].add(nanos);
+    }
+
+    public @NotNull Stats getStats(@NotNull Method method) {
+        return new Stats(this.calls[method.ordinal()].sum(), this.hits[method.ordinal()].sum(),
+                this.nanos[method.ordinal()].sum());
+    }
+
+    private static @NotNull LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Method.values().length];
+        for (int index = 0; index < adders.length; index++) {
+            adders[index] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,43 @@
+package org.kaiaccount.account.eco.account.player;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.entity.Player;
+import org.bukkit.event.EventHandler;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.event.player.PlayerJoinEvent;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.util.Optional;
+
+/**
+ * Keeps {@link PlayerLookups}, {@link KnownPlayerIndex} and the names of banks up to date with the name each player
+ * joins with
+ */
+public class PlayerNameListener implements Listener {
+
+    private final @NotNull EcoManager manager;
+
+    public PlayerNameListener(@NotNull EcoManager manager) {
+        this.manager = manager;
+    }
+
+    @EventHandler(priority = EventPriority.LOWEST)
+    public void onJoin(PlayerJoinEvent event) {
+        Player player = event.getPlayer();
+        String previous = this.manager
+                .getKnownPlayers()
+                .get(player.getUniqueId())
+                .map(KnownPlayerIndex.KnownPlayer::name)
+                .orElse(null);
+        Optional<PlayerAccount> account = this.manager.getLoadedPlayerAccount(player.getUniqueId());
+        if (account.isPresent() && !player.getName().equals(previous)) {
+            this.manager.renameBankOwner(account.get(), previous, player.getName());
+        }
+        this.manager.getPlayerLookups().updateName(player.getUniqueId(), player.getName());
+        OfflinePlayer known = account.map(PlayerAccount::getPlayer).orElse(player);
+        this.manager.getKnownPlayers().update(known, player.getName());
+    }
+}
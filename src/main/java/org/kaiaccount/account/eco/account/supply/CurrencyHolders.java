@@ -0,0 +1,121 @@
+package org.kaiaccount.account.eco.account.supply;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.account.eco.account.BalanceChangeListener;
+import org.kaiaccount.account.eco.account.DenseBalances;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Map;
+import java.util.Set;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Which accounts hold a non-zero balance of each currency.
+ * <p>
+ * An account is only moved in or out of a set when its balance crosses zero, so finding every holder of a currency
+ * is a single lookup instead of a scan of every player and bank.
+ */
+public class CurrencyHolders implements BalanceChangeListener {
+
+    private final Map<Currency<?>, Set<Account>> holders = new ConcurrentHashMap<>();
+    private final Set<Account> accounts = ConcurrentHashMap.newKeySet();
+    private volatile boolean running;
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Indexes every account and starts listening for balance changes
+     */
+    public synchronized void start(@NotNull Collection<? extends Account> accounts) {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        DenseBalances.addListener(this);
+        accounts.forEach(this::add);
+    }
+
+    public synchronized void stop() {
+        this.running = false;
+        DenseBalances.removeListener(this);
+        this.accounts.clear();
+        this.holders.clear();
+    }
+
+    public void add(@NotNull Account account) {
+        if (!this.running || !this.accounts.add(account)) {
+            return;
+        }
+        this.balances(account).forEach((currency, amount) -> this.update(account, currency, amount));
+    }
+
+    public void remove(@NotNull Account account) {
+        if (!this.accounts.remove(account)) {
+            return;
+        }
+        this.holders.values().forEach(set -> set.remove(account));
+    }
+
+    public void removeCurrency(@NotNull Currency<?> currency) {
+        this.holders.remove(currency);
+    }
+
+    @UnmodifiableView
+    public @NotNull Set<Account> getHolders(@NotNull Currency<?> currency) {
+        Set<Account> set = this.holders.get(currency);
+        if (set == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(set);
+    }
+
+    public int getHolderCount(@NotNull Currency<?> currency) {
+        Set<Account> set = this.holders.get(currency);
+        if (set == null) {
+            return 0;
+        }
+        return set.size();
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current) {
+        if (!this.accounts.contains(account)) {
+            return;
+        }
+        if ((previous.signum() == 0) == (current.signum() == 0)) {
+            return;
+        }
+        this.update(account, currency, current);
+    }
+
+    private void update(@NotNull Account account, @NotNull Currency<?> currency, @NotNull BigDecimal amount) {
+        if (amount.signum() == 0) {
+            Set<Account> set = this.holders.get(currency);
+            if (set != null) {
+                set.remove(account);
+            }
+            return;
+        }
+        this.holders.computeIfAbsent(currency, key -> ConcurrentHashMap.newKeySet()).add(account);
+    }
+
+    private @NotNull Map<Currency<?>, BigDecimal> balances(@NotNull Account account) {
+        if (account instanceof EcoAccount<?> eco) {
+            DenseBalances balances = eco.getDenseBalances();
+            balances.load();
+            return balances.asMap();
+        }
+        return account.getBalances();
+    }
+}
@@ -0,0 +1,330 @@
+package org.kaiaccount.account.eco.account.supply;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.BalanceChangeListener;
+import org.kaiaccount.account.eco.account.DenseBalances;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.eco.metrics.AccountMetrics;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.Transaction;
+import org.kaiaccount.account.inter.transfer.TransactionType;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.named.NamedAccount;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.math.BigDecimal;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.EnumMap;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Queue;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentLinkedQueue;
+
+/**
+ * How much of each currency exists, split by the type of account holding it.
+ * <p>
+ * Totals are kept up to date from balance changes rather than worked out by scanning every account. Money given by
+ * {@code /ecotools give} is counted as minted, money moved by a payment between accounts is counted as transferred.
+ * {@link #reconcile()} compares the totals against a full scan and corrects any drift.
+ */
+public class MoneySupply implements BalanceChangeListener {
+
+    public enum HolderType {
+        PLAYER,
+        BANK,
+        NAMED;
+
+        public static @NotNull Optional<HolderType> of(@NotNull Account account) {
+            if (account instanceof PlayerBankAccount) {
+                return Optional.of(BANK);
+            }
+            if (account instanceof PlayerAccount) {
+                return Optional.of(PLAYER);
+            }
+            if (account instanceof NamedAccount) {
+                return Optional.of(NAMED);
+            }
+            return Optional.empty();
+        }
+    }
+
+    public record Totals(@NotNull Map<HolderType, BigDecimal> held, @NotNull BigDecimal minted,
+                         @NotNull BigDecimal transferred) {
+
+        public @NotNull BigDecimal getHeld(@NotNull HolderType type) {
+            return this.held.getOrDefault(type, BigDecimal.ZERO);
+        }
+
+        public @NotNull BigDecimal total() {
+            return this.held.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+        }
+    }
+
+    private final @NotNull CurrencyRegistry registry;
+    private final Map<Currency<?>, Tally> tallies = new ConcurrentHashMap<>();
+    private final Map<Account, Boolean> accounts = new ConcurrentHashMap<>();
+    private volatile boolean running;
+    private volatile @Nullable Queue<Change> sinceScan;
+
+    public MoneySupply(@NotNull CurrencyRegistry registry) {
+        this.registry = registry;
+    }
+
+    public boolean isRunning() {
+        return this.running;
+    }
+
+    /**
+     * Counts every account and starts listening for balance changes
+     */
+    public synchronized void start(@NotNull Collection<? extends Account> accounts) {
+        if (this.running) {
+            return;
+        }
+        this.running = true;
+        DenseBalances.addListener(this);
+        accounts.forEach(this::add);
+    }
+
+    public synchronized void stop() {
+        this.running = false;
+        DenseBalances.removeListener(this);
+        this.accounts.clear();
+        this.tallies.clear();
+    }
+
+    public void add(@NotNull Account account) {
+        if (!this.running || this.accounts.putIfAbsent(account, Boolean.TRUE) != null) {
+            return;
+        }
+        Optional<HolderType> opType = HolderType.of(account);
+        if (opType.isEmpty()) {
+            return;
+        }
+        this.balances(account).forEach((currency, amount) -> this.adjust(currency, opType.get(), amount));
+    }
+
+    public void remove(@NotNull Account account) {
+        if (this.accounts.remove(account) == null) {
+            return;
+        }
+        HolderType.of(account)
+                .ifPresent(type -> this.balances(account).forEach((currency, amount) -> this.adjust(currency, type, amount.negate())));
+    }
+
+    public void removeCurrency(@NotNull Currency<?> currency) {
+        this.tallies.remove(currency);
+    }
+
+    public @NotNull Optional<Totals> getTotals(@NotNull Currency<?> currency) {
+        Tally tally = this.tallies.get(currency);
+        if (tally == null) {
+            return Optional.empty();
+        }
+        return Optional.of(tally.toTotals());
+    }
+
+    public @NotNull Map<Currency<?>, Totals> getTotals() {
+        Map<Currency<?>, Totals> totals = new HashMap<>();
+        this.tallies.forEach((currency, tally) -> totals.put(currency, tally.toTotals()));
+        return Collections.unmodifiableMap(totals);
+    }
+
+    public void recordMinted(@NotNull Currency<?> currency, @NotNull BigDecimal amount) {
+        this.tally(currency).addMinted(amount);
+    }
+
+    public void recordTransfer(@NotNull TransactionResult result) {
+        if (result instanceof FailedTransactionResult) {
+            return;
+        }
+        AccountMetrics.recordTransfer();
+        for (Transaction transaction : result.getTransactions()) {
+            if (transaction.getType() == TransactionType.DEPOSIT) {
+                this.tally(transaction.getPayment().getCurrency()).addTransferred(transaction.getPayment().getAmount());
+            }
+        }
+    }
+
+    /**
+     * Recounts every account and replaces the held totals if they have drifted. Any balance change made while the
+     * count is running is added on top, unless the count already saw it. This must be run on the main thread, as
+     * accounts that are not EcoTools accounts are read directly.
+     *
+     * @return The currencies whose totals were corrected, with the amount they were out by
+     */
+    public @NotNull Map<Currency<?>, BigDecimal> reconcile() {
+        if (!this.running) {
+            return Collections.emptyMap();
+        }
+        Queue<Change> changes = new ConcurrentLinkedQueue<>();
+        this.sinceScan = changes;
+        Map<Account, Long> versions = new HashMap<>();
+        Map<Currency<?>, Map<HolderType, BigDecimal>> scanned = new HashMap<>();
+        for (Account account : List.copyOf(this.accounts.keySet())) {
+            Optional<HolderType> opType = HolderType.of(account);
+            if (opType.isEmpty()) {
+                continue;
+            }
+            Map<Currency<?>, BigDecimal> balances;
+            if (account instanceof EcoAccount<?> eco) {
+                DenseBalances.Snapshot snapshot = eco.getDenseBalances().snapshot();
+                versions.put(account, snapshot.version());
+                balances = new HashMap<>();
+                for (int id = 0; id < snapshot.balances().length; id++) {
+                    Currency<?> currency = this.registry.getById(id);
+                    if (currency != null && snapshot.balances()[id] != null) {
+                        balances.put(currency, snapshot.balances()[id]);
+                    }
+                }
+            } else {
+                balances = account.getBalances();
+            }
+            balances.forEach((currency, amount) -> scanned
+                    .computeIfAbsent(currency, key -> new EnumMap<>(HolderType.class))
+                    .merge(opType.get(), amount, BigDecimal::add));
+        }
+
+        Map<Currency<?>, BigDecimal> drift = new HashMap<>();
+        synchronized (this) {
+            this.sinceScan = null;
+            for (Change change : changes) {
+                Long seen = versions.get(change.account());
+                if (seen != null && change.version() <= seen) {
+                    continue;
+                }
+                scanned.computeIfAbsent(change.currency(), key -> new EnumMap<>(HolderType.class))
+                        .merge(change.type(), change.difference(), BigDecimal::add);
+            }
+            for (Map.Entry<Currency<?>, Map<HolderType, BigDecimal>> entry : scanned.entrySet()) {
+                BigDecimal difference = this.tally(entry.getKey()).replaceHeld(entry.getValue());
+                if (difference.signum() != 0) {
+                    drift.put(entry.getKey(), difference);
+                }
+            }
+            for (Map.Entry<Currency<?>, Tally> entry : this.tallies.entrySet()) {
+                if (scanned.containsKey(entry.getKey())) {
+                    continue;
+                }
+                BigDecimal difference = entry.getValue().replaceHeld(Collections.emptyMap());
+                if (difference.signum() != 0) {
+                    drift.put(entry.getKey(), difference);
+                }
+            }
+        }
+        return drift;
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current) {
+        //not from DenseBalances, so a recount cannot have seen it
+        this.onBalanceChange(account, currency, previous, current, Long.MAX_VALUE);
+    }
+
+    @Override
+    public void onBalanceChange(@NotNull Account account,
+                                @NotNull Currency<?> currency,
+                                @NotNull BigDecimal previous,
+                                @NotNull BigDecimal current,
+                                long version) {
+        if (!this.accounts.containsKey(account)) {
+            return;
+        }
+        Optional<HolderType> opType = HolderType.of(account);
+        if (opType.isEmpty()) {
+            return;
+        }
+        BigDecimal difference = current.subtract(previous);
+        synchronized (this) {
+            this.adjust(currency, opType.get(), difference);
+            Queue<Change> changes = this.sinceScan;
+            if (changes != null) {
+                changes.add(new Change(account, version, currency, opType.get(), difference));
+            }
+        }
+    }
+
+    private @NotNull Map<Currency<?>, BigDecimal> balances(@NotNull Account account) {
+        if (account instanceof EcoAccount<?> eco) {
+            DenseBalances balances = eco.getDenseBalances();
+            balances.load();
+            return balances.asMap();
+        }
+        return account.getBalances();
+    }
+
+    private void adjust(@NotNull Currency<?> currency, @NotNull HolderType type, @NotNull BigDecimal amount) {
+        if (amount.signum() == 0) {
+            return;
+        }
+        this.tally(currency).addHeld(type, amount);
+    }
+
+    private @NotNull Tally tally(@NotNull Currency<?> currency) {
+        return this.tallies.computeIfAbsent(currency, key -> new Tally());
+    }
+
+    public static void recordMintedCurrent(@NotNull Currency<?> currency, @NotNull BigDecimal amount) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.getMoneySupply().recordMinted(currency, amount);
+        }
+    }
+
+    public static void recordTransferCurrent(@NotNull TransactionResult result) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            manager.getMoneySupply().recordTransfer(result);
+        }
+    }
+
+    private record Change(@NotNull Account account, long version, @NotNull Currency<?> currency,
+                          @NotNull HolderType type, @NotNull BigDecimal difference) {
+    }
+
+    private static final class Tally {
+
+        private final Map<HolderType, BigDecimal> held = new EnumMap<>(HolderType.class);
+        private BigDecimal minted = BigDecimal.ZERO;
+        private BigDecimal transferred = BigDecimal.ZERO;
+
+        private synchronized void addHeld(@NotNull HolderType type, @NotNull BigDecimal amount) {
+            this.held.merge(type, amount, BigDecimal::add);
+        }
+
+        private synchronized void addMinted(@NotNull BigDecimal amount) {
+            this.minted = this.minted.add(amount);
+        }
+
+        private synchronized void addTransferred(@NotNull BigDecimal amount) {
+            this.transferred = this.transferred.add(amount);
+        }
+
+        /**
+         * @return How far the old total was from the new total
+         */
+        private synchronized @NotNull BigDecimal replaceHeld(@NotNull Map<HolderType, BigDecimal> replacement) {
+            BigDecimal before = this.held.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            BigDecimal after = replacement.values().stream().reduce(BigDecimal.ZERO, BigDecimal::add);
+            this.held.clear();
+            this.held.putAll(replacement);
+            return before.subtract(after);
+        }
+
+        private synchronized @NotNull Totals toTotals() {
+            return new Totals(Collections.unmodifiableMap(new EnumMap<>(this.held)), this.minted, this.transferred);
+        }
+    }
+}
@@ -0,0 +1,74 @@
+package org.kaiaccount.account.eco.commands;
+
+import org.bukkit.Bukkit;
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.context.CommandContext;
+
+import java.util.function.Consumer;
+import java.util.function.Supplier;
+
+/**
+ * A command that does its heavy work away from the server thread.
+ * <p>
+ * {@link #snapshot(CommandContext)} is called on the server thread once the arguments have been parsed and should copy
+ * everything the command needs. {@link #runAsync(Object)} is then given that snapshot on the {@link ComputePool} and
+ * returns the reply, which is handed the command source back on the server thread.
+ *
+ * @param <S> The snapshot of state the command works against
+ */
+public interface AsyncArgumentCommand<S> extends ArgumentCommand {
+
+    /**
+     * Captures the state the command needs. Runs on the server thread
+     *
+     * @param commandContext The parsed command
+     * @return The snapshot, or null if the command should not continue
+     */
+    @Nullable S snapshot(@NotNull CommandContext commandContext);
+
+    /**
+     * Does the work of the command. Runs off the server thread so must only touch the snapshot
+     *
+     * @param snapshot The snapshot taken by {@link #snapshot(CommandContext)}
+     * @return The reply to send, which will be run on the server thread
+     */
+    @NotNull Consumer<CommandSender> runAsync(@NotNull S snapshot);
+
+    @Override
+    default boolean run(CommandContext commandContext, String... strings) {
+        S snapshot = this.snapshot(commandContext);
+        if (snapshot == null) {
+            return false;
+        }
+        submit(commandContext.getSource(), () -> this.runAsync(snapshot));
+        return true;
+    }
+
+    static void submit(@NotNull CommandSender source, @NotNull Supplier<Consumer<CommandSender>> task) {
+        EcoToolPlugin plugin = EcoToolPlugin.getInstance();
+        if (plugin == null || !plugin.isEnabled()) {
+            task.get().accept(source);
+            return;
+        }
+        ComputePool.getInstance().execute(() -> {
+            Consumer<CommandSender> reply;
+            try {
+                reply = task.get();
+            } catch (RuntimeException e) {
+                e.printStackTrace();
+                reply = sender -> sender.sendMessage(ChatColor.RED + "Something went wrong running that command");
+            }
+            if (!plugin.isEnabled()) {
+                return;
+            }
+            Consumer<CommandSender> finalReply = reply;
+            Bukkit.getScheduler().runTask(plugin, () -> finalReply.accept(source));
+        });
+    }
+}
@@ -0,0 +1,153 @@
+package org.kaiaccount.account.eco.commands;
+
+import org.bukkit.Bukkit;
+import org.bukkit.command.CommandSender;
+import org.bukkit.command.PluginCommand;
+import org.bukkit.event.Event;
+import org.bukkit.event.EventException;
+import org.bukkit.event.EventPriority;
+import org.bukkit.event.Listener;
+import org.bukkit.plugin.EventExecutor;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.commands.argument.AsyncSafeArgument;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.BukkitCommandWrapper;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+
+import java.lang.reflect.InvocationTargetException;
+import java.lang.reflect.Method;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Answers tab completion for EcoTools commands from Paper's async tab complete event, so suggestions are worked out
+ * off the server thread. Servers without the event fall back to the normal tab completer.
+ * <p>
+ * Only completions where every argument up to the one being typed is an {@link ExactArgument} or an
+ * {@link AsyncSafeArgument} that says it is safe are answered here. Anything else, and any sender without permission
+ * for the command, is left for the tab completer on the server thread.
+ */
+public class AsyncTabCompleteBridge implements Listener, EventExecutor {
+
+    public static final String EVENT_CLASS = "com.destroystokyo.paper.event.server.AsyncTabCompleteEvent";
+
+    private record Entry(@NotNull PluginCommand command, @NotNull BukkitCommandWrapper wrapper,
+                         @NotNull List<ArgumentCommand> arguments) {
+    }
+
+    private final Map<String, Entry> commands = new ConcurrentHashMap<>();
+    private final Method getSender;
+    private final Method getBuffer;
+    private final Method isCommand;
+    private final Method isHandled;
+    private final Method setHandled;
+    private final Method setCompletions;
+
+    private AsyncTabCompleteBridge(@NotNull Class<?> eventClass) throws NoSuchMethodException {
+        this.getSender = eventClass.getMethod("getSender");
+        this.getBuffer = eventClass.getMethod("getBuffer");
+        this.isCommand = eventClass.getMethod("isCommand");
+        this.isHandled = eventClass.getMethod("isHandled");
+        this.setHandled = eventClass.getMethod("setHandled", boolean.class);
+        this.setCompletions = eventClass.getMethod("setCompletions", List.class);
+    }
+
+    /**
+     * @param command   The Bukkit command
+     * @param wrapper   The wrapper that completes the command
+     * @param arguments The commands within the wrapper, used to tell if a completion is safe to answer here
+     */
+    public void register(@NotNull PluginCommand command, @NotNull BukkitCommandWrapper wrapper,
+                         @NotNull Collection<? extends ArgumentCommand> arguments) {
+        Entry entry = new Entry(command, wrapper, List.copyOf(arguments));
+        String prefix = command.getPlugin().getName().toLowerCase() + ":";
+        this.commands.put(command.getName().toLowerCase(), entry);
+        this.commands.put(prefix + command.getName().toLowerCase(), entry);
+        for (String alias : command.getAliases()) {
+            this.commands.put(alias.toLowerCase(), entry);
+            this.commands.put(prefix + alias.toLowerCase(), entry);
+        }
+    }
+
+    @Override
+    public void execute(@NotNull Listener listener, @NotNull Event event) throws EventException {
+        try {
+            if (!(boolean) this.isCommand.invoke(event) || (boolean) this.isHandled.invoke(event)) {
+                return;
+            }
+            String buffer = (String) this.getBuffer.invoke(event);
+            if (buffer.startsWith("/")) {
+                buffer = buffer.substring(1);
+            }
+            int labelEnd = buffer.indexOf(' ');
+            if (labelEnd == -1) {
+                return;
+            }
+            String label = buffer.substring(0, labelEnd);
+            Entry entry = this.commands.get(label.toLowerCase());
+            if (entry == null) {
+                return;
+            }
+            String[] args = buffer.substring(labelEnd + 1).split(" ", -1);
+            CommandSender sender = (CommandSender) this.getSender.invoke(event);
+            if (!entry.command().testPermissionSilent(sender) || !isAsyncSafe(entry.arguments(), args)) {
+                return;
+            }
+            List<String> completions = entry.wrapper().onTabComplete(sender, entry.command(), label, args);
+            if (completions == null) {
+                return;
+            }
+            this.setCompletions.invoke(event, new ArrayList<>(completions));
+            this.setHandled.invoke(event, true);
+        } catch (IllegalAccessException | InvocationTargetException e) {
+            throw new EventException(e);
+        }
+    }
+
+    /**
+     * @param commands The commands that could be completed
+     * @param args     The words typed after the label, the last being the one being completed
+     * @return If every command the words could belong to only parses and suggests from thread safe indexes
+     */
+    static boolean isAsyncSafe(@NotNull Collection<? extends ArgumentCommand> commands, @NotNull String[] args) {
+        for (ArgumentCommand command : commands) {
+            List<CommandArgument<?>> arguments = command.getArguments();
+            for (int index = 0; index < args.length; index++) {
+                if (index >= arguments.size()) {
+                    //more words than the command takes, so it is not this command
+                    break;
+                }
+                CommandArgument<?> argument = arguments.get(index);
+                if (argument instanceof ExactArgument) {
+                    if (index < args.length - 1 && !argument.getId().equalsIgnoreCase(args[index])) {
+                        break;
+                    }
+                    continue;
+                }
+                if (!(argument instanceof AsyncSafeArgument safe) || !safe.isAsyncSafe()) {
+                    return false;
+                }
+            }
+        }
+        return true;
+    }
+
+    public static @NotNull Optional<AsyncTabCompleteBridge> register(@NotNull Plugin plugin) {
+        Class<? extends Event> eventClass;
+        AsyncTabCompleteBridge bridge;
+        try {
+            eventClass = Class.forName(EVENT_CLASS).asSubclass(Event.class);
+            bridge = new AsyncTabCompleteBridge(eventClass);
+        } catch (ClassNotFoundException | NoSuchMethodException e) {
+            return Optional.empty();
+        }
+        Bukkit.getPluginManager().registerEvent(eventClass, bridge, EventPriority.NORMAL, bridge, plugin, true);
+        return Optional.of(bridge);
+    }
+}
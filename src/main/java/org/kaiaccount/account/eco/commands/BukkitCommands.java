@@ -1,24 +1,50 @@
 package org.kaiaccount.account.eco.commands;
 
+import org.jetbrains.annotations.NotNull;
+import org.mose.command.ArgumentCommand;
 import org.mose.command.BukkitCommandWrapper;
 
+import java.util.IdentityHashMap;
+import java.util.List;
+import java.util.Map;
+
 public final class BukkitCommands {
 
+    private static final Map<BukkitCommandWrapper, List<ArgumentCommand>> COMMANDS = new IdentityHashMap<>();
+
     public static final BukkitCommandWrapper BALANCE =
-            new BukkitCommandWrapper(Commands.CHECK_BALANCE, Commands.CHECK_PLAYER_BALANCE,
-                    Commands.CHECK_BANK_BALANCE, Commands.CHECK_NAMED_ACCOUNT_BALANCE);
+            wrap(Commands.CHECK_BALANCE, Commands.CHECK_PLAYER_BALANCE,
+                    Commands.CHECK_BANK_BALANCE, Commands.CHECK_NAMED_ACCOUNT_BALANCE, Commands.BALANCE_TOP);
     public static final BukkitCommandWrapper CURRENCY =
-            new BukkitCommandWrapper(Commands.ADD_CURRENCY, Commands.SET_DEFAULT_CURRENCY,
+            wrap(Commands.ADD_CURRENCY, Commands.SET_DEFAULT_CURRENCY,
                     Commands.SET_EXCHANGE_CURRENCY, Commands.REMOVE_CURRENCY);
 
-    public static final BukkitCommandWrapper ECOTOOLS = new BukkitCommandWrapper(Commands.INFO, Commands.GIVE_ECO);
-    public static final BukkitCommandWrapper EXCHANGE = new BukkitCommandWrapper(Commands.EXCHANGE);
-    public static final BukkitCommandWrapper PAY = new BukkitCommandWrapper(Commands.PAY_PLAYER, Commands.PAY_BANK, Commands.PAY_NAMED, Commands.PAY_FROM_ANY);
-    public static final BukkitCommandWrapper BANK = new BukkitCommandWrapper(Commands.CREATE_PLAYER_BANK, Commands.GRANT_BANK_PERMISSION, Commands.REMOVE_BANK_PERMISSION);
-    public static final BukkitCommandWrapper ACCOUNT = new BukkitCommandWrapper(Commands.CREATE_NAMED_ACCOUNT, Commands.REMOVE_NAMED_ACCOUNT);
-    public static final BukkitCommandWrapper TRANSACTIONS = new BukkitCommandWrapper(Commands.TRANSACTIONS);
+    public static final BukkitCommandWrapper ECOTOOLS = wrap(Commands.INFO, Commands.GIVE_ECO,
+            Commands.JOB_TAX, Commands.JOB_WEALTH_CAP, Commands.JOB_RESET, Commands.JOB_AIRDROP, Commands.JOB_STATUS,
+            Commands.JOB_CANCEL, Commands.RELOAD_MESSAGES, Commands.METRICS, Commands.RESUME_MIGRATIONS);
+    public static final BukkitCommandWrapper EXCHANGE = wrap(Commands.EXCHANGE);
+    public static final BukkitCommandWrapper PAY = wrap(Commands.PAY_PLAYER, Commands.PAY_BANK, Commands.PAY_NAMED, Commands.PAY_FROM_ANY,
+            Commands.STANDING_ORDER_LIST, Commands.STANDING_ORDER_CANCEL, Commands.STANDING_ORDER_CREATE);
+    public static final BukkitCommandWrapper BANK = wrap(Commands.CREATE_PLAYER_BANK, Commands.GRANT_BANK_PERMISSION, Commands.REMOVE_BANK_PERMISSION,
+            Commands.BANK_INTEREST);
+    public static final BukkitCommandWrapper ACCOUNT = wrap(Commands.CREATE_NAMED_ACCOUNT, Commands.REMOVE_NAMED_ACCOUNT);
+    public static final BukkitCommandWrapper TRANSACTIONS = wrap(Commands.TRANSACTIONS);
 
     private BukkitCommands() {
         throw new RuntimeException("Should not run");
     }
+
+    /**
+     * @param wrapper One of the wrappers above
+     * @return The commands the wrapper was made with
+     */
+    public static @NotNull List<ArgumentCommand> getCommands(@NotNull BukkitCommandWrapper wrapper) {
+        return COMMANDS.getOrDefault(wrapper, List.of());
+    }
+
+    private static @NotNull BukkitCommandWrapper wrap(@NotNull ArgumentCommand... commands) {
+        BukkitCommandWrapper wrapper = new BukkitCommandWrapper(commands);
+        COMMANDS.put(wrapper, List.of(commands));
+        return wrapper;
+    }
 }
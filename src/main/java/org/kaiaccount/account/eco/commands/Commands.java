@@ -1,5 +1,6 @@
 package org.kaiaccount.account.eco.commands;
 
+import org.kaiaccount.account.eco.commands.balance.BalanceTopCommand;
 import org.kaiaccount.account.eco.commands.balance.CheckBalanceCommand;
 import org.kaiaccount.account.eco.commands.balance.CheckBankBalanceCommand;
 import org.kaiaccount.account.eco.commands.balance.CheckNamedAccountBalanceCommand;
@@ -10,8 +11,12 @@ import org.kaiaccount.account.eco.commands.currency.AddCurrencyCommand;
 import org.kaiaccount.account.eco.commands.currency.RemoveCurrencyCommand;
 import org.kaiaccount.account.eco.commands.currency.SetDefaultCurrencyCommand;
 import org.kaiaccount.account.eco.commands.currency.SetExchangeValueCommand;
+import org.kaiaccount.account.eco.commands.ecotools.EconomyJobCommands;
 import org.kaiaccount.account.eco.commands.ecotools.GiveEcoCommand;
 import org.kaiaccount.account.eco.commands.ecotools.InfoCommand;
+import org.kaiaccount.account.eco.commands.ecotools.MetricsCommand;
+import org.kaiaccount.account.eco.commands.ecotools.ReloadMessagesCommand;
+import org.kaiaccount.account.eco.commands.ecotools.ResumeMigrationsCommand;
 import org.kaiaccount.account.eco.commands.exchange.ExchangeCommand;
 import org.kaiaccount.account.eco.commands.named.create.CreateNamedAccountCommand;
 import org.kaiaccount.account.eco.commands.named.create.RemoveNamedAccountCommand;
@@ -19,6 +24,7 @@ import org.kaiaccount.account.eco.commands.pay.PayBankCommand;
 import org.kaiaccount.account.eco.commands.pay.PayNamedCommand;
 import org.kaiaccount.account.eco.commands.pay.PayPlayerCommand;
 import org.kaiaccount.account.eco.commands.pay.from.PayFromAnyCommand;
+import org.kaiaccount.account.eco.commands.schedule.StandingOrderCommands;
 import org.kaiaccount.account.eco.commands.transaction.TransactionsRangeCommand;
 import org.mose.command.ArgumentCommand;
 
@@ -28,23 +34,37 @@ public final class Commands {
     public static final CheckBankBalanceCommand CHECK_BANK_BALANCE = new CheckBankBalanceCommand();
     public static final CheckNamedAccountBalanceCommand CHECK_NAMED_ACCOUNT_BALANCE = new CheckNamedAccountBalanceCommand();
     public static final CheckBalanceCommand CHECK_BALANCE = new CheckBalanceCommand();
+    public static final BalanceTopCommand BALANCE_TOP = new BalanceTopCommand();
     public static final AddCurrencyCommand ADD_CURRENCY = new AddCurrencyCommand();
     public static final RemoveCurrencyCommand REMOVE_CURRENCY = new RemoveCurrencyCommand();
     public static final SetDefaultCurrencyCommand SET_DEFAULT_CURRENCY = new SetDefaultCurrencyCommand();
     public static final SetExchangeValueCommand SET_EXCHANGE_CURRENCY = new SetExchangeValueCommand();
     public static final InfoCommand INFO = new InfoCommand();
     public static final GiveEcoCommand GIVE_ECO = new GiveEcoCommand();
+    public static final ReloadMessagesCommand RELOAD_MESSAGES = new ReloadMessagesCommand();
+    public static final MetricsCommand METRICS = new MetricsCommand();
+    public static final ResumeMigrationsCommand RESUME_MIGRATIONS = new ResumeMigrationsCommand();
+    public static final ArgumentCommand JOB_TAX = EconomyJobCommands.taxCommand();
+    public static final ArgumentCommand JOB_WEALTH_CAP = EconomyJobCommands.wealthCapCommand();
+    public static final ArgumentCommand JOB_RESET = EconomyJobCommands.resetCommand();
+    public static final ArgumentCommand JOB_AIRDROP = EconomyJobCommands.airdropCommand();
+    public static final ArgumentCommand JOB_STATUS = EconomyJobCommands.statusCommand();
+    public static final ArgumentCommand JOB_CANCEL = EconomyJobCommands.cancelCommand();
     public static final ExchangeCommand EXCHANGE = new ExchangeCommand();
     public static final PayPlayerCommand PAY_PLAYER = new PayPlayerCommand();
     public static final PayBankCommand PAY_BANK = new PayBankCommand();
     public static final PayNamedCommand PAY_NAMED = new PayNamedCommand();
     public static final PayFromAnyCommand PAY_FROM_ANY = new PayFromAnyCommand();
+    public static final ArgumentCommand STANDING_ORDER_CREATE = StandingOrderCommands.createCommand();
+    public static final ArgumentCommand STANDING_ORDER_LIST = StandingOrderCommands.listCommand();
+    public static final ArgumentCommand STANDING_ORDER_CANCEL = StandingOrderCommands.cancelCommand();
     public static final CreatePlayerBankAccountCommand CREATE_PLAYER_BANK = new CreatePlayerBankAccountCommand();
     public static final CreateNamedAccountCommand CREATE_NAMED_ACCOUNT = new CreateNamedAccountCommand();
     public static final RemoveNamedAccountCommand REMOVE_NAMED_ACCOUNT = new RemoveNamedAccountCommand();
     public static final TransactionsRangeCommand TRANSACTIONS = new TransactionsRangeCommand();
     public static final ArgumentCommand GRANT_BANK_PERMISSION = PlayerBankAccessCommands.addPlayerCommand();
     public static final ArgumentCommand REMOVE_BANK_PERMISSION = PlayerBankAccessCommands.removePlayerCommand();
+    public static final ArgumentCommand BANK_INTEREST = StandingOrderCommands.interestCommand();
 
     private Commands() {
         throw new RuntimeException("Dont do that");
@@ -0,0 +1,12 @@
+package org.kaiaccount.account.eco.commands.argument;
+
+/**
+ * An argument that can be parsed and suggested away from the server thread.
+ * <p>
+ * Only arguments that read the manager's prefix tries, or {@link SuggestionCache}, should say they are safe. Arguments
+ * given their own function to narrow the candidates cannot know what that function reads, so should not.
+ */
+public interface AsyncSafeArgument {
+
+    boolean isAsyncSafe();
+}
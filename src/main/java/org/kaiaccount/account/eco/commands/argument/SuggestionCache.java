@@ -0,0 +1,63 @@
+package org.kaiaccount.account.eco.commands.argument;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.utils.concurrent.ServerTick;
+
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
+
+/**
+ * Remembers suggestion candidates for the rest of the current server tick.
+ * <p>
+ * A player typing a command asks for suggestions on each key press, often several times in the same tick when the
+ * server is under load. Values are thrown away as soon as the tick moves on. If the tick counter is not running then
+ * nothing is cached.
+ *
+ * @param <K> The key the candidates depend on
+ * @param <V> The candidates
+ */
+public class SuggestionCache<K, V> {
+
+    public static final int SUGGESTION_LIMIT = 100;
+
+    private static final SuggestionCache<Class<?>, List<OfflinePlayer>> OFFLINE_PLAYERS = new SuggestionCache<>();
+
+    private final Map<K, V> values = new ConcurrentHashMap<>();
+    private volatile long tick = -1;
+
+    public @NotNull V get(@NotNull K key, @NotNull Function<? super K, ? extends V> compute) {
+        if (!ServerTick.isTicking()) {
+            return compute.apply(key);
+        }
+        long current = ServerTick.getCurrentTick();
+        if (this.tick != current) {
+            synchronized (this) {
+                if (this.tick != current) {
+                    this.values.clear();
+                    this.tick = current;
+                }
+            }
+        }
+        return this.values.computeIfAbsent(key, compute);
+    }
+
+    public void clear() {
+        this.values.clear();
+    }
+
+    /**
+     * @return Every player EcoTools knows of, or every player Bukkit knows of if EcoTools is not the manager
+     */
+    public static @NotNull List<OfflinePlayer> offlinePlayers() {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getKnownPlayers().getPlayers();
+        }
+        return OFFLINE_PLAYERS.get(OfflinePlayer.class, key -> List.of(Bukkit.getOfflinePlayers()));
+    }
+}
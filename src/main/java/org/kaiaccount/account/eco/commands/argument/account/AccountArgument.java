@@ -71,7 +71,7 @@ public class AccountArgument<A extends Account> implements CommandArgument<A> {
         if (remaining.length == 1) {
             return this.arguments.stream().map(CommandArgument::getId).filter(id -> id.toLowerCase().startsWith(peek)).collect(Collectors.toSet());
         }
-        Optional<CommandArgument<? extends A>> opArgument = this.arguments.parallelStream().filter(arg -> arg.getId().equalsIgnoreCase(peek)).findAny();
+        Optional<CommandArgument<? extends A>> opArgument = this.arguments.stream().filter(arg -> arg.getId().equalsIgnoreCase(peek)).findAny();
         return opArgument.map(commandArgument -> commandArgument.suggest(commandContext, argument)).orElse(Collections.emptyList());
     }
 
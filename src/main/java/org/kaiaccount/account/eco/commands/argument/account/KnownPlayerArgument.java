@@ -0,0 +1,112 @@
+package org.kaiaccount.account.eco.commands.argument.account;
+
+import org.bukkit.OfflinePlayer;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.player.KnownPlayerIndex;
+import org.kaiaccount.account.eco.commands.argument.AsyncSafeArgument;
+import org.kaiaccount.account.eco.commands.argument.SuggestionCache;
+import org.mose.command.CommandArgument;
+import org.mose.command.CommandArgumentResult;
+import org.mose.command.context.ArgumentContext;
+import org.mose.command.context.CommandContext;
+import org.mose.command.exception.ArgumentException;
+
+import java.util.Collection;
+import java.util.Locale;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+/**
+ * A player by name.
+ * <p>
+ * When EcoTools is the manager, names are matched against the lower case names kept by {@link KnownPlayerIndex} and
+ * the name lookup, so a key press never asks each player for their name. The filter is only applied to players whose
+ * name already matches.
+ */
+public class KnownPlayerArgument implements CommandArgument<OfflinePlayer>, AsyncSafeArgument {
+
+    private final String id;
+    private final @Nullable BiFunction<CommandContext, ArgumentContext, Predicate<OfflinePlayer>> filter;
+
+    public KnownPlayerArgument(String id) {
+        this.id = id;
+        this.filter = null;
+    }
+
+    public KnownPlayerArgument(String id, @NotNull BiFunction<CommandContext, ArgumentContext, Predicate<OfflinePlayer>> filter) {
+        this.id = id;
+        this.filter = filter;
+    }
+
+    private Predicate<OfflinePlayer> getFilter(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
+        if (this.filter == null) {
+            return player -> true;
+        }
+        return this.filter.apply(commandContext, argument);
+    }
+
+    @Override
+    public @NotNull String getId() {
+        return this.id;
+    }
+
+    @Override
+    public boolean isAsyncSafe() {
+        return this.filter == null && AccountInterface.getManager() instanceof EcoManager;
+    }
+
+    @Override
+    public @NotNull CommandArgumentResult<OfflinePlayer> parse(@NotNull CommandContext commandContext, @NotNull ArgumentContext commandArgumentContext) throws ArgumentException {
+        String peek = commandArgumentContext.getFocusArgument().toLowerCase(Locale.ROOT);
+        Predicate<OfflinePlayer> filter = this.getFilter(commandContext, commandArgumentContext);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            KnownPlayerIndex known = manager.getKnownPlayers();
+            Optional<OfflinePlayer> opPlayer = manager.getPlayerLookups()
+                    .getUniqueId(peek)
+                    .flatMap(known::get)
+                    .or(() -> known.getKnownPlayers()
+                            .stream()
+                            .filter(player -> player.lowerName().equals(peek))
+                            .findAny())
+                    .map(KnownPlayerIndex.KnownPlayer::player)
+                    .filter(filter);
+            OfflinePlayer player = opPlayer.orElseThrow(() -> new ArgumentException("No player by that name"));
+            return CommandArgumentResult.from(commandArgumentContext, player);
+        }
+
+        OfflinePlayer player = SuggestionCache.offlinePlayers()
+                .stream()
+                .filter(user -> user.getName() != null && user.getName().equalsIgnoreCase(peek))
+                .filter(filter)
+                .findAny()
+                .orElseThrow(() -> new ArgumentException("No player by that name"));
+        return CommandArgumentResult.from(commandArgumentContext, player);
+    }
+
+    @Override
+    public @NotNull Collection<String> suggest(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
+        String peek = argument.getFocusArgument().toLowerCase(Locale.ROOT);
+        Predicate<OfflinePlayer> filter = this.getFilter(commandContext, argument);
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getKnownPlayers()
+                    .getKnownPlayers()
+                    .stream()
+                    .filter(player -> player.lowerName().startsWith(peek))
+                    .filter(player -> filter.test(player.player()))
+                    .limit(SuggestionCache.SUGGESTION_LIMIT)
+                    .map(KnownPlayerIndex.KnownPlayer::name)
+                    .toList();
+        }
+        return SuggestionCache.offlinePlayers()
+                .stream()
+                .filter(user -> user.getName() != null && user.getName().toLowerCase(Locale.ROOT).startsWith(peek))
+                .filter(filter)
+                .limit(SuggestionCache.SUGGESTION_LIMIT)
+                .map(OfflinePlayer::getName)
+                .toList();
+    }
+}
@@ -1,7 +1,11 @@
 package org.kaiaccount.account.eco.commands.argument.account;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.commands.argument.AsyncSafeArgument;
+import org.kaiaccount.account.eco.commands.argument.SuggestionCache;
 import org.kaiaccount.account.inter.type.named.NamedAccount;
 import org.kaiaccount.account.inter.type.named.NamedAccountLike;
 import org.mose.command.CommandArgument;
@@ -16,35 +20,68 @@ import org.mose.command.exception.ArgumentException;
 
 import java.io.IOException;
 import java.util.Collection;
+import java.util.HashSet;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
-public class NamedAccountArgument implements CommandArgument<NamedAccount> {
+public class NamedAccountArgument implements CommandArgument<NamedAccount>, AsyncSafeArgument {
 
     private final String id;
-    private final BiFunction<CommandContext, ArgumentContext, Collection<NamedAccount>> function;
+    private final @Nullable BiFunction<CommandContext, ArgumentContext, Collection<NamedAccount>> function;
 
 
     public NamedAccountArgument(String id) {
-        this(id, ((commandContext, namedAccountCommandArgumentContext) -> AccountInterface.getManager().getNamedAccounts()));
+        this.id = id;
+        this.function = null;
     }
 
-    public NamedAccountArgument(String id, BiFunction<CommandContext, ArgumentContext, Collection<NamedAccount>> function) {
+    public NamedAccountArgument(String id, @NotNull BiFunction<CommandContext, ArgumentContext, Collection<NamedAccount>> function) {
         this.id = id;
         this.function = function;
     }
 
+    private Collection<NamedAccount> getAccounts(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
+        if (this.function == null) {
+            return AccountInterface.getManager().getNamedAccounts();
+        }
+        return this.function.apply(commandContext, argument);
+    }
+
+    private Predicate<NamedAccount> getFilter(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
+        if (this.function == null) {
+            return account -> true;
+        }
+        Set<NamedAccount> accounts = new HashSet<>(this.function.apply(commandContext, argument));
+        return accounts::contains;
+    }
+
     @Override
     public @NotNull String getId() {
         return this.id;
     }
 
+    @Override
+    public boolean isAsyncSafe() {
+        return this.function == null && AccountInterface.getManager() instanceof EcoManager;
+    }
+
     @Override
     public @NotNull CommandArgumentResult<NamedAccount> parse(@NotNull CommandContext commandContext, @NotNull ArgumentContext commandArgumentContext) throws ArgumentException {
-        Collection<NamedAccount> accounts = this.function.apply(commandContext, commandArgumentContext);
         String peek = commandArgumentContext.getFocusArgument().toLowerCase();
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            NamedAccount namedAccount = manager.getNamedAccountNames()
+                    .get(peek)
+                    .stream()
+                    .filter(this.getFilter(commandContext, commandArgumentContext))
+                    .findAny()
+                    .orElseThrow(() -> new ArgumentException("No account by that name"));
+            return CommandArgumentResult.from(commandArgumentContext, namedAccount);
+        }
 
+        Collection<NamedAccount> accounts = this.getAccounts(commandContext, commandArgumentContext);
         NamedAccount namedAccount = accounts
-                .parallelStream()
+                .stream()
                 .filter(account -> account.getAccountName().equalsIgnoreCase(peek))
                 .findAny()
                 .orElseThrow(() -> new ArgumentException("No account by that name"));
@@ -53,9 +90,13 @@ public class NamedAccountArgument implements CommandArgument<NamedAccount> {
 
     @Override
     public @NotNull Collection<String> suggest(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
-        Collection<NamedAccount> accounts = this.function.apply(commandContext, argument);
         String peek = argument.getFocusArgument().toLowerCase();
-        return accounts.parallelStream()
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getNamedAccountNames()
+                    .suggest(peek, SuggestionCache.SUGGESTION_LIMIT, this.getFilter(commandContext, argument));
+        }
+        Collection<NamedAccount> accounts = this.getAccounts(commandContext, argument);
+        return accounts.stream()
                 .map(NamedAccountLike::getAccountName)
                 .filter(name -> name.toLowerCase().startsWith(peek))
                 .toList();
@@ -3,8 +3,12 @@ package org.kaiaccount.account.eco.commands.argument.account;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
-import org.kaiaccount.account.eco.utils.function.CommandFunction;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.commands.argument.AsyncSafeArgument;
+import org.kaiaccount.account.eco.commands.argument.SuggestionCache;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
 import org.kaiaccount.account.inter.type.named.bank.BankPermission;
 import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
@@ -17,15 +21,22 @@ import org.mose.command.exception.ArgumentException;
 
 import java.util.*;
 import java.util.function.Function;
+import java.util.function.Predicate;
 import java.util.regex.Pattern;
 import java.util.stream.Stream;
 
-public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
+public class PlayerBankArgument implements CommandArgument<PlayerBankAccount>, AsyncSafeArgument {
 
     private final String id;
-    private final ParseCommandArgument<Collection<PlayerBankAccount>> function;
+    private final @Nullable ParseCommandArgument<Collection<PlayerBankAccount>> function;
+    private final SuggestionCache<List<Object>, Set<PlayerBankAccount>> suggestions = new SuggestionCache<>();
 
-    public PlayerBankArgument(@NotNull String id, ParseCommandArgument<Collection<PlayerBankAccount>> function) {
+    public PlayerBankArgument(@NotNull String id) {
+        this.id = id;
+        this.function = null;
+    }
+
+    public PlayerBankArgument(@NotNull String id, @NotNull ParseCommandArgument<Collection<PlayerBankAccount>> function) {
         this.id = id;
         this.function = function;
     }
@@ -35,11 +46,39 @@ public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
         return this.id;
     }
 
+    @Override
+    public boolean isAsyncSafe() {
+        return this.function == null && AccountInterface.getManager() instanceof EcoManager;
+    }
+
+    private Collection<PlayerBankAccount> getBanks(@NotNull CommandContext context, @NotNull ArgumentContext argument)
+            throws ArgumentException {
+        if (this.function == null) {
+            return AccountInterface.getManager().getPlayerAccounts().stream().flatMap(player -> player.getBanks().stream()).toList();
+        }
+        return this.function.parse(context, argument).getValue();
+    }
+
     @Override
     public @NotNull CommandArgumentResult<PlayerBankAccount> parse(@NotNull CommandContext context, @NotNull ArgumentContext argument)
             throws ArgumentException {
-        Collection<PlayerBankAccount> banks = this.function.parse(context, argument).getValue();
         String peek = argument.getFocusArgument().toLowerCase();
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            Predicate<PlayerBankAccount> filter = account -> true;
+            if (this.function != null) {
+                Set<PlayerBankAccount> banks = new HashSet<>(this.function.parse(context, argument).getValue());
+                filter = banks::contains;
+            }
+            PlayerBankAccount bank = manager.getBankNames()
+                    .get(peek)
+                    .stream()
+                    .filter(filter)
+                    .findAny()
+                    .orElseThrow(() -> new ArgumentException("No bank by that name"));
+            return CommandArgumentResult.from(argument, bank);
+        }
+
+        Collection<PlayerBankAccount> banks = this.getBanks(context, argument);
         String playerOwner = null;
         String bankName = peek;
         if (peek.contains(".")) {
@@ -53,16 +92,19 @@ public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
         String finalPlayerOwner = playerOwner;
         String finalBankName = bankName;
 
-        Optional<PlayerBankAccount> opBank = banks.parallelStream().filter(name -> name.getAccountName().toLowerCase().equals(finalBankName)).filter(name -> {
-            if (finalPlayerOwner == null) {
-                return true;
-            }
-            String playerName = name.getAccountHolder().getPlayer().getName();
-            if (playerName == null) {
-                return true;
-            }
-            return playerName.equals(finalPlayerOwner);
-        }).findAny();
+        Optional<PlayerBankAccount> opBank = ComputePool.getInstance().compute(banks, stream -> stream
+                .filter(name -> name.getAccountName().toLowerCase().equals(finalBankName))
+                .filter(name -> {
+                    if (finalPlayerOwner == null) {
+                        return true;
+                    }
+                    String playerName = name.getAccountHolder().getPlayer().getName();
+                    if (playerName == null) {
+                        return true;
+                    }
+                    return playerName.equals(finalPlayerOwner);
+                })
+                .findAny());
         if (opBank.isEmpty()) {
             throw new ArgumentException("No bank by that name");
         }
@@ -71,25 +113,31 @@ public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
 
     @Override
     public @NotNull Collection<String> suggest(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
-        Collection<PlayerBankAccount> banks;
-        try {
-            banks = this.function.parse(commandContext, argument).getValue();
-        } catch (ArgumentException e) {
-            return Collections.emptyList();
-        }
         String peek = argument.getFocusArgument().toLowerCase();
-        return banks
-                .parallelStream()
+        if (this.function == null && AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getBankNames().suggest(peek, SuggestionCache.SUGGESTION_LIMIT);
+        }
+        String[] command = commandContext.getCommand();
+        List<String> previous = Arrays.asList(Arrays.copyOf(command, Math.min(argument.getArgumentIndex(), command.length)));
+        Set<PlayerBankAccount> banks = this.suggestions.get(List.of(commandContext.getSource(), previous), key -> {
+            try {
+                return new HashSet<>(this.getBanks(commandContext, argument));
+            } catch (ArgumentException e) {
+                return Collections.emptySet();
+            }
+        });
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getBankNames().suggest(peek, SuggestionCache.SUGGESTION_LIMIT, banks::contains);
+        }
+        return ComputePool.getInstance().compute(banks, stream -> stream
                 .filter(name -> name.getAccountName().toLowerCase().startsWith(peek) || (name.getAccountHolder().getPlayer().getName() + "."
                         + name.getAccountName()).toLowerCase().startsWith(peek))
-                .flatMap(name -> Arrays
-                        .asList(name.getAccountName(), name.getAccountHolder().getPlayer().getName() + "." + name.getAccountName())
-                        .parallelStream())
-                .toList();
+                .flatMap(name -> Stream.of(name.getAccountName(), name.getAccountHolder().getPlayer().getName() + "." + name.getAccountName()))
+                .toList());
     }
 
     public static @NotNull PlayerBankArgument allPlayerBanks(@NotNull String id) {
-        return streamBank(id, (command, argument, stream) -> stream);
+        return new PlayerBankArgument(id);
     }
 
     public static @NotNull PlayerBankArgument banksWithPermission(String id, BankPermission permission, Function<CommandSender, ArgumentException> notPlayer) {
@@ -106,9 +154,18 @@ public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
     }
 
     public static @NotNull PlayerBankArgument banksWithPermission(String id, ParseCommandArgument<UUID> playerIdGetter, BankPermission permission) {
-        return streamBank(id, (context, argument, stream) -> {
+        return new PlayerBankArgument(id, (context, argument) -> {
             UUID playerId = playerIdGetter.parse(context, argument).value();
-            return stream.filter((bank) -> bank.getAccountPermissions(playerId).contains(permission));
+            if (AccountInterface.getManager() instanceof EcoManager manager) {
+                return CommandArgumentResult.from(argument, manager.getBankAccess().getBanks(playerId, permission));
+            }
+            List<PlayerBankAccount> banks = AccountInterface.getManager()
+                    .getPlayerAccounts()
+                    .stream()
+                    .flatMap(player -> player.getBanks().stream())
+                    .filter(bank -> bank.getAccountPermissions(playerId).contains(permission))
+                    .toList();
+            return CommandArgumentResult.from(argument, banks);
         });
     }
 
@@ -126,16 +183,4 @@ public class PlayerBankArgument implements CommandArgument<PlayerBankAccount> {
             }
         });
     }
-
-    private static PlayerBankArgument streamBank(String id, CommandFunction<Stream<PlayerBankAccount>, Stream<PlayerBankAccount>> function) {
-        return new PlayerBankArgument(id, new ParseCommandArgument<>() {
-            @Override
-            public @NotNull CommandArgumentResult<Collection<PlayerBankAccount>> parse(@NotNull CommandContext context, @NotNull ArgumentContext argument)
-                    throws ArgumentException {
-                Stream<PlayerBankAccount> accounts = AccountInterface.getManager().getPlayerAccounts().stream().flatMap(player -> player.getBanks().stream());
-                Stream<PlayerBankAccount> filtered = function.apply(context, argument, accounts);
-                return CommandArgumentResult.from(argument, filtered.toList());
-            }
-        });
-    }
 }
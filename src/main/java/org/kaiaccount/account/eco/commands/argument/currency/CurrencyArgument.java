@@ -1,7 +1,11 @@
 package org.kaiaccount.account.eco.commands.argument.currency;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.commands.argument.AsyncSafeArgument;
+import org.kaiaccount.account.eco.commands.argument.SuggestionCache;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
@@ -11,18 +15,22 @@ import org.mose.command.exception.ArgumentException;
 
 import java.util.ArrayList;
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.List;
 import java.util.Optional;
+import java.util.Set;
 import java.util.function.BiFunction;
+import java.util.function.Predicate;
 
-public class CurrencyArgument implements CommandArgument<Currency<?>> {
+public class CurrencyArgument implements CommandArgument<Currency<?>>, AsyncSafeArgument {
 
     private final @NotNull String id;
-    private final @NotNull BiFunction<CommandContext, ArgumentContext, Collection<Currency<?>>>
+    private final @Nullable BiFunction<CommandContext, ArgumentContext, Collection<Currency<?>>>
             currencies;
 
     public CurrencyArgument(@NotNull String id) {
-        this(id, (c, a) -> AccountInterface.getManager().getCurrencies());
+        this.id = id;
+        this.currencies = null;
     }
 
     public CurrencyArgument(@NotNull String id, @NotNull Collection<Currency<?>> currencies) {
@@ -35,22 +43,51 @@ public class CurrencyArgument implements CommandArgument<Currency<?>> {
         this.currencies = currencies;
     }
 
+    private Collection<Currency<?>> getCurrencies(@NotNull CommandContext context, @NotNull ArgumentContext argument) {
+        if (this.currencies == null) {
+            return AccountInterface.getManager().getCurrencies();
+        }
+        return this.currencies.apply(context, argument);
+    }
+
+    private Predicate<Currency<?>> getFilter(@NotNull CommandContext context, @NotNull ArgumentContext argument) {
+        if (this.currencies == null) {
+            return currency -> true;
+        }
+        Set<Currency<?>> currencies = new HashSet<>(this.currencies.apply(context, argument));
+        return currencies::contains;
+    }
+
     @Override
     public @NotNull String getId() {
         return this.id;
     }
 
+    @Override
+    public boolean isAsyncSafe() {
+        return this.currencies == null && AccountInterface.getManager() instanceof EcoManager;
+    }
+
     @Override
     public @NotNull CommandArgumentResult<Currency<?>> parse(@NotNull CommandContext context, @NotNull ArgumentContext argument) throws ArgumentException {
-        Collection<Currency<?>> currencies = this.currencies.apply(context, argument);
         String peek = argument.getFocusArgument();
-        Optional<Currency<?>> opCurrency = currencies.parallelStream()
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            Predicate<Currency<?>> filter = this.getFilter(context, argument);
+            Optional<Currency<?>> opCurrency = manager.getCurrencyNames().get(peek).stream().filter(filter).findAny()
+                    .or(() -> manager.getCurrencySymbols().get(peek).stream().filter(filter).findAny());
+            if (opCurrency.isPresent()) {
+                return CommandArgumentResult.from(argument, opCurrency.get());
+            }
+            throw new ArgumentException("Cannot find currency of " + peek);
+        }
+        Collection<Currency<?>> currencies = this.getCurrencies(context, argument);
+        Optional<Currency<?>> opCurrency = currencies.stream()
                 .filter(cur -> (cur.getPlugin().getName() + "." + cur.getKeyName()).equalsIgnoreCase(peek))
                 .findAny();
         if (opCurrency.isPresent()) {
             return CommandArgumentResult.from(argument, opCurrency.get());
         }
-        opCurrency = currencies.parallelStream().filter(cur -> cur.getSymbol().equalsIgnoreCase(peek)).findAny();
+        opCurrency = currencies.stream().filter(cur -> cur.getSymbol().equalsIgnoreCase(peek)).findAny();
         if (opCurrency.isPresent()) {
             return CommandArgumentResult.from(argument, opCurrency.get());
         }
@@ -60,13 +97,20 @@ public class CurrencyArgument implements CommandArgument<Currency<?>> {
     @Override
     public @NotNull Collection<String> suggest(@NotNull CommandContext commandContext, @NotNull ArgumentContext argument) {
         String peek = argument.getFocusArgument();
-        Collection<Currency<?>> currencies = this.currencies.apply(commandContext, argument);
-        List<String> symbolCurrencies = currencies.parallelStream()
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            Predicate<Currency<?>> filter = this.getFilter(commandContext, argument);
+            Collection<String> ret = new ArrayList<>(
+                    manager.getCurrencyNames().suggest(peek, SuggestionCache.SUGGESTION_LIMIT, filter));
+            ret.addAll(manager.getCurrencySymbols().suggest(peek, SuggestionCache.SUGGESTION_LIMIT, filter));
+            return ret;
+        }
+        Collection<Currency<?>> currencies = this.getCurrencies(commandContext, argument);
+        List<String> symbolCurrencies = currencies.stream()
                 .map(Currency::getSymbol)
                 .filter(currency -> currency.toLowerCase().startsWith(peek.toLowerCase()))
                 .sorted()
                 .toList();
-        List<String> nameCurrencies = currencies.parallelStream()
+        List<String> nameCurrencies = currencies.stream()
                 .map(cur -> cur.getPlugin().getName() + "." + cur.getKeyName())
                 .filter(name -> name.toLowerCase().startsWith(peek.toLowerCase()))
                 .sorted()
@@ -1,7 +1,10 @@
 package org.kaiaccount.account.eco.commands.argument.currency;
 
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.commands.argument.SuggestionCache;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
 import org.mose.command.CommandArgument;
@@ -11,7 +14,10 @@ import org.mose.command.context.CommandContext;
 import org.mose.command.exception.ArgumentException;
 
 import java.util.Collection;
+import java.util.HashSet;
 import java.util.Optional;
+import java.util.Set;
+import java.util.function.Predicate;
 import java.util.function.Supplier;
 import java.util.stream.Collectors;
 
@@ -19,10 +25,12 @@ public class PaymentArgument implements CommandArgument<PaymentBuilder> {
 
     private final @NotNull String id;
     private final boolean amountNextArg;
-    private final Supplier<Collection<Currency<?>>> toCurrencies;
+    private final @Nullable Supplier<Collection<Currency<?>>> toCurrencies;
 
     public PaymentArgument(@NotNull String id, boolean amountNextArg) {
-        this(id, amountNextArg, () -> AccountInterface.getManager().getCurrencies());
+        this.id = id;
+        this.toCurrencies = null;
+        this.amountNextArg = amountNextArg;
     }
 
     public PaymentArgument(@NotNull String id, boolean amountNextArg,
@@ -37,6 +45,21 @@ public class PaymentArgument implements CommandArgument<PaymentBuilder> {
         return this.id;
     }
 
+    private Collection<Currency<?>> getCurrencies() {
+        if (this.toCurrencies == null) {
+            return AccountInterface.getManager().getCurrencies();
+        }
+        return this.toCurrencies.get();
+    }
+
+    private Predicate<Currency<?>> getFilter() {
+        if (this.toCurrencies == null) {
+            return currency -> true;
+        }
+        Set<Currency<?>> currencies = new HashSet<>(this.toCurrencies.get());
+        return currencies::contains;
+    }
+
     @Override
     public @NotNull CommandArgumentResult<PaymentBuilder> parse(@NotNull CommandContext commandContext, @NotNull ArgumentContext commandArgumentContext) throws ArgumentException {
         int arg = commandArgumentContext.getArgumentIndex();
@@ -56,10 +79,15 @@ public class PaymentArgument implements CommandArgument<PaymentBuilder> {
             amount = Double.parseDouble(peek.substring(symbol.length()));
         } catch (NumberFormatException ignored) {
         }
-        Optional<Currency<?>> opCurrency = this.toCurrencies.get()
-                .parallelStream()
-                .filter(currency -> currency.getSymbol().equalsIgnoreCase(symbol))
-                .findAny();
+        Optional<Currency<?>> opCurrency;
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            opCurrency = manager.getCurrencySymbols().get(symbol).stream().filter(this.getFilter()).findAny();
+        } else {
+            opCurrency = this.getCurrencies()
+                    .stream()
+                    .filter(currency -> currency.getSymbol().equalsIgnoreCase(symbol))
+                    .findAny();
+        }
         if (opCurrency.isEmpty()) {
             throw new ArgumentException("Unknown currency of " + symbol);
         }
@@ -82,9 +110,11 @@ public class PaymentArgument implements CommandArgument<PaymentBuilder> {
     @Override
     public @NotNull Collection<String> suggest(@NotNull CommandContext commandContext, @NotNull ArgumentContext commandArgumentContext) {
         String peek = commandArgumentContext.getFocusArgument();
-        return this.toCurrencies.get()
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getCurrencySymbols().suggest(peek, SuggestionCache.SUGGESTION_LIMIT, this.getFilter());
+        }
+        return this.getCurrencies()
                 .stream()
-                .parallel()
                 .map(Currency::getSymbol)
                 .filter(currency -> currency.toLowerCase().startsWith(peek.toLowerCase()))
                 .collect(Collectors.toSet());
@@ -0,0 +1,60 @@
+package org.kaiaccount.account.eco.commands.balance;
+
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
+import org.kaiaccount.account.eco.message.Messages;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.function.Consumer;
+
+public record BalanceSnapshot(@NotNull Map<Currency<?>, BigDecimal> balances,
+                              @Nullable BigDecimal worth,
+                              @Nullable String worthError) {
+
+    public static @NotNull BalanceSnapshot of(@NotNull Account account) {
+        Map<Currency<?>, BigDecimal> balances = Map.copyOf(account.getBalances());
+
+        Currency<?> defaultCurrency;
+        try {
+            defaultCurrency = AccountInterface.getManager().getDefaultCurrency();
+        } catch (RuntimeException e) {
+            return new BalanceSnapshot(balances, null, e.getMessage());
+        }
+        if (account instanceof EcoAccount<?> ecoAccount) {
+            return new BalanceSnapshot(balances, ecoAccount.getTotalWorth().orElse(null), null);
+        }
+        ExchangeRates.Table rates = ExchangeRates.current();
+        if (!rates.hasWorth(defaultCurrency)) {
+            return new BalanceSnapshot(balances, null, null);
+        }
+        return new BalanceSnapshot(balances, rates.convertAll(balances, defaultCurrency), null);
+    }
+
+    public @NotNull Consumer<CommandSender> display() {
+        List<String> lines = this.balances.entrySet()
+                .stream()
+                .map(entry -> "  " + entry.getKey().formatSymbol(entry.getValue()))
+                .toList();
+        if (this.worthError != null) {
+            return sender -> {
+                lines.forEach(sender::sendMessage);
+                sender.sendMessage("Worth cannot be calculated: " + this.worthError);
+            };
+        }
+        if (this.worth == null) {
+            return sender -> lines.forEach(sender::sendMessage);
+        }
+        return sender -> {
+            lines.forEach(sender::sendMessage);
+            sender.sendMessage(Messages.TOTAL_WORTH.getProcessedMessage(sender, this.worth));
+        };
+    }
+}
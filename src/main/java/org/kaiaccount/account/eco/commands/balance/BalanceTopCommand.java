@@ -0,0 +1,110 @@
+package org.kaiaccount.account.eco.commands.balance;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.leaderboard.Leaderboard;
+import org.kaiaccount.account.eco.account.leaderboard.LeaderboardEntry;
+import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.currency.EcoCurrency;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.arguments.operation.OptionalArgument;
+import org.mose.command.arguments.simple.number.IntegerArgument;
+import org.mose.command.context.CommandContext;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public class BalanceTopCommand implements ArgumentCommand {
+
+    public static final int PAGE_SIZE = 10;
+
+    public static final CommandArgument<String> TOP = new ExactArgument("top");
+    public static final CommandArgument<Currency<?>> CURRENCY = new OptionalArgument<>(new CurrencyArgument("currency"));
+    public static final CommandArgument<Integer> PAGE = new OptionalArgument<>(new IntegerArgument("page"), 1);
+
+    @Override
+    public @NotNull List<CommandArgument<?>> getArguments() {
+        return List.of(TOP, CURRENCY, PAGE);
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Shows the richest players in a currency, or by total worth";
+    }
+
+    @Override
+    public @NotNull Optional<String> getPermissionNode() {
+        return Optional.of(Permissions.BALANCE_TOP.getPermissionNode());
+    }
+
+    @Override
+    public boolean run(CommandContext commandContext, String... args) {
+        CommandSender source = commandContext.getSource();
+        if (!(AccountInterface.getManager() instanceof EcoManager manager) || !manager.getLeaderboards().isRunning()) {
+            source.sendMessage("Leaderboards are not available");
+            return false;
+        }
+        Currency<?> currency = commandContext.getArgument(this, CURRENCY);
+        int page = commandContext.getArgument(this, PAGE);
+
+        Leaderboard leaderboard;
+        Currency<?> displayCurrency;
+        if (currency == null) {
+            Optional<Leaderboard> opWorth = manager.getLeaderboards().getWorthLeaderboard();
+            if (opWorth.isEmpty()) {
+                source.sendMessage("The default currency has no exchange value. Specify a currency");
+                return false;
+            }
+            leaderboard = opWorth.get();
+            displayCurrency = manager.getDefaultCurrency();
+        } else {
+            leaderboard = manager.getLeaderboards().getLeaderboard(currency);
+            displayCurrency = currency;
+        }
+
+        int pages = leaderboard.getPageCount(PAGE_SIZE);
+        if (page < 1 || page > pages) {
+            source.sendMessage("Page must be between 1 and " + pages);
+            return false;
+        }
+        List<LeaderboardEntry> entries = leaderboard.getPage(page, PAGE_SIZE);
+        source.sendMessage("|===|Top " + (currency == null ? "worth" : currency.getKeyName()) + " (" + page + "/" + pages + ")|===|");
+        int rank = (page - 1) * PAGE_SIZE;
+        List<String> amounts = formatSymbols(displayCurrency, entries.stream().map(LeaderboardEntry::value).toList());
+        for (int index = 0; index < entries.size(); index++) {
+            rank++;
+            source.sendMessage(rank + ". " + name(entries.get(index).account().getPlayer()) + ": " + amounts.get(index));
+        }
+        if (source instanceof OfflinePlayer player) {
+            OptionalInt own = leaderboard.getRank(player.getUniqueId());
+            if (own.isPresent()) {
+                source.sendMessage("Your rank: " + own.getAsInt());
+            }
+        }
+        return true;
+    }
+
+    private static @NotNull String name(@NotNull OfflinePlayer player) {
+        String name = player.getName();
+        if (name == null) {
+            return player.getUniqueId().toString();
+        }
+        return name;
+    }
+
+    private static @NotNull List<String> formatSymbols(@NotNull Currency<?> currency, @NotNull List<BigDecimal> amounts) {
+        if (currency instanceof EcoCurrency ecoCurrency) {
+            return ecoCurrency.formatSymbols(amounts);
+        }
+        return amounts.stream().map(currency::formatSymbol).toList();
+    }
+}
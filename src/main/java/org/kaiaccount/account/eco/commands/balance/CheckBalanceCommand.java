@@ -4,20 +4,14 @@ import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
-import org.kaiaccount.AccountInterface;
-import org.kaiaccount.account.eco.message.Messages;
 import org.kaiaccount.account.eco.permission.Permissions;
-import org.kaiaccount.account.eco.utils.CommonUtils;
-import org.kaiaccount.account.inter.currency.Currency;
-import org.kaiaccount.account.inter.type.Account;
 import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.context.CommandContext;
 
-import java.math.BigDecimal;
-import java.math.RoundingMode;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
 
 public class CheckBalanceCommand implements ArgumentCommand {
 	@Override
@@ -47,33 +41,4 @@ public class CheckBalanceCommand implements ArgumentCommand {
 	public boolean run(CommandContext commandContext, String... strings) {
 		return Bukkit.dispatchCommand(commandContext.getSource(), "balance player");
 	}
-
-	static boolean displayInfo(@NotNull CommandSender sender, @NotNull Account account) {
-		Map<Currency<?>, BigDecimal> balances = account.getBalances();
-		balances.forEach(((currency, balance) -> sender
-				.sendMessage("  " + currency.formatSymbol(balance))));
-
-		Currency<?> defaultCurrency;
-		try {
-			defaultCurrency = AccountInterface.getManager().getDefaultCurrency();
-		} catch (RuntimeException e) {
-			sender.sendMessage("Worth cannot be calculated: " + e.getMessage());
-			return true;
-		}
-		if (defaultCurrency.getWorth().isPresent()) {
-			Collection<BigDecimal> collection = balances.entrySet()
-					.parallelStream()
-					.filter(entry -> entry.getKey().getWorth().isPresent())
-					.map(entry -> entry.getValue()
-							.divide(entry.getKey().getWorth().get(), RoundingMode.DOWN)
-							.multiply(defaultCurrency.getWorth()
-									.get()))
-					.collect(Collectors.toSet());
-
-			BigDecimal worth = CommonUtils.sumOf(collection.iterator());
-			String message = Messages.TOTAL_WORTH.getProcessedMessage(sender, worth);
-			sender.sendMessage(message);
-		}
-		return true;
-	}
 }
@@ -1,13 +1,15 @@
 package org.kaiaccount.account.eco.commands.balance;
 
 import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.commands.AsyncArgumentCommand;
 import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.type.named.bank.BankPermission;
 import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
-import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
 import org.mose.command.arguments.operation.ExactArgument;
@@ -18,29 +20,27 @@ import java.util.Arrays;
 import java.util.Collection;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class CheckBankBalanceCommand implements ArgumentCommand {
+public class CheckBankBalanceCommand implements AsyncArgumentCommand<BalanceSnapshot> {
 
     public static final CommandArgument<String> BANK = new ExactArgument("bank");
     public static final CommandArgument<PlayerBankAccount> BANK_ACCOUNT = new PermissionOrArgument<>("value",
             sender -> (sender.hasPermission(Permissions.BALANCE_OTHER.getPermissionNode())),
-            new PlayerBankArgument("value", (context, argument) -> {
-                List<PlayerBankAccount> allBanks = AccountInterface
-                        .getManager()
-                        .getPlayerAccounts()
-                        .parallelStream()
-                        .flatMap(account -> account.getBanks().parallelStream())
-                        .toList();
-                return CommandArgumentResult.from(argument, allBanks);
-            }),
+            PlayerBankArgument.allPlayerBanks("value"),
             new PlayerBankArgument("value", (context, argument) -> {
                 if (!(context.getSource() instanceof OfflinePlayer player)) {
                     throw new RuntimeException("Player only command");
                 }
-                Collection<PlayerBankAccount> viewableBanks = AccountInterface
-                        .getManager()
-                        .getPlayerAccount(player)
-                        .getAttachedBankByPermission(BankPermission.SEE);
+                Collection<PlayerBankAccount> viewableBanks;
+                if (AccountInterface.getManager() instanceof EcoManager manager) {
+                    viewableBanks = manager.getBankAccess().getBanks(player.getUniqueId(), BankPermission.SEE);
+                } else {
+                    viewableBanks = AccountInterface
+                            .getManager()
+                            .getPlayerAccount(player)
+                            .getAttachedBankByPermission(BankPermission.SEE);
+                }
                 return CommandArgumentResult.from(argument, viewableBanks);
             }));
 
@@ -60,8 +60,13 @@ public class CheckBankBalanceCommand implements ArgumentCommand {
     }
 
     @Override
-    public boolean run(CommandContext commandContext, String... strings) {
+    public @NotNull BalanceSnapshot snapshot(@NotNull CommandContext commandContext) {
         PlayerBankAccount bankAccount = commandContext.getArgument(this, BANK_ACCOUNT);
-        return CheckBalanceCommand.displayInfo(commandContext.getSource(), bankAccount);
+        return BalanceSnapshot.of(bankAccount);
+    }
+
+    @Override
+    public @NotNull Consumer<CommandSender> runAsync(@NotNull BalanceSnapshot snapshot) {
+        return snapshot.display();
     }
 }
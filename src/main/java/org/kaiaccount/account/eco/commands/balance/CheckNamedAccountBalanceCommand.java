@@ -1,11 +1,11 @@
 package org.kaiaccount.account.eco.commands.balance;
 
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
-import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.commands.AsyncArgumentCommand;
 import org.kaiaccount.account.eco.commands.argument.account.NamedAccountArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.type.named.NamedAccount;
-import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.context.CommandContext;
@@ -13,11 +13,12 @@ import org.mose.command.context.CommandContext;
 import java.util.Arrays;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class CheckNamedAccountBalanceCommand implements ArgumentCommand {
+public class CheckNamedAccountBalanceCommand implements AsyncArgumentCommand<BalanceSnapshot> {
 
     public static final CommandArgument<String> NAMED = new ExactArgument("account");
-    public static final CommandArgument<NamedAccount> NAMED_ACCOUNT = new NamedAccountArgument("namedAccount", (cmdContext, argContext) -> AccountInterface.getManager().getNamedAccounts());
+    public static final CommandArgument<NamedAccount> NAMED_ACCOUNT = new NamedAccountArgument("namedAccount");
 
     @Override
     public @NotNull List<CommandArgument<?>> getArguments() {
@@ -35,8 +36,13 @@ public class CheckNamedAccountBalanceCommand implements ArgumentCommand {
     }
 
     @Override
-    public boolean run(CommandContext commandContext, String... strings) {
+    public @NotNull BalanceSnapshot snapshot(@NotNull CommandContext commandContext) {
         NamedAccount account = commandContext.getArgument(this, NAMED_ACCOUNT);
-        return CheckBalanceCommand.displayInfo(commandContext.getSource(), account);
+        return BalanceSnapshot.of(account);
+    }
+
+    @Override
+    public @NotNull Consumer<CommandSender> runAsync(@NotNull BalanceSnapshot snapshot) {
+        return snapshot.display();
     }
 }
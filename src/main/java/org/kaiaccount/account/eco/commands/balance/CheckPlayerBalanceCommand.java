@@ -1,14 +1,16 @@
 package org.kaiaccount.account.eco.commands.balance;
 
 import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.commands.AsyncArgumentCommand;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
-import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
 import org.mose.command.ParseCommandArgument;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.operation.OptionalArgument;
 import org.mose.command.arguments.operation.permission.PermissionOrArgument;
@@ -19,15 +21,16 @@ import org.mose.command.exception.ArgumentException;
 import java.io.IOException;
 import java.util.List;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class CheckPlayerBalanceCommand implements ArgumentCommand {
+public class CheckPlayerBalanceCommand implements AsyncArgumentCommand<BalanceSnapshot> {
 
     public static final CommandArgument<String> PLAYER = new ExactArgument("player");
     public static final CommandArgument<OfflinePlayer> USER;
     private static final CommandArgument<OfflinePlayer> PERMISSION_USER = new PermissionOrArgument<>(
             "user",
             (sender) -> sender.hasPermission(Permissions.BALANCE_OTHER.getPermissionNode()),
-            new UserArgument("user", (user) -> true));
+            new KnownPlayerArgument("user"));
 
     static {
         var elseArg = new ParseCommandArgument<OfflinePlayer>() {
@@ -58,16 +61,20 @@ public class CheckPlayerBalanceCommand implements ArgumentCommand {
     }
 
     @Override
-    public boolean run(CommandContext commandContext, String... strings) {
+    public @Nullable BalanceSnapshot snapshot(@NotNull CommandContext commandContext) {
         OfflinePlayer player = commandContext.getArgument(this, USER);
         if (player == null) {
             if (!(commandContext.getSource() instanceof OfflinePlayer)) {
                 commandContext.getSource().sendMessage("You are required to specify a player");
-                return false;
+                return null;
             }
             player = (OfflinePlayer) commandContext.getSource();
         }
-        return CheckBalanceCommand.displayInfo(commandContext.getSource(),
-                AccountInterface.getManager().getPlayerAccount(player));
+        return BalanceSnapshot.of(AccountInterface.getManager().getPlayerAccount(player));
+    }
+
+    @Override
+    public @NotNull Consumer<CommandSender> runAsync(@NotNull BalanceSnapshot snapshot) {
+        return snapshot.display();
     }
 }
@@ -1,10 +1,10 @@
 package org.kaiaccount.account.eco.commands.bank.account;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.account.bank.EcoBankAccount;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.type.named.bank.BankPermission;
@@ -12,7 +12,6 @@ import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
 import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.operation.OptionalArgument;
 import org.mose.command.arguments.operation.RemainingArgument;
@@ -33,9 +32,9 @@ public class PlayerBankAccessCommands {
             CommandArgument<PlayerBankAccount> bankArgument = PlayerBankArgument.banksWithPermission("bank",
                     (context, argument) -> CommandArgumentResult.from(argument, context.getArgument(supplier, targetUserArgument).getUniqueId()),
                     BankPermission.ACCOUNT_OWNER);
-            CommandArgument<OfflinePlayer> userArgument = new UserArgument("user", (command, argument) -> {
+            CommandArgument<OfflinePlayer> userArgument = new KnownPlayerArgument("user", (command, argument) -> {
                 OfflinePlayer targetUser = command.getArgument(supplier, targetUserArgument);
-                return Arrays.stream(Bukkit.getOfflinePlayers()).filter(user -> !user.equals(targetUser));
+                return user -> !user.equals(targetUser);
             });
             CommandArgument<List<BankPermission>> permissionArgument = permissionArgument();
 
@@ -99,12 +98,10 @@ public class PlayerBankAccessCommands {
             CommandArgument<PlayerBankAccount> bankArgument = PlayerBankArgument.banksWithPermission("bank",
                     (context, argument) -> CommandArgumentResult.from(argument, context.getArgument(supplier, targetUserArgument).getUniqueId()),
                     BankPermission.ACCOUNT_OWNER);
-            CommandArgument<OfflinePlayer> userArgument = new UserArgument("user", (command, argument) -> {
+            CommandArgument<OfflinePlayer> userArgument = new KnownPlayerArgument("user", (command, argument) -> {
                 OfflinePlayer target = command.getArgument(supplier, targetUserArgument);
-                return Arrays.stream(Bukkit.getOfflinePlayers()).filter(user -> !user.equals(target)).filter(user -> {
-                    PlayerBankAccount bank = command.getArgument(supplier, bankArgument);
-                    return bank.getAccounts().get(user.getUniqueId()) != null;
-                });
+                PlayerBankAccount bank = command.getArgument(supplier, bankArgument);
+                return user -> !user.equals(target) && bank.getAccounts().get(user.getUniqueId()) != null;
             });
 
             return builder
@@ -134,10 +131,8 @@ public class PlayerBankAccessCommands {
     }
 
     private static CommandArgument<OfflinePlayer> targetUserAddArgument() {
-        UserArgument targetUserArgument = new UserArgument("target",
-                (command, context) -> Arrays
-                        .stream(Bukkit.getOfflinePlayers())
-                        .filter(player -> !AccountInterface.getManager().getPlayerAccount(player).getAttachedOwningBanks().isEmpty()));
+        KnownPlayerArgument targetUserArgument = new KnownPlayerArgument("target",
+                (command, context) -> player -> !AccountInterface.getManager().getPlayerAccount(player).getAttachedOwningBanks().isEmpty());
         PermissionOrArgument<OfflinePlayer> targetUserPermissionArgument = new PermissionOrArgument<>("target",
                 source -> source.hasPermission(Permissions.GRANT_BANK_ACCESS_OTHER.getPermissionNode()),
                 targetUserArgument);
@@ -150,15 +145,13 @@ public class PlayerBankAccessCommands {
     }
 
     private static CommandArgument<OfflinePlayer> targetUserRemoveArgument() {
-        UserArgument targetUserArgument = new UserArgument("target",
-                (command, context) -> Arrays
-                        .stream(Bukkit.getOfflinePlayers())
-                        .filter(player -> AccountInterface
-                                .getManager()
-                                .getPlayerAccount(player)
-                                .getAttachedOwningBanks()
-                                .stream()
-                                .anyMatch(bank -> bank.getAccounts().size() > 1)));
+        KnownPlayerArgument targetUserArgument = new KnownPlayerArgument("target",
+                (command, context) -> player -> AccountInterface
+                        .getManager()
+                        .getPlayerAccount(player)
+                        .getAttachedOwningBanks()
+                        .stream()
+                        .anyMatch(bank -> bank.getAccounts().size() > 1));
         PermissionOrArgument<OfflinePlayer> targetUserPermissionArgument = new PermissionOrArgument<>("target",
                 source -> source.hasPermission(Permissions.GRANT_BANK_ACCESS_OTHER.getPermissionNode()),
                 targetUserArgument);
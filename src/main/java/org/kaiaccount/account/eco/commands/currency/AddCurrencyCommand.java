@@ -67,7 +67,7 @@ public class AddCurrencyCommand implements ArgumentCommand {
 						.build();
 
 		Optional<Currency<?>> alreadyRegistered =
-				AccountInterface.getManager().getCurrencies().parallelStream().filter(search -> {
+				AccountInterface.getManager().getCurrencies().stream().filter(search -> {
 					if (search.getKeyName().equalsIgnoreCase(name) && search.getPlugin()
 							.equals(EcoToolPlugin.getInstance())) {
 						return true;
@@ -1,48 +1,47 @@
 package org.kaiaccount.account.eco.commands.currency;
 
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.commands.AsyncArgumentCommand;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.currency.migration.CurrencyMigration;
 import org.kaiaccount.account.eco.permission.Permissions;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.transfer.IsolatedTransaction;
-import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
-import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
-import org.kaiaccount.account.inter.transfer.result.TransactionResult;
 import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
 import org.kaiaccount.account.inter.transfer.result.successful.SuccessfulTransactionResult;
 import org.kaiaccount.account.inter.type.Account;
 import org.kaiaccount.account.inter.type.AccountType;
-import org.kaiaccount.account.inter.type.IsolatedAccount;
-import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
-import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.operation.OptionalArgument;
 import org.mose.command.context.CommandContext;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.*;
-import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
 import java.util.stream.Stream;
 
-public class RemoveCurrencyCommand implements ArgumentCommand {
+public class RemoveCurrencyCommand implements AsyncArgumentCommand<RemoveCurrencyCommand.Removal> {
 
     public static final CommandArgument<String> REMOVE = new ExactArgument("remove");
     public static final CommandArgument<Currency<?>> CURRENCY = new CurrencyArgument("currency");
     public static final CommandArgument<Currency<?>> EXCHANGE_TO = new OptionalArgument<>(
             new CurrencyArgument("exchangeTo", (context, argument) -> AccountInterface.getManager()
                     .getCurrencies()
-                    .parallelStream()
+                    .stream()
                     .filter(currency -> currency.getWorth().isPresent())
                     .toList()));
 
     @Override
     public @NotNull List<CommandArgument<?>> getArguments() {
-        return List.of(REMOVE, CURRENCY);
+        return List.of(REMOVE, CURRENCY, EXCHANGE_TO);
     }
 
     @Override
@@ -56,105 +55,126 @@ public class RemoveCurrencyCommand implements ArgumentCommand {
     }
 
     @Override
-    public boolean run(CommandContext commandContext, String... strings) {
+    public @NotNull Removal snapshot(@NotNull CommandContext commandContext) {
         Currency<?> currencyToRemove = commandContext.getArgument(this, CURRENCY);
         Currency<?> currencyToExchange = commandContext.getArgument(this, EXCHANGE_TO);
-
-        List<PlayerAccount> issuePlayerAccounts = AccountInterface.getManager()
-                .getPlayerAccounts()
-                .parallelStream()
-                .filter(p -> p.getBalance(currencyToRemove).compareTo(
-                        BigDecimal.ZERO) != 0)
-                .toList();
-        List<PlayerBankAccount> issueBankAccounts = AccountInterface.getManager()
+        if (AccountInterface.getManager() instanceof EcoManager manager && manager.getCurrencyHolders().isRunning()) {
+            return new Removal(currencyToRemove, currencyToExchange, Collections.emptyList(), holders(currencyToRemove));
+        }
+        List<Held> balances = AccountInterface.getManager()
                 .getPlayerAccounts()
-                .parallelStream()
-                .flatMap(p -> p.getBanks().parallelStream())
-                .filter(p -> p.getBalance(currencyToRemove).compareTo(BigDecimal.ZERO) != 0)
+                .stream()
+                .flatMap(p -> Stream.<Account>concat(Stream.of(p), p.getBanks().stream()))
+                .map(account -> new Held(account, account.getBalance(currencyToRemove)))
                 .toList();
-        if (issueBankAccounts.isEmpty() && issuePlayerAccounts.isEmpty()) {
+        return new Removal(currencyToRemove, currencyToExchange, balances, null);
+    }
+
+    @Override
+    public @NotNull Consumer<CommandSender> runAsync(@NotNull Removal snapshot) {
+        Currency<?> currencyToRemove = snapshot.remove();
+        List<Account> holders = snapshot.holders();
+        if (holders == null) {
+            holders = ComputePool.getInstance().compute(snapshot.balances(), stream -> stream
+                    .filter(held -> held.amount().compareTo(BigDecimal.ZERO) != 0)
+                    .map(Held::account)
+                    .toList());
+        }
+        List<Account> issueAccounts = holders;
+        return source -> remove(source, currencyToRemove, snapshot.exchangeTo(), issueAccounts);
+    }
+
+    private void remove(@NotNull CommandSender source, @NotNull Currency<?> currencyToRemove,
+                        @Nullable Currency<?> currencyToExchange, @NotNull List<Account> scanned) {
+        if (AccountInterface.getManager() instanceof EcoManager manager
+                && manager.getMigrations().get(currencyToRemove).isPresent()) {
+            source.sendMessage(currencyToRemove.getSymbol() + " is already being removed");
+            return;
+        }
+        //the scan may be out of date by now, so check again before anything is deleted
+        List<Account> issueAccounts = scanned.isEmpty() ? holders(currencyToRemove) : scanned;
+        if (issueAccounts.isEmpty()) {
             AccountInterface.getManager().deregisterCurrency(currencyToRemove);
             currencyToRemove.delete();
-            commandContext.getSource().sendMessage(currencyToRemove.getSymbol() + " has been removed");
-            return true;
+            source.sendMessage(currencyToRemove.getSymbol() + " has been removed");
+            return;
         }
 
         if (currencyToExchange != null) {
             if (currencyToExchange.getWorth().isEmpty()) {
-                commandContext.getSource().sendMessage("Exchange currency does not have a exchange value");
-                return true;
+                source.sendMessage("Exchange currency does not have a exchange value");
+                return;
             }
             if (currencyToRemove.getWorth().isEmpty()) {
-                commandContext.getSource().sendMessage("Removing currency does not have a exchange value");
-                return true;
+                source.sendMessage("Removing currency does not have a exchange value");
+                return;
             }
-            if (issueBankAccounts.parallelStream().anyMatch(bank -> bank instanceof AccountType)) {
-                commandContext.getSource()
-                        .sendMessage("Not all banks are of the correct type. Another currency plugin found?");
-                return true;
+            if (issueAccounts.stream().anyMatch(account -> !(account instanceof AccountType))) {
+                source.sendMessage("Not all accounts are of the correct type. Another currency plugin found?");
+                return;
             }
-            if (issuePlayerAccounts.parallelStream().anyMatch(player -> player instanceof AccountType)) {
-                commandContext.getSource()
-                        .sendMessage("Not all players are of the correct type. Another currency plugin found?");
-                return true;
+
+            if (AccountInterface.getManager() instanceof EcoManager manager) {
+                manager.getMigrations()
+                        .start(EcoToolPlugin.getInstance(), currencyToRemove, currencyToExchange, issueAccounts,
+                                source::sendMessage);
+                source.sendMessage("Exchanging " + issueAccounts.size() + " accounts from " + currencyToRemove.getSymbol()
+                        + " to " + currencyToExchange.getSymbol() + ". The currency will be removed once done");
+                return;
             }
 
-            List<AccountType> accountType = new LinkedList<>();
-            accountType.addAll(issuePlayerAccounts.parallelStream().map(p -> (AccountType) p).toList());
-            accountType.addAll(issueBankAccounts.parallelStream().map(p -> (AccountType) p).toList());
-            new IsolatedTransaction(map -> exchange(map, currencyToRemove, currencyToExchange, accountType),
+            List<AccountType> accountType = issueAccounts.stream().map(p -> (AccountType) p).toList();
+            new IsolatedTransaction(map -> CurrencyMigration.exchange(map, currencyToRemove, currencyToExchange, accountType),
                     accountType)
                     .start()
                     .thenAccept(result -> {
                         if (result instanceof SuccessfulTransactionResult) {
                             AccountInterface.getManager().deregisterCurrency(currencyToRemove);
                             currencyToRemove.delete();
-                            commandContext.getSource()
-                                    .sendMessage(currencyToRemove.getSymbol() + " removed. Exchanged all balances");
+                            source.sendMessage(currencyToRemove.getSymbol() + " removed. Exchanged all balances");
                             return;
                         }
 
-                        commandContext.getSource().sendMessage("Could not exchange all values, reset all balances.");
+                        source.sendMessage("Could not exchange all values, reset all balances.");
                         if (result instanceof FailedTransactionResult failed) {
-                            commandContext.getSource().sendMessage("Failed reason: " + failed.getReason());
+                            source.sendMessage("Failed reason: " + failed.getReason());
                         }
                     });
+            return;
         }
 
-        commandContext.getSource().sendMessage("Could not remove currency. Players still have money in this currency");
-        return true;
+        source.sendMessage("Could not remove currency. Players still have money in this currency");
     }
 
-    private Collection<CompletableFuture<? extends TransactionResult>> exchange(
-            Map<AccountType, IsolatedAccount> toAccount, Currency<?> toRemove, Currency<?> toExchange,
-            Collection<AccountType> accountType) {
-        Stream<CompletableFuture<? extends TransactionResult>> stream =
-                accountType.parallelStream().map(account -> {
-                    IsolatedAccount iso = toAccount.get(account);
-                    return iso.multipleTransaction(
-                            map1 -> exchangeTo(map1, toRemove, toExchange),
-                            map1 -> setToZero(map1, toRemove));
-                });
-        return stream.toList();
+    /**
+     * Must be called on the main thread
+     *
+     * @return Every account that holds the currency right now
+     */
+    private static @NotNull List<Account> holders(@NotNull Currency<?> currency) {
+        if (AccountInterface.getManager() instanceof EcoManager manager && manager.getCurrencyHolders().isRunning()) {
+            return List.copyOf(manager.getCurrencyHolders().getHolders(currency));
+        }
+        return AccountInterface.getManager()
+                .getPlayerAccounts()
+                .stream()
+                .flatMap(p -> Stream.<Account>concat(Stream.of(p), p.getBanks().stream()))
+                .filter(p -> p.getBalance(currency).compareTo(BigDecimal.ZERO) != 0)
+                .toList();
     }
 
-    private CompletableFuture<SingleTransactionResult> setToZero(@NotNull Account account,
-                                                                 @NotNull Currency<?> remove) {
-        return account.set(new PaymentBuilder().setCurrency(remove)
-                .setAmount(BigDecimal.ZERO)
-                .build(EcoToolPlugin.getInstance()));
+    /**
+     * @param balances The balance of the currency to remove in every player and bank account, read on the main
+     *                 thread. Used only when {@code holders} is not known
+     * @param holders  Every account holding the currency to remove, if the holder index is running
+     */
+    public record Removal(@NotNull Currency<?> remove, @Nullable Currency<?> exchangeTo,
+                          @NotNull List<Held> balances, @Nullable List<Account> holders) {
     }
 
-    private CompletableFuture<SingleTransactionResult> exchangeTo(@NotNull Account account,
-                                                                  @NotNull Currency<?> toRemove, @NotNull Currency<?> toExchange) {
-        BigDecimal currentBalance = account.getBalance(toRemove);
-        currentBalance = currentBalance.divide(
-                        toRemove.getWorth().orElseThrow(() -> new RuntimeException("Worth not found in to remove")),
-                        RoundingMode.DOWN)
-                .multiply(toExchange.getWorth()
-                        .orElseThrow(() -> new RuntimeException("Worth not found in to exchange")));
-        return account.deposit(new PaymentBuilder().setCurrency(toExchange)
-                .setAmount(currentBalance)
-                .build(EcoToolPlugin.getInstance()));
+    /**
+     * An account along with how much of the currency to remove it held when the command was run
+     */
+    public record Held(@NotNull Account account, @NotNull BigDecimal amount) {
     }
 }
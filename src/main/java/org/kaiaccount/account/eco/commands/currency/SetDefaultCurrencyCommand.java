@@ -2,6 +2,7 @@ package org.kaiaccount.account.eco.commands.currency;
 
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.currency.Currency;
@@ -38,8 +39,11 @@ public class SetDefaultCurrencyCommand implements ArgumentCommand {
 	public boolean run(CommandContext commandContext, String... args) {
 		Currency<?> newDefault = commandContext.getArgument(this, CURRENCY);
 		Currency<?> previousDefault = AccountInterface.getManager().getDefaultCurrency();
-		newDefault.setDefault(true);
 		previousDefault.setDefault(false);
+		newDefault.setDefault(true);
+		if (AccountInterface.getManager() instanceof EcoManager manager) {
+			manager.getCurrencyRegistry().invalidateDefault();
+		}
 		commandContext.getSource()
 				.sendMessage("Default currency swapped from "
 						+ previousDefault.getKeyName()
@@ -2,6 +2,7 @@ package org.kaiaccount.account.eco.commands.currency;
 
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.mose.command.ArgumentCommand;
@@ -43,6 +44,7 @@ public class SetExchangeValueCommand implements ArgumentCommand {
 		double amount = commandContext.getArgument(this, VALUE);
 		if (amount == 0) {
 			currency.removeWorth();
+			ExchangeRates.invalidateCurrent();
 			commandContext.getSource().sendMessage("Removed the exchange value of " + currency.getSymbol());
 			return true;
 		}
@@ -51,6 +53,7 @@ public class SetExchangeValueCommand implements ArgumentCommand {
 			return false;
 		}
 		currency.setWorth(BigDecimal.valueOf(amount));
+		ExchangeRates.invalidateCurrent();
 		commandContext.getSource().sendMessage("Set exchange value of " + currency.getSymbol() + " to " + amount);
 		return true;
 	}
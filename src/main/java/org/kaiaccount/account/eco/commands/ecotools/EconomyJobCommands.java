@@ -0,0 +1,165 @@
+package org.kaiaccount.account.eco.commands.ecotools;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.job.EconomyJob;
+import org.kaiaccount.account.eco.job.EconomyJobs;
+import org.kaiaccount.account.eco.job.JobAction;
+import org.kaiaccount.account.eco.job.JobActions;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.arguments.operation.OptionalArgument;
+import org.mose.command.arguments.simple.number.DoubleArgument;
+import org.mose.command.builder.CommandBuilder;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Optional;
+import java.util.function.BiFunction;
+import java.util.function.Predicate;
+
+public final class EconomyJobCommands {
+
+    private EconomyJobCommands() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static ArgumentCommand taxCommand() {
+        return amountCommand("tax", "percent", "Takes a percentage of every balance", JobActions::tax, account -> true);
+    }
+
+    public static ArgumentCommand wealthCapCommand() {
+        return amountCommand("cap", "amount", "Takes anything above the amount from every balance", JobActions::wealthCap,
+                account -> true);
+    }
+
+    public static ArgumentCommand airdropCommand() {
+        return amountCommand("airdrop", "amount", "Gives every player the amount", JobActions::airdrop,
+                account -> MoneySupply.HolderType.of(account).filter(type -> type == MoneySupply.HolderType.PLAYER).isPresent());
+    }
+
+    public static ArgumentCommand resetCommand() {
+        return CommandBuilder.build((supplier, builder) -> {
+            CommandArgument<Currency<?>> currencyArgument = new CurrencyArgument("currency");
+            CommandArgument<String> dryArgument = new OptionalArgument<>(new ExactArgument("dry"));
+
+            return builder
+                    .setDescription("Sets every balance of the currency to zero")
+                    .setPermissionNode(Permissions.ECONOMY_JOB.getPermissionNode())
+                    .addArguments(new ExactArgument("job"), new ExactArgument("reset"), currencyArgument, dryArgument)
+                    .setExecutor((context, raw) -> {
+                        Currency<?> currency = context.getArgument(supplier, currencyArgument);
+                        boolean dryRun = context.getArgument(supplier, dryArgument) != null;
+                        return start(context.getSource(), "reset " + currency.getKeyName(), JobActions.reset(currency),
+                                account -> true, dryRun);
+                    })
+                    .build();
+        });
+    }
+
+    public static ArgumentCommand statusCommand() {
+        return CommandBuilder.build((supplier, builder) -> builder
+                .setDescription("Shows the progress of the current economy job")
+                .setPermissionNode(Permissions.ECONOMY_JOB.getPermissionNode())
+                .addArguments(new ExactArgument("job"), new ExactArgument("status"))
+                .setExecutor((context, raw) -> {
+                    Optional<EconomyJob> opJob = jobs().flatMap(EconomyJobs::getCurrent);
+                    if (opJob.isEmpty()) {
+                        context.getSource().sendMessage("No economy job has been run");
+                        return true;
+                    }
+                    EconomyJob job = opJob.get();
+                    context.getSource()
+                            .sendMessage((job.isDryRun() ? "Dry run of " : "Job ") + job.getName() + ": " + job.getState()
+                                    + " " + job.getPosition() + "/" + job.getSize() + ", changed " + job.getChanged());
+                    return true;
+                })
+                .build());
+    }
+
+    public static ArgumentCommand cancelCommand() {
+        return CommandBuilder.build((supplier, builder) -> builder
+                .setDescription("Stops the current economy job. Accounts already done keep their changes")
+                .setPermissionNode(Permissions.ECONOMY_JOB.getPermissionNode())
+                .addArguments(new ExactArgument("job"), new ExactArgument("cancel"))
+                .setExecutor((context, raw) -> {
+                    Optional<EconomyJob> opJob = jobs()
+                            .flatMap(EconomyJobs::getCurrent)
+                            .filter(job -> job.getState() == EconomyJob.State.RUNNING);
+                    if (opJob.isEmpty()) {
+                        context.getSource().sendMessage("No economy job is running");
+                        return true;
+                    }
+                    opJob.get().cancel();
+                    return true;
+                })
+                .build());
+    }
+
+    private static ArgumentCommand amountCommand(@NotNull String name,
+                                                 @NotNull String amountName,
+                                                 @NotNull String description,
+                                                 @NotNull BiFunction<Currency<?>, BigDecimal, JobAction> action,
+                                                 @NotNull Predicate<Account> filter) {
+        return CommandBuilder.build((supplier, builder) -> {
+            CommandArgument<Currency<?>> currencyArgument = new CurrencyArgument("currency");
+            CommandArgument<Double> amountArgument = new DoubleArgument(amountName);
+            CommandArgument<String> dryArgument = new OptionalArgument<>(new ExactArgument("dry"));
+
+            return builder
+                    .setDescription(description)
+                    .setPermissionNode(Permissions.ECONOMY_JOB.getPermissionNode())
+                    .addArguments(new ExactArgument("job"), new ExactArgument(name), currencyArgument, amountArgument,
+                            dryArgument)
+                    .setExecutor((context, raw) -> {
+                        Currency<?> currency = context.getArgument(supplier, currencyArgument);
+                        double amount = context.getArgument(supplier, amountArgument);
+                        boolean dryRun = context.getArgument(supplier, dryArgument) != null;
+                        if (amount < 0) {
+                            context.getSource().sendMessage(ChatColor.RED + "Amount cannot be negative");
+                            return false;
+                        }
+                        return start(context.getSource(), name + " " + currency.getKeyName(),
+                                action.apply(currency, BigDecimal.valueOf(amount)), filter, dryRun);
+                    })
+                    .build();
+        });
+    }
+
+    private static boolean start(@NotNull CommandSender source,
+                                 @NotNull String name,
+                                 @NotNull JobAction action,
+                                 @NotNull Predicate<Account> filter,
+                                 boolean dryRun) {
+        if (!(AccountInterface.getManager() instanceof EcoManager manager)) {
+            source.sendMessage(ChatColor.RED + "Economy jobs need EcoTools to be the account manager");
+            return false;
+        }
+        List<Account> accounts = EconomyJobs.accounts(manager, filter);
+        try {
+            manager.getJobs().start(EcoToolPlugin.getInstance(), name, accounts, action, dryRun, source::sendMessage);
+        } catch (IllegalStateException e) {
+            source.sendMessage(ChatColor.RED + e.getMessage());
+            return false;
+        }
+        source.sendMessage((dryRun ? "Dry run of " : "Started ") + name + " over " + accounts.size() + " accounts");
+        return true;
+    }
+
+    private static @NotNull Optional<EconomyJobs> jobs() {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return Optional.of(manager.getJobs());
+        }
+        return Optional.empty();
+    }
+}
@@ -6,6 +6,8 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.currency.Currency;
@@ -14,7 +16,6 @@ import org.kaiaccount.account.inter.transfer.result.successful.SuccessfulTransac
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
 import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.simple.number.DoubleArgument;
 import org.mose.command.context.CommandContext;
@@ -26,7 +27,7 @@ import java.util.Optional;
 public class GiveEcoCommand implements ArgumentCommand {
 
     public static final CommandArgument<String> GIVE = new ExactArgument("give");
-    public static final CommandArgument<OfflinePlayer> USER = new UserArgument("user", u -> true);
+    public static final CommandArgument<OfflinePlayer> USER = new KnownPlayerArgument("user");
     public static final CommandArgument<Currency<?>> CURRENCY = new CurrencyArgument("currency");
     public static final CommandArgument<Double> AMOUNT = new DoubleArgument("amount");
 
@@ -62,6 +63,7 @@ public class GiveEcoCommand implements ArgumentCommand {
                     if (!(result instanceof SuccessfulTransactionResult)) {
                         return;
                     }
+                    MoneySupply.recordMintedCurrent(currency, BigDecimal.valueOf(amount));
                     commandContext.getSource().sendMessage("Money have arrived");
                     if (!player.isOnline()) {
                         return;
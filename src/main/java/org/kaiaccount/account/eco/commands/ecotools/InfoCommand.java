@@ -7,7 +7,12 @@ import org.bukkit.entity.Player;
 import org.bukkit.plugin.RegisteredListener;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.player.PlayerLookups;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.currency.migration.CurrencyMigration;
+import org.kaiaccount.account.eco.vault.RecordingEconomy;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.event.TransactionCompletedEvent;
 import org.kaiaccount.account.inter.event.TransactionEvent;
@@ -18,6 +23,7 @@ import org.mose.command.context.CommandContext;
 
 import java.util.Collection;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
 
 public class InfoCommand implements ArgumentCommand {
@@ -62,6 +68,74 @@ public class InfoCommand implements ArgumentCommand {
                         + " |");
             }
         }
+        if (AccountInterface.getManager() instanceof EcoManager manager && manager.getMoneySupply().isRunning()) {
+            Map<Currency<?>, MoneySupply.Totals> supply = manager.getMoneySupply().getTotals();
+            sender.sendMessage("Money supply:");
+            for (Currency<?> currency : currencies) {
+                MoneySupply.Totals totals = supply.get(currency);
+                if (totals == null) {
+                    continue;
+                }
+                sender.sendMessage(" " + currency.getKeyName() + ": " + currency.formatSymbol(totals.total()));
+            }
+            if (!(sender instanceof Player)) {
+                sender.sendMessage("| Currency | Players | Banks | Named | Minted | Transferred |");
+                for (Currency<?> currency : currencies) {
+                    MoneySupply.Totals totals = supply.get(currency);
+                    if (totals == null) {
+                        continue;
+                    }
+                    sender.sendMessage("| "
+                            + currency.getKeyName()
+                            + " | "
+                            + totals.getHeld(MoneySupply.HolderType.PLAYER)
+                            + " | "
+                            + totals.getHeld(MoneySupply.HolderType.BANK)
+                            + " | "
+                            + totals.getHeld(MoneySupply.HolderType.NAMED)
+                            + " | "
+                            + totals.minted()
+                            + " | "
+                            + totals.transferred()
+                            + " |");
+                }
+            }
+        }
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            for (CurrencyMigration migration : manager.getMigrations().getMigrations()) {
+                sender.sendMessage("Removing " + migration.getFrom().getSymbol() + ": " + migration.getState() + " "
+                        + migration.getPosition() + "/" + migration.getSize());
+            }
+            sender.sendMessage("| Account lookup | Calls | Loaded | Average us |");
+            for (PlayerLookups.Method method : PlayerLookups.Method.values()) {
+                PlayerLookups.Stats stats = manager.getPlayerLookups().getStats(method);
+                sender.sendMessage("| "
+                        + method.getDisplayName()
+                        + " | "
+                        + stats.calls()
+                        + " | "
+                        + stats.hits()
+                        + " | "
+                        + (stats.getAverageNanos() / 1000)
+                        + " |");
+            }
+        }
+        RecordingEconomy economy = RecordingEconomy.current();
+        if (economy != null) {
+            sender.sendMessage("| Vault call | Calls | Loaded | Average us |");
+            for (RecordingEconomy.Call call : RecordingEconomy.Call.values()) {
+                PlayerLookups.Stats stats = economy.getStats(call);
+                sender.sendMessage("| "
+                        + call.getDisplayName()
+                        + " | "
+                        + stats.calls()
+                        + " | "
+                        + stats.hits()
+                        + " | "
+                        + (stats.getAverageNanos() / 1000)
+                        + " |");
+            }
+        }
         sender.sendMessage("TransactionCompleted Hooks: " + transactionCompletedHooks.length);
         if (!(sender instanceof Player)) {
             sender.sendMessage("| Plugin | Listener class |");
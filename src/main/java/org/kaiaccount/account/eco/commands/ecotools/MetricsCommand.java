@@ -0,0 +1,61 @@
+package org.kaiaccount.account.eco.commands.ecotools;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.metrics.Metrics;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.arguments.operation.OptionalArgument;
+import org.mose.command.context.CommandContext;
+
+import java.io.File;
+import java.io.IOException;
+import java.time.LocalDateTime;
+import java.time.format.DateTimeFormatter;
+import java.util.List;
+import java.util.Optional;
+
+public class MetricsCommand implements ArgumentCommand {
+
+    public static final CommandArgument<String> METRICS = new ExactArgument("metrics");
+    public static final CommandArgument<String> DUMP = new OptionalArgument<>(new ExactArgument("dump"));
+
+    private static final DateTimeFormatter FILE_TIME = DateTimeFormatter.ofPattern("yyyyMMdd-HHmmss");
+
+    @Override
+    public @NotNull List<CommandArgument<?>> getArguments() {
+        return List.of(METRICS, DUMP);
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Shows the counters and timings EcoTools keeps on itself, or writes them to a file";
+    }
+
+    @Override
+    public @NotNull Optional<String> getPermissionNode() {
+        return Optional.of(Permissions.METRICS.getPermissionNode());
+    }
+
+    @Override
+    public boolean run(CommandContext commandContext, String... args) {
+        CommandSender sender = commandContext.getSource();
+        if (commandContext.getArgument(this, DUMP) == null) {
+            sender.sendMessage("|===|Metrics|===|");
+            Metrics.report().forEach(sender::sendMessage);
+            return true;
+        }
+        File file = new File("plugins/eco/metrics/metrics-" + LocalDateTime.now().format(FILE_TIME) + ".txt");
+        try {
+            Metrics.dump(file);
+        } catch (IOException e) {
+            sender.sendMessage(ChatColor.RED + "Could not write metrics: " + e.getMessage());
+            return false;
+        }
+        sender.sendMessage("Wrote metrics to " + file.getPath());
+        return true;
+    }
+}
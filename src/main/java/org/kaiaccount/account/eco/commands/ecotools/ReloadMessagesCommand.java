@@ -0,0 +1,40 @@
+package org.kaiaccount.account.eco.commands.ecotools;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.context.CommandContext;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ReloadMessagesCommand implements ArgumentCommand {
+
+    public static final CommandArgument<String> RELOAD = new ExactArgument("reload");
+    public static final CommandArgument<String> MESSAGES = new ExactArgument("messages");
+
+    @Override
+    public @NotNull List<CommandArgument<?>> getArguments() {
+        return List.of(RELOAD, MESSAGES);
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Reads messages.yml again";
+    }
+
+    @Override
+    public @NotNull Optional<String> getPermissionNode() {
+        return Optional.of(Permissions.RELOAD.getPermissionNode());
+    }
+
+    @Override
+    public boolean run(CommandContext commandContext, String... args) {
+        int loaded = EcoToolPlugin.getInstance().loadMessages();
+        commandContext.getSource().sendMessage("Reloaded " + loaded + " messages");
+        return true;
+    }
+}
@@ -0,0 +1,46 @@
+package org.kaiaccount.account.eco.commands.ecotools;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.context.CommandContext;
+
+import java.util.List;
+import java.util.Optional;
+
+public class ResumeMigrationsCommand implements ArgumentCommand {
+
+    public static final CommandArgument<String> MIGRATION = new ExactArgument("migration");
+    public static final CommandArgument<String> RESUME = new ExactArgument("resume");
+
+    @Override
+    public @NotNull List<CommandArgument<?>> getArguments() {
+        return List.of(MIGRATION, RESUME);
+    }
+
+    @Override
+    public @NotNull String getDescription() {
+        return "Carries on currency removals that failed";
+    }
+
+    @Override
+    public @NotNull Optional<String> getPermissionNode() {
+        return Optional.of(Permissions.REMOVE_CURRENCY.getPermissionNode());
+    }
+
+    @Override
+    public boolean run(CommandContext commandContext, String... args) {
+        if (!(AccountInterface.getManager() instanceof EcoManager manager)) {
+            commandContext.getSource().sendMessage("Migrations are only run when EcoTools is the manager");
+            return true;
+        }
+        int resumed = manager.getMigrations().resumeFailed(EcoToolPlugin.getInstance());
+        commandContext.getSource().sendMessage("Resumed " + resumed + " migrations");
+        return true;
+    }
+}
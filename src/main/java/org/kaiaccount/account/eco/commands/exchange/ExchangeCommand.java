@@ -7,6 +7,7 @@ import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
@@ -19,7 +20,6 @@ import org.mose.command.arguments.simple.number.DoubleArgument;
 import org.mose.command.context.CommandContext;
 
 import java.math.BigDecimal;
-import java.math.RoundingMode;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -31,13 +31,13 @@ public class ExchangeCommand implements ArgumentCommand {
             return Collections.emptySet();
         }
         PlayerAccount account = AccountInterface.getManager().getPlayerAccount(player);
-        return account.getBalances().keySet().parallelStream().filter(c -> c.getWorth().isPresent()).toList();
+        return account.getBalances().keySet().stream().filter(c -> c.getWorth().isPresent()).toList();
     });
 
     public static final CommandArgument<Currency<?>> TO =
             new CurrencyArgument("to", (context, argument) -> AccountInterface.getManager()
                     .getCurrencies()
-                    .parallelStream()
+                    .stream()
                     .filter(c -> c.getWorth().isPresent())
                     .toList());
 
@@ -92,9 +92,12 @@ public class ExchangeCommand implements ArgumentCommand {
         BigDecimal previousFrom = account.getBalance(from);
         BigDecimal previousTo = account.getBalance(to);
 
-        BigDecimal exchange = BigDecimal.valueOf(amount)
-                .divide(from.getWorth().get(), RoundingMode.DOWN)
-                .multiply(to.getWorth().get());
+        Optional<BigDecimal> opExchange = ExchangeRates.current().convert(BigDecimal.valueOf(amount), from, to);
+        if (opExchange.isEmpty()) {
+            commandContext.getSource().sendMessage("Could not exchange: No exchange rate between " + from.getKeyName() + " and " + to.getKeyName());
+            return false;
+        }
+        BigDecimal exchange = opExchange.get();
 
         BigDecimal newFrom = previousFrom.subtract(BigDecimal.valueOf(amount));
         BigDecimal newTo = previousTo.add(exchange);
@@ -7,6 +7,7 @@ import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
 import org.kaiaccount.account.eco.account.named.EcoNamedAccount;
 import org.kaiaccount.account.eco.commands.argument.account.AccountArgument;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.commands.argument.account.NamedAccountArgument;
 import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
@@ -24,7 +25,6 @@ import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
 import org.mose.command.ParseCommandArgument;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.operation.MappedArgumentWrapper;
 import org.mose.command.arguments.operation.OptionalArgument;
@@ -42,15 +42,11 @@ public class RemoveNamedAccountCommand implements ArgumentCommand {
     public static final CommandArgument<NamedAccountLike> INTO;
 
     static {
-        NAME = new NamedAccountArgument("name", (cmdContext, argContext) -> AccountInterface
-                .getManager()
-                .getNamedAccounts());
+        NAME = new NamedAccountArgument("name");
 
-        NamedAccountArgument namedAccountArgument = new NamedAccountArgument("", (cmdContext, argContext) -> AccountInterface
-                .getManager()
-                .getNamedAccounts());
+        NamedAccountArgument namedAccountArgument = new NamedAccountArgument("");
         PlayerBankArgument bankAccountArgument = PlayerBankArgument.allPlayerBanks("");
-        MappedArgumentWrapper<PlayerAccount, OfflinePlayer> playerAccountArgument = new MappedArgumentWrapper<>(new UserArgument("", p -> true), user -> AccountInterface
+        MappedArgumentWrapper<PlayerAccount, OfflinePlayer> playerAccountArgument = new MappedArgumentWrapper<>(new KnownPlayerArgument(""), user -> AccountInterface
                 .getManager()
                 .getPlayerAccount(user));
         AccountArgument<NamedAccountLike> anyAccountArgument = new AccountArgument<>("to",
@@ -6,6 +6,7 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
 import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.PaymentArgument;
 import org.kaiaccount.account.eco.message.Messages;
@@ -108,6 +109,7 @@ public class PayBankCommand implements ArgumentCommand {
                                         + failed.getReason());
                 return;
             }
+            MoneySupply.recordTransferCurrent(transactionResult);
             commandContext.getSource().sendMessage("Payment complete");
         });
 
@@ -6,6 +6,7 @@ import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
 import org.kaiaccount.account.eco.commands.argument.account.NamedAccountArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.PaymentArgument;
 import org.kaiaccount.account.eco.message.Messages;
@@ -34,7 +35,7 @@ import java.util.concurrent.CompletableFuture;
 public class PayNamedCommand implements ArgumentCommand {
 
     public static final CommandArgument<String> NAMED = new ExactArgument("account");
-    public static final CommandArgument<NamedAccount> NAMED_ACCOUNT = new NamedAccountArgument("namedAccount", (cmdContext, argContext) -> AccountInterface.getManager().getNamedAccounts());
+    public static final CommandArgument<NamedAccount> NAMED_ACCOUNT = new NamedAccountArgument("namedAccount");
     public static final PaymentArgument VALUE = new PaymentArgument("payment", true);
 
     @Override
@@ -107,6 +108,7 @@ public class PayNamedCommand implements ArgumentCommand {
                                         + failed.getReason());
                 return;
             }
+            MoneySupply.recordTransferCurrent(transactionResult);
             commandContext.getSource().sendMessage("Payment complete");
         });
 
@@ -1,12 +1,13 @@
 package org.kaiaccount.account.eco.commands.pay;
 
-import org.bukkit.Bukkit;
 import org.bukkit.OfflinePlayer;
 import org.bukkit.command.CommandSender;
 import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
 import org.kaiaccount.account.inter.currency.Currency;
@@ -21,7 +22,6 @@ import org.kaiaccount.account.inter.type.player.AbstractPlayerAccount;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
 import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.ExactArgument;
 import org.mose.command.arguments.operation.OptionalArgument;
 import org.mose.command.arguments.operation.RemainingArgument;
@@ -30,7 +30,6 @@ import org.mose.command.arguments.simple.text.StringArgument;
 import org.mose.command.arguments.simple.text.StringCodeArguments;
 import org.mose.command.context.CommandContext;
 
-import java.util.Arrays;
 import java.util.Collections;
 import java.util.List;
 import java.util.Optional;
@@ -39,8 +38,8 @@ import java.util.concurrent.CompletableFuture;
 public class PayPlayerCommand implements ArgumentCommand {
 
     public static final CommandArgument<String> PLAYER = new ExactArgument("player");
-    public static final CommandArgument<OfflinePlayer> USER = new UserArgument("user",
-            (command, argument) -> Arrays.stream(Bukkit.getOfflinePlayers()).filter(user -> !user.equals(command.getSource())));
+    public static final CommandArgument<OfflinePlayer> USER = new KnownPlayerArgument("user",
+            (command, argument) -> user -> !user.equals(command.getSource()));
     public static final CommandArgument<Currency<?>> CURRENCY = new CurrencyArgument("currency", (context, argument) -> {
         if (!(context.getSource() instanceof Player player)) {
             return Collections.emptySet();
@@ -102,12 +101,13 @@ public class PayPlayerCommand implements ArgumentCommand {
             CompletableFuture<TransactionResult> deposit = toPlayerAccount.deposit(paymentResult).thenApply(single -> single);
             return List.of(withdraw, deposit);
         }, toAccount, toPlayerAccount).start().thenAccept(result -> {
+            MoneySupply.recordTransferCurrent(result);
             player.sendMessage("Successfully paid " + toUser.getName());
             Player onlineTo = toUser.getPlayer();
             if (onlineTo == null) {
                 return;
             }
-            Optional<Transaction> opTransaction = result.getTransactions().parallelStream().filter(type -> type.getType() == TransactionType.DEPOSIT).findAny();
+            Optional<Transaction> opTransaction = result.getTransactions().stream().filter(type -> type.getType() == TransactionType.DEPOSIT).findAny();
             if (opTransaction.isEmpty()) {
                 return;
             }
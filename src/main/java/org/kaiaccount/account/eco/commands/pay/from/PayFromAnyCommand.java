@@ -2,6 +2,7 @@ package org.kaiaccount.account.eco.commands.pay.from;
 
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
 import org.kaiaccount.account.eco.commands.argument.account.AccountArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.PaymentArgument;
 import org.kaiaccount.account.eco.permission.Permissions;
@@ -71,6 +72,7 @@ public class PayFromAnyCommand implements ArgumentCommand {
                         commandContext.getSource().sendMessage("Transaction failed: No money has left the account: Failed due to " + failedTransactionResult.getReason());
                         return;
                     }
+                    MoneySupply.recordTransferCurrent(result);
                     commandContext.getSource().sendMessage("Transaction successful");
                 });
         commandContext.getSource().sendMessage("Payment request sent");
@@ -2,6 +2,7 @@ package org.kaiaccount.account.eco.commands.pay.from;
 
 import org.jetbrains.annotations.NotNull;
 import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
 import org.kaiaccount.account.eco.commands.argument.account.AccountArgument;
 import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
 import org.kaiaccount.account.eco.commands.argument.currency.PaymentArgument;
@@ -76,6 +77,7 @@ public class PayFromOwnBankCommand implements ArgumentCommand {
                         .sendMessage("Transaction failed: No money has left the account: Failed due to " + failedTransactionResult.getReason());
                 return;
             }
+            MoneySupply.recordTransferCurrent(result);
             commandContext.getSource().sendMessage("Transaction successful");
         });
         commandContext.getSource().sendMessage("Payment request sent");
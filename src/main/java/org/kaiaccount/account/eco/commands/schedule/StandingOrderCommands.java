@@ -0,0 +1,216 @@
+package org.kaiaccount.account.eco.commands.schedule;
+
+import org.bukkit.ChatColor;
+import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.AccountKeys;
+import org.kaiaccount.account.eco.account.bank.EcoBankAccount;
+import org.kaiaccount.account.eco.commands.argument.account.AccountArgument;
+import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
+import org.kaiaccount.account.eco.commands.argument.currency.CurrencyArgument;
+import org.kaiaccount.account.eco.permission.Permissions;
+import org.kaiaccount.account.eco.schedule.PaymentScheduler;
+import org.kaiaccount.account.eco.schedule.StandingOrder;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.mose.command.ArgumentCommand;
+import org.mose.command.CommandArgument;
+import org.mose.command.arguments.operation.ExactArgument;
+import org.mose.command.arguments.operation.OptionalArgument;
+import org.mose.command.arguments.operation.RemainingArgument;
+import org.mose.command.arguments.simple.number.DoubleArgument;
+import org.mose.command.arguments.simple.number.IntegerArgument;
+import org.mose.command.arguments.simple.text.StringArgument;
+import org.mose.command.arguments.simple.text.StringCodeArguments;
+import org.mose.command.builder.CommandBuilder;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.time.Instant;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+
+public final class StandingOrderCommands {
+
+    private StandingOrderCommands() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static ArgumentCommand createCommand() {
+        return CommandBuilder.build((supplier, builder) -> {
+            CommandArgument<Account> toArgument = AccountArgument.allAccounts("toAccount");
+            CommandArgument<Currency<?>> currencyArgument = new CurrencyArgument("currency");
+            CommandArgument<Double> amountArgument = new DoubleArgument("amount");
+            CommandArgument<Integer> hoursArgument = new IntegerArgument("hours");
+            CommandArgument<List<String>> reasonArgument = new OptionalArgument<>(
+                    new RemainingArgument<>(new StringCodeArguments(new StringArgument("reason"))), Collections.emptyList());
+
+            return builder
+                    .setDescription("Pays an account every few hours until cancelled")
+                    .setPermissionNode(Permissions.STANDING_ORDER.getPermissionNode())
+                    .addArguments(new ExactArgument("standing"), toArgument, currencyArgument, amountArgument,
+                            hoursArgument, reasonArgument)
+                    .setExecutor((context, raw) -> {
+                        if (!(context.getSource() instanceof Player player)) {
+                            context.getSource().sendMessage(ChatColor.RED + "Only players can set up standing orders");
+                            return false;
+                        }
+                        Optional<PaymentScheduler> opScheduler = scheduler(context.getSource());
+                        if (opScheduler.isEmpty()) {
+                            return false;
+                        }
+                        Account to = context.getArgument(supplier, toArgument);
+                        Currency<?> currency = context.getArgument(supplier, currencyArgument);
+                        double amount = context.getArgument(supplier, amountArgument);
+                        int hours = context.getArgument(supplier, hoursArgument);
+                        String reason = String.join(" ", context.getArgument(supplier, reasonArgument));
+                        if (amount <= 0) {
+                            context.getSource().sendMessage(ChatColor.RED + "Payment requires more then 0");
+                            return false;
+                        }
+                        if (hours <= 0) {
+                            context.getSource().sendMessage(ChatColor.RED + "Hours requires more then 0");
+                            return false;
+                        }
+                        Optional<String> opTo = AccountKeys.toKey(to);
+                        if (opTo.isEmpty()) {
+                            context.getSource().sendMessage(ChatColor.RED + "That account cannot be paid by standing order");
+                            return false;
+                        }
+                        String from = AccountKeys.toKey(AccountInterface.getManager().getPlayerAccount(player)).orElseThrow();
+                        if (from.equals(opTo.get())) {
+                            context.getSource().sendMessage(ChatColor.RED + "Cannot pay yourself");
+                            return false;
+                        }
+                        StandingOrder order = opScheduler.get().addOrder(from, opTo.get(), currency, BigDecimal.valueOf(amount),
+                                TimeUnit.HOURS.toSeconds(hours), reason.isBlank() ? StandingOrder.DEFAULT_REASON : reason);
+                        context.getSource().sendMessage("Standing order " + shortId(order) + " will pay "
+                                + currency.formatSymbol(order.getAmount()) + " every " + hours + " hours");
+                        return true;
+                    })
+                    .build();
+        });
+    }
+
+    public static ArgumentCommand listCommand() {
+        return CommandBuilder.build((supplier, builder) -> builder
+                .setDescription("Lists your standing orders")
+                .setPermissionNode(Permissions.STANDING_ORDER.getPermissionNode())
+                .addArguments(new ExactArgument("standing"), new ExactArgument("list"))
+                .setExecutor((context, raw) -> {
+                    if (!(context.getSource() instanceof Player player)) {
+                        context.getSource().sendMessage(ChatColor.RED + "Only players have standing orders");
+                        return false;
+                    }
+                    Optional<PaymentScheduler> opScheduler = scheduler(context.getSource());
+                    if (opScheduler.isEmpty()) {
+                        return false;
+                    }
+                    String from = AccountKeys.toKey(AccountInterface.getManager().getPlayerAccount(player)).orElseThrow();
+                    List<StandingOrder> orders = opScheduler.get().getOrdersFrom(from);
+                    if (orders.isEmpty()) {
+                        context.getSource().sendMessage("You have no standing orders");
+                        return true;
+                    }
+                    long now = Instant.now().getEpochSecond();
+                    for (StandingOrder order : orders) {
+                        context.getSource().sendMessage(shortId(order) + ": " + order.getCurrency().formatSymbol(order.getAmount())
+                                + " to " + order.getToKey() + " every " + TimeUnit.SECONDS.toHours(order.getIntervalSeconds())
+                                + " hours, next in " + Math.max(0, TimeUnit.SECONDS.toMinutes(order.getNextDue() - now))
+                                + " minutes");
+                    }
+                    return true;
+                })
+                .build());
+    }
+
+    public static ArgumentCommand cancelCommand() {
+        return CommandBuilder.build((supplier, builder) -> {
+            CommandArgument<String> idArgument = new StringArgument("id");
+
+            return builder
+                    .setDescription("Cancels one of your standing orders")
+                    .setPermissionNode(Permissions.STANDING_ORDER.getPermissionNode())
+                    .addArguments(new ExactArgument("standing"), new ExactArgument("cancel"), idArgument)
+                    .setExecutor((context, raw) -> {
+                        if (!(context.getSource() instanceof Player player)) {
+                            context.getSource().sendMessage(ChatColor.RED + "Only players have standing orders");
+                            return false;
+                        }
+                        Optional<PaymentScheduler> opScheduler = scheduler(context.getSource());
+                        if (opScheduler.isEmpty()) {
+                            return false;
+                        }
+                        String id = context.getArgument(supplier, idArgument).toLowerCase();
+                        String from = AccountKeys.toKey(AccountInterface.getManager().getPlayerAccount(player)).orElseThrow();
+                        List<StandingOrder> matching = opScheduler
+                                .get()
+                                .getOrdersFrom(from)
+                                .stream()
+                                .filter(order -> order.getId().toString().startsWith(id))
+                                .toList();
+                        if (matching.size() != 1) {
+                            context.getSource().sendMessage(ChatColor.RED + (matching.isEmpty() ? "No standing order of "
+                                    : "More then one standing order starts with ") + id);
+                            return false;
+                        }
+                        opScheduler.get().cancelOrder(matching.get(0).getId());
+                        context.getSource().sendMessage("Cancelled standing order " + shortId(matching.get(0)));
+                        return true;
+                    })
+                    .build();
+        });
+    }
+
+    public static ArgumentCommand interestCommand() {
+        return CommandBuilder.build((supplier, builder) -> {
+            CommandArgument<PlayerBankAccount> bankArgument = PlayerBankArgument.allPlayerBanks("bank");
+            CommandArgument<Double> percentArgument = new DoubleArgument("percent");
+
+            return builder
+                    .setDescription("Sets the interest a bank earns each interest period. 0 stops interest")
+                    .setPermissionNode(Permissions.BANK_INTEREST.getPermissionNode())
+                    .addArguments(new ExactArgument("interest"), bankArgument, percentArgument)
+                    .setExecutor((context, raw) -> {
+                        PlayerBankAccount bank = context.getArgument(supplier, bankArgument);
+                        double percent = context.getArgument(supplier, percentArgument);
+                        if (!(bank instanceof EcoBankAccount ecoBank)) {
+                            context.getSource().sendMessage(ChatColor.RED + "Only EcoTools banks can earn interest");
+                            return false;
+                        }
+                        if (percent < 0) {
+                            context.getSource().sendMessage(ChatColor.RED + "Interest cannot be negative");
+                            return false;
+                        }
+                        ecoBank.setInterestRate(percent == 0 ? null : BigDecimal.valueOf(percent));
+                        try {
+                            ecoBank.save();
+                        } catch (IOException e) {
+                            e.printStackTrace();
+                        }
+                        context.getSource().sendMessage(percent == 0 ? bank.getAccountName() + " no longer earns interest"
+                                : bank.getAccountName() + " now earns " + percent + "% interest");
+                        return true;
+                    })
+                    .build();
+        });
+    }
+
+    private static @NotNull String shortId(@NotNull StandingOrder order) {
+        return order.getId().toString().substring(0, 8);
+    }
+
+    private static @NotNull Optional<PaymentScheduler> scheduler(@NotNull CommandSender source) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return Optional.of(manager.getScheduler());
+        }
+        source.sendMessage(ChatColor.RED + "Standing orders need EcoTools to be the account manager");
+        return Optional.empty();
+    }
+}
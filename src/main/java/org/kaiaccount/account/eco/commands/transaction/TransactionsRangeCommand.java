@@ -1,22 +1,26 @@
 package org.kaiaccount.account.eco.commands.transaction;
 
-import org.bukkit.Bukkit;
 import org.bukkit.ChatColor;
 import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
 import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.AccountInterface;
 import org.kaiaccount.account.eco.account.EcoAccount;
 import org.kaiaccount.account.eco.account.history.EntryTransactionHistory;
+import org.kaiaccount.account.eco.commands.AsyncArgumentCommand;
+import org.kaiaccount.account.eco.commands.argument.account.KnownPlayerArgument;
 import org.kaiaccount.account.eco.commands.argument.date.DateRangeArgument;
 import org.kaiaccount.account.eco.commands.argument.date.DateTimeArgument;
+import org.kaiaccount.account.eco.currency.EcoCurrency;
 import org.kaiaccount.account.eco.permission.Permissions;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
+import org.kaiaccount.account.inter.currency.Currency;
 import org.kaiaccount.account.inter.transfer.TransactionType;
 import org.kaiaccount.account.inter.type.player.PlayerAccount;
-import org.mose.command.ArgumentCommand;
 import org.mose.command.CommandArgument;
 import org.mose.command.CommandArgumentResult;
 import org.mose.command.ParseCommandArgument;
-import org.mose.command.arguments.collection.source.UserArgument;
 import org.mose.command.arguments.operation.OptionalArgument;
 import org.mose.command.arguments.operation.permission.PermissionOrArgument;
 import org.mose.command.arguments.simple.number.IntegerArgument;
@@ -24,14 +28,18 @@ import org.mose.command.context.ArgumentContext;
 import org.mose.command.context.CommandContext;
 import org.mose.command.exception.ArgumentException;
 
+import java.math.BigDecimal;
 import java.time.Duration;
 import java.time.LocalDateTime;
-import java.util.Arrays;
+import java.util.ArrayList;
 import java.util.Comparator;
+import java.util.HashMap;
 import java.util.List;
+import java.util.Map;
 import java.util.Optional;
+import java.util.function.Consumer;
 
-public class TransactionsRangeCommand implements ArgumentCommand {
+public class TransactionsRangeCommand implements AsyncArgumentCommand<TransactionsRangeCommand.HistoryPage> {
 
     public static final int PAGE_SIZE = 6;
     public static final char WITHDRAW_ARROW = '→';
@@ -40,7 +48,7 @@ public class TransactionsRangeCommand implements ArgumentCommand {
 
     private final CommandArgument<OfflinePlayer> player = new OptionalArgument<>(new PermissionOrArgument<>("user",
             source -> source.hasPermission(Permissions.HISTORY_OTHER.getPermissionNode()),
-            new UserArgument("user", (command, argument) -> Arrays.stream(Bukkit.getOfflinePlayers()))), new ParseCommandArgument<>() {
+            new KnownPlayerArgument("user")), new ParseCommandArgument<>() {
         @Override
         public @NotNull CommandArgumentResult<OfflinePlayer> parse(@NotNull CommandContext context, @NotNull ArgumentContext argument)
                 throws ArgumentException {
@@ -57,12 +65,9 @@ public class TransactionsRangeCommand implements ArgumentCommand {
             //no transactions prior to this plugins release date
             return 2024;
         }
-        return ecoAccount
-                .getTransactionHistory()
-                .parallelStream()
-                .map(EntryTransactionHistory::getTime)
-                .min(Comparator.naturalOrder())
-                .map(LocalDateTime::getYear)
+        return ecoAccount.getTransactionHistory()
+                .getEarliest()
+                .map(entry -> entry.getTime().getYear())
                 .orElse(2024);
     }, (cmdContext, argContext) -> {
         OfflinePlayer user = cmdContext.getArgument(TransactionsRangeCommand.this, player);
@@ -70,11 +75,9 @@ public class TransactionsRangeCommand implements ArgumentCommand {
         if (!(playerAccount instanceof EcoAccount<?> ecoAccount)) {
             return LocalDateTime.now().getYear();
         }
-        return ecoAccount
-                .getTransactionHistory()
-                .parallelStream()
+        return ecoAccount.getTransactionHistory()
+                .getLatest()
                 .map(EntryTransactionHistory::getTime)
-                .max(Comparator.naturalOrder())
                 .orElseGet(LocalDateTime::now)
                 .getYear();
     });
@@ -113,38 +116,74 @@ public class TransactionsRangeCommand implements ArgumentCommand {
     }
 
     @Override
-    public boolean run(CommandContext commandContext, String... strings) {
+    public @Nullable HistoryPage snapshot(@NotNull CommandContext commandContext) {
         OfflinePlayer user = commandContext.getArgument(this, player);
         PlayerAccount playerAccount = AccountInterface.getManager().getPlayerAccount(user);
         if (!(playerAccount instanceof EcoAccount<?> ecoAccount)) {
-            return false;
+            return null;
         }
 
         LocalDateTime min = commandContext.getArgument(this, startDate);
         Duration maxDuration = commandContext.getArgument(this, range);
         LocalDateTime max = min.plus(maxDuration);
-
-        List<EntryTransactionHistory> result = ecoAccount.getTransactionHistory().getBetween(min, max);
         int page = commandContext.getArgument(this, this.page);
-        long skipEntries = (long) PAGE_SIZE * (page - 1);
-        List<EntryTransactionHistory> list = result
-                .parallelStream()
-                .filter(entry -> entry.getTime().isBefore(max))
-                .filter(entry -> entry.getTime().isAfter(min))
+        return new HistoryPage(List.copyOf(ecoAccount.getTransactionHistory()), min, max, page);
+    }
+
+    @Override
+    public @NotNull Consumer<CommandSender> runAsync(@NotNull HistoryPage snapshot) {
+        long skipEntries = (long) PAGE_SIZE * (snapshot.page() - 1);
+        List<EntryTransactionHistory> entries = ComputePool.getInstance().compute(snapshot.history(), stream -> stream
+                .filter(entry -> entry.getTime().isBefore(snapshot.max()))
+                .filter(entry -> entry.getTime().isAfter(snapshot.min()))
                 .sorted(Comparator.comparing(EntryTransactionHistory::getTime))
                 .skip(skipEntries)
                 .limit(PAGE_SIZE)
-                .toList();
-        commandContext.getSource().sendMessage("|---|Page: " + page + "|---|");
-        list.forEach(entry -> {
+                .toList());
+        String[] amounts = formatAmounts(entries);
+        List<String> messages = new ArrayList<>(entries.size());
+        for (int index = 0; index < entries.size(); index++) {
+            EntryTransactionHistory entry = entries.get(index);
             String target = entry.getFromName().or(entry::getToName).orElseGet(entry::getPluginName);
-            String amount = entry.getCurrency().formatName(entry.getAmount());
             char arrow = arrow(entry.getTransactionType());
             String reason = entry.getReason().map(theReason -> ": " + theReason).orElse("");
-            String message = amount + " " + arrow + " " + target + reason;
+            String message = amounts[index] + " " + arrow + " " + target + reason;
             ChatColor colour = color(entry.getTransactionType());
-            commandContext.getSource().sendMessage(colour + message);
+            messages.add(colour + message);
+        }
+        return source -> {
+            source.sendMessage("|---|Page: " + snapshot.page() + "|---|");
+            messages.forEach(source::sendMessage);
+        };
+    }
+
+    /**
+     * Formats the page's amounts a currency at a time
+     */
+    private static @NotNull String[] formatAmounts(@NotNull List<EntryTransactionHistory> entries) {
+        Map<Currency<?>, List<Integer>> positions = new HashMap<>();
+        for (int index = 0; index < entries.size(); index++) {
+            positions.computeIfAbsent(entries.get(index).getCurrency(), currency -> new ArrayList<>()).add(index);
+        }
+        String[] amounts = new String[entries.size()];
+        positions.forEach((currency, indexes) -> {
+            List<String> formatted = formatNames(currency,
+                    indexes.stream().map(index -> entries.get(index).getAmount()).toList());
+            for (int index = 0; index < indexes.size(); index++) {
+                amounts[indexes.get(index)] = formatted.get(index);
+            }
         });
-        return true;
+        return amounts;
+    }
+
+    private static @NotNull List<String> formatNames(@NotNull Currency<?> currency, @NotNull List<BigDecimal> amounts) {
+        if (currency instanceof EcoCurrency ecoCurrency) {
+            return ecoCurrency.formatNames(amounts);
+        }
+        return amounts.stream().map(currency::formatName).toList();
+    }
+
+    public record HistoryPage(@NotNull List<EntryTransactionHistory> history, @NotNull LocalDateTime min,
+                              @NotNull LocalDateTime max, int page) {
     }
 }
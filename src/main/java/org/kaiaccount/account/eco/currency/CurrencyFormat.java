@@ -0,0 +1,77 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+/**
+ * How a currency writes amounts, worked out once from the currency's settings so it can be used from any thread
+ */
+public final class CurrencyFormat {
+
+	public static final int KEEP_SCALE = -1;
+
+	private final int decimals;
+	private final boolean grouping;
+	private final boolean symbolAfter;
+
+	/**
+	 * @param decimals    The number of decimal places to round to, or {@link #KEEP_SCALE} to write amounts as they are
+	 * @param grouping    If thousands are split with a comma
+	 * @param symbolAfter If the symbol is written after the amount rather than before
+	 */
+	public CurrencyFormat(int decimals, boolean grouping, boolean symbolAfter) {
+		this.decimals = Math.max(KEEP_SCALE, decimals);
+		this.grouping = grouping;
+		this.symbolAfter = symbolAfter;
+	}
+
+	public int getDecimals() {
+		return this.decimals;
+	}
+
+	public boolean isGrouping() {
+		return this.grouping;
+	}
+
+	public boolean isSymbolAfter() {
+		return this.symbolAfter;
+	}
+
+	public @NotNull String format(@NotNull BigDecimal amount) {
+		BigDecimal scaled = this.decimals == KEEP_SCALE ? amount : amount.setScale(this.decimals, RoundingMode.HALF_EVEN);
+		String plain = scaled.abs().toPlainString();
+		if (!this.grouping) {
+			return scaled.signum() < 0 ? "-" + plain : plain;
+		}
+		int point = plain.indexOf('.');
+		int whole = point == -1 ? plain.length() : point;
+		StringBuilder builder = new StringBuilder(plain.length() + whole / 3 + 1);
+		if (scaled.signum() < 0) {
+			builder.append('-');
+		}
+		for (int index = 0; index < whole; index++) {
+			if (index != 0 && (whole - index) % 3 == 0) {
+				builder.append(',');
+			}
+			builder.append(plain.charAt(index));
+		}
+		builder.append(plain, whole, plain.length());
+		return builder.toString();
+	}
+
+	public @NotNull String formatSymbol(@NotNull BigDecimal amount, @NotNull String symbol) {
+		if (this.symbolAfter) {
+			return this.format(amount) + symbol;
+		}
+		if (amount.signum() < 0) {
+			return "-" + symbol + this.format(amount.negate());
+		}
+		return symbol + this.format(amount);
+	}
+
+	public @NotNull String formatName(@NotNull BigDecimal amount, @NotNull String single, @NotNull String multiple) {
+		return this.format(amount) + " " + (amount.compareTo(BigDecimal.ONE) == 0 ? single : multiple);
+	}
+}
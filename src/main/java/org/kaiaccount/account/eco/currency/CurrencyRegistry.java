@@ -0,0 +1,127 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.account.inter.currency.Currency;
+
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.OptionalInt;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CopyOnWriteArrayList;
+
+/**
+ * Registered currencies with constant time lookups.
+ * <p>
+ * Each currency is given a dense integer id when registered. Ids are never reused, so any data held in an array
+ * indexed by id stays correct after a currency is removed; the slot is just left empty.
+ */
+public class CurrencyRegistry {
+
+	private final List<Currency<?>> currencies = new CopyOnWriteArrayList<>();
+	private final Map<Currency<?>, Integer> ids = new ConcurrentHashMap<>();
+	private final Map<String, Currency<?>> byKey = new ConcurrentHashMap<>();
+	private final Map<String, Currency<?>> bySymbol = new ConcurrentHashMap<>();
+	private volatile Currency<?>[] byId = new Currency<?>[8];
+	private volatile int nextId;
+	private volatile @Nullable Currency<?> defaultCurrency;
+
+	public synchronized int register(@NotNull Currency<?> currency) {
+		Integer existing = this.ids.get(currency);
+		if (existing != null) {
+			return existing;
+		}
+		int id = this.nextId++;
+		Currency<?>[] array = this.byId;
+		if (id >= array.length) {
+			array = Arrays.copyOf(array, array.length * 2);
+		}
+		array[id] = currency;
+		this.byId = array;
+		this.ids.put(currency, id);
+		this.currencies.add(currency);
+		this.byKey.put(toKey(currency.getPlugin().getName(), currency.getKeyName()), currency);
+		this.bySymbol.putIfAbsent(currency.getSymbol().toLowerCase(Locale.ROOT), currency);
+		this.defaultCurrency = null;
+		return id;
+	}
+
+	public synchronized void deregister(@NotNull Currency<?> currency) {
+		Integer id = this.ids.remove(currency);
+		if (id == null) {
+			return;
+		}
+		this.byId[id] = null;
+		this.currencies.remove(currency);
+		this.byKey.remove(toKey(currency.getPlugin().getName(), currency.getKeyName()), currency);
+		String symbol = currency.getSymbol().toLowerCase(Locale.ROOT);
+		if (this.bySymbol.remove(symbol, currency)) {
+			this.currencies
+					.stream()
+					.filter(other -> other.getSymbol().equalsIgnoreCase(symbol))
+					.findFirst()
+					.ifPresent(other -> this.bySymbol.put(symbol, other));
+		}
+		this.defaultCurrency = null;
+	}
+
+	@UnmodifiableView
+	public @NotNull Collection<Currency<?>> getCurrencies() {
+		return Collections.unmodifiableList(this.currencies);
+	}
+
+	public @NotNull OptionalInt getId(@NotNull Currency<?> currency) {
+		Integer id = this.ids.get(currency);
+		if (id == null) {
+			return OptionalInt.empty();
+		}
+		return OptionalInt.of(id);
+	}
+
+	public @Nullable Currency<?> getById(int id) {
+		Currency<?>[] array = this.byId;
+		if (id < 0 || id >= array.length) {
+			return null;
+		}
+		return array[id];
+	}
+
+	/**
+	 * @return One more than the highest id given out, for sizing arrays indexed by currency id
+	 */
+	public int getIdCapacity() {
+		return this.nextId;
+	}
+
+	public @NotNull Optional<Currency<?>> get(@NotNull String pluginName, @NotNull String keyName) {
+		return Optional.ofNullable(this.byKey.get(toKey(pluginName, keyName)));
+	}
+
+	public @NotNull Optional<Currency<?>> getBySymbol(@NotNull String symbol) {
+		return Optional.ofNullable(this.bySymbol.get(symbol.toLowerCase(Locale.ROOT)));
+	}
+
+	public @NotNull Optional<Currency<?>> getDefault() {
+		Currency<?> cached = this.defaultCurrency;
+		if (cached != null) {
+			return Optional.of(cached);
+		}
+		Optional<Currency<?>> found = this.currencies.stream().filter(Currency::isDefault).findAny();
+		found.ifPresent(currency -> this.defaultCurrency = currency);
+		return found;
+	}
+
+	public void invalidateDefault() {
+		this.defaultCurrency = null;
+	}
+
+	private static String toKey(@NotNull String pluginName, @NotNull String keyName) {
+		return pluginName.toLowerCase(Locale.ROOT) + ":" + keyName.toLowerCase(Locale.ROOT);
+	}
+}
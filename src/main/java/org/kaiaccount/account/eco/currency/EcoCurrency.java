@@ -2,19 +2,110 @@ package org.kaiaccount.account.eco.currency;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
 import org.kaiaccount.account.eco.io.EcoSerializers;
 import org.kaiaccount.account.inter.currency.AbstractCurrency;
 import org.kaiaccount.account.inter.currency.CurrencyBuilder;
 import org.kaiaccount.account.inter.io.Serializer;
 
 import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.function.Function;
 
 public class EcoCurrency extends AbstractCurrency<EcoCurrency> {
 
+	public static final int FORMAT_CACHE_SIZE = 512;
+
+	private final Map<BigDecimal, String> symbolCache = new ConcurrentHashMap<>();
+	private final Map<BigDecimal, String> nameCache = new ConcurrentHashMap<>();
+	private volatile @Nullable CurrencyFormat format;
+
 	public EcoCurrency(@NotNull CurrencyBuilder builder) {
 		super(builder);
 	}
 
+	public @NotNull Optional<CurrencyFormat> getFormat() {
+		return Optional.ofNullable(this.format);
+	}
+
+	/**
+	 * Also drops the placeholder text, which was written with the old format
+	 *
+	 * @param format How amounts are written, or null to use the default from AccountInterface
+	 */
+	public void setFormat(@Nullable CurrencyFormat format) {
+		this.format = format;
+		this.symbolCache.clear();
+		this.nameCache.clear();
+		if (AccountInterface.getManager() instanceof EcoManager manager) {
+			manager.getPlaceholders().invalidate();
+		}
+	}
+
+	@NotNull
+	@Override
+	public String formatSymbol(@NotNull BigDecimal amount) {
+		return cached(this.symbolCache, amount, value -> {
+			CurrencyFormat format = this.format;
+			if (format == null) {
+				return super.formatSymbol(value);
+			}
+			return format.formatSymbol(value, this.getSymbol());
+		});
+	}
+
+	@NotNull
+	@Override
+	public String formatName(@NotNull BigDecimal amount) {
+		return cached(this.nameCache, amount, value -> {
+			CurrencyFormat format = this.format;
+			if (format == null) {
+				return super.formatName(value);
+			}
+			return format.formatName(value, this.getDisplayNameSingle(), this.getDisplayNameMultiple());
+		});
+	}
+
+	/**
+	 * Formats a page of amounts at once, such as a page of history or a leaderboard
+	 */
+	public @NotNull List<String> formatSymbols(@NotNull Collection<BigDecimal> amounts) {
+		List<String> formatted = new ArrayList<>(amounts.size());
+		for (BigDecimal amount : amounts) {
+			formatted.add(this.formatSymbol(amount));
+		}
+		return formatted;
+	}
+
+	public @NotNull List<String> formatNames(@NotNull Collection<BigDecimal> amounts) {
+		List<String> formatted = new ArrayList<>(amounts.size());
+		for (BigDecimal amount : amounts) {
+			formatted.add(this.formatName(amount));
+		}
+		return formatted;
+	}
+
+	private static @NotNull String cached(@NotNull Map<BigDecimal, String> cache, @NotNull BigDecimal amount,
+			@NotNull Function<BigDecimal, String> format) {
+		String formatted = cache.get(amount);
+		if (formatted != null) {
+			return formatted;
+		}
+		formatted = format.apply(amount);
+		if (cache.size() >= FORMAT_CACHE_SIZE) {
+			cache.clear();
+		}
+		cache.put(amount, formatted);
+		return formatted;
+	}
+
 	@Nullable
 	String getRawDisplayNameShort() {
 		return this.shortDisplay;
@@ -17,6 +17,10 @@ public class EcoCurrencySerializer implements Serializer<EcoCurrency> {
 	public static final String SHORT_DISPLAY_NAME = "display.short";
 	public static final String SINGLE_DISPLAY_NAME = "display.single";
 	public static final String MULTIPLE_DISPLAY_NAME = "display.multiple";
+	public static final String FORMAT = "format";
+	public static final String FORMAT_DECIMALS = "format.decimals";
+	public static final String FORMAT_GROUPING = "format.grouping";
+	public static final String FORMAT_SYMBOL_AFTER = "format.symbol-after";
 
 	@Override
 	public void serialize(@NotNull YamlConfiguration configuration, @NotNull EcoCurrency value) {
@@ -26,6 +30,11 @@ public class EcoCurrencySerializer implements Serializer<EcoCurrency> {
 		configuration.set(SINGLE_DISPLAY_NAME, value.getRawDisplayNameSingle());
 		configuration.set(MULTIPLE_DISPLAY_NAME, value.getRawDisplayNameMultiple());
 		configuration.set(WORTH, value.getWorth().map(BigDecimal::doubleValue).orElse(null));
+		value.getFormat().ifPresent(format -> {
+			configuration.set(FORMAT_DECIMALS, format.getDecimals());
+			configuration.set(FORMAT_GROUPING, format.isGrouping());
+			configuration.set(FORMAT_SYMBOL_AFTER, format.isSymbolAfter());
+		});
 	}
 
 	@Override
@@ -46,12 +55,17 @@ public class EcoCurrencySerializer implements Serializer<EcoCurrency> {
 			worth = configuration.getDouble(WORTH);
 		}
 
-		return new EcoCurrency(new CurrencyBuilder().setSymbol(symbol)
+		EcoCurrency currency = new EcoCurrency(new CurrencyBuilder().setSymbol(symbol)
 				.setName(name)
 				.setPlugin(EcoToolPlugin.getInstance())
 				.setWorth(worth)
 				.setDisplayNameMultiple(multiName)
 				.setDisplayNameSingle(singleName)
 				.setDisplayNameShort(shortName));
+		if (configuration.isConfigurationSection(FORMAT)) {
+			currency.setFormat(new CurrencyFormat(configuration.getInt(FORMAT_DECIMALS, CurrencyFormat.KEEP_SCALE),
+					configuration.getBoolean(FORMAT_GROUPING), configuration.getBoolean(FORMAT_SYMBOL_AFTER)));
+		}
+		return currency;
 	}
 }
@@ -0,0 +1,192 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.inter.currency.Currency;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+
+/**
+ * Exchange rates between every pair of currencies with a worth.
+ * <p>
+ * The rates are worked out once into a {@link Table} and kept until a currency is added or removed, or a worth is
+ * changed, at which point {@link #invalidate()} should be called. Converting is then a single multiply.
+ */
+public class ExchangeRates {
+
+	/**
+	 * Rounds down so that exchanging never creates money
+	 */
+	public static final MathContext MATH_CONTEXT = new MathContext(MathContext.DECIMAL64.getPrecision(), RoundingMode.DOWN);
+
+	private final @NotNull CurrencyRegistry registry;
+	private volatile @Nullable Table table;
+
+	public ExchangeRates(@NotNull CurrencyRegistry registry) {
+		this.registry = registry;
+	}
+
+	public @NotNull Table getTable() {
+		Table table = this.table;
+		if (table != null) {
+			return table;
+		}
+		synchronized (this) {
+			if (this.table == null) {
+				this.table = Table.of(this.registry);
+			}
+			return this.table;
+		}
+	}
+
+	public void invalidate() {
+		this.table = null;
+	}
+
+	public @NotNull Optional<BigDecimal> convert(@NotNull BigDecimal amount, @NotNull Currency<?> from, @NotNull Currency<?> to) {
+		return this.getTable().convert(amount, from, to);
+	}
+
+	/**
+	 * @return The rates in use by the manager, or rates worked out on the spot if the manager is not EcoTools
+	 */
+	public static @NotNull Table current() {
+		if (AccountInterface.getManager() instanceof EcoManager manager) {
+			return manager.getExchangeRates().getTable();
+		}
+		return Table.of(AccountInterface.getManager().getCurrencies());
+	}
+
+	public static void invalidateCurrent() {
+		if (AccountInterface.getManager() instanceof EcoManager manager) {
+			manager.getExchangeRates().invalidate();
+			manager.getPlaceholders().invalidate();
+		}
+	}
+
+	/**
+	 * A fixed set of rates. The rate from one currency to another is {@code to.worth / from.worth}
+	 */
+	public static final class Table {
+
+		private final Map<Currency<?>, Integer> ids;
+		private final BigDecimal[][] rates;
+
+		private Table(@NotNull Map<Currency<?>, Integer> ids, @Nullable BigDecimal @NotNull [] worths) {
+			this.ids = ids;
+			this.rates = new BigDecimal[worths.length][];
+			for (int from = 0; from < worths.length; from++) {
+				if (worths[from] == null) {
+					continue;
+				}
+				BigDecimal[] row = new BigDecimal[worths.length];
+				for (int to = 0; to < worths.length; to++) {
+					if (worths[to] != null) {
+						row[to] = worths[to].divide(worths[from], MATH_CONTEXT);
+					}
+				}
+				this.rates[from] = row;
+			}
+		}
+
+		public boolean hasWorth(@NotNull Currency<?> currency) {
+			Integer id = this.ids.get(currency);
+			return id != null && this.rates[id] != null;
+		}
+
+		/**
+		 * @param fromId The currency id to convert from, as given by the {@link CurrencyRegistry}
+		 * @param toId   The currency id to convert to
+		 * @return The rate, or null if either currency has no worth
+		 */
+		public @Nullable BigDecimal getRate(int fromId, int toId) {
+			if (fromId < 0 || fromId >= this.rates.length || toId < 0 || toId >= this.rates.length) {
+				return null;
+			}
+			BigDecimal[] row = this.rates[fromId];
+			if (row == null) {
+				return null;
+			}
+			return row[toId];
+		}
+
+		public @NotNull Optional<BigDecimal> getRate(@NotNull Currency<?> from, @NotNull Currency<?> to) {
+			Integer fromId = this.ids.get(from);
+			Integer toId = this.ids.get(to);
+			if (fromId == null || toId == null) {
+				return Optional.empty();
+			}
+			return Optional.ofNullable(this.getRate(fromId, toId));
+		}
+
+		public @NotNull Optional<BigDecimal> convert(@NotNull BigDecimal amount, @NotNull Currency<?> from, @NotNull Currency<?> to) {
+			return this.getRate(from, to).map(rate -> amount.multiply(rate, MATH_CONTEXT));
+		}
+
+		/**
+		 * Converts each balance that has a worth into the target currency
+		 *
+		 * @param balances The balances to convert
+		 * @param to       The currency to convert into
+		 * @return The converted value of each balance. Balances without a worth are left out
+		 */
+		public @NotNull Map<Currency<?>, BigDecimal> convertEach(@NotNull Map<Currency<?>, BigDecimal> balances, @NotNull Currency<?> to) {
+			Map<Currency<?>, BigDecimal> converted = new HashMap<>();
+			balances.forEach((currency, amount) -> this.convert(amount, currency, to)
+					.ifPresent(value -> converted.put(currency, value)));
+			return converted;
+		}
+
+		/**
+		 * @return The total value of the balances in the target currency. Balances without a worth are left out
+		 */
+		public @NotNull BigDecimal convertAll(@NotNull Map<Currency<?>, BigDecimal> balances, @NotNull Currency<?> to) {
+			BigDecimal total = BigDecimal.ZERO;
+			for (Map.Entry<Currency<?>, BigDecimal> entry : balances.entrySet()) {
+				Optional<BigDecimal> converted = this.convert(entry.getValue(), entry.getKey(), to);
+				if (converted.isPresent()) {
+					total = total.add(converted.get());
+				}
+			}
+			return total;
+		}
+
+		public static @NotNull Table of(@NotNull CurrencyRegistry registry) {
+			Map<Currency<?>, Integer> ids = new HashMap<>();
+			BigDecimal[] worths = new BigDecimal[registry.getIdCapacity()];
+			for (Currency<?> currency : registry.getCurrencies()) {
+				registry.getId(currency).ifPresent(id -> {
+					if (id < worths.length) {
+						ids.put(currency, id);
+						worths[id] = usableWorth(currency);
+					}
+				});
+			}
+			return new Table(ids, worths);
+		}
+
+		public static @NotNull Table of(@NotNull Collection<Currency<?>> currencies) {
+			Map<Currency<?>, Integer> ids = new HashMap<>();
+			BigDecimal[] worths = new BigDecimal[currencies.size()];
+			int id = 0;
+			for (Currency<?> currency : currencies) {
+				ids.put(currency, id);
+				worths[id] = usableWorth(currency);
+				id++;
+			}
+			return new Table(ids, worths);
+		}
+
+		private static @Nullable BigDecimal usableWorth(@NotNull Currency<?> currency) {
+			return currency.getWorth().filter(worth -> worth.signum() > 0).orElse(null);
+		}
+	}
+}
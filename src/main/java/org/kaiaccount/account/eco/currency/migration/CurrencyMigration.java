@@ -0,0 +1,376 @@
+package org.kaiaccount.account.eco.currency.migration;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.AccountKeys;
+import org.kaiaccount.account.eco.currency.ExchangeRates;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.IsolatedTransaction;
+import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.successful.SuccessfulTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.AccountType;
+import org.kaiaccount.account.inter.type.IsolatedAccount;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Exchanges every holder of one currency into another, a chunk of accounts at a time, then removes the currency.
+ * <p>
+ * Each tick up to the chunk size of holders are exchanged in one {@link IsolatedTransaction}, stopping early when the
+ * tick budget runs out. The next chunk only starts once the last one has committed. The position is written to a
+ * checkpoint after every chunk so a restart carries on from there. Holders already at zero are skipped, so a chunk
+ * that committed just before a crash is not exchanged twice.
+ * <p>
+ * A chunk that fails pauses the migration where it is. It carries on after a restart, or straight away with
+ * {@code /ecotools migration resume}.
+ */
+public class CurrencyMigration implements Runnable {
+
+	public enum State {
+		RUNNING,
+		FAILED,
+		COMPLETE
+	}
+
+	static final String FROM_PLUGIN = "from.plugin";
+	static final String FROM_KEY = "from.key";
+	static final String TO_PLUGIN = "to.plugin";
+	static final String TO_KEY = "to.key";
+	static final String POSITION = "position";
+	static final String MIGRATED = "migrated";
+
+	/**
+	 * Exchanges one chunk of accounts, completing once they have all committed
+	 */
+	interface ChunkExchange {
+
+		@NotNull CompletableFuture<? extends TransactionResult> exchange(@NotNull Currency<?> from,
+																		  @NotNull Currency<?> to,
+																		  @NotNull List<AccountType> chunk);
+	}
+
+	static final ChunkExchange ISOLATED = (from, to, chunk) -> new IsolatedTransaction(
+			map -> exchange(map, from, to, chunk), chunk).start();
+
+	private final @NotNull Currency<?> from;
+	private final @NotNull Currency<?> to;
+	private final @NotNull List<String> keys;
+	private final @NotNull Map<String, Account> accounts;
+	private final @NotNull File folder;
+	private final int chunkSize;
+	private final long budgetNanos;
+	private final @NotNull Consumer<String> reporter;
+	private final @NotNull Consumer<CurrencyMigration> onComplete;
+	private final @NotNull ChunkExchange chunkExchange;
+	private volatile @NotNull State state = State.RUNNING;
+	private volatile boolean inFlight;
+	private volatile int position;
+	private volatile int migrated;
+	private int reportedTenth;
+	private @Nullable BukkitTask task;
+
+	CurrencyMigration(@NotNull Currency<?> from,
+					  @NotNull Currency<?> to,
+					  @NotNull List<String> keys,
+					  @NotNull Map<String, Account> accounts,
+					  @NotNull File folder,
+					  int chunkSize,
+					  long budgetNanos,
+					  @NotNull Consumer<String> reporter,
+					  @NotNull Consumer<CurrencyMigration> onComplete) {
+		this(from, to, keys, accounts, folder, chunkSize, budgetNanos, reporter, onComplete, ISOLATED);
+	}
+
+	CurrencyMigration(@NotNull Currency<?> from,
+					  @NotNull Currency<?> to,
+					  @NotNull List<String> keys,
+					  @NotNull Map<String, Account> accounts,
+					  @NotNull File folder,
+					  int chunkSize,
+					  long budgetNanos,
+					  @NotNull Consumer<String> reporter,
+					  @NotNull Consumer<CurrencyMigration> onComplete,
+					  @NotNull ChunkExchange chunkExchange) {
+		this.from = from;
+		this.to = to;
+		this.keys = new ArrayList<>(keys);
+		this.accounts = accounts;
+		this.folder = folder;
+		this.chunkSize = Math.max(1, chunkSize);
+		this.budgetNanos = budgetNanos;
+		this.reporter = reporter;
+		this.onComplete = onComplete;
+		this.chunkExchange = chunkExchange;
+	}
+
+	public @NotNull Currency<?> getFrom() {
+		return this.from;
+	}
+
+	public @NotNull Currency<?> getTo() {
+		return this.to;
+	}
+
+	public @NotNull State getState() {
+		return this.state;
+	}
+
+	public int getPosition() {
+		return this.position;
+	}
+
+	public int getSize() {
+		return this.keys.size();
+	}
+
+	/**
+	 * @return How many accounts have been exchanged so far. Holders found already at zero are not counted
+	 */
+	public int getMigrated() {
+		return this.migrated;
+	}
+
+	@NotNull File getCheckpointFile() {
+		return new File(this.folder, this.from.getPlugin().getName() + "." + this.from.getKeyName() + ".yml");
+	}
+
+	@NotNull File getKeysFile() {
+		return new File(this.folder, this.from.getPlugin().getName() + "." + this.from.getKeyName() + ".keys");
+	}
+
+	void resumeFrom(int position, int migrated) {
+		this.position = Math.min(position, this.keys.size());
+		this.migrated = migrated;
+		this.reportedTenth = this.keys.isEmpty() ? 0 : this.position * 10 / this.keys.size();
+	}
+
+	void start(@NotNull Plugin plugin) {
+		this.task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1, 1);
+	}
+
+	/**
+	 * Carries on a failed migration from the account it stopped at
+	 *
+	 * @return false if the migration had not failed
+	 */
+	boolean resume(@NotNull Plugin plugin) {
+		if (this.state != State.FAILED) {
+			return false;
+		}
+		this.state = State.RUNNING;
+		this.reporter.accept("Resuming exchange of " + this.from.getSymbol() + " at account " + this.position + " of "
+				+ this.keys.size());
+		this.start(plugin);
+		return true;
+	}
+
+	void stop() {
+		if (this.task != null) {
+			this.task.cancel();
+			this.task = null;
+		}
+	}
+
+	@Override
+	public void run() {
+		if (this.state != State.RUNNING || this.inFlight) {
+			return;
+		}
+		long deadline = System.nanoTime() + this.budgetNanos;
+		List<AccountType> chunk = new ArrayList<>();
+		int end = this.position;
+		while (end < this.keys.size() && chunk.size() < this.chunkSize) {
+			String key = this.keys.get(end);
+			Account account = this.accounts.get(key);
+			if (account != null && account.getBalance(this.from).signum() != 0) {
+				if (!(account instanceof AccountType accountType)) {
+					this.fail("Account " + key + " is not of the correct type. Another currency plugin found?");
+					return;
+				}
+				chunk.add(accountType);
+			}
+			end++;
+			if (System.nanoTime() >= deadline) {
+				break;
+			}
+		}
+
+		if (chunk.isEmpty()) {
+			this.position = end;
+			if (end >= this.keys.size()) {
+				this.finish();
+			}
+			return;
+		}
+
+		this.inFlight = true;
+		int chunkEnd = end;
+		this.chunkExchange.exchange(this.from, this.to, chunk)
+				.whenComplete((result, error) -> onMainThread(() -> this.onChunk(result, error, chunkEnd, chunk.size())));
+	}
+
+	private void onChunk(@Nullable TransactionResult result, @Nullable Throwable error, int chunkEnd, int count) {
+		this.inFlight = false;
+		if (error != null) {
+			this.fail(error.getMessage());
+			return;
+		}
+		if (!(result instanceof SuccessfulTransactionResult)) {
+			this.fail(result instanceof FailedTransactionResult failed ? failed.getReason() : "Transaction did not complete");
+			return;
+		}
+		this.position = chunkEnd;
+		this.migrated += count;
+		this.writeCheckpoint();
+		this.reportProgress();
+		if (chunkEnd >= this.keys.size()) {
+			this.finish();
+		}
+	}
+
+	private void finish() {
+		if (this.addLateHolders()) {
+			return;
+		}
+		this.state = State.COMPLETE;
+		this.stop();
+		AccountInterface.getManager().deregisterCurrency(this.from);
+		this.from.delete();
+		if (!this.getCheckpointFile().delete() || !this.getKeysFile().delete()) {
+			EcoToolPlugin.getInstance().getLogger().warning("Could not delete migration checkpoint for " + this.from.getKeyName());
+		}
+		this.reporter.accept(this.from.getSymbol() + " removed. Exchanged " + this.migrated + " accounts");
+		this.onComplete.accept(this);
+	}
+
+	/**
+	 * Queues any account that picked up the currency after the migration started
+	 *
+	 * @return true if there are more accounts to exchange
+	 */
+	private boolean addLateHolders() {
+		if (!(AccountInterface.getManager() instanceof EcoManager manager) || !manager.getCurrencyHolders().isRunning()) {
+			return false;
+		}
+		List<String> late = new ArrayList<>();
+		for (Account account : manager.getCurrencyHolders().getHolders(this.from)) {
+			if (account.getBalance(this.from).signum() == 0) {
+				continue;
+			}
+			AccountKeys.toKey(account).ifPresent(key -> {
+				late.add(key);
+				this.accounts.put(key, account);
+			});
+		}
+		if (late.isEmpty()) {
+			return false;
+		}
+		this.keys.addAll(late);
+		this.writeKeys();
+		return true;
+	}
+
+	private void fail(@Nullable String reason) {
+		this.state = State.FAILED;
+		this.stop();
+		this.writeCheckpoint();
+		this.reporter.accept("Exchange of " + this.from.getSymbol() + " paused at account " + this.position + " of "
+				+ this.keys.size() + ": " + reason + ". It will carry on after a restart or /ecotools migration resume");
+	}
+
+	private void reportProgress() {
+		int tenth = this.position * 10 / this.keys.size();
+		if (tenth <= this.reportedTenth) {
+			return;
+		}
+		this.reportedTenth = tenth;
+		this.reporter.accept("Exchanging " + this.from.getSymbol() + ": " + (tenth * 10) + "% (" + this.position + "/"
+				+ this.keys.size() + ")");
+	}
+
+	void writeKeys() {
+		try {
+			Files.createDirectories(this.folder.toPath());
+			Files.write(this.getKeysFile().toPath(), this.keys);
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+		this.writeCheckpoint();
+	}
+
+	void writeCheckpoint() {
+		YamlConfiguration configuration = new YamlConfiguration();
+		configuration.set(FROM_PLUGIN, this.from.getPlugin().getName());
+		configuration.set(FROM_KEY, this.from.getKeyName());
+		configuration.set(TO_PLUGIN, this.to.getPlugin().getName());
+		configuration.set(TO_KEY, this.to.getKeyName());
+		configuration.set(POSITION, this.position);
+		configuration.set(MIGRATED, this.migrated);
+		try {
+			configuration.save(this.getCheckpointFile());
+		} catch (IOException e) {
+			e.printStackTrace();
+		}
+	}
+
+	private static void onMainThread(@NotNull Runnable runnable) {
+		EcoToolPlugin plugin = EcoToolPlugin.getInstance();
+		if (Bukkit.isPrimaryThread() || plugin == null || !plugin.isEnabled()) {
+			runnable.run();
+			return;
+		}
+		Bukkit.getScheduler().runTask(plugin, runnable);
+	}
+
+	/**
+	 * Exchanges the full balance of one currency into another and sets the old balance to zero, for each account
+	 */
+	public static @NotNull Collection<CompletableFuture<? extends TransactionResult>> exchange(
+			@NotNull Map<AccountType, IsolatedAccount> isolated,
+			@NotNull Currency<?> from,
+			@NotNull Currency<?> to,
+			@NotNull Collection<AccountType> accounts) {
+		return accounts.stream()
+				.<CompletableFuture<? extends TransactionResult>>map(account -> isolated.get(account)
+						.multipleTransaction(iso -> exchangeTo(iso, from, to), iso -> setToZero(iso, from)))
+				.toList();
+	}
+
+	private static CompletableFuture<SingleTransactionResult> setToZero(@NotNull Account account,
+																		@NotNull Currency<?> remove) {
+		return account.set(new PaymentBuilder().setCurrency(remove)
+				.setAmount(BigDecimal.ZERO)
+				.build(EcoToolPlugin.getInstance()));
+	}
+
+	private static CompletableFuture<SingleTransactionResult> exchangeTo(@NotNull Account account,
+																		 @NotNull Currency<?> from,
+																		 @NotNull Currency<?> to) {
+		BigDecimal exchanged = ExchangeRates.current()
+				.convert(account.getBalance(from), from, to)
+				.orElseThrow(() -> new RuntimeException("No exchange rate from " + from.getKeyName() + " to " + to.getKeyName()));
+		return account.deposit(new PaymentBuilder().setCurrency(to)
+				.setAmount(exchanged)
+				.build(EcoToolPlugin.getInstance()));
+	}
+}
@@ -0,0 +1,171 @@
+package org.kaiaccount.account.eco.currency.migration;
+
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.account.AccountKeys;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * The currency migrations that are running, or paused waiting for a restart or {@link #resumeFailed(Plugin)}
+ */
+public class CurrencyMigrations {
+
+	public static final int DEFAULT_CHUNK_SIZE = 50;
+	public static final long DEFAULT_TICK_BUDGET_MILLIS = 5;
+
+	private final @NotNull File folder;
+	private final Map<Currency<?>, CurrencyMigration> migrations = new ConcurrentHashMap<>();
+	private volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+	private volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TICK_BUDGET_MILLIS);
+
+	public CurrencyMigrations() {
+		this(new File("plugins/eco/migrations"));
+	}
+
+	public CurrencyMigrations(@NotNull File folder) {
+		this.folder = folder;
+	}
+
+	public void configure(int chunkSize, long budgetMillis) {
+		this.chunkSize = Math.max(1, chunkSize);
+		this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+	}
+
+	@UnmodifiableView
+	public @NotNull Collection<CurrencyMigration> getMigrations() {
+		return Collections.unmodifiableCollection(this.migrations.values());
+	}
+
+	public @NotNull Optional<CurrencyMigration> get(@NotNull Currency<?> from) {
+		return Optional.ofNullable(this.migrations.get(from));
+	}
+
+	/**
+	 * Starts exchanging every holder of a currency into another, removing the currency once done
+	 *
+	 * @param plugin   The plugin to run the migration under
+	 * @param from     The currency to remove
+	 * @param to       The currency to exchange into
+	 * @param holders  The accounts holding the currency to remove
+	 * @param reporter Told about progress, failure and completion
+	 * @return The started migration
+	 * @throws IllegalStateException If the currency is already being migrated
+	 */
+	public @NotNull CurrencyMigration start(@NotNull Plugin plugin,
+											@NotNull Currency<?> from,
+											@NotNull Currency<?> to,
+											@NotNull Collection<? extends Account> holders,
+											@NotNull Consumer<String> reporter) {
+		List<String> keys = new ArrayList<>();
+		Map<String, Account> accounts = new HashMap<>();
+		for (Account account : holders) {
+			AccountKeys.toKey(account).ifPresent(key -> {
+				keys.add(key);
+				accounts.put(key, account);
+			});
+		}
+		CurrencyMigration migration = this.create(from, to, keys, accounts, reporter);
+		if (this.migrations.putIfAbsent(from, migration) != null) {
+			throw new IllegalStateException("Currency is already being migrated");
+		}
+		migration.writeKeys();
+		migration.start(plugin);
+		return migration;
+	}
+
+	/**
+	 * Carries on every migration that has a checkpoint on disk. Call once all accounts are loaded
+	 */
+	public void resumeAll(@NotNull Plugin plugin,
+						  @NotNull AccountInterfaceManager manager,
+						  @NotNull CurrencyRegistry registry,
+						  @NotNull Consumer<String> reporter) {
+		File[] files = this.folder.listFiles((dir, name) -> name.endsWith(".yml"));
+		if (files == null) {
+			return;
+		}
+		for (File file : files) {
+			try {
+				this.resume(plugin, manager, registry, file, reporter);
+			} catch (IOException e) {
+				System.err.println("Failed to resume migration: " + file.getPath());
+				e.printStackTrace();
+			}
+		}
+	}
+
+	private void resume(@NotNull Plugin plugin,
+						@NotNull AccountInterfaceManager manager,
+						@NotNull CurrencyRegistry registry,
+						@NotNull File file,
+						@NotNull Consumer<String> reporter) throws IOException {
+		YamlConfiguration configuration = YamlConfiguration.loadConfiguration(file);
+		Optional<Currency<?>> opFrom = registry.get(configuration.getString(CurrencyMigration.FROM_PLUGIN, ""),
+				configuration.getString(CurrencyMigration.FROM_KEY, ""));
+		Optional<Currency<?>> opTo = registry.get(configuration.getString(CurrencyMigration.TO_PLUGIN, ""),
+				configuration.getString(CurrencyMigration.TO_KEY, ""));
+		if (opFrom.isEmpty() || opTo.isEmpty()) {
+			throw new IOException("Currencies of the migration are no longer registered");
+		}
+		File keysFile = new File(file.getParentFile(), file.getName().substring(0, file.getName().length() - 4) + ".keys");
+		List<String> keys = Files.readAllLines(keysFile.toPath());
+		Map<String, Account> accounts = AccountKeys.resolve(manager, keys);
+		CurrencyMigration migration = this.create(opFrom.get(), opTo.get(), keys, accounts, reporter);
+		migration.resumeFrom(configuration.getInt(CurrencyMigration.POSITION), configuration.getInt(CurrencyMigration.MIGRATED));
+		if (this.migrations.putIfAbsent(opFrom.get(), migration) != null) {
+			return;
+		}
+		reporter.accept("Resuming exchange of " + opFrom.get().getSymbol() + " at account " + migration.getPosition()
+				+ " of " + migration.getSize());
+		migration.start(plugin);
+	}
+
+	/**
+	 * Carries on every migration that failed, from the account it stopped at
+	 *
+	 * @param plugin The plugin to run the migrations under
+	 * @return How many migrations were resumed
+	 */
+	public int resumeFailed(@NotNull Plugin plugin) {
+		int resumed = 0;
+		for (CurrencyMigration migration : this.migrations.values()) {
+			if (migration.resume(plugin)) {
+				resumed++;
+			}
+		}
+		return resumed;
+	}
+
+	public void stopAll() {
+		this.migrations.values().forEach(CurrencyMigration::stop);
+		this.migrations.clear();
+	}
+
+	private @NotNull CurrencyMigration create(@NotNull Currency<?> from,
+											  @NotNull Currency<?> to,
+											  @NotNull List<String> keys,
+											  @NotNull Map<String, Account> accounts,
+											  @NotNull Consumer<String> reporter) {
+		return new CurrencyMigration(from, to, keys, accounts, this.folder, this.chunkSize, this.budgetNanos, reporter,
+				migration -> this.migrations.remove(migration.getFrom(), migration));
+	}
+}
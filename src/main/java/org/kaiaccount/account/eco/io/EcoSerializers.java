@@ -1,9 +1,21 @@
 package org.kaiaccount.account.eco.io;
 
+import org.bukkit.configuration.ConfigurationSection;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
 import org.kaiaccount.account.eco.account.bank.BankSerializer;
 import org.kaiaccount.account.eco.account.named.NamedAccountSerializer;
 import org.kaiaccount.account.eco.account.player.PlayerAccountSerializer;
 import org.kaiaccount.account.eco.currency.EcoCurrencySerializer;
+import org.kaiaccount.account.inter.currency.Currency;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
 
 public final class EcoSerializers {
 
@@ -15,4 +27,60 @@ public final class EcoSerializers {
     private EcoSerializers() {
         throw new RuntimeException("Dont do that");
     }
+
+    /**
+     * Reads a balance section laid out as {@code <plugin>.<currency>: amount}. Only the currencies written in the
+     * section are looked at, so this costs the same no matter how many currencies are registered.
+     *
+     * @param balanceSection The section, or null if the file has no balances
+     * @param fileName       The file name to use in warnings
+     * @return The non-zero balances
+     */
+    public static @NotNull Map<Currency<?>, BigDecimal> readBalances(@Nullable ConfigurationSection balanceSection,
+                                                                      @NotNull String fileName) {
+        Map<Currency<?>, BigDecimal> balance = new HashMap<>();
+        if (balanceSection == null) {
+            return balance;
+        }
+        for (String pluginName : balanceSection.getKeys(false)) {
+            ConfigurationSection currencyNameSection = balanceSection.getConfigurationSection(pluginName);
+            if (currencyNameSection == null) {
+                EcoToolPlugin
+                        .getInstance()
+                        .getLogger()
+                        .warning("Could not read the currencies of the plugin '" + pluginName + "' in yaml " + fileName + ". Skipping");
+                continue;
+            }
+            for (String currencyName : currencyNameSection.getKeys(false)) {
+                double amount = currencyNameSection.getDouble(currencyName);
+                if (amount == 0.0) {
+                    continue;
+                }
+                Optional<Currency<?>> opCurrency = findCurrency(pluginName, currencyName);
+                if (opCurrency.isEmpty()) {
+                    EcoToolPlugin
+                            .getInstance()
+                            .getLogger()
+                            .warning("Could not find the currency of " + pluginName + "." + currencyName + " in yaml " + fileName
+                                    + ". Skipping");
+                    continue;
+                }
+                balance.put(opCurrency.get(), BigDecimal.valueOf(amount));
+            }
+        }
+        return balance;
+    }
+
+    public static @NotNull Optional<Currency<?>> findCurrency(@NotNull String pluginName, @NotNull String keyName) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getCurrencyRegistry().get(pluginName, keyName);
+        }
+        return AccountInterface
+                .getManager()
+                .getCurrencies()
+                .stream()
+                .filter(cur -> cur.getPlugin().getName().equals(pluginName))
+                .filter(cur -> cur.getKeyName().equals(keyName))
+                .findAny();
+    }
 }
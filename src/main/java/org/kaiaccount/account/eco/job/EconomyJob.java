@@ -0,0 +1,291 @@
+package org.kaiaccount.account.eco.job;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+import java.util.function.Consumer;
+
+/**
+ * Applies a {@link JobAction} to every account in a list, a chunk at a time on the server thread.
+ * <p>
+ * Each tick up to the chunk size of accounts are processed, stopping early when the tick budget runs out. Saving is
+ * turned off on each account while its payments are made and it is written once at the end of the chunk. In a dry run
+ * the payments are only totalled up, nothing is changed.
+ * <p>
+ * Accounts that can only be paid asynchronously are counted once their payments complete, and the job only reports
+ * its totals once every payment has.
+ */
+public class EconomyJob implements Runnable {
+
+    public enum State {
+        RUNNING,
+        CANCELLED,
+        COMPLETE
+    }
+
+    private final @NotNull String name;
+    private final @NotNull List<Account> accounts;
+    private final @NotNull JobAction action;
+    private final boolean dryRun;
+    private final int chunkSize;
+    private final long budgetNanos;
+    private final @NotNull Consumer<String> reporter;
+    private final Map<Currency<?>, BigDecimal> change = new HashMap<>();
+    private final List<CompletableFuture<?>> pending = new ArrayList<>();
+    private volatile @NotNull State state = State.RUNNING;
+    private volatile int position;
+    private volatile int changed;
+    private volatile int failed;
+    private int reportedTenth;
+    private boolean completing;
+    private @Nullable Plugin plugin;
+    private @Nullable BukkitTask task;
+
+    public EconomyJob(@NotNull String name,
+                      @NotNull List<? extends Account> accounts,
+                      @NotNull JobAction action,
+                      boolean dryRun,
+                      int chunkSize,
+                      long budgetNanos,
+                      @NotNull Consumer<String> reporter) {
+        this.name = name;
+        this.accounts = List.copyOf(accounts);
+        this.action = action;
+        this.dryRun = dryRun;
+        this.chunkSize = Math.max(1, chunkSize);
+        this.budgetNanos = budgetNanos;
+        this.reporter = reporter;
+    }
+
+    public @NotNull String getName() {
+        return this.name;
+    }
+
+    public boolean isDryRun() {
+        return this.dryRun;
+    }
+
+    public @NotNull State getState() {
+        return this.state;
+    }
+
+    public int getPosition() {
+        return this.position;
+    }
+
+    public int getSize() {
+        return this.accounts.size();
+    }
+
+    public int getChanged() {
+        return this.changed;
+    }
+
+    public int getFailed() {
+        return this.failed;
+    }
+
+    /**
+     * @return How much each currency has changed by across every account so far, or would have in a dry run
+     */
+    public synchronized @NotNull Map<Currency<?>, BigDecimal> getChange() {
+        return Collections.unmodifiableMap(new HashMap<>(this.change));
+    }
+
+    void start(@NotNull Plugin plugin) {
+        this.plugin = plugin;
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, this, 1, 1);
+    }
+
+    public void cancel() {
+        if (this.state != State.RUNNING) {
+            return;
+        }
+        this.state = State.CANCELLED;
+        this.stop();
+        this.reporter.accept(this.describe() + " cancelled at account " + this.position + " of " + this.accounts.size());
+    }
+
+    private void stop() {
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+    }
+
+    @Override
+    public void run() {
+        if (this.state != State.RUNNING || this.completing) {
+            return;
+        }
+        long deadline = System.nanoTime() + this.budgetNanos;
+        int processed = 0;
+        try (PaymentBatch batch = new PaymentBatch()) {
+            while (this.position < this.accounts.size() && processed < this.chunkSize) {
+                Account account = this.accounts.get(this.position);
+                this.position++;
+                processed++;
+                List<JobPayment> payments = this.action.plan(account);
+                if (!payments.isEmpty()) {
+                    this.apply(account, payments, batch);
+                }
+                if (System.nanoTime() >= deadline) {
+                    break;
+                }
+            }
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            this.state = State.CANCELLED;
+            this.stop();
+            this.reporter.accept(this.describe() + " stopped at account " + this.position + ": " + e.getMessage());
+            return;
+        }
+        this.reportProgress();
+        if (this.position >= this.accounts.size()) {
+            this.completeWhenPaid();
+        }
+    }
+
+    private void apply(@NotNull Account account, @NotNull List<JobPayment> payments, @NotNull PaymentBatch batch) {
+        boolean anyChanged = false;
+        List<CompletableFuture<Boolean>> waiting = new ArrayList<>();
+        for (JobPayment jobPayment : payments) {
+            Payment payment = jobPayment.payment();
+            Currency<?> currency = payment.getCurrency();
+            BigDecimal before = account.getBalance(currency);
+            if (this.dryRun) {
+                this.addChange(currency, planned(jobPayment.kind(), before, payment.getAmount()));
+                anyChanged = true;
+                continue;
+            }
+            CompletableFuture<SingleTransactionResult> future = batch.submit(account, jobPayment);
+            if (!future.isDone()) {
+                BigDecimal planned = planned(jobPayment.kind(), before, payment.getAmount());
+                waiting.add(future.handle((result, error) -> {
+                    if (error != null || result instanceof FailedTransactionResult) {
+                        this.addFailed();
+                        return false;
+                    }
+                    this.addChange(currency, planned);
+                    return true;
+                }));
+                continue;
+            }
+            if (future.isCompletedExceptionally() || future.join() instanceof FailedTransactionResult) {
+                this.addFailed();
+                continue;
+            }
+            this.addChange(currency, account.getBalance(currency).subtract(before));
+            anyChanged = true;
+        }
+        if (waiting.isEmpty()) {
+            if (anyChanged) {
+                this.addChanged();
+            }
+            return;
+        }
+        boolean changedNow = anyChanged;
+        this.pending.add(CompletableFuture.allOf(waiting.toArray(CompletableFuture[]::new)).thenRun(() -> {
+            if (changedNow || waiting.stream().anyMatch(CompletableFuture::join)) {
+                this.addChanged();
+            }
+        }));
+    }
+
+    private synchronized void addChange(@NotNull Currency<?> currency, @NotNull BigDecimal amount) {
+        this.change.merge(currency, amount, BigDecimal::add);
+    }
+
+    private synchronized void addChanged() {
+        this.changed++;
+    }
+
+    private synchronized void addFailed() {
+        this.failed++;
+    }
+
+    /**
+     * Reports the totals once every asynchronous payment has completed
+     */
+    private void completeWhenPaid() {
+        this.pending.removeIf(CompletableFuture::isDone);
+        if (this.pending.isEmpty()) {
+            this.complete();
+            return;
+        }
+        this.completing = true;
+        this.stop();
+        CompletableFuture.allOf(this.pending.toArray(CompletableFuture[]::new))
+                .whenComplete((ignored, error) -> this.onMainThread(this::complete));
+    }
+
+    private void onMainThread(@NotNull Runnable runnable) {
+        Plugin owner = this.plugin;
+        if (owner == null || !owner.isEnabled() || Bukkit.isPrimaryThread()) {
+            runnable.run();
+            return;
+        }
+        Bukkit.getScheduler().runTask(owner, runnable);
+    }
+
+    private void complete() {
+        this.pending.clear();
+        if (this.state != State.RUNNING) {
+            return;
+        }
+        this.state = State.COMPLETE;
+        this.stop();
+        StringBuilder builder = new StringBuilder(this.describe())
+                .append(this.dryRun ? " would change " : " changed ")
+                .append(this.changed)
+                .append(" of ")
+                .append(this.accounts.size())
+                .append(" accounts");
+        if (this.failed != 0) {
+            builder.append(", ").append(this.failed).append(" payments failed");
+        }
+        this.reporter.accept(builder.toString());
+        this.getChange().forEach((currency, amount) -> this.reporter.accept(" " + currency.getKeyName() + ": "
+                + (amount.signum() > 0 ? "+" : "") + currency.formatSymbol(amount)));
+    }
+
+    private void reportProgress() {
+        if (this.accounts.isEmpty()) {
+            return;
+        }
+        int tenth = this.position * 10 / this.accounts.size();
+        if (tenth <= this.reportedTenth || tenth >= 10) {
+            return;
+        }
+        this.reportedTenth = tenth;
+        this.reporter.accept(this.describe() + ": " + (tenth * 10) + "% (" + this.position + "/" + this.accounts.size() + ")");
+    }
+
+    private @NotNull String describe() {
+        return (this.dryRun ? "Dry run of " : "Job ") + this.name;
+    }
+
+    private static @NotNull BigDecimal planned(@NotNull JobPayment.Kind kind, @NotNull BigDecimal before,
+                                               @NotNull BigDecimal amount) {
+        return switch (kind) {
+            case DEPOSIT -> amount;
+            case WITHDRAW -> amount.negate();
+            case SET -> amount.subtract(before);
+        };
+    }
+}
@@ -0,0 +1,81 @@
+package org.kaiaccount.account.eco.job;
+
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+import java.util.function.Predicate;
+
+/**
+ * Runs {@link EconomyJob}s, one at a time so two jobs never fight over the same balances
+ */
+public class EconomyJobs {
+
+    public static final int DEFAULT_CHUNK_SIZE = 100;
+    public static final long DEFAULT_TICK_BUDGET_MILLIS = 5;
+
+    private volatile int chunkSize = DEFAULT_CHUNK_SIZE;
+    private volatile long budgetNanos = TimeUnit.MILLISECONDS.toNanos(DEFAULT_TICK_BUDGET_MILLIS);
+    private volatile @Nullable EconomyJob current;
+
+    public void configure(int chunkSize, long budgetMillis) {
+        this.chunkSize = Math.max(1, chunkSize);
+        this.budgetNanos = TimeUnit.MILLISECONDS.toNanos(Math.max(1, budgetMillis));
+    }
+
+    public @NotNull Optional<EconomyJob> getCurrent() {
+        return Optional.ofNullable(this.current);
+    }
+
+    /**
+     * Starts a job against the given accounts
+     *
+     * @throws IllegalStateException If another job is still running
+     */
+    public synchronized @NotNull EconomyJob start(@NotNull Plugin plugin,
+                                                  @NotNull String name,
+                                                  @NotNull List<? extends Account> accounts,
+                                                  @NotNull JobAction action,
+                                                  boolean dryRun,
+                                                  @NotNull Consumer<String> reporter) {
+        EconomyJob running = this.current;
+        if (running != null && running.getState() == EconomyJob.State.RUNNING) {
+            throw new IllegalStateException("Job " + running.getName() + " is still running");
+        }
+        EconomyJob job = new EconomyJob(name, accounts, action, dryRun, this.chunkSize, this.budgetNanos, reporter);
+        this.current = job;
+        job.start(plugin);
+        return job;
+    }
+
+    public void cancel() {
+        EconomyJob job = this.current;
+        if (job != null) {
+            job.cancel();
+        }
+    }
+
+    /**
+     * Every player, bank and named account that passes the filter
+     */
+    public static @NotNull List<Account> accounts(@NotNull AccountInterfaceManager manager,
+                                                  @NotNull Predicate<Account> filter) {
+        List<Account> accounts = new ArrayList<>();
+        for (PlayerAccount player : manager.getPlayerAccounts()) {
+            if (filter.test(player)) {
+                accounts.add(player);
+            }
+            player.getBanks().stream().filter(filter).forEach(accounts::add);
+        }
+        manager.getNamedAccounts().stream().filter(filter).forEach(accounts::add);
+        return accounts;
+    }
+}
@@ -0,0 +1,21 @@
+package org.kaiaccount.account.eco.job;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.util.List;
+
+/**
+ * Works out what an {@link EconomyJob} should do to a single account
+ */
+@FunctionalInterface
+public interface JobAction {
+
+    /**
+     * Called on the server thread for each account the job covers
+     *
+     * @param account The account
+     * @return The payments to make, or an empty list to leave the account alone
+     */
+    @NotNull List<JobPayment> plan(@NotNull Account account);
+}
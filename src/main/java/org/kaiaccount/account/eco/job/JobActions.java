@@ -0,0 +1,93 @@
+package org.kaiaccount.account.eco.job;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.currency.CurrencyFormat;
+import org.kaiaccount.account.eco.currency.EcoCurrency;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.Collections;
+import java.util.List;
+import java.util.Optional;
+
+public final class JobActions {
+
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+    private static final int DEFAULT_SCALE = 2;
+
+    private JobActions() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    /**
+     * Takes a percentage of every positive balance, rounded down to the currency's scale
+     */
+    public static @NotNull JobAction tax(@NotNull Currency<?> currency, @NotNull BigDecimal percent) {
+        return account -> {
+            BigDecimal balance = account.getBalance(currency);
+            BigDecimal amount = balance.multiply(percent).divide(HUNDRED, scale(currency, balance), RoundingMode.DOWN);
+            if (amount.signum() <= 0) {
+                return Collections.emptyList();
+            }
+            return List.of(JobPayment.withdraw(payment(currency, amount, "Tax")));
+        };
+    }
+
+    /**
+     * Takes anything above the cap
+     */
+    public static @NotNull JobAction wealthCap(@NotNull Currency<?> currency, @NotNull BigDecimal cap) {
+        return account -> {
+            BigDecimal over = account.getBalance(currency).subtract(cap);
+            if (over.signum() <= 0) {
+                return Collections.emptyList();
+            }
+            return List.of(JobPayment.withdraw(payment(currency, over, "Wealth cap")));
+        };
+    }
+
+    /**
+     * Sets every balance back to zero
+     */
+    public static @NotNull JobAction reset(@NotNull Currency<?> currency) {
+        return account -> {
+            if (account.getBalance(currency).signum() == 0) {
+                return Collections.emptyList();
+            }
+            return List.of(JobPayment.set(payment(currency, BigDecimal.ZERO, "Season reset")));
+        };
+    }
+
+    /**
+     * Gives every account the same amount
+     */
+    public static @NotNull JobAction airdrop(@NotNull Currency<?> currency, @NotNull BigDecimal amount) {
+        return account -> List.of(JobPayment.deposit(payment(currency, amount, "Airdrop")));
+    }
+
+    /**
+     * @return The decimal places the currency is written with, or the balance's own if the currency keeps the scale
+     */
+    private static int scale(@NotNull Currency<?> currency, @NotNull BigDecimal balance) {
+        if (currency instanceof EcoCurrency ecoCurrency) {
+            Optional<CurrencyFormat> opFormat = ecoCurrency.getFormat();
+            if (opFormat.isPresent() && opFormat.get().getDecimals() != CurrencyFormat.KEEP_SCALE) {
+                return opFormat.get().getDecimals();
+            }
+        }
+        return Math.max(balance.scale(), DEFAULT_SCALE);
+    }
+
+    private static @NotNull Payment payment(@NotNull Currency<?> currency, @NotNull BigDecimal amount,
+                                            @NotNull String reason) {
+        return new PaymentBuilder()
+                .setCurrency(currency)
+                .setAmount(amount)
+                .setReason(reason)
+                .build(EcoToolPlugin.getInstance());
+    }
+}
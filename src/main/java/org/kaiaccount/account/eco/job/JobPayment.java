@@ -0,0 +1,32 @@
+package org.kaiaccount.account.eco.job;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+
+/**
+ * A payment an {@link EconomyJob} wants to make against one account
+ *
+ * @param kind    How the payment is applied
+ * @param payment The payment, built with {@link org.kaiaccount.account.inter.transfer.payment.PaymentBuilder} so it is
+ *                recorded in the account history like any other
+ */
+public record JobPayment(@NotNull Kind kind, @NotNull Payment payment) {
+
+    public enum Kind {
+        DEPOSIT,
+        WITHDRAW,
+        SET
+    }
+
+    public static @NotNull JobPayment deposit(@NotNull Payment payment) {
+        return new JobPayment(Kind.DEPOSIT, payment);
+    }
+
+    public static @NotNull JobPayment withdraw(@NotNull Payment payment) {
+        return new JobPayment(Kind.WITHDRAW, payment);
+    }
+
+    public static @NotNull JobPayment set(@NotNull Payment payment) {
+        return new JobPayment(Kind.SET, payment);
+    }
+}
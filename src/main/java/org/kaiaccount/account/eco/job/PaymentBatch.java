@@ -0,0 +1,78 @@
+package org.kaiaccount.account.eco.job;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.AccountSynced;
+
+import java.io.IOException;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Optional;
+import java.util.concurrent.CompletableFuture;
+
+/**
+ * Makes many payments on the server thread, writing each account touched once when closed rather than once per payment.
+ * <p>
+ * Saving is turned off on an EcoTools account the first time a payment is made against it, and turned back on when
+ * the batch is closed.
+ */
+public class PaymentBatch implements AutoCloseable {
+
+    private final List<EcoAccount<?>> unsaved = new ArrayList<>();
+
+    /**
+     * @return The result, or empty if the account can only be paid asynchronously, in which case it saves itself
+     */
+    public @NotNull Optional<SingleTransactionResult> apply(@NotNull Account account, @NotNull JobPayment jobPayment) {
+        CompletableFuture<SingleTransactionResult> future = this.submit(account, jobPayment);
+        if (!future.isDone() || future.isCompletedExceptionally()) {
+            return Optional.empty();
+        }
+        return Optional.ofNullable(future.join());
+    }
+
+    /**
+     * @return The result once the payment has been made. Already complete unless the account can only be paid
+     * asynchronously, in which case it saves itself
+     */
+    public @NotNull CompletableFuture<SingleTransactionResult> submit(@NotNull Account account,
+                                                                     @NotNull JobPayment jobPayment) {
+        Payment payment = jobPayment.payment();
+        if (!(account instanceof AccountSynced synced)) {
+            return switch (jobPayment.kind()) {
+                case DEPOSIT -> account.deposit(payment);
+                case WITHDRAW -> account.withdraw(payment);
+                case SET -> account.set(payment);
+            };
+        }
+        if (account instanceof EcoAccount<?> eco && eco.isSaving()) {
+            eco.setSaving(false);
+            this.unsaved.add(eco);
+        }
+        return CompletableFuture.completedFuture(switch (jobPayment.kind()) {
+            case DEPOSIT -> synced.depositSynced(payment);
+            case WITHDRAW -> synced.withdrawSynced(payment);
+            case SET -> synced.setSynced(payment);
+        });
+    }
+
+    public int getTouched() {
+        return this.unsaved.size();
+    }
+
+    @Override
+    public void close() {
+        for (EcoAccount<?> account : this.unsaved) {
+            account.setSaving(true);
+            try {
+                account.save();
+            } catch (IOException e) {
+                e.printStackTrace();
+            }
+        }
+        this.unsaved.clear();
+    }
+}
@@ -2,80 +2,92 @@ package org.kaiaccount.account.eco.message;
 
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
-import org.kaiaccount.account.eco.message.type.MessageArgument;
+import org.kaiaccount.account.eco.message.type.MessageArgumentTypes;
 
-import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.Locale;
 import java.util.Map;
 import java.util.Optional;
+import java.util.concurrent.ConcurrentHashMap;
 
 public abstract class AbstractMessage implements Message {
 
 	private @Nullable String message;
+	private volatile @Nullable MessageTemplate template;
+	private volatile int templateVersion;
+	private volatile @NotNull Map<String, String> localeMessages = Collections.emptyMap();
+	private final Map<String, MessageTemplate> localeTemplates = new ConcurrentHashMap<>();
 
 	public AbstractMessage(@Nullable String message) {
 		this.message = message;
 	}
 
 	protected @NotNull String getProcessedMessage(@NotNull Map<Object, String> values) {
-		return this.getProcessedMessage(this.getOverridingMessageElse(), values);
+		return this.getTemplate().apply(values);
+	}
+
+	protected @NotNull String getProcessedMessage(@Nullable String locale, @NotNull Map<Object, String> values) {
+		return this.getTemplate(locale).apply(values);
 	}
 
 	protected @NotNull String getProcessedMessage(@NotNull CharSequence message, @NotNull Map<Object, String> values) {
-		StringBuilder builder = new StringBuilder();
-		String argumentBuffer = null;
-		for (int i = 0; i < message.length(); i++) {
-			char at = message.charAt(i);
-			if (at != '%') {
-				if (argumentBuffer == null) {
-					builder.append(at);
-					continue;
-				}
-				argumentBuffer = argumentBuffer + at;
-				continue;
-			}
-			if (argumentBuffer == null) {
-				argumentBuffer = at + "";
-				continue;
-			}
-			String withoutPercent = argumentBuffer.substring(1);
-			Optional<MessageArgument<?>> opArgument = this.getArgument(withoutPercent);
-			if (opArgument.isEmpty()) {
-				builder.append(argumentBuffer);
-				continue;
-			}
-			Collection<Object> possibleValues = values.entrySet()
-					.parallelStream()
-					.filter(entry -> opArgument.get().getClassType().isInstance(entry.getKey()))
-					.map(
-							Map.Entry::getKey)
-					.toList();
-			Object value;
-			if (possibleValues.size() > 1) {
-				Optional<Object> opValue = values.entrySet()
-						.parallelStream()
-						.filter(entry -> withoutPercent.startsWith(entry.getValue()))
-						.findAny()
-						.map(Map.Entry::getValue);
-				if (opValue.isEmpty()) {
-					i++;
-					continue;
-				}
-				value = opValue.get();
-			} else if (possibleValues.isEmpty()) {
-				i++;
-				continue;
-			} else {
-				value = possibleValues.iterator().next();
-			}
-			String valueString = process(opArgument.get(), value);
-			builder.append(valueString);
-			argumentBuffer = null;
+		return MessageTemplate.compile(message, this::getArgument).apply(values);
+	}
+
+	/**
+	 * @return The message compiled against its arguments. This is only rebuilt when the overriding message or the
+	 * registered argument types change
+	 */
+	public @NotNull MessageTemplate getTemplate() {
+		MessageTemplate template = this.template;
+		if (template == null || this.templateVersion != MessageArgumentTypes.getVersion()) {
+			template = this.compile();
 		}
-		return builder.toString();
+		return template;
 	}
 
-	private <T> @NotNull String process(MessageArgument<T> argument, Object value) {
-		return argument.apply((T) value);
+	/**
+	 * @param locale The locale of who the message is for, such as {@code en_US}. The language alone is tried if the
+	 *               full locale has no message, then the overriding message
+	 * @return The message compiled for the locale. Each locale is compiled once and kept until the messages change
+	 */
+	public @NotNull MessageTemplate getTemplate(@Nullable String locale) {
+		if (locale == null || this.localeMessages.isEmpty()) {
+			return this.getTemplate();
+		}
+		if (this.templateVersion != MessageArgumentTypes.getVersion()) {
+			this.compile();
+		}
+		String key = locale.toLowerCase(Locale.ROOT);
+		MessageTemplate template = this.localeTemplates.get(key);
+		if (template != null) {
+			return template;
+		}
+		return this.localeTemplates.computeIfAbsent(key, this::compileLocale);
+	}
+
+	private @NotNull MessageTemplate compileLocale(@NotNull String locale) {
+		String message = this.localeMessages.get(locale);
+		int split = locale.indexOf('_');
+		if (message == null && split != -1) {
+			message = this.localeMessages.get(locale.substring(0, split));
+		}
+		if (message == null) {
+			return this.getTemplate();
+		}
+		return MessageTemplate.compile(message, this::getArgument);
+	}
+
+	private synchronized @NotNull MessageTemplate compile() {
+		int version = MessageArgumentTypes.getVersion();
+		MessageTemplate template = MessageTemplate.compile(this.getOverridingMessageElse(), this::getArgument);
+		if (this.templateVersion != version) {
+			this.localeTemplates.clear();
+		}
+		this.template = template;
+		this.templateVersion = version;
+		return template;
 	}
 
 	@NotNull
@@ -87,5 +99,21 @@ public abstract class AbstractMessage implements Message {
 	@Override
 	public void setOverridingMessage(@Nullable String message) {
 		this.message = message;
+		this.compile();
+		this.localeTemplates.clear();
+	}
+
+	@NotNull
+	@Override
+	public Map<String, String> getLocaleMessages() {
+		return this.localeMessages;
+	}
+
+	@Override
+	public void setLocaleMessages(@NotNull Map<String, String> messages) {
+		Map<String, String> lowerCase = new HashMap<>();
+		messages.forEach((locale, message) -> lowerCase.put(locale.toLowerCase(Locale.ROOT), message));
+		this.localeMessages = Collections.unmodifiableMap(lowerCase);
+		this.localeTemplates.clear();
 	}
 }
@@ -5,6 +5,7 @@ import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.account.eco.message.type.MessageArgument;
 
 import java.util.Collection;
+import java.util.Map;
 import java.util.Optional;
 
 public interface Message {
@@ -17,12 +18,21 @@ public interface Message {
 
 	void setOverridingMessage(@Nullable String message);
 
+	/**
+	 * @return The message to use for each locale, keyed by lower case locale such as {@code en_us} or language such
+	 * as {@code en}
+	 */
+	@NotNull
+	Map<String, String> getLocaleMessages();
+
+	void setLocaleMessages(@NotNull Map<String, String> messages);
+
 	@NotNull
 	Collection<MessageArgument<?>> getArguments();
 
 	default Optional<MessageArgument<?>> getArgument(@NotNull String argumentName) {
 		return this.getArguments()
-				.parallelStream()
+				.stream()
 				.filter(message -> message.getArgumentHandler().equalsIgnoreCase(argumentName))
 				.findAny();
 	}
@@ -0,0 +1,147 @@
+package org.kaiaccount.account.eco.message;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.eco.message.type.MessageArgument;
+
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Function;
+
+/**
+ * A message split once into literal text and the arguments it uses, so sending it is a single pass over the parts
+ * <p>
+ * Arguments are written as {@code %name%}. A name that is not an argument of the message is kept as written
+ */
+public final class MessageTemplate {
+
+	private final @NotNull Token[] tokens;
+	private final int literalLength;
+
+	private MessageTemplate(@NotNull List<Token> tokens) {
+		this.tokens = tokens.toArray(Token[]::new);
+		int length = 0;
+		for (Token token : this.tokens) {
+			if (token.argument() == null) {
+				length += token.text().length();
+			}
+		}
+		this.literalLength = length;
+	}
+
+	public int getArgumentCount() {
+		int count = 0;
+		for (Token token : this.tokens) {
+			if (token.argument() != null) {
+				count++;
+			}
+		}
+		return count;
+	}
+
+	/**
+	 * @param values The values to use, each mapped to the prefix of the argument names it is for. The prefix only
+	 *               matters when more then one value fits the same argument
+	 * @return The message with each argument replaced by its value
+	 */
+	public @NotNull String apply(@NotNull Map<Object, String> values) {
+		StringBuilder builder = new StringBuilder(this.literalLength + this.tokens.length * 8);
+		for (Token token : this.tokens) {
+			if (token.argument() == null) {
+				builder.append(token.text());
+				continue;
+			}
+			Object value = find(token.text(), token.argument(), values);
+			if (value == null) {
+				builder.append('%').append(token.text()).append('%');
+				continue;
+			}
+			builder.append(process(token.argument(), value));
+		}
+		return builder.toString();
+	}
+
+	private static @Nullable Object find(@NotNull String name, @NotNull MessageArgument<?> argument,
+			@NotNull Map<Object, String> values) {
+		Object found = null;
+		int matches = 0;
+		for (Map.Entry<Object, String> entry : values.entrySet()) {
+			if (argument.getClassType().isInstance(entry.getKey())) {
+				found = entry.getKey();
+				matches++;
+			}
+		}
+		if (matches <= 1) {
+			return found;
+		}
+		found = null;
+		int longest = -1;
+		for (Map.Entry<Object, String> entry : values.entrySet()) {
+			if (!argument.getClassType().isInstance(entry.getKey())) {
+				continue;
+			}
+			String prefix = entry.getValue();
+			if (name.startsWith(prefix) && prefix.length() > longest) {
+				found = entry.getKey();
+				longest = prefix.length();
+			}
+		}
+		return found;
+	}
+
+	@SuppressWarnings("unchecked")
+	private static <T> @NotNull String process(@NotNull MessageArgument<T> argument, @NotNull Object value) {
+		return argument.apply((T) value);
+	}
+
+	/**
+	 * @param message   The message to split
+	 * @param arguments Finds the argument for a name
+	 */
+	public static @NotNull MessageTemplate compile(@NotNull CharSequence message,
+			@NotNull Function<String, Optional<MessageArgument<?>>> arguments) {
+		List<Token> tokens = new ArrayList<>();
+		StringBuilder literal = new StringBuilder();
+		int index = 0;
+		while (index < message.length()) {
+			char at = message.charAt(index);
+			int end = at == '%' ? indexOf(message, index + 1) : -1;
+			if (end == -1) {
+				literal.append(at);
+				index++;
+				continue;
+			}
+			String name = message.subSequence(index + 1, end).toString();
+			Optional<MessageArgument<?>> opArgument = arguments.apply(name);
+			if (opArgument.isEmpty()) {
+				literal.append('%').append(name);
+				index = end;
+				continue;
+			}
+			if (!literal.isEmpty()) {
+				tokens.add(new Token(literal.toString(), null));
+				literal.setLength(0);
+			}
+			tokens.add(new Token(name, opArgument.get()));
+			index = end + 1;
+		}
+		if (!literal.isEmpty()) {
+			tokens.add(new Token(literal.toString(), null));
+		}
+		return new MessageTemplate(tokens);
+	}
+
+	private static int indexOf(@NotNull CharSequence message, int from) {
+		for (int index = from; index < message.length(); index++) {
+			if (message.charAt(index) == '%') {
+				return index;
+			}
+		}
+		return -1;
+	}
+
+	private record Token(@NotNull String text, @Nullable MessageArgument<?> argument) {
+	}
+}
@@ -1,14 +1,73 @@
 package org.kaiaccount.account.eco.message;
 
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
 import org.kaiaccount.account.eco.message.messages.balance.TotalWorthMessage;
 import org.kaiaccount.account.eco.message.messages.error.SourceOnlyCommandMessage;
 
+import java.io.File;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.LinkedHashMap;
+import java.util.Map;
+
 public final class Messages {
 
+	public static final String MESSAGES = "messages";
+	public static final String LOCALES = "locales";
+
 	public static final TotalWorthMessage TOTAL_WORTH = new TotalWorthMessage(null);
 	public static final SourceOnlyCommandMessage SOURCE_ONLY = new SourceOnlyCommandMessage(null);
 
+	private static final Map<String, Message> BY_KEY = new LinkedHashMap<>();
+
+	static {
+		BY_KEY.put("total-worth", TOTAL_WORTH);
+		BY_KEY.put("source-only", SOURCE_ONLY);
+	}
+
 	private Messages() {
 		throw new RuntimeException("Dont do that");
 	}
+
+	/**
+	 * @return Every message by the key it has in the messages file
+	 */
+	@UnmodifiableView
+	public static @NotNull Map<String, Message> getMessages() {
+		return Collections.unmodifiableMap(BY_KEY);
+	}
+
+	/**
+	 * Sets every message from a messages file. Messages missing from the file go back to their default
+	 *
+	 * @param file The messages file
+	 * @return The number of messages, in any locale, read from the file
+	 */
+	public static int load(@NotNull File file) {
+		YamlConfiguration configuration = YamlConfiguration.loadConfiguration(file);
+		ConfigurationSection locales = configuration.getConfigurationSection(LOCALES);
+		int loaded = 0;
+		for (Map.Entry<String, Message> entry : BY_KEY.entrySet()) {
+			String message = configuration.getString(MESSAGES + "." + entry.getKey());
+			if (message != null) {
+				loaded++;
+			}
+			Map<String, String> localeMessages = new HashMap<>();
+			if (locales != null) {
+				for (String locale : locales.getKeys(false)) {
+					String localeMessage = locales.getString(locale + "." + entry.getKey());
+					if (localeMessage != null) {
+						localeMessages.put(locale, localeMessage);
+					}
+				}
+			}
+			loaded += localeMessages.size();
+			entry.getValue().setOverridingMessage(message);
+			entry.getValue().setLocaleMessages(localeMessages);
+		}
+		return loaded;
+	}
 }
@@ -1,6 +1,7 @@
 package org.kaiaccount.account.eco.message.messages.balance;
 
 import org.bukkit.command.CommandSender;
+import org.bukkit.entity.Player;
 import org.jetbrains.annotations.NotNull;
 import org.jetbrains.annotations.Nullable;
 import org.kaiaccount.account.eco.message.AbstractMessage;
@@ -10,9 +11,11 @@ import org.kaiaccount.account.eco.message.type.MessageArgumentTypes;
 import org.kaiaccount.account.eco.message.type.generic.GenericMessageArgumentType;
 
 import java.math.BigDecimal;
+import java.util.ArrayList;
 import java.util.Collection;
+import java.util.Collections;
 import java.util.HashMap;
-import java.util.LinkedList;
+import java.util.List;
 import java.util.Map;
 
 public class TotalWorthMessage extends AbstractMessage implements Message {
@@ -28,6 +31,9 @@ public class TotalWorthMessage extends AbstractMessage implements Message {
 		Map<Object, String> assigns = new HashMap<>();
 		assigns.put(totalWorth, "");
 		assigns.put(commandSender, "sender ");
+		if (commandSender instanceof Player player) {
+			return this.getProcessedMessage(player.getLocale(), assigns);
+		}
 		return this.getProcessedMessage(assigns);
 	}
 
@@ -40,10 +46,10 @@ public class TotalWorthMessage extends AbstractMessage implements Message {
 	@NotNull
 	@Override
 	public Collection<MessageArgument<?>> getArguments() {
-		Collection<MessageArgument<?>> list = new LinkedList<>();
+		List<MessageArgument<?>> list = new ArrayList<>();
 		list.add(TOTAL_WORTH);
-		list.addAll(MessageArgumentTypes.getArgumentTypes(CommandSender.class).parallelStream().map(
+		list.addAll(MessageArgumentTypes.getArgumentTypes(CommandSender.class).stream().map(
 				MessageArgument::new).toList());
-		return list;
+		return Collections.unmodifiableList(list);
 	}
 }
@@ -1,31 +1,83 @@
 package org.kaiaccount.account.eco.message.type;
 
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.account.eco.message.type.currency.CurrencyIdMessageArgument;
+import org.kaiaccount.account.eco.message.type.currency.CurrencyShortNameMessageArgument;
+import org.kaiaccount.account.inter.currency.Currency;
+
 import java.lang.reflect.Modifier;
-import java.util.*;
-import java.util.stream.Collectors;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.List;
+import java.util.Objects;
+import java.util.concurrent.CopyOnWriteArrayList;
+import java.util.concurrent.atomic.AtomicInteger;
 
+/**
+ * Every message argument type, including those registered by other plugins.
+ * <p>
+ * The types that apply to a class are worked out the first time that class is looked up and kept until a type is
+ * registered or unregistered. Messages bind their arguments when compiled, so each change also moves
+ * {@link #getVersion()} on, which tells compiled messages to compile again when next sent
+ */
 public final class MessageArgumentTypes {
 
-	private static final List<MessageArgumentType<?>> cache = new LinkedList<>();
+	public static final MessageArgumentType<Currency<?>> CURRENCY_ID = new CurrencyIdMessageArgument();
+	public static final MessageArgumentType<Currency<?>> CURRENCY_SHORT_NAME = new CurrencyShortNameMessageArgument();
+
+	private static final CopyOnWriteArrayList<MessageArgumentType<?>> TYPES = new CopyOnWriteArrayList<>(declaredTypes());
+	private static final AtomicInteger VERSION = new AtomicInteger();
+	private static volatile ClassValue<List<MessageArgumentType<?>>> byClass = createLookup();
 
+	@SuppressWarnings("unchecked")
 	public static <T> Collection<MessageArgumentType<T>> getArgumentTypes(Class<T> clazz) {
-		return getArgumentTypes().parallelStream()
-				.filter(type -> type.getClassType().isAssignableFrom(clazz))
-				.map(type -> (MessageArgumentType<T>) type)
-				.collect(Collectors.toUnmodifiableSet());
+		return (Collection<MessageArgumentType<T>>) (Object) byClass.get(clazz);
 	}
 
+	@UnmodifiableView
 	public static Collection<MessageArgumentType<?>> getArgumentTypes() {
-		if (!cache.isEmpty()) {
-			return Collections.unmodifiableCollection(cache);
+		return Collections.unmodifiableList(TYPES);
+	}
+
+	/**
+	 * @return A number that goes up every time a type is registered or unregistered
+	 */
+	public static int getVersion() {
+		return VERSION.get();
+	}
+
+	public static void register(@NotNull MessageArgumentType<?> type) {
+		if (TYPES.addIfAbsent(type)) {
+			byClass = createLookup();
+			VERSION.incrementAndGet();
 		}
-		Collection<MessageArgumentType<?>> collection = Arrays.stream(MessageArgumentTypes.class.getDeclaredFields())
-				.parallel()
+	}
+
+	public static void unregister(@NotNull MessageArgumentType<?> type) {
+		if (TYPES.remove(type)) {
+			byClass = createLookup();
+			VERSION.incrementAndGet();
+		}
+	}
+
+	private static @NotNull ClassValue<List<MessageArgumentType<?>>> createLookup() {
+		return new ClassValue<>() {
+			@Override
+			protected List<MessageArgumentType<?>> computeValue(@NotNull Class<?> type) {
+				return TYPES.stream().filter(argument -> argument.getClassType().isAssignableFrom(type)).toList();
+			}
+		};
+	}
+
+	private static @NotNull List<MessageArgumentType<?>> declaredTypes() {
+		return Arrays.stream(MessageArgumentTypes.class.getDeclaredFields())
 				.filter(field -> Modifier.isPublic(field.getModifiers()))
 				.filter(field -> Modifier.isStatic(field.getModifiers()))
 				.filter(field -> Modifier.isFinal(field.getModifiers()))
 				.filter(field -> field.getType().isAssignableFrom(MessageArgumentType.class))
-				.map(field -> {
+				.<MessageArgumentType<?>>map(field -> {
 					try {
 						return (MessageArgumentType<?>) field.get(null);
 					} catch (IllegalAccessException e) {
@@ -34,9 +86,7 @@ public final class MessageArgumentTypes {
 					}
 				})
 				.filter(Objects::nonNull)
-				.collect(Collectors.toSet());
-		cache.addAll(collection);
-		return Collections.unmodifiableCollection(collection);
+				.toList();
 	}
 
 	private MessageArgumentTypes() {
@@ -0,0 +1,131 @@
+package org.kaiaccount.account.eco.metrics;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.inter.transfer.Transaction;
+import org.kaiaccount.account.inter.transfer.TransactionType;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+
+import java.util.Locale;
+
+/**
+ * The metrics kept on accounts: transactions by account type, and how long reading and writing account files takes
+ */
+public final class AccountMetrics {
+
+    /**
+     * The kinds of file read when the plugin loads
+     */
+    public enum LoadKind {
+        PLAYER,
+        BANK,
+        NAMED,
+        CURRENCY
+    }
+
+    private static final String OTHER = "other";
+    private static final Counter[][] TRANSACTIONS = transactionCounters();
+    private static final Histogram[] SAVE_NANOS = holderHistograms("io.save.", ".nanos");
+    private static final Histogram[] SAVE_BYTES = holderHistograms("io.save.", ".bytes");
+    private static final Histogram[] HISTORY_ENTRIES = holderHistograms("history.", ".entries");
+    private static final Histogram[] LOAD_NANOS = loadHistograms(".nanos");
+    private static final Histogram[] LOAD_BYTES = loadHistograms(".bytes");
+    private static final Counter FAILED = Metrics.counter("ledger.failed");
+    private static final Counter TRANSFERS = Metrics.counter("ledger.transfers");
+
+    private AccountMetrics() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    /**
+     * Counts the transactions of a result that were applied to the account
+     */
+    public static void recordTransaction(@NotNull Account account, @NotNull TransactionResult result) {
+        if (result instanceof FailedTransactionResult) {
+            FAILED.increment();
+            return;
+        }
+        Counter[] counters = TRANSACTIONS[typeIndex(account)];
+        for (Transaction transaction : result.getTransactions()) {
+            TransactionType type = transaction.getType();
+            if (type != null && transaction.getTarget().equals(account)) {
+                counters[type.ordinal()].increment();
+            }
+        }
+    }
+
+    /**
+     * Counts a payment from one account to another
+     */
+    public static void recordTransfer() {
+        TRANSFERS.increment();
+    }
+
+    /**
+     * @param account     The account that was saved
+     * @param startNanos  The {@link System#nanoTime()} the save started at
+     * @param bytes       The number of bytes written
+     * @param historySize The number of history entries the account has
+     */
+    public static void recordSave(@NotNull Account account, long startNanos, long bytes, int historySize) {
+        int type = typeIndex(account);
+        SAVE_NANOS[type].recordSince(startNanos);
+        SAVE_BYTES[type].record(bytes);
+        HISTORY_ENTRIES[type].record(historySize);
+    }
+
+    /**
+     * @param kind       What was read
+     * @param startNanos The {@link System#nanoTime()} the read started at
+     * @param bytes      The number of bytes read
+     */
+    public static void recordLoad(@NotNull LoadKind kind, long startNanos, long bytes) {
+        LOAD_NANOS[kind.ordinal()].recordSince(startNanos);
+        LOAD_BYTES[kind.ordinal()].record(bytes);
+    }
+
+    private static int typeIndex(@NotNull Account account) {
+        return MoneySupply.HolderType.of(account).map(Enum::ordinal).orElse(MoneySupply.HolderType.values().length);
+    }
+
+    private static @NotNull String holderName(int holder) {
+        MoneySupply.HolderType[] holders = MoneySupply.HolderType.values();
+        return holder == holders.length ? OTHER : holders[holder].name().toLowerCase(Locale.ROOT);
+    }
+
+    /**
+     * @return A histogram per {@link MoneySupply.HolderType}, by ordinal, with one more at the end for other accounts
+     */
+    private static @NotNull Histogram[] holderHistograms(@NotNull String prefix, @NotNull String suffix) {
+        Histogram[] histograms = new Histogram[MoneySupply.HolderType.values().length + 1];
+        for (int holder = 0; holder < histograms.length; holder++) {
+            histograms[holder] = Metrics.histogram(prefix + holderName(holder) + suffix);
+        }
+        return histograms;
+    }
+
+    private static @NotNull Histogram[] loadHistograms(@NotNull String suffix) {
+        LoadKind[] kinds = LoadKind.values();
+        Histogram[] histograms = new Histogram[kinds.length];
+        for (LoadKind kind : kinds) {
+            histograms[kind.ordinal()] = Metrics.histogram("io.load." + kind.name().toLowerCase(Locale.ROOT) + suffix);
+        }
+        return histograms;
+    }
+
+    private static @NotNull Counter[][] transactionCounters() {
+        MoneySupply.HolderType[] holders = MoneySupply.HolderType.values();
+        TransactionType[] types = TransactionType.values();
+        Counter[][] counters = new Counter[holders.length + 1][types.length];
+        for (int holder = 0; holder <= holders.length; holder++) {
+            String holderName = holderName(holder);
+            for (TransactionType type : types) {
+                counters[holder][type.ordinal()] = Metrics.counter(
+                        "ledger." + holderName + "." + type.name().toLowerCase(Locale.ROOT));
+            }
+        }
+        return counters;
+    }
+}
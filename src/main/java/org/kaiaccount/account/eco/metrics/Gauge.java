@@ -0,0 +1,10 @@
+package org.kaiaccount.account.eco.metrics;
+
+/**
+ * A value that is read when the metrics are shown, such as the length of a queue
+ */
+@FunctionalInterface
+public interface Gauge {
+
+    long get();
+}
@@ -0,0 +1,97 @@
+package org.kaiaccount.account.eco.metrics;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+/**
+ * Counts values into buckets that grow with the value, so a nanosecond and a second both fit with the same relative
+ * precision.
+ * <p>
+ * Each power of two is split into four buckets, so any percentile read back is within a quarter of the true value.
+ * Recording is a few atomic adds and never locks.
+ */
+public class Histogram {
+
+    private static final int SUB_BITS = 2;
+    private static final int SUB_BUCKETS = 1 << SUB_BITS;
+    private static final int BUCKETS = 64 * SUB_BUCKETS;
+
+    private final AtomicLongArray buckets = new AtomicLongArray(BUCKETS);
+    private final LongAdder count = new LongAdder();
+    private final LongAdder sum = new LongAdder();
+    private final LongAccumulator max = new LongAccumulator(Math::max, 0);
+
+    /**
+     * @param value The value to record. Negative values are recorded as zero
+     */
+    public void record(long value) {
+        long clamped = Math.max(value, 0);
+        this.buckets.incrementAndGet(index(clamped));
+        this.count.increment();
+        this.sum.add(clamped);
+        this.max.accumulate(clamped);
+    }
+
+    /**
+     * Records the time since a {@link System#nanoTime()}
+     */
+    public void recordSince(long startNanos) {
+        this.record(System.nanoTime() - startNanos);
+    }
+
+    public long getCount() {
+        return this.count.sum();
+    }
+
+    public long getMax() {
+        return this.max.get();
+    }
+
+    public long getMean() {
+        long count = this.getCount();
+        if (count == 0) {
+            return 0;
+        }
+        return this.sum.sum() / count;
+    }
+
+    /**
+     * @param percentile Between 0 and 100
+     * @return The highest value of the bucket the percentile falls in, or 0 if nothing has been recorded
+     */
+    public long getPercentile(double percentile) {
+        long count = this.getCount();
+        if (count == 0) {
+            return 0;
+        }
+        long target = Math.max(1, (long) Math.ceil(count * Math.min(percentile, 100) / 100));
+        long seen = 0;
+        for (int index = 0; index < BUCKETS; index++) {
+            seen += this.buckets.get(index);
+            if (seen >= target) {
+                return Math.min(upper(index), this.getMax());
+            }
+        }
+        return this.getMax();
+    }
+
+    static int index(long value) {
+        if (value < SUB_BUCKETS) {
+            return (int) value;
+        }
+        int bit = 63 - Long.numberOfLeadingZeros(value);
+        int sub = (int) ((value >>> (bit - SUB_BITS)) & (SUB_BUCKETS - 1));
+        return (bit - SUB_BITS + 1) * SUB_BUCKETS + sub;
+    }
+
+    static long upper(int index) {
+        if (index < SUB_BUCKETS) {
+            return index;
+        }
+        int bit = index / SUB_BUCKETS + SUB_BITS - 1;
+        long width = 1L << (bit - SUB_BITS);
+        long lower = (long) (SUB_BUCKETS + index % SUB_BUCKETS) << (bit - SUB_BITS);
+        return lower + width - 1;
+    }
+}
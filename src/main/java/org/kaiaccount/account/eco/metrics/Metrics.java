@@ -0,0 +1,88 @@
+package org.kaiaccount.account.eco.metrics;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.io.File;
+import java.io.IOException;
+import java.nio.file.Files;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.TreeMap;
+import java.util.concurrent.ConcurrentHashMap;
+
+/**
+ * Every counter, gauge and histogram EcoTools keeps on itself, by name.
+ * <p>
+ * Names are dot separated, starting with the area they measure, such as {@code ledger.player.deposit} or
+ * {@code io.save.bank.nanos}. Code that records often should look its metric up once and keep it in a field.
+ */
+public final class Metrics {
+
+    private static final Map<String, Counter> COUNTERS = new ConcurrentHashMap<>();
+    private static final Map<String, Histogram> HISTOGRAMS = new ConcurrentHashMap<>();
+    private static final Map<String, Gauge> GAUGES = new ConcurrentHashMap<>();
+
+    private Metrics() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static @NotNull Counter counter(@NotNull String name) {
+        return COUNTERS.computeIfAbsent(name, key -> new Counter());
+    }
+
+    public static @NotNull Histogram histogram(@NotNull String name) {
+        return HISTOGRAMS.computeIfAbsent(name, key -> new Histogram());
+    }
+
+    /**
+     * Registers a gauge, replacing any gauge of the same name
+     */
+    public static void gauge(@NotNull String name, @NotNull Gauge gauge) {
+        GAUGES.put(name, gauge);
+    }
+
+    public static void removeGauge(@NotNull String name) {
+        GAUGES.remove(name);
+    }
+
+    /**
+     * @return A line for each metric, sorted by name
+     */
+    public static @NotNull List<String> report() {
+        List<String> lines = new ArrayList<>();
+        new TreeMap<>(COUNTERS).forEach((name, counter) -> lines.add(name + ": " + counter.get()));
+        new TreeMap<>(GAUGES).forEach((name, gauge) -> lines.add(name + ": " + gauge.get()));
+        new TreeMap<>(HISTOGRAMS).forEach((name, histogram) -> {
+            if (histogram.getCount() == 0) {
+                return;
+            }
+            lines.add(name
+                    + ": count "
+                    + histogram.getCount()
+                    + " mean "
+                    + histogram.getMean()
+                    + " p50 "
+                    + histogram.getPercentile(50)
+                    + " p99 "
+                    + histogram.getPercentile(99)
+                    + " max "
+                    + histogram.getMax());
+        });
+        return lines;
+    }
+
+    /**
+     * Writes {@link #report()} to a file
+     *
+     * @param file The file to write, replaced if it exists
+     * @throws IOException If the file could not be written
+     */
+    public static void dump(@NotNull File file) throws IOException {
+        File parent = file.getParentFile();
+        if (parent != null) {
+            Files.createDirectories(parent.toPath());
+        }
+        Files.write(file.toPath(), report());
+    }
+}
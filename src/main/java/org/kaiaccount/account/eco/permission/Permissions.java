@@ -6,14 +6,20 @@ public enum Permissions {
 
     BALANCE_SELF("eco.cmd.balance.self", true),
     BALANCE_OTHER("eco.cmd.balance.other", false),
+    BALANCE_TOP("eco.cmd.balance.top", true),
     ADD_CURRENCY("eco.cmd.currency.add", false),
     REMOVE_CURRENCY("eco.cmd.currency.remove", false),
     SET_DEFAULT_CURRENCY("eco.cmd.currency.set.default", false),
     SET_EXCHANGE_CURRENCY("eco.cmd.currency.set.exchange", false),
     EXCHANGE("eco.cmd.exchange", true),
     GIVE_ECO("eco.cmd.tools.give", false),
+    ECONOMY_JOB("eco.cmd.tools.job", false),
+    RELOAD("eco.cmd.tools.reload", false),
+    METRICS("eco.cmd.tools.metrics", false),
     PAY("eco.cmd.pay.self", true),
     PAY_FROM("eco.cmd.pay.from", false),
+    STANDING_ORDER("eco.cmd.pay.standing", true),
+    BANK_INTEREST("eco.cmd.bank.interest", false),
     CREATE_BANK_ACCOUNT("eco.cmd.create.player.bank.self", true),
     CREATE_NAMED_ACCOUNT("eco.cmd.create.named", true),
     GRANT_BANK_ACCESS_SELF("eco.cmd.give.player.bank.self", true),
@@ -0,0 +1,361 @@
+package org.kaiaccount.account.eco.schedule;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.ConfigurationSection;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.jetbrains.annotations.UnmodifiableView;
+import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.AccountKeys;
+import org.kaiaccount.account.eco.account.bank.EcoBankAccount;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.currency.CurrencyRegistry;
+import org.kaiaccount.account.eco.job.JobPayment;
+import org.kaiaccount.account.eco.job.PaymentBatch;
+import org.kaiaccount.account.eco.utils.HierarchicalTimerWheel;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.time.Instant;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.LinkedHashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.Set;
+import java.util.UUID;
+import java.util.concurrent.TimeUnit;
+import java.util.function.Consumer;
+
+/**
+ * Pays standing orders and bank interest from one timer wheel, ticked once a second, instead of a task per account.
+ * <p>
+ * Everything due on the same second is paid in one {@link PaymentBatch}, so an account touched by many payments is
+ * saved once. A server that was down for several intervals pays each order once when it comes back, not once per
+ * interval missed. Changes to the schedule are written at most once a tick.
+ */
+public class PaymentScheduler {
+
+    public static final long DEFAULT_INTEREST_HOURS = 24;
+
+    static final String NEXT_INTEREST = "interest.next";
+    static final String ORDERS = "orders";
+
+    private static final UUID INTEREST = new UUID(0, 0);
+    private static final BigDecimal HUNDRED = BigDecimal.valueOf(100);
+
+    private final @NotNull File file;
+    private final Map<UUID, StandingOrder> orders = new LinkedHashMap<>();
+    private final Map<UUID, HierarchicalTimerWheel.Timer<UUID>> timers = new HashMap<>();
+    private @Nullable HierarchicalTimerWheel<UUID> wheel;
+    private @Nullable AccountInterfaceManager manager;
+    private @Nullable Plugin plugin;
+    private @Nullable BukkitTask task;
+    private boolean saveScheduled;
+    private @NotNull Consumer<String> reporter = message -> {
+    };
+    private long interestSeconds = TimeUnit.HOURS.toSeconds(DEFAULT_INTEREST_HOURS);
+    private long nextInterest;
+
+    public PaymentScheduler() {
+        this(new File("plugins/eco/schedules.yml"));
+    }
+
+    public PaymentScheduler(@NotNull File file) {
+        this.file = file;
+    }
+
+    /**
+     * Loads the saved schedule and starts paying. Call once all accounts are loaded
+     *
+     * @param interestHours How often bank interest is paid. 0 or less turns interest off
+     */
+    public synchronized void start(@NotNull Plugin plugin,
+                                   @NotNull AccountInterfaceManager manager,
+                                   @NotNull CurrencyRegistry registry,
+                                   long interestHours,
+                                   @NotNull Consumer<String> reporter) {
+        this.stop();
+        this.plugin = plugin;
+        this.manager = manager;
+        this.reporter = reporter;
+        this.load(registry, now(), interestHours);
+        this.task = Bukkit.getScheduler().runTaskTimer(plugin, () -> this.tick(now()), 20, 20);
+    }
+
+    public synchronized void stop() {
+        if (this.plugin == null) {
+            return;
+        }
+        if (this.task != null) {
+            this.task.cancel();
+            this.task = null;
+        }
+        this.plugin = null;
+        this.save();
+    }
+
+    @UnmodifiableView
+    public synchronized @NotNull Collection<StandingOrder> getOrders() {
+        return Collections.unmodifiableCollection(new ArrayList<>(this.orders.values()));
+    }
+
+    public synchronized @NotNull List<StandingOrder> getOrdersFrom(@NotNull String fromKey) {
+        return this.orders.values().stream().filter(order -> order.getFromKey().equals(fromKey)).toList();
+    }
+
+    public synchronized @NotNull Optional<StandingOrder> getOrder(@NotNull UUID id) {
+        return Optional.ofNullable(this.orders.get(id));
+    }
+
+    /**
+     * Adds a standing order. Its first payment is one interval from now
+     */
+    public synchronized @NotNull StandingOrder addOrder(@NotNull String fromKey,
+                                                        @NotNull String toKey,
+                                                        @NotNull Currency<?> currency,
+                                                        @NotNull BigDecimal amount,
+                                                        long intervalSeconds,
+                                                        @NotNull String reason) {
+        StandingOrder order = new StandingOrder(UUID.randomUUID(), fromKey, toKey, currency, amount, intervalSeconds,
+                reason, now() + intervalSeconds);
+        this.orders.put(order.getId(), order);
+        this.schedule(order.getId(), order.getNextDue());
+        this.saveLater();
+        return order;
+    }
+
+    public synchronized boolean cancelOrder(@NotNull UUID id) {
+        if (this.orders.remove(id) == null) {
+            return false;
+        }
+        HierarchicalTimerWheel.Timer<UUID> timer = this.timers.remove(id);
+        if (timer != null && this.wheel != null) {
+            this.wheel.cancel(timer);
+        }
+        this.saveLater();
+        return true;
+    }
+
+    /**
+     * Pays everything due up to a time
+     *
+     * @param now The time in epoch seconds
+     */
+    public synchronized void tick(long now) {
+        if (this.wheel == null || this.manager == null) {
+            return;
+        }
+        List<UUID> due = this.wheel.advance(now);
+        if (due.isEmpty()) {
+            return;
+        }
+        boolean interest = false;
+        List<StandingOrder> dueOrders = new ArrayList<>();
+        Set<String> keys = new HashSet<>();
+        for (UUID id : due) {
+            this.timers.remove(id);
+            if (INTEREST.equals(id)) {
+                interest = true;
+                continue;
+            }
+            StandingOrder order = this.orders.get(id);
+            if (order == null) {
+                continue;
+            }
+            dueOrders.add(order);
+            keys.add(order.getFromKey());
+            keys.add(order.getToKey());
+        }
+        Map<String, Account> accounts = keys.isEmpty() ? Collections.emptyMap() : AccountKeys.resolve(this.manager, keys);
+        try (PaymentBatch batch = new PaymentBatch()) {
+            for (StandingOrder order : dueOrders) {
+                this.pay(batch, order, accounts, now);
+            }
+            if (interest) {
+                this.payInterest(batch, this.manager);
+                this.nextInterest = nextDue(this.nextInterest, this.interestSeconds, now);
+                this.schedule(INTEREST, this.nextInterest);
+            }
+        }
+        this.saveLater();
+    }
+
+    private void pay(@NotNull PaymentBatch batch, @NotNull StandingOrder order, @NotNull Map<String, Account> accounts,
+                     long now) {
+        StandingOrder.Outcome outcome;
+        try {
+            outcome = order.pay(batch, accounts);
+        } catch (RuntimeException e) {
+            e.printStackTrace();
+            outcome = StandingOrder.Outcome.FAILED;
+        }
+        if (outcome == StandingOrder.Outcome.MISSING) {
+            this.orders.remove(order.getId());
+            this.reporter.accept("Standing order " + order.getId() + " was removed as one of its accounts no longer exists");
+            return;
+        }
+        if (outcome == StandingOrder.Outcome.FAILED) {
+            this.reporter.accept("Standing order " + order.getId() + " from " + order.getFromKey() + " could not be paid");
+        }
+        order.setNextDue(nextDue(order.getNextDue(), order.getIntervalSeconds(), now));
+        this.schedule(order.getId(), order.getNextDue());
+    }
+
+    private void payInterest(@NotNull PaymentBatch batch, @NotNull AccountInterfaceManager manager) {
+        for (PlayerAccount player : manager.getPlayerAccounts()) {
+            for (PlayerBankAccount bank : player.getBanks()) {
+                if (!(bank instanceof EcoBankAccount ecoBank)) {
+                    continue;
+                }
+                Optional<BigDecimal> opRate = ecoBank.getInterestRate();
+                if (opRate.isEmpty()) {
+                    continue;
+                }
+                new HashMap<>(ecoBank.getBalances()).forEach((currency, balance) -> {
+                    BigDecimal interest = balance.multiply(opRate.get()).divide(HUNDRED, balance.scale() + 4, RoundingMode.DOWN);
+                    if (interest.signum() <= 0) {
+                        return;
+                    }
+                    Optional<SingleTransactionResult> result = batch.apply(ecoBank, JobPayment.deposit(new PaymentBuilder()
+                            .setCurrency(currency)
+                            .setAmount(interest)
+                            .setReason("Interest")
+                            .build(EcoToolPlugin.getInstance())));
+                    if (result.isPresent() && !(result.get() instanceof FailedTransactionResult)) {
+                        MoneySupply.recordMintedCurrent(currency, interest);
+                    }
+                });
+            }
+        }
+    }
+
+    private void schedule(@NotNull UUID id, long due) {
+        if (this.wheel == null) {
+            return;
+        }
+        this.timers.put(id, this.wheel.schedule(due, id));
+    }
+
+    /**
+     * The first time after now that lands on the schedule, so missed runs are paid once rather than once each
+     */
+    static long nextDue(long due, long interval, long now) {
+        if (due > now) {
+            return due + interval;
+        }
+        long missed = (now - due) / interval;
+        return due + (missed + 1) * interval;
+    }
+
+    private void load(@NotNull CurrencyRegistry registry, long now, long interestHours) {
+        this.orders.clear();
+        this.timers.clear();
+        this.wheel = new HierarchicalTimerWheel<>(6, 4, now);
+        YamlConfiguration configuration = YamlConfiguration.loadConfiguration(this.file);
+        ConfigurationSection section = configuration.getConfigurationSection(ORDERS);
+        if (section != null) {
+            for (String idString : section.getKeys(false)) {
+                ConfigurationSection orderSection = section.getConfigurationSection(idString);
+                if (orderSection == null) {
+                    continue;
+                }
+                try {
+                    StandingOrder order = readOrder(UUID.fromString(idString), orderSection, registry);
+                    this.orders.put(order.getId(), order);
+                    this.schedule(order.getId(), order.getNextDue());
+                } catch (IOException | IllegalArgumentException e) {
+                    EcoToolPlugin.getInstance().getLogger().warning("Could not load standing order " + idString + ": " + e.getMessage());
+                }
+            }
+        }
+        if (interestHours <= 0) {
+            return;
+        }
+        this.interestSeconds = TimeUnit.HOURS.toSeconds(interestHours);
+        this.nextInterest = configuration.getLong(NEXT_INTEREST, now + this.interestSeconds);
+        this.schedule(INTEREST, this.nextInterest);
+    }
+
+    private static @NotNull StandingOrder readOrder(@NotNull UUID id,
+                                                    @NotNull ConfigurationSection section,
+                                                    @NotNull CurrencyRegistry registry) throws IOException {
+        String from = section.getString("from");
+        String to = section.getString("to");
+        if (from == null || to == null) {
+            throw new IOException("Accounts are missing");
+        }
+        Optional<Currency<?>> opCurrency = registry.get(section.getString("currency.plugin", ""),
+                section.getString("currency.name", ""));
+        if (opCurrency.isEmpty()) {
+            throw new IOException("Currency is no longer active");
+        }
+        return new StandingOrder(id, from, to, opCurrency.get(), BigDecimal.valueOf(section.getDouble("amount")),
+                section.getLong("interval"), section.getString("reason", StandingOrder.DEFAULT_REASON),
+                section.getLong("next"));
+    }
+
+    /**
+     * Saves on the next tick, along with any other change made before then. Saves now if not started
+     */
+    private void saveLater() {
+        Plugin owner = this.plugin;
+        if (owner == null) {
+            this.save();
+            return;
+        }
+        if (this.saveScheduled) {
+            return;
+        }
+        this.saveScheduled = true;
+        Bukkit.getScheduler().runTask(owner, this::save);
+    }
+
+    /**
+     * Writes the schedule now
+     */
+    public synchronized void save() {
+        this.saveScheduled = false;
+        YamlConfiguration configuration = new YamlConfiguration();
+        if (this.timers.containsKey(INTEREST)) {
+            configuration.set(NEXT_INTEREST, this.nextInterest);
+        }
+        for (StandingOrder order : this.orders.values()) {
+            String key = ORDERS + "." + order.getId();
+            configuration.set(key + ".from", order.getFromKey());
+            configuration.set(key + ".to", order.getToKey());
+            configuration.set(key + ".currency.plugin", order.getCurrency().getPlugin().getName());
+            configuration.set(key + ".currency.name", order.getCurrency().getKeyName());
+            configuration.set(key + ".amount", order.getAmount().doubleValue());
+            configuration.set(key + ".interval", order.getIntervalSeconds());
+            configuration.set(key + ".reason", order.getReason());
+            configuration.set(key + ".next", order.getNextDue());
+        }
+        try {
+            configuration.save(this.file);
+        } catch (IOException e) {
+            e.printStackTrace();
+        }
+    }
+
+    private static long now() {
+        return Instant.now().getEpochSecond();
+    }
+}
@@ -0,0 +1,146 @@
+package org.kaiaccount.account.eco.schedule;
+
+import org.jetbrains.annotations.NotNull;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.eco.job.JobPayment;
+import org.kaiaccount.account.eco.job.PaymentBatch;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.AccountSynced;
+import org.kaiaccount.account.inter.type.named.NamedAccountLike;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+/**
+ * A payment from one account to another, repeated every interval until cancelled.
+ * <p>
+ * Accounts are held by their {@link org.kaiaccount.account.eco.account.AccountKeys key} so an order can be written to
+ * disk and found again after a restart.
+ */
+public class StandingOrder {
+
+    public static final String DEFAULT_REASON = "Standing order";
+
+    public enum Outcome {
+        PAID,
+        FAILED,
+        MISSING
+    }
+
+    private final @NotNull UUID id;
+    private final @NotNull String fromKey;
+    private final @NotNull String toKey;
+    private final @NotNull Currency<?> currency;
+    private final @NotNull BigDecimal amount;
+    private final long intervalSeconds;
+    private final @NotNull String reason;
+    private long nextDue;
+
+    public StandingOrder(@NotNull UUID id,
+                         @NotNull String fromKey,
+                         @NotNull String toKey,
+                         @NotNull Currency<?> currency,
+                         @NotNull BigDecimal amount,
+                         long intervalSeconds,
+                         @NotNull String reason,
+                         long nextDue) {
+        if (intervalSeconds <= 0) {
+            throw new IllegalArgumentException("Interval must be more then 0");
+        }
+        this.id = id;
+        this.fromKey = fromKey;
+        this.toKey = toKey;
+        this.currency = currency;
+        this.amount = amount;
+        this.intervalSeconds = intervalSeconds;
+        this.reason = reason;
+        this.nextDue = nextDue;
+    }
+
+    public @NotNull UUID getId() {
+        return this.id;
+    }
+
+    public @NotNull String getFromKey() {
+        return this.fromKey;
+    }
+
+    public @NotNull String getToKey() {
+        return this.toKey;
+    }
+
+    public @NotNull Currency<?> getCurrency() {
+        return this.currency;
+    }
+
+    public @NotNull BigDecimal getAmount() {
+        return this.amount;
+    }
+
+    public long getIntervalSeconds() {
+        return this.intervalSeconds;
+    }
+
+    public @NotNull String getReason() {
+        return this.reason;
+    }
+
+    /**
+     * @return When the order is next paid, in epoch seconds
+     */
+    public long getNextDue() {
+        return this.nextDue;
+    }
+
+    void setNextDue(long nextDue) {
+        this.nextDue = nextDue;
+    }
+
+    /**
+     * Moves money from one account to the other. If the deposit fails, the withdrawn money is given back
+     *
+     * @param batch    The batch to pay within
+     * @param accounts The accounts due to be paid this tick, by key
+     * @return {@link Outcome#MISSING} if either account no longer exists
+     */
+    @NotNull Outcome pay(@NotNull PaymentBatch batch, @NotNull Map<String, Account> accounts) {
+        Account from = accounts.get(this.fromKey);
+        Account to = accounts.get(this.toKey);
+        if (from == null || to == null) {
+            return Outcome.MISSING;
+        }
+        if (!(from instanceof AccountSynced) || !(to instanceof AccountSynced)) {
+            return Outcome.FAILED;
+        }
+        PaymentBuilder builder = new PaymentBuilder()
+                .setCurrency(this.currency)
+                .setAmount(this.amount)
+                .setReason(this.reason);
+        Payment withdraw = builder.build(EcoToolPlugin.getInstance());
+        if (failed(batch.apply(from, JobPayment.withdraw(withdraw)))) {
+            return Outcome.FAILED;
+        }
+        if (from instanceof NamedAccountLike named) {
+            builder.setFrom(named);
+        }
+        Optional<SingleTransactionResult> deposit = batch.apply(to, JobPayment.deposit(builder.build(EcoToolPlugin.getInstance())));
+        if (failed(deposit)) {
+            batch.apply(from, JobPayment.deposit(withdraw));
+            return Outcome.FAILED;
+        }
+        MoneySupply.recordTransferCurrent(deposit.get());
+        return Outcome.PAID;
+    }
+
+    private static boolean failed(@NotNull Optional<SingleTransactionResult> result) {
+        return result.isEmpty() || result.get() instanceof FailedTransactionResult;
+    }
+}
@@ -0,0 +1,167 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayList;
+import java.util.List;
+
+/**
+ * Timers held in a hierarchy of wheels, so scheduling and firing are constant time no matter how many are pending.
+ * <p>
+ * Level 0 has one slot per tick. Each level above has slots as wide as a full turn of the level below. A timer is put
+ * in the lowest level its delay fits in, and is moved down a level each time the wheel above it turns over, until it
+ * fires from level 0. Timers due further out than the top level can reach wait in an overflow list. Every timer due
+ * on the same tick is returned together by {@link #advance(long)}.
+ *
+ * <p>This is not thread safe.
+ *
+ * @param <T> The value held by each timer
+ */
+public class HierarchicalTimerWheel<T> {
+
+    public static final class Timer<T> {
+
+        private final long due;
+        private final @NotNull T value;
+        private boolean cancelled;
+
+        private Timer(long due, @NotNull T value) {
+            this.due = due;
+            this.value = value;
+        }
+
+        public long getDue() {
+            return this.due;
+        }
+
+        public @NotNull T getValue() {
+            return this.value;
+        }
+
+        public boolean isCancelled() {
+            return this.cancelled;
+        }
+    }
+
+    private final int bits;
+    private final int mask;
+    private final List<Timer<T>>[][] wheels;
+    private final List<Timer<T>> overflow = new ArrayList<>();
+    private long current;
+    private int size;
+
+    /**
+     * @param slotBits Each wheel has 2^slotBits slots
+     * @param levels   How many wheels there are
+     * @param start    The tick the wheel starts at
+     */
+    @SuppressWarnings("unchecked")
+    public HierarchicalTimerWheel(int slotBits, int levels, long start) {
+        if (slotBits < 1 || levels < 1 || slotBits * levels > 62) {
+            throw new IllegalArgumentException("Wheel of " + levels + " levels of " + slotBits + " bits is not supported");
+        }
+        this.bits = slotBits;
+        this.mask = (1 << slotBits) - 1;
+        this.wheels = new List[levels][1 << slotBits];
+        this.current = start;
+    }
+
+    public long getCurrent() {
+        return this.current;
+    }
+
+    public int size() {
+        return this.size;
+    }
+
+    /**
+     * @param due   The tick to fire on. Ticks already passed fire on the next advance
+     * @param value The value to return when it fires
+     * @return The timer, which can be cancelled
+     */
+    public @NotNull Timer<T> schedule(long due, @NotNull T value) {
+        Timer<T> timer = new Timer<>(Math.max(due, this.current + 1), value);
+        this.place(timer);
+        this.size++;
+        return timer;
+    }
+
+    public void cancel(@NotNull Timer<T> timer) {
+        if (timer.cancelled) {
+            return;
+        }
+        timer.cancelled = true;
+        this.size--;
+    }
+
+    /**
+     * Moves the wheel forward to a tick
+     *
+     * @param to The tick to move to
+     * @return The values of every timer due up to and including that tick, in the order they were due
+     */
+    public @NotNull List<T> advance(long to) {
+        List<T> fired = new ArrayList<>();
+        while (this.current < to) {
+            if (this.size == 0) {
+                this.current = to;
+                break;
+            }
+            this.current++;
+            this.cascade();
+            List<Timer<T>> slot = this.wheels[0][(int) (this.current & this.mask)];
+            if (slot == null || slot.isEmpty()) {
+                continue;
+            }
+            this.wheels[0][(int) (this.current & this.mask)] = null;
+            for (Timer<T> timer : slot) {
+                if (timer.cancelled) {
+                    continue;
+                }
+                timer.cancelled = true;
+                this.size--;
+                fired.add(timer.value);
+            }
+        }
+        return fired;
+    }
+
+    private void cascade() {
+        for (int level = 1; level < this.wheels.length; level++) {
+            if (((this.current >> (this.bits * (level - 1))) & this.mask) != 0) {
+                return;
+            }
+            int index = (int) ((this.current >> (this.bits * level)) & this.mask);
+            List<Timer<T>> slot = this.wheels[level][index];
+            this.wheels[level][index] = null;
+            if (slot != null) {
+                slot.forEach(this::place);
+            }
+        }
+        if ((this.current & ((1L << (this.bits * this.wheels.length)) - 1)) == 0 && !this.overflow.isEmpty()) {
+            List<Timer<T>> waiting = new ArrayList<>(this.overflow);
+            this.overflow.clear();
+            waiting.forEach(this::place);
+        }
+    }
+
+    private void place(@NotNull Timer<T> timer) {
+        if (timer.cancelled) {
+            return;
+        }
+        long delay = timer.due - this.current;
+        for (int level = 0; level < this.wheels.length; level++) {
+            if (delay < (1L << (this.bits * (level + 1)))) {
+                int index = (int) ((timer.due >> (this.bits * level)) & this.mask);
+                List<Timer<T>> slot = this.wheels[level][index];
+                if (slot == null) {
+                    slot = new ArrayList<>();
+                    this.wheels[level][index] = slot;
+                }
+                slot.add(timer);
+                return;
+            }
+        }
+        this.overflow.add(timer);
+    }
+}
@@ -0,0 +1,158 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.ArrayDeque;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Deque;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ConcurrentSkipListMap;
+import java.util.function.Predicate;
+
+/**
+ * A case-insensitive prefix tree that is safe to read while it is being changed.
+ * <p>
+ * Each value is stored under one or more keys, with the key kept in its original case so it can be shown as a
+ * suggestion. Lookups by prefix walk only the matching branch and stop once the limit is reached, returning keys in
+ * alphabetical order. Branches left without values by a removal are pruned, so a search never walks branches of keys
+ * that have since been removed. Changes are made one at a time, while reads go on without waiting.
+ *
+ * @param <V> The type of value
+ */
+public class PrefixTrie<V> {
+
+    private final @NotNull Node<V> root = new Node<>();
+
+    public synchronized void put(@NotNull String key, @NotNull V value) {
+        Node<V> node = this.root;
+        String lower = key.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length(); i++) {
+            node = node.children.computeIfAbsent(lower.charAt(i), c -> new Node<>());
+        }
+        node.values.put(value, key);
+    }
+
+    public synchronized void remove(@NotNull String key, @NotNull V value) {
+        String lower = key.toLowerCase(Locale.ROOT);
+        List<Node<V>> path = new ArrayList<>(lower.length() + 1);
+        Node<V> node = this.root;
+        path.add(node);
+        for (int i = 0; i < lower.length(); i++) {
+            node = node.children.get(lower.charAt(i));
+            if (node == null) {
+                return;
+            }
+            path.add(node);
+        }
+        node.values.remove(value);
+        for (int i = lower.length(); i > 0; i--) {
+            Node<V> child = path.get(i);
+            if (!child.values.isEmpty() || !child.children.isEmpty()) {
+                return;
+            }
+            path.get(i - 1).children.remove(lower.charAt(i - 1), child);
+        }
+    }
+
+    public @NotNull Collection<V> get(@NotNull String key) {
+        Node<V> node = this.find(key);
+        if (node == null) {
+            return Collections.emptySet();
+        }
+        return Collections.unmodifiableSet(node.values.keySet());
+    }
+
+    public @NotNull List<String> suggest(@NotNull String prefix, int limit) {
+        return this.suggest(prefix, limit, value -> true);
+    }
+
+    public @NotNull List<String> suggest(@NotNull String prefix, int limit, @NotNull Predicate<? super V> filter) {
+        List<String> keys = new ArrayList<>();
+        this.search(prefix, limit, filter, (key, value) -> keys.add(key));
+        return keys;
+    }
+
+    public @NotNull List<V> search(@NotNull String prefix, int limit, @NotNull Predicate<? super V> filter) {
+        List<V> values = new ArrayList<>();
+        this.search(prefix, limit, filter, (key, value) -> values.add(value));
+        return values;
+    }
+
+    private void search(@NotNull String prefix, int limit, @NotNull Predicate<? super V> filter,
+                        @NotNull Found<V> found) {
+        Node<V> start = this.find(prefix);
+        if (start == null || limit <= 0) {
+            return;
+        }
+        int count = 0;
+        Deque<Iterator<Node<V>>> stack = new ArrayDeque<>();
+        Node<V> node = start;
+        while (true) {
+            for (Map.Entry<V, String> entry : node.values.entrySet()) {
+                if (!filter.test(entry.getKey())) {
+                    continue;
+                }
+                found.accept(entry.getValue(), entry.getKey());
+                count++;
+                if (count >= limit) {
+                    return;
+                }
+            }
+            stack.push(node.children.values().iterator());
+            node = null;
+            while (!stack.isEmpty()) {
+                Iterator<Node<V>> iterator = stack.peek();
+                if (iterator.hasNext()) {
+                    node = iterator.next();
+                    break;
+                }
+                stack.pop();
+            }
+            if (node == null) {
+                return;
+            }
+        }
+    }
+
+    /**
+     * @return The number of nodes, including the root
+     */
+    int countNodes() {
+        int count = 0;
+        Deque<Node<V>> stack = new ArrayDeque<>();
+        stack.push(this.root);
+        while (!stack.isEmpty()) {
+            Node<V> node = stack.pop();
+            count++;
+            node.children.values().forEach(stack::push);
+        }
+        return count;
+    }
+
+    private Node<V> find(@NotNull String key) {
+        Node<V> node = this.root;
+        String lower = key.toLowerCase(Locale.ROOT);
+        for (int i = 0; i < lower.length() && node != null; i++) {
+            node = node.children.get(lower.charAt(i));
+        }
+        return node;
+    }
+
+    private interface Found<V> {
+
+        void accept(String key, V value);
+    }
+
+    private static final class Node<V> {
+
+        private final Map<Character, Node<V>> children = new ConcurrentSkipListMap<>();
+        private final Map<V, String> values = new ConcurrentHashMap<>();
+
+    }
+}
@@ -0,0 +1,180 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ThreadLocalRandom;
+
+/**
+ * A sorted set that can also find the position of a value, and the value at a position, in O(log n).
+ * <p>
+ * This is a treap where every node knows the size of its subtree. The comparator must give a total order, values
+ * that compare as equal are treated as the same value. This is not thread safe.
+ *
+ * @param <E> The value type
+ */
+public class RankedTree<E> {
+
+    private final @NotNull Comparator<? super E> comparator;
+    private @Nullable Node<E> root;
+
+    public RankedTree(@NotNull Comparator<? super E> comparator) {
+        this.comparator = comparator;
+    }
+
+    public int size() {
+        return size(this.root);
+    }
+
+    public boolean isEmpty() {
+        return this.root == null;
+    }
+
+    public boolean add(@NotNull E value) {
+        if (this.indexOf(value) != -1) {
+            return false;
+        }
+        Split<E> split = this.split(this.root, value);
+        this.root = merge(merge(split.lower(), new Node<>(value)), split.higher());
+        return true;
+    }
+
+    public boolean remove(@NotNull E value) {
+        int before = this.size();
+        this.root = this.remove(this.root, value);
+        return before != this.size();
+    }
+
+    /**
+     * @return The number of values before this value, or -1 if the value is not held
+     */
+    public int indexOf(@NotNull E value) {
+        int index = 0;
+        Node<E> node = this.root;
+        while (node != null) {
+            int compare = this.comparator.compare(value, node.value);
+            if (compare < 0) {
+                node = node.left;
+            } else if (compare > 0) {
+                index += size(node.left) + 1;
+                node = node.right;
+            } else {
+                return index + size(node.left);
+            }
+        }
+        return -1;
+    }
+
+    public @NotNull E get(int index) {
+        if (index < 0 || index >= this.size()) {
+            throw new IndexOutOfBoundsException("Index " + index + " out of bounds for size " + this.size());
+        }
+        Node<E> node = this.root;
+        while (true) {
+            int leftSize = size(node.left);
+            if (index < leftSize) {
+                node = node.left;
+            } else if (index > leftSize) {
+                index -= leftSize + 1;
+                node = node.right;
+            } else {
+                return node.value;
+            }
+        }
+    }
+
+    /**
+     * @param from   The index of the first value
+     * @param amount The most values to return
+     * @return The values from the index onwards, in order
+     */
+    public @NotNull List<E> range(int from, int amount) {
+        int to = Math.min(this.size(), from + amount);
+        List<E> values = new ArrayList<>(Math.max(0, to - from));
+        for (int index = Math.max(0, from); index < to; index++) {
+            values.add(this.get(index));
+        }
+        return values;
+    }
+
+    public void clear() {
+        this.root = null;
+    }
+
+    private @Nullable Node<E> remove(@Nullable Node<E> node, @NotNull E value) {
+        if (node == null) {
+            return null;
+        }
+        int compare = this.comparator.compare(value, node.value);
+        if (compare == 0) {
+            return merge(node.left, node.right);
+        }
+        if (compare < 0) {
+            node.left = this.remove(node.left, value);
+        } else {
+            node.right = this.remove(node.right, value);
+        }
+        node.update();
+        return node;
+    }
+
+    private @NotNull Split<E> split(@Nullable Node<E> node, @NotNull E value) {
+        if (node == null) {
+            return new Split<>(null, null);
+        }
+        if (this.comparator.compare(node.value, value) < 0) {
+            Split<E> split = this.split(node.right, value);
+            node.right = split.lower();
+            node.update();
+            return new Split<>(node, split.higher());
+        }
+        Split<E> split = this.split(node.left, value);
+        node.left = split.higher();
+        node.update();
+        return new Split<>(split.lower(), node);
+    }
+
+    private static <E> @Nullable Node<E> merge(@Nullable Node<E> lower, @Nullable Node<E> higher) {
+        if (lower == null) {
+            return higher;
+        }
+        if (higher == null) {
+            return lower;
+        }
+        if (lower.priority > higher.priority) {
+            lower.right = merge(lower.right, higher);
+            lower.update();
+            return lower;
+        }
+        higher.left = merge(lower, higher.left);
+        higher.update();
+        return higher;
+    }
+
+    private static int size(@Nullable Node<?> node) {
+        return node == null ? 0 : node.size;
+    }
+
+    private record Split<E>(@Nullable Node<E> lower, @Nullable Node<E> higher) {
+    }
+
+    private static final class Node<E> {
+
+        private final E value;
+        private final int priority = ThreadLocalRandom.current().nextInt();
+        private int size = 1;
+        private Node<E> left;
+        private Node<E> right;
+
+        private Node(E value) {
+            this.value = value;
+        }
+
+        private void update() {
+            this.size = 1 + RankedTree.size(this.left) + RankedTree.size(this.right);
+        }
+    }
+}
@@ -6,6 +6,7 @@ import java.util.Collection;
 import java.util.Collections;
 import java.util.Comparator;
 import java.util.LinkedList;
+import java.util.ListIterator;
 import java.util.function.UnaryOperator;
 
 public class SortedList<Value> extends LinkedList<Value> {
@@ -24,16 +25,17 @@ public class SortedList<Value> extends LinkedList<Value> {
 
     @Override
     public boolean add(Value value) {
-        //this can be better with a binary search
-        for (int i = 0; i < size(); i++) {
-            Value targetValue = this.get(i);
-            int current = this.compare.compare(targetValue, value);
-            if (current <= 1) {
-                super.add(i, value);
+        //values are mostly added in order, so search from the end
+        ListIterator<Value> iterator = this.listIterator(this.size());
+        while (iterator.hasPrevious()) {
+            if (this.compare.compare(iterator.previous(), value) <= 0) {
+                iterator.next();
+                iterator.add(value);
                 return true;
             }
         }
-        return super.add(value);
+        super.add(0, value);
+        return true;
     }
 
     @Override
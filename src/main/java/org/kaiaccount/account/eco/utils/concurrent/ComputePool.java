@@ -0,0 +1,107 @@
+package org.kaiaccount.account.eco.utils.concurrent;
+
+import org.jetbrains.annotations.NotNull;
+
+import java.util.Collection;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinWorkerThread;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+/**
+ * The executor EcoTools uses for work that is actually worth running in parallel.
+ * <p>
+ * Collections smaller than the parallel threshold are streamed sequentially on the calling thread, anything larger is
+ * streamed in parallel inside this pool rather than the JVM wide common pool that every other plugin shares.
+ */
+public class ComputePool {
+
+    public static final int DEFAULT_PARALLEL_THRESHOLD = 512;
+    public static final String THREAD_PREFIX = "EcoTools-Compute-";
+
+    private static volatile ComputePool instance;
+
+    private final @NotNull ForkJoinPool pool;
+    private final int parallelThreshold;
+
+    public ComputePool(int threads, int parallelThreshold) {
+        if (threads < 1) {
+            throw new IllegalArgumentException("Compute pool requires at least one thread");
+        }
+        this.parallelThreshold = Math.max(1, parallelThreshold);
+        this.pool = new ForkJoinPool(threads, ComputePool::newThread, null, false);
+    }
+
+    private static ForkJoinWorkerThread newThread(ForkJoinPool pool) {
+        ForkJoinWorkerThread thread = ForkJoinPool.defaultForkJoinWorkerThreadFactory.newThread(pool);
+        thread.setName(THREAD_PREFIX + thread.getPoolIndex());
+        thread.setDaemon(true);
+        return thread;
+    }
+
+    public int getParallelism() {
+        return this.pool.getParallelism();
+    }
+
+    public int getParallelThreshold() {
+        return this.parallelThreshold;
+    }
+
+    public boolean isParallel(@NotNull Collection<?> collection) {
+        return collection.size() >= this.parallelThreshold && this.pool.getParallelism() > 1;
+    }
+
+    public <T, R> R compute(@NotNull Collection<T> source, @NotNull Function<Stream<T>, R> function) {
+        if (!this.isParallel(source)) {
+            return function.apply(source.stream());
+        }
+        if (isWorkerOf(this.pool)) {
+            return function.apply(source.parallelStream());
+        }
+        return this.pool.submit(() -> function.apply(source.parallelStream())).join();
+    }
+
+    public void execute(@NotNull Runnable runnable) {
+        this.pool.execute(runnable);
+    }
+
+    public void shutdown() {
+        this.pool.shutdown();
+    }
+
+    private static boolean isWorkerOf(@NotNull ForkJoinPool pool) {
+        return Thread.currentThread() instanceof ForkJoinWorkerThread worker && worker.getPool() == pool;
+    }
+
+    public static @NotNull ComputePool getInstance() {
+        ComputePool pool = instance;
+        if (pool != null) {
+            return pool;
+        }
+        synchronized (ComputePool.class) {
+            if (instance == null) {
+                instance = new ComputePool(defaultThreads(), DEFAULT_PARALLEL_THRESHOLD);
+            }
+            return instance;
+        }
+    }
+
+    public static synchronized void configure(int threads, int parallelThreshold) {
+        ComputePool previous = instance;
+        instance = new ComputePool(threads <= 0 ? defaultThreads() : threads, parallelThreshold);
+        if (previous != null) {
+            previous.shutdown();
+        }
+    }
+
+    public static synchronized void close() {
+        if (instance != null) {
+            instance.shutdown();
+            instance = null;
+        }
+    }
+
+    public static int defaultThreads() {
+        return Math.max(1, Math.min(4, Runtime.getRuntime().availableProcessors() / 2));
+    }
+}
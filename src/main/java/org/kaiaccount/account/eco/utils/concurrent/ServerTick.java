@@ -0,0 +1,41 @@
+package org.kaiaccount.account.eco.utils.concurrent;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitTask;
+import org.jetbrains.annotations.NotNull;
+
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * A tick counter that can be read from any thread
+ */
+public final class ServerTick {
+
+    private static final AtomicLong TICK = new AtomicLong();
+    private static volatile BukkitTask task;
+
+    private ServerTick() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static long getCurrentTick() {
+        return TICK.get();
+    }
+
+    public static boolean isTicking() {
+        return task != null;
+    }
+
+    public static synchronized void start(@NotNull Plugin plugin) {
+        stop();
+        task = Bukkit.getScheduler().runTaskTimer(plugin, TICK::incrementAndGet, 1, 1);
+    }
+
+    public static synchronized void stop() {
+        if (task != null) {
+            task.cancel();
+            task = null;
+        }
+    }
+}
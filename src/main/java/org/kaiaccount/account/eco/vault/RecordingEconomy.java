@@ -0,0 +1,367 @@
+package org.kaiaccount.account.eco.vault;
+
+import net.milkbowl.vault.economy.Economy;
+import net.milkbowl.vault.economy.EconomyResponse;
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.RegisteredServiceProvider;
+import org.bukkit.plugin.ServicePriority;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.account.player.PlayerLookups;
+
+import java.util.List;
+import java.util.UUID;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Supplier;
+
+/**
+ * Sits in front of the Vault economy registered by AccountInterface, counting the calls plugins make most and
+ * resolving player names through {@link EcoManager#getPlayerAccountByName(String)}.
+ * <p>
+ * Calls by name are turned into the matching call by player, so the bridge finds the account through the uuid index
+ * rather than asking Bukkit for the name each time. Everything else is passed on as it is.
+ */
+@SuppressWarnings("deprecation")
+public class RecordingEconomy implements Economy {
+
+    public enum Call {
+        GET_BALANCE("getBalance"),
+        HAS("has"),
+        WITHDRAW_PLAYER("withdrawPlayer"),
+        DEPOSIT_PLAYER("depositPlayer");
+
+        private final @NotNull String displayName;
+
+        Call(@NotNull String displayName) {
+            this.displayName = displayName;
+        }
+
+        public @NotNull String getDisplayName() {
+            return this.displayName;
+        }
+    }
+
+    private final @NotNull Economy economy;
+    private final LongAdder[] calls = adders();
+    private final LongAdder[] hits = adders();
+    private final LongAdder[] nanos = adders();
+
+    public RecordingEconomy(@NotNull Economy economy) {
+        this.economy = economy;
+    }
+
+    public @NotNull Economy getEconomy() {
+        return this.economy;
+    }
+
+    /**
+     * @param call The call
+     * @return How many times it was made, how many found the account already loaded and the time spent
+     */
+    public @NotNull PlayerLookups.Stats getStats(@NotNull Call call) {
+        return new PlayerLookups.Stats(this.calls[call.ordinal()].sum(), this.hits[call.ordinal()].sum(),
+                this.nanos[call.ordinal()].sum());
+    }
+
+    /**
+     * Registers in front of the economy currently provided to Vault
+     *
+     * @param plugin The plugin to register under
+     * @return The registered economy, or null if there was no economy to sit in front of
+     */
+    public static @Nullable RecordingEconomy register(@NotNull Plugin plugin) {
+        RegisteredServiceProvider<Economy> registration = Bukkit.getServicesManager().getRegistration(Economy.class);
+        if (registration == null) {
+            return null;
+        }
+        if (registration.getProvider() instanceof RecordingEconomy recording) {
+            return recording;
+        }
+        RecordingEconomy recording = new RecordingEconomy(registration.getProvider());
+        Bukkit.getServicesManager().register(Economy.class, recording, plugin, ServicePriority.Highest);
+        return recording;
+    }
+
+    /**
+     * @return The economy registered by {@link #register(Plugin)}, if Vault is being given it
+     */
+    public static @Nullable RecordingEconomy current() {
+        if (Bukkit.getServicesManager().load(Economy.class) instanceof RecordingEconomy recording) {
+            return recording;
+        }
+        return null;
+    }
+
+    private <T> T record(@NotNull Call call, boolean hit, @NotNull Supplier<T> run) {
+        long start = System.nanoTime();
+        try {
+            return run.get();
+        } finally {
+            this.calls[call.ordinal()].increment();
+            if (hit) {
+                this.hits[call.ordinal()].increment();
+            }
+            this.nanos[call.ordinal()].add(System.nanoTime() - start);
+        }
+    }
+
+    private static boolean isLoaded(@NotNull UUID player) {
+        return AccountInterface.getManager() instanceof EcoManager manager
+                && manager.getLoadedPlayerAccount(player).isPresent();
+    }
+
+    private static boolean isLoaded(@NotNull String name) {
+        return AccountInterface.getManager() instanceof EcoManager manager && manager
+                .getPlayerLookups()
+                .getUniqueId(name)
+                .flatMap(manager::getLoadedPlayerAccount)
+                .isPresent();
+    }
+
+    private @NotNull OfflinePlayer toPlayer(@NotNull String name) {
+        if (AccountInterface.getManager() instanceof EcoManager manager) {
+            return manager.getPlayerAccountByName(name).getPlayer();
+        }
+        return Bukkit.getOfflinePlayer(name);
+    }
+
+    @Override
+    public boolean isEnabled() {
+        return this.economy.isEnabled();
+    }
+
+    @Override
+    public String getName() {
+        return this.economy.getName();
+    }
+
+    @Override
+    public boolean hasBankSupport() {
+        return this.economy.hasBankSupport();
+    }
+
+    @Override
+    public int fractionalDigits() {
+        return this.economy.fractionalDigits();
+    }
+
+    @Override
+    public String format(double amount) {
+        return this.economy.format(amount);
+    }
+
+    @Override
+    public String currencyNamePlural() {
+        return this.economy.currencyNamePlural();
+    }
+
+    @Override
+    public String currencyNameSingular() {
+        return this.economy.currencyNameSingular();
+    }
+
+    @Override
+    public boolean hasAccount(String playerName) {
+        return this.economy.hasAccount(playerName);
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player) {
+        return this.economy.hasAccount(player);
+    }
+
+    @Override
+    public boolean hasAccount(String playerName, String worldName) {
+        return this.economy.hasAccount(playerName, worldName);
+    }
+
+    @Override
+    public boolean hasAccount(OfflinePlayer player, String worldName) {
+        return this.economy.hasAccount(player, worldName);
+    }
+
+    @Override
+    public double getBalance(String playerName) {
+        return this.record(Call.GET_BALANCE, isLoaded(playerName),
+                () -> this.economy.getBalance(this.toPlayer(playerName)));
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player) {
+        return this.record(Call.GET_BALANCE, isLoaded(player.getUniqueId()), () -> this.economy.getBalance(player));
+    }
+
+    @Override
+    public double getBalance(String playerName, String world) {
+        return this.record(Call.GET_BALANCE, isLoaded(playerName),
+                () -> this.economy.getBalance(this.toPlayer(playerName), world));
+    }
+
+    @Override
+    public double getBalance(OfflinePlayer player, String world) {
+        return this.record(Call.GET_BALANCE, isLoaded(player.getUniqueId()),
+                () -> this.economy.getBalance(player, world));
+    }
+
+    @Override
+    public boolean has(String playerName, double amount) {
+        return this.record(Call.HAS, isLoaded(playerName), () -> this.economy.has(this.toPlayer(playerName), amount));
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, double amount) {
+        return this.record(Call.HAS, isLoaded(player.getUniqueId()), () -> this.economy.has(player, amount));
+    }
+
+    @Override
+    public boolean has(String playerName, String worldName, double amount) {
+        return this.record(Call.HAS, isLoaded(playerName),
+                () -> this.economy.has(this.toPlayer(playerName), worldName, amount));
+    }
+
+    @Override
+    public boolean has(OfflinePlayer player, String worldName, double amount) {
+        return this.record(Call.HAS, isLoaded(player.getUniqueId()),
+                () -> this.economy.has(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, double amount) {
+        return this.record(Call.WITHDRAW_PLAYER, isLoaded(playerName),
+                () -> this.economy.withdrawPlayer(this.toPlayer(playerName), amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, double amount) {
+        return this.record(Call.WITHDRAW_PLAYER, isLoaded(player.getUniqueId()),
+                () -> this.economy.withdrawPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(String playerName, String worldName, double amount) {
+        return this.record(Call.WITHDRAW_PLAYER, isLoaded(playerName),
+                () -> this.economy.withdrawPlayer(this.toPlayer(playerName), worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse withdrawPlayer(OfflinePlayer player, String worldName, double amount) {
+        return this.record(Call.WITHDRAW_PLAYER, isLoaded(player.getUniqueId()),
+                () -> this.economy.withdrawPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, double amount) {
+        return this.record(Call.DEPOSIT_PLAYER, isLoaded(playerName),
+                () -> this.economy.depositPlayer(this.toPlayer(playerName), amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, double amount) {
+        return this.record(Call.DEPOSIT_PLAYER, isLoaded(player.getUniqueId()),
+                () -> this.economy.depositPlayer(player, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(String playerName, String worldName, double amount) {
+        return this.record(Call.DEPOSIT_PLAYER, isLoaded(playerName),
+                () -> this.economy.depositPlayer(this.toPlayer(playerName), worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse depositPlayer(OfflinePlayer player, String worldName, double amount) {
+        return this.record(Call.DEPOSIT_PLAYER, isLoaded(player.getUniqueId()),
+                () -> this.economy.depositPlayer(player, worldName, amount));
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, String player) {
+        return this.economy.createBank(name, player);
+    }
+
+    @Override
+    public EconomyResponse createBank(String name, OfflinePlayer player) {
+        return this.economy.createBank(name, player);
+    }
+
+    @Override
+    public EconomyResponse deleteBank(String name) {
+        return this.economy.deleteBank(name);
+    }
+
+    @Override
+    public EconomyResponse bankBalance(String name) {
+        return this.economy.bankBalance(name);
+    }
+
+    @Override
+    public EconomyResponse bankHas(String name, double amount) {
+        return this.economy.bankHas(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankWithdraw(String name, double amount) {
+        return this.economy.bankWithdraw(name, amount);
+    }
+
+    @Override
+    public EconomyResponse bankDeposit(String name, double amount) {
+        return this.economy.bankDeposit(name, amount);
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, String playerName) {
+        return this.economy.isBankOwner(name, playerName);
+    }
+
+    @Override
+    public EconomyResponse isBankOwner(String name, OfflinePlayer player) {
+        return this.economy.isBankOwner(name, player);
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, String playerName) {
+        return this.economy.isBankMember(name, playerName);
+    }
+
+    @Override
+    public EconomyResponse isBankMember(String name, OfflinePlayer player) {
+        return this.economy.isBankMember(name, player);
+    }
+
+    @Override
+    public List<String> getBanks() {
+        return this.economy.getBanks();
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName) {
+        return this.economy.createPlayerAccount(playerName);
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player) {
+        return this.economy.createPlayerAccount(player);
+    }
+
+    @Override
+    public boolean createPlayerAccount(String playerName, String worldName) {
+        return this.economy.createPlayerAccount(playerName, worldName);
+    }
+
+    @Override
+    public boolean createPlayerAccount(OfflinePlayer player, String worldName) {
+        return this.economy.createPlayerAccount(player, worldName);
+    }
+
+    private static @NotNull LongAdder[] adders() {
+        LongAdder[] adders = new LongAdder[Call.values().length];
+        for (int index = 0; index < adders.length; index++) {
+            adders[index] = new LongAdder();
+        }
+        return adders;
+    }
+}
@@ -0,0 +1,34 @@
+package org.kaiaccount.account.eco;
+
+import org.jetbrains.annotations.NotNull;
+import org.junit.jupiter.api.extension.AfterEachCallback;
+import org.junit.jupiter.api.extension.BeforeEachCallback;
+import org.junit.jupiter.api.extension.ExtensionContext;
+import org.kaiaccount.AccountInterface;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+/**
+ * Makes {@link AccountInterface#getManager()} return a new {@link EcoManager} for each test. Register it on a field
+ * with {@link org.junit.jupiter.api.extension.RegisterExtension}
+ */
+public class MockedManager implements BeforeEachCallback, AfterEachCallback {
+
+    private final EcoManager manager = new EcoManager();
+    private MockedStatic<AccountInterface> accountMocked;
+
+    public @NotNull EcoManager getManager() {
+        return this.manager;
+    }
+
+    @Override
+    public void beforeEach(ExtensionContext context) {
+        this.accountMocked = Mockito.mockStatic(AccountInterface.class);
+        this.accountMocked.when(AccountInterface::getManager).thenReturn(this.manager);
+    }
+
+    @Override
+    public void afterEach(ExtensionContext context) {
+        this.accountMocked.close();
+    }
+}
@@ -0,0 +1,70 @@
+package org.kaiaccount.account.eco;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
+import org.jetbrains.annotations.NotNull;
+import org.jetbrains.annotations.Nullable;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public final class Mocks {
+
+    private Mocks() {
+        throw new RuntimeException("Dont do that");
+    }
+
+    public static @NotNull Currency<?> currency(@NotNull String pluginName, @NotNull String keyName,
+                                                @NotNull String symbol) {
+        Plugin plugin = Mockito.mock(Plugin.class);
+        Mockito.when(plugin.getName()).thenReturn(pluginName);
+        Currency<?> currency = Mockito.mock(Currency.class);
+        Mockito.when(currency.getPlugin()).thenReturn(plugin);
+        Mockito.when(currency.getKeyName()).thenReturn(keyName);
+        Mockito.when(currency.getSymbol()).thenReturn(symbol);
+        return currency;
+    }
+
+    public static @NotNull Currency<?> currency(@NotNull String keyName) {
+        return currency("EcoTools", keyName, keyName);
+    }
+
+    public static @NotNull Currency<?> currency(@NotNull String keyName, @Nullable Double worth) {
+        Currency<?> currency = currency(keyName);
+        Mockito.when(currency.getWorth()).thenReturn(Optional.ofNullable(worth).map(BigDecimal::valueOf));
+        return currency;
+    }
+
+    /**
+     * A currency registered with the manager's currency registry
+     */
+    public static @NotNull Currency<?> currency(@NotNull EcoManager manager, @NotNull String keyName) {
+        Currency<?> currency = currency(keyName);
+        manager.getCurrencyRegistry().register(currency);
+        return currency;
+    }
+
+    public static @NotNull OfflinePlayer player(@NotNull UUID id, @Nullable String name) {
+        OfflinePlayer player = Mockito.mock(OfflinePlayer.class);
+        Mockito.when(player.getUniqueId()).thenReturn(id);
+        Mockito.when(player.getName()).thenReturn(name);
+        return player;
+    }
+
+    public static @NotNull PlayerAccount playerAccount(@NotNull UUID id) {
+        PlayerAccount account = Mockito.mock(PlayerAccount.class);
+        Mockito.when(account.getPlayer()).thenReturn(player(id, null));
+        return account;
+    }
+
+    public static @NotNull PlayerAccount playerAccount(@NotNull UUID id, @NotNull Map<Currency<?>, BigDecimal> balances) {
+        PlayerAccount account = playerAccount(id);
+        Mockito.when(account.getBalances()).thenReturn(balances);
+        return account;
+    }
+}
@@ -0,0 +1,80 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.AccountInterfaceManager;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.named.NamedAccount;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class AccountKeysTests {
+
+    @Test
+    public void canKeyBank() {
+        //setup
+        UUID owner = UUID.randomUUID();
+        PlayerAccount holder = Mocks.playerAccount(owner);
+        PlayerBankAccount bank = Mockito.mock(PlayerBankAccount.class);
+        Mockito.when(bank.getAccountHolder()).thenReturn(holder);
+        Mockito.when(bank.getAccountName()).thenReturn("savings");
+
+        //run
+        Optional<String> key = AccountKeys.toKey(bank);
+
+        //test
+        Assertions.assertEquals(Optional.of("bank:" + owner + ":savings"), key);
+    }
+
+    @Test
+    public void canResolveKeys() {
+        //setup
+        UUID id = UUID.randomUUID();
+        PlayerAccount player = Mocks.playerAccount(id);
+        Mockito.when(player.getBanks()).thenReturn(List.of());
+        NamedAccount named = Mockito.mock(NamedAccount.class);
+        Mockito.when(named.getAccountName()).thenReturn("server");
+        AccountInterfaceManager manager = Mockito.mock(AccountInterfaceManager.class);
+        Mockito.when(manager.getPlayerAccounts()).thenReturn(List.of(player));
+        Mockito.when(manager.getNamedAccounts()).thenReturn(List.of(named));
+
+        //run
+        Map<String, Account> found = AccountKeys.resolve(manager, List.of("player:" + id, "named:server", "named:gone"));
+
+        //test
+        Assertions.assertEquals(Map.of("player:" + id, player, "named:server", named), found);
+    }
+
+    @Test
+    public void canResolveKeysFromIndexes() {
+        //setup
+        UUID id = UUID.randomUUID();
+        PlayerAccount player = Mocks.playerAccount(id);
+        PlayerBankAccount bank = Mockito.mock(PlayerBankAccount.class);
+        Mockito.when(bank.getAccountHolder()).thenReturn(player);
+        Mockito.when(bank.getAccountName()).thenReturn("savings");
+        Mockito.when(player.getBanks()).thenReturn(List.of(bank));
+        Mockito.when(player.getBank("savings")).thenReturn(Optional.of(bank));
+        NamedAccount named = Mockito.mock(NamedAccount.class);
+        Mockito.when(named.getAccountName()).thenReturn("server");
+        EcoManager manager = new EcoManager();
+        manager.registerPlayerAccount(player);
+        manager.registerNamedAccount(named);
+
+        //run
+        Map<String, Account> found = AccountKeys.resolve(manager, List.of("player:" + id, "bank:" + id + ":savings",
+                "named:server", "named:gone", "player:" + UUID.randomUUID(), "player:not-a-uuid"));
+
+        //test
+        Assertions.assertEquals(Map.of("player:" + id, player, "bank:" + id + ":savings", bank, "named:server", named),
+                found);
+    }
+}
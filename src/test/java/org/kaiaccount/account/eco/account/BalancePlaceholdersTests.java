@@ -0,0 +1,100 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.placeholder.BalancePlaceholders;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class BalancePlaceholdersTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final BalancePlaceholders placeholders = new BalancePlaceholders();
+
+    @BeforeEach
+    public void setup() {
+        placeholders.start();
+    }
+
+    @AfterEach
+    public void close() {
+        placeholders.stop();
+    }
+
+    private Currency<?> mockCurrency(String keyName) {
+        Currency<?> currency = Mocks.currency(manager, keyName);
+        Mockito.when(currency.formatSymbol(Mockito.any())).thenAnswer(invocation -> "$" + invocation.getArgument(0));
+        return currency;
+    }
+
+    private PlayerAccount mockPlayer(UUID id, Map<Currency<?>, BigDecimal> balances) {
+        PlayerAccount account = Mocks.playerAccount(id, balances);
+        manager.registerPlayerAccount(account);
+        return account;
+    }
+
+    @Test
+    public void canFormatBalance() {
+        //setup
+        Currency<?> dollar = mockCurrency("dollar");
+        UUID id = UUID.randomUUID();
+        mockPlayer(id, Map.of(dollar, BigDecimal.TEN));
+
+        //run
+        Optional<String> balance = placeholders.getBalance(id, dollar);
+
+        //test
+        Assertions.assertEquals(Optional.of("$10"), balance);
+        Assertions.assertTrue(placeholders.getBalance(UUID.randomUUID(), dollar).isEmpty());
+    }
+
+    @Test
+    public void canFollowBalanceChanges() {
+        //setup
+        Currency<?> dollar = mockCurrency("dollar");
+        UUID id = UUID.randomUUID();
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.TEN));
+        PlayerAccount account = mockPlayer(id, map);
+        DenseBalances balances = new DenseBalances(account);
+        balances.load();
+        placeholders.getBalance(id, dollar);
+        map.put(dollar, BigDecimal.valueOf(25));
+
+        //run
+        balances.markChanged();
+
+        //test
+        Assertions.assertEquals(Optional.of("$25"), placeholders.getBalance(id, dollar));
+    }
+
+    @Test
+    public void canIgnoreOlderChanges() {
+        //setup
+        Currency<?> dollar = mockCurrency("dollar");
+        UUID id = UUID.randomUUID();
+        PlayerAccount account = mockPlayer(id, Map.of(dollar, BigDecimal.TEN));
+        placeholders.getBalance(id, dollar);
+        placeholders.onBalanceChange(account, dollar, BigDecimal.TEN, BigDecimal.valueOf(25), 5);
+
+        //run
+        placeholders.onBalanceChange(account, dollar, BigDecimal.TEN, BigDecimal.valueOf(7), 4);
+
+        //test
+        Assertions.assertEquals(Optional.of("$25"), placeholders.getBalance(id, dollar));
+    }
+}
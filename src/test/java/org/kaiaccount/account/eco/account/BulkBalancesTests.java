@@ -0,0 +1,106 @@
+package org.kaiaccount.account.eco.account;
+
+import org.bukkit.Bukkit;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.player.PlayerLookups;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+import java.util.UUID;
+
+public class BulkBalancesTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+
+    private PlayerAccount mockPlayer(UUID id, Map<Currency<?>, BigDecimal> balances) {
+        PlayerAccount account = Mocks.playerAccount(id, balances);
+        manager.registerPlayerAccount(account);
+        return account;
+    }
+
+    @Test
+    public void canReadLoadedAndUnloadedPlayers() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Currency<?> pound = Mocks.currency(manager, "pound");
+        UUID loaded = UUID.randomUUID();
+        UUID unloaded = UUID.randomUUID();
+        UUID unknown = UUID.randomUUID();
+        mockPlayer(loaded, Map.of(dollar, BigDecimal.TEN, pound, BigDecimal.ONE));
+
+        //run
+        Map<UUID, Map<Currency<?>, BigDecimal>> balances = BulkBalances.read(manager,
+                List.of(loaded, unloaded, unknown), null,
+                player -> player.equals(unloaded) ? Optional.of(Map.of(pound, BigDecimal.valueOf(5))) : Optional.empty());
+
+        //test
+        Assertions.assertEquals(List.of(loaded, unloaded), List.copyOf(balances.keySet()));
+        Assertions.assertEquals(Map.of(dollar, BigDecimal.TEN, pound, BigDecimal.ONE), balances.get(loaded));
+        Assertions.assertEquals(Map.of(pound, BigDecimal.valueOf(5)), balances.get(unloaded));
+    }
+
+    @Test
+    public void canFilterToOneCurrency() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Currency<?> pound = Mocks.currency(manager, "pound");
+        UUID loaded = UUID.randomUUID();
+        UUID unloaded = UUID.randomUUID();
+        mockPlayer(loaded, Map.of(dollar, BigDecimal.TEN, pound, BigDecimal.ONE));
+
+        //run
+        Map<UUID, Map<Currency<?>, BigDecimal>> balances = BulkBalances.read(manager, List.of(loaded, unloaded),
+                dollar, player -> Optional.of(Map.of(pound, BigDecimal.valueOf(5))));
+
+        //test
+        Assertions.assertEquals(Map.of(dollar, BigDecimal.TEN), balances.get(loaded));
+        Assertions.assertEquals(Map.of(), balances.get(unloaded));
+    }
+
+    @Test
+    public void canFindLoadedPlayerByUuid() {
+        //setup
+        UUID id = UUID.randomUUID();
+        PlayerAccount account = mockPlayer(id, Map.of());
+
+        //run
+        Optional<PlayerAccount> found = manager.getLoadedPlayerAccount(id);
+        manager.deregisterPlayerAccount(account);
+
+        //test
+        Assertions.assertEquals(Optional.of(account), found);
+        Assertions.assertTrue(manager.getLoadedPlayerAccount(id).isEmpty());
+    }
+
+    @Test
+    public void canFindCachedNameWithoutBukkit() {
+        //setup
+        UUID id = UUID.randomUUID();
+        PlayerAccount account = mockPlayer(id, Map.of());
+        manager.getPlayerLookups().updateName(id, "Notch");
+
+        //run
+        PlayerAccount found;
+        try (MockedStatic<Bukkit> bukkitMocked = Mockito.mockStatic(Bukkit.class)) {
+            found = manager.getPlayerAccountByName("notch");
+            bukkitMocked.verifyNoInteractions();
+        }
+
+        //test
+        Assertions.assertSame(account, found);
+        Assertions.assertEquals(1, manager.getPlayerLookups().getStats(PlayerLookups.Method.NAME).hits());
+    }
+}
@@ -0,0 +1,84 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.supply.CurrencyHolders;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+
+public class CurrencyHoldersTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final CurrencyHolders holders = new CurrencyHolders();
+
+    @AfterEach
+    public void close() {
+        holders.stop();
+    }
+
+    @Test
+    public void canFindHolders() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Currency<?> pound = Mocks.currency(manager, "pound");
+        PlayerAccount rich = Mockito.mock(PlayerAccount.class);
+        Mockito.when(rich.getBalances()).thenReturn(Map.of(dollar, BigDecimal.TEN, pound, BigDecimal.ONE));
+        PlayerAccount poor = Mockito.mock(PlayerAccount.class);
+        Mockito.when(poor.getBalances()).thenReturn(Map.of(dollar, BigDecimal.ZERO));
+
+        //run
+        holders.start(List.of(rich, poor));
+
+        //test
+        Assertions.assertEquals(Set.of(rich), holders.getHolders(dollar));
+        Assertions.assertEquals(Set.of(rich), holders.getHolders(pound));
+    }
+
+    @Test
+    public void canFollowBalanceCrossingZero() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.TEN));
+        PlayerAccount player = Mockito.mock(PlayerAccount.class);
+        Mockito.when(player.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(player);
+        balances.load();
+        holders.start(List.of(player));
+        map.put(dollar, BigDecimal.ZERO);
+
+        //run
+        balances.markChanged();
+
+        //test
+        Assertions.assertTrue(holders.getHolders(dollar).isEmpty());
+    }
+
+    @Test
+    public void canRemoveAccount() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        PlayerAccount player = Mockito.mock(PlayerAccount.class);
+        Mockito.when(player.getBalances()).thenReturn(Map.of(dollar, BigDecimal.TEN));
+        holders.start(List.of(player));
+
+        //run
+        holders.remove(player);
+
+        //test
+        Assertions.assertEquals(0, holders.getHolderCount(dollar));
+    }
+}
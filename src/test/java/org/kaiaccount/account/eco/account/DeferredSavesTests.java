@@ -0,0 +1,154 @@
+package org.kaiaccount.account.eco.account;
+
+import org.bukkit.Bukkit;
+import org.bukkit.OfflinePlayer;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.plugin.PluginManager;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.account.player.DeferredSaves;
+import org.kaiaccount.account.eco.account.player.EcoPlayerAccount;
+import org.kaiaccount.account.eco.currency.EcoCurrency;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.currency.CurrencyBuilder;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.payment.PaymentBuilder;
+import org.kaiaccount.account.inter.type.player.PlayerAccountBuilder;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class DeferredSavesTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final Plugin plugin = Mockito.mock(Plugin.class);
+    private MockedStatic<Bukkit> bukkitMocked;
+    private Currency<?> currency;
+
+    @BeforeEach
+    public void setup() {
+        bukkitMocked = Mockito.mockStatic(Bukkit.class);
+        bukkitMocked.when(Bukkit::getPluginManager).thenReturn(Mockito.mock(PluginManager.class));
+        bukkitMocked.when(Bukkit::getScheduler).thenReturn(Mockito.mock(BukkitScheduler.class));
+        Mockito.when(plugin.getName()).thenReturn("plugin");
+        currency = new EcoCurrency(new CurrencyBuilder().setName("test").setPlugin(plugin).setSymbol("t"));
+        DeferredSaves.start(plugin);
+    }
+
+    @AfterEach
+    public void close() {
+        DeferredSaves.stop();
+        bukkitMocked.close();
+    }
+
+    private EcoPlayerAccount mockAccount() throws IOException {
+        OfflinePlayer player = Mockito.mock(OfflinePlayer.class);
+        Mockito.when(player.getUniqueId()).thenReturn(UUID.randomUUID());
+        Map<Currency<?>, BigDecimal> balance = new HashMap<>(Map.of(currency, BigDecimal.TEN));
+        EcoPlayerAccount account = Mockito.spy(
+                new EcoPlayerAccount(new PlayerAccountBuilder().setPlayer(player).setInitialBalance(balance)));
+        Mockito.doNothing().when(account).save();
+        return account;
+    }
+
+    private Payment payment() {
+        return new PaymentBuilder().setAmount(2).setCurrency(currency).setPlugin(plugin).build();
+    }
+
+    @Test
+    public void canDeferHistoryAndSave() throws IOException {
+        //setup
+        EcoPlayerAccount account = mockAccount();
+
+        //run
+        account.depositSynced(payment());
+        account.depositSynced(payment());
+
+        //test
+        Assertions.assertEquals(0, BigDecimal.valueOf(14).compareTo(account.getBalance(currency)));
+        Assertions.assertEquals(0, account.getTransactionHistory().size());
+        Mockito.verify(account, Mockito.never()).save();
+
+        DeferredSaves.flush();
+
+        Assertions.assertEquals(2, account.getTransactionHistory().size());
+        Mockito.verify(account, Mockito.times(1)).save();
+        Assertions.assertEquals(0, DeferredSaves.getPendingCount());
+    }
+
+    @Test
+    public void canSaveStraightAwayWhenNotSaving() throws IOException {
+        //setup
+        EcoPlayerAccount account = mockAccount();
+        account.setSaving(false);
+
+        //run
+        account.depositSynced(payment());
+
+        //test
+        Assertions.assertEquals(1, account.getTransactionHistory().size());
+        Mockito.verify(account, Mockito.times(1)).save();
+        Assertions.assertEquals(0, DeferredSaves.getPendingCount());
+    }
+
+    @Test
+    public void canSaveOthersAfterFailedSave() throws IOException {
+        //setup
+        EcoPlayerAccount failing = mockAccount();
+        Mockito.doThrow(new IOException("test")).when(failing).save();
+        EcoPlayerAccount other = mockAccount();
+        failing.depositSynced(payment());
+        other.depositSynced(payment());
+
+        //run
+        DeferredSaves.flush();
+
+        //test
+        Mockito.verify(failing, Mockito.times(1)).save();
+        Mockito.verify(other, Mockito.times(1)).save();
+        Assertions.assertEquals(0, DeferredSaves.getPendingCount());
+    }
+
+    @Test
+    public void canTellListenersOncePerTick() throws IOException {
+        //setup
+        manager.getCurrencyRegistry().register(currency);
+        EcoPlayerAccount account = mockAccount();
+        account.getDenseBalances().load();
+        List<BigDecimal> changes = new ArrayList<>();
+        BalanceChangeListener listener = (changedAccount, changedCurrency, previous, current) -> changes.add(current);
+        DenseBalances.addListener(listener);
+
+        //run
+        try {
+            for (int i = 0; i < 5; i++) {
+                account.depositSynced(payment());
+            }
+            Assertions.assertTrue(changes.isEmpty());
+            DeferredSaves.flush();
+        } finally {
+            DenseBalances.removeListener(listener);
+        }
+
+        //test
+        Assertions.assertEquals(1, changes.size());
+        Assertions.assertEquals(0, BigDecimal.valueOf(20).compareTo(changes.get(0)));
+        Mockito.verify(account, Mockito.times(1)).save();
+        Assertions.assertEquals(5, account.getTransactionHistory().size());
+    }
+}
@@ -0,0 +1,195 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.Transaction;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class DenseBalancesTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+
+    @Test
+    public void canReadById() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar");
+        Currency<?> pound = Mocks.currency("pound");
+        manager.getCurrencyRegistry().register(dollar);
+        int poundId = manager.getCurrencyRegistry().register(pound);
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(Map.of(pound, BigDecimal.TEN));
+
+        //run
+        DenseBalances balances = new DenseBalances(account);
+
+        //test
+        Assertions.assertEquals(BigDecimal.TEN, balances.get(poundId));
+        Assertions.assertEquals(BigDecimal.ZERO, balances.get(dollar));
+        Assertions.assertEquals(Map.of(pound, BigDecimal.TEN), Map.copyOf(balances.asMap()));
+    }
+
+    @Test
+    public void canGrowWhenCurrencyIsAdded() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar");
+        manager.getCurrencyRegistry().register(dollar);
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.ONE));
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(account);
+        balances.load();
+        Currency<?> pound = Mocks.currency("pound");
+        int poundId = manager.getCurrencyRegistry().register(pound);
+        map.put(pound, BigDecimal.TEN);
+
+        //run
+        balances.markChanged();
+
+        //test
+        Assertions.assertEquals(BigDecimal.TEN, balances.get(poundId));
+    }
+
+    @Test
+    public void canNotifyChangedCurrencies() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar");
+        Currency<?> pound = Mocks.currency("pound");
+        manager.getCurrencyRegistry().register(dollar);
+        manager.getCurrencyRegistry().register(pound);
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.ONE, pound, BigDecimal.ONE));
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(account);
+        balances.load();
+        List<Currency<?>> changed = new ArrayList<>();
+        BalanceChangeListener listener = (changedAccount, currency, previous, current) -> changed.add(currency);
+        DenseBalances.addListener(listener);
+        map.put(pound, BigDecimal.TEN);
+
+        //run
+        try {
+            balances.markChanged();
+        } finally {
+            DenseBalances.removeListener(listener);
+        }
+
+        //test
+        Assertions.assertEquals(List.of(pound), changed);
+    }
+
+    @Test
+    public void canNotifyWithVersionOfChange() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar");
+        manager.getCurrencyRegistry().register(dollar);
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.ONE));
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(account);
+        balances.load();
+        List<Long> versions = new ArrayList<>();
+        BalanceChangeListener listener = new BalanceChangeListener() {
+            @Override
+            public void onBalanceChange(Account changedAccount, Currency<?> currency, BigDecimal previous,
+                                        BigDecimal current) {
+                Assertions.fail("The listener should be given the version");
+            }
+
+            @Override
+            public void onBalanceChange(Account changedAccount, Currency<?> currency, BigDecimal previous,
+                                        BigDecimal current, long version) {
+                versions.add(version);
+            }
+        };
+        DenseBalances.addListener(listener);
+        map.put(dollar, BigDecimal.TEN);
+
+        //run
+        try {
+            balances.markChanged();
+        } finally {
+            DenseBalances.removeListener(listener);
+        }
+
+        //test
+        Assertions.assertEquals(List.of(balances.getVersion()), versions);
+        Assertions.assertEquals(balances.snapshot().version(), versions.get(0));
+    }
+
+    @Test
+    public void canNotifyAfterReleasingMonitor() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar");
+        manager.getCurrencyRegistry().register(dollar);
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.ONE));
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(account);
+        balances.load();
+        List<Boolean> heldLock = new ArrayList<>();
+        BalanceChangeListener listener = (changedAccount, currency, previous, current) -> heldLock.add(
+                Thread.holdsLock(balances));
+        DenseBalances.addListener(listener);
+        map.put(dollar, BigDecimal.TEN);
+
+        //run
+        try {
+            balances.markChanged();
+        } finally {
+            DenseBalances.removeListener(listener);
+        }
+
+        //test
+        Assertions.assertEquals(List.of(false), heldLock);
+    }
+
+    @Test
+    public void canUpdateWorthFromTransaction() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar", 1.0);
+        Currency<?> pound = Mocks.currency("pound", 2.0);
+        Mockito.when(dollar.isDefault()).thenReturn(true);
+        manager.registerCurrency(dollar);
+        manager.registerCurrency(pound);
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.TEN));
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalances()).thenReturn(map);
+        Mockito.when(account.getBalance(Mockito.any()))
+                .thenAnswer(invocation -> map.getOrDefault(invocation.<Currency<?>>getArgument(0), BigDecimal.ZERO));
+        DenseBalances balances = new DenseBalances(account);
+        Assertions.assertEquals(Optional.of(BigDecimal.TEN), balances.getWorth());
+
+        Payment payment = Mockito.mock(Payment.class);
+        Mockito.when(payment.getCurrency()).thenAnswer(invocation -> pound);
+        Transaction transaction = Mockito.mock(Transaction.class);
+        Mockito.when(transaction.getTarget()).thenAnswer(invocation -> account);
+        Mockito.when(transaction.getPayment()).thenReturn(payment);
+        TransactionResult result = Mockito.mock(TransactionResult.class);
+        Mockito.when(result.getTransactions()).thenReturn(List.of(transaction));
+        map.put(pound, BigDecimal.valueOf(5));
+
+        //run
+        balances.markChanged(result);
+
+        //test
+        Assertions.assertEquals(0, new BigDecimal("12.5").compareTo(balances.getWorth().orElseThrow()));
+        Mockito.verify(account, Mockito.times(1)).getBalances();
+    }
+}
@@ -0,0 +1,48 @@
+package org.kaiaccount.account.eco.account;
+
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.player.KnownPlayerIndex;
+
+import java.util.List;
+import java.util.UUID;
+
+public class KnownPlayerIndexTests {
+
+    @Test
+    public void canAddPlayers() {
+        //setup
+        KnownPlayerIndex index = new KnownPlayerIndex();
+        OfflinePlayer notch = Mocks.player(UUID.randomUUID(), "Notch");
+        OfflinePlayer nameless = Mocks.player(UUID.randomUUID(), null);
+
+        //run
+        index.add(notch);
+        index.add(nameless);
+
+        //test
+        Assertions.assertEquals(List.of(notch), index.getPlayers());
+        Assertions.assertEquals("notch", index.get(notch.getUniqueId()).orElseThrow().lowerName());
+    }
+
+    @Test
+    public void canRenameWithoutReplacingPlayer() {
+        //setup
+        KnownPlayerIndex index = new KnownPlayerIndex();
+        UUID id = UUID.randomUUID();
+        OfflinePlayer notch = Mocks.player(id, "Notch");
+        index.add(notch);
+        List<OfflinePlayer> before = index.getPlayers();
+
+        //run
+        index.update(Mocks.player(id, "Notch2"), "Notch2");
+
+        //test
+        Assertions.assertEquals(List.of(notch), index.getPlayers());
+        Assertions.assertNotSame(before, index.getPlayers());
+        Assertions.assertEquals("Notch2", index.get(id).orElseThrow().name());
+        Assertions.assertEquals(1, index.size());
+    }
+}
@@ -0,0 +1,118 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.supply.MoneySupply;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.Transaction;
+import org.kaiaccount.account.inter.transfer.TransactionType;
+import org.kaiaccount.account.inter.transfer.payment.Payment;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.type.named.NamedAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.HashMap;
+import java.util.List;
+import java.util.Map;
+
+public class MoneySupplyTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final MoneySupply supply = new MoneySupply(manager.getCurrencyRegistry());
+
+    @AfterEach
+    public void close() {
+        supply.stop();
+    }
+
+    @Test
+    public void canTotalByHolderType() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        PlayerAccount player = Mockito.mock(PlayerAccount.class);
+        Mockito.when(player.getBalances()).thenReturn(Map.of(dollar, BigDecimal.TEN));
+        NamedAccount named = Mockito.mock(NamedAccount.class);
+        Mockito.when(named.getBalances()).thenReturn(Map.of(dollar, BigDecimal.valueOf(5)));
+
+        //run
+        supply.start(List.of(player, named));
+
+        //test
+        MoneySupply.Totals totals = supply.getTotals(dollar).orElseThrow();
+        Assertions.assertEquals(BigDecimal.TEN, totals.getHeld(MoneySupply.HolderType.PLAYER));
+        Assertions.assertEquals(BigDecimal.valueOf(5), totals.getHeld(MoneySupply.HolderType.NAMED));
+        Assertions.assertEquals(BigDecimal.valueOf(15), totals.total());
+    }
+
+    @Test
+    public void canFollowBalanceChanges() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.TEN));
+        PlayerAccount player = Mockito.mock(PlayerAccount.class);
+        Mockito.when(player.getBalances()).thenReturn(map);
+        DenseBalances balances = new DenseBalances(player);
+        balances.load();
+        supply.start(List.of(player));
+        map.put(dollar, BigDecimal.valueOf(25));
+
+        //run
+        balances.markChanged();
+
+        //test
+        Assertions.assertEquals(BigDecimal.valueOf(25), supply.getTotals(dollar).orElseThrow().total());
+    }
+
+    @Test
+    public void canReconcileDrift() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Map<Currency<?>, BigDecimal> map = new HashMap<>(Map.of(dollar, BigDecimal.TEN));
+        PlayerAccount player = Mockito.mock(PlayerAccount.class);
+        Mockito.when(player.getBalances()).thenReturn(map);
+        supply.start(List.of(player));
+        map.put(dollar, BigDecimal.valueOf(25));
+
+        //run
+        Map<Currency<?>, BigDecimal> drift = supply.reconcile();
+
+        //test
+        Assertions.assertEquals(Map.of(dollar, BigDecimal.valueOf(-15)), drift);
+        Assertions.assertEquals(BigDecimal.valueOf(25), supply.getTotals(dollar).orElseThrow().total());
+    }
+
+    @Test
+    public void canRecordTransfers() {
+        //setup
+        Currency<?> dollar = Mocks.currency(manager, "dollar");
+        Payment payment = Mockito.mock(Payment.class);
+        Mockito.when(payment.getCurrency()).thenAnswer(invocation -> dollar);
+        Mockito.when(payment.getAmount()).thenReturn(BigDecimal.TEN);
+        Transaction deposit = Mockito.mock(Transaction.class);
+        Mockito.when(deposit.getType()).thenReturn(TransactionType.DEPOSIT);
+        Mockito.when(deposit.getPayment()).thenReturn(payment);
+        Transaction withdraw = Mockito.mock(Transaction.class);
+        Mockito.when(withdraw.getType()).thenReturn(TransactionType.WITHDRAW);
+        Mockito.when(withdraw.getPayment()).thenReturn(payment);
+        TransactionResult result = Mockito.mock(TransactionResult.class);
+        Mockito.when(result.getTransactions()).thenReturn(List.of(withdraw, deposit));
+
+        //run
+        supply.recordTransfer(result);
+        supply.recordMinted(dollar, BigDecimal.ONE);
+
+        //test
+        MoneySupply.Totals totals = supply.getTotals(dollar).orElseThrow();
+        Assertions.assertEquals(BigDecimal.TEN, totals.transferred());
+        Assertions.assertEquals(BigDecimal.ONE, totals.minted());
+    }
+}
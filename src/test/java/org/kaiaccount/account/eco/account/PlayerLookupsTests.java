@@ -0,0 +1,61 @@
+package org.kaiaccount.account.eco.account;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.account.player.PlayerLookups;
+
+import java.util.Optional;
+import java.util.UUID;
+
+public class PlayerLookupsTests {
+
+    @Test
+    public void canFindByNameIgnoringCase() {
+        //setup
+        PlayerLookups lookups = new PlayerLookups();
+        UUID id = UUID.randomUUID();
+
+        //run
+        lookups.updateName(id, "Notch");
+
+        //test
+        Assertions.assertEquals(Optional.of(id), lookups.getUniqueId("notch"));
+        Assertions.assertTrue(lookups.getUniqueId("jeb_").isEmpty());
+    }
+
+    @Test
+    public void canForgetNameAfterChange() {
+        //setup
+        PlayerLookups lookups = new PlayerLookups();
+        UUID first = UUID.randomUUID();
+        UUID second = UUID.randomUUID();
+        lookups.updateName(first, "Notch");
+
+        //run
+        lookups.updateName(first, "Notch2");
+        lookups.updateName(second, "Notch");
+        lookups.updateName(first, "Notch3");
+
+        //test
+        Assertions.assertEquals(Optional.of(second), lookups.getUniqueId("Notch"));
+        Assertions.assertEquals(Optional.of(first), lookups.getUniqueId("Notch3"));
+        Assertions.assertTrue(lookups.getUniqueId("Notch2").isEmpty());
+    }
+
+    @Test
+    public void canCountLookups() {
+        //setup
+        PlayerLookups lookups = new PlayerLookups();
+
+        //run
+        lookups.record(PlayerLookups.Method.OFFLINE_PLAYER, true, 100);
+        lookups.record(PlayerLookups.Method.OFFLINE_PLAYER, false, 300);
+
+        //test
+        PlayerLookups.Stats stats = lookups.getStats(PlayerLookups.Method.OFFLINE_PLAYER);
+        Assertions.assertEquals(2, stats.calls());
+        Assertions.assertEquals(1, stats.hits());
+        Assertions.assertEquals(200, stats.getAverageNanos());
+        Assertions.assertEquals(0, lookups.getStats(PlayerLookups.Method.UUID).calls());
+    }
+}
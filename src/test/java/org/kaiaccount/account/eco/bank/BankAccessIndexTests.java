@@ -0,0 +1,86 @@
+package org.kaiaccount.account.eco.bank;
+
+import org.bukkit.OfflinePlayer;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.account.bank.BankAccessIndex;
+import org.kaiaccount.account.inter.type.named.bank.BankPermission;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.Mockito;
+
+import java.util.Collection;
+import java.util.List;
+import java.util.Map;
+import java.util.Set;
+import java.util.UUID;
+
+public class BankAccessIndexTests {
+
+    private PlayerBankAccount mockBank(UUID owner, Map<UUID, Collection<BankPermission>> accounts) {
+        OfflinePlayer player = Mockito.mock(OfflinePlayer.class);
+        Mockito.when(player.getUniqueId()).thenReturn(owner);
+        PlayerAccount holder = Mockito.mock(PlayerAccount.class);
+        Mockito.when(holder.getPlayer()).thenReturn(player);
+
+        PlayerBankAccount bank = Mockito.mock(PlayerBankAccount.class);
+        Mockito.when(bank.getAccountHolder()).thenReturn(holder);
+        Mockito.when(bank.getAccounts()).thenReturn(accounts);
+        Mockito.when(bank.getAccountPermissions(Mockito.any(UUID.class)))
+                .thenAnswer(invocation -> accounts.getOrDefault(invocation.<UUID>getArgument(0), List.of()));
+        return bank;
+    }
+
+    @Test
+    public void canFindBanksByPermission() {
+        //setup
+        UUID owner = UUID.randomUUID();
+        UUID accessor = UUID.randomUUID();
+        PlayerBankAccount bank = mockBank(owner, Map.of(
+                owner, List.of(BankPermission.ACCOUNT_OWNER),
+                accessor, List.of(BankPermission.SEE, BankPermission.GIVE)));
+        BankAccessIndex index = new BankAccessIndex();
+
+        //run
+        index.index(bank);
+
+        //test
+        Assertions.assertEquals(List.of(bank), index.getBanks(accessor, BankPermission.SEE));
+        Assertions.assertEquals(List.of(bank), index.getBanks(owner, BankPermission.ACCOUNT_OWNER));
+        Assertions.assertTrue(index.getBanks(accessor, BankPermission.ACCOUNT_OWNER).isEmpty());
+        Assertions.assertEquals(Set.of(BankPermission.SEE, BankPermission.GIVE), index.getPermissions(accessor, bank));
+    }
+
+    @Test
+    public void canReindexRemovedAccessor() {
+        //setup
+        UUID owner = UUID.randomUUID();
+        UUID accessor = UUID.randomUUID();
+        PlayerBankAccount bank = mockBank(owner, Map.of(accessor, List.of(BankPermission.SEE)));
+        BankAccessIndex index = new BankAccessIndex();
+        index.index(bank);
+        Mockito.when(bank.getAccounts()).thenReturn(Map.of());
+        Mockito.when(bank.getAccountPermissions(Mockito.any(UUID.class))).thenReturn(List.of());
+
+        //run
+        index.index(bank);
+
+        //test
+        Assertions.assertTrue(index.getBanks(accessor, BankPermission.SEE).isEmpty());
+    }
+
+    @Test
+    public void canRemoveBank() {
+        //setup
+        UUID owner = UUID.randomUUID();
+        PlayerBankAccount bank = mockBank(owner, Map.of(owner, List.of(BankPermission.ACCOUNT_OWNER)));
+        BankAccessIndex index = new BankAccessIndex();
+        index.index(bank);
+
+        //run
+        index.remove(bank);
+
+        //test
+        Assertions.assertTrue(index.getBanks(owner, BankPermission.ACCOUNT_OWNER).isEmpty());
+    }
+}
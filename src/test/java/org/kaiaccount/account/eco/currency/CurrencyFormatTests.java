@@ -0,0 +1,59 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+
+public class CurrencyFormatTests {
+
+    @Test
+    public void canGroupThousands() {
+        //setup
+        CurrencyFormat format = new CurrencyFormat(2, true, false);
+
+        //run
+        String result = format.formatSymbol(new BigDecimal("1234567.891"), "$");
+
+        //test
+        Assertions.assertEquals("$1,234,567.89", result);
+    }
+
+    @Test
+    public void canPlaceSignBeforeSymbol() {
+        //setup
+        CurrencyFormat format = new CurrencyFormat(0, true, false);
+
+        //run
+        String result = format.formatSymbol(new BigDecimal("-1500"), "$");
+
+        //test
+        Assertions.assertEquals("-$1,500", result);
+    }
+
+    @Test
+    public void canPlaceSymbolAfter() {
+        //setup
+        CurrencyFormat format = new CurrencyFormat(CurrencyFormat.KEEP_SCALE, false, true);
+
+        //run
+        String result = format.formatSymbol(new BigDecimal("12.5"), "g");
+
+        //test
+        Assertions.assertEquals("12.5g", result);
+    }
+
+    @Test
+    public void canUseSingleName() {
+        //setup
+        CurrencyFormat format = new CurrencyFormat(2, false, false);
+
+        //run
+        String one = format.formatName(new BigDecimal("1.00"), "dollar", "dollars");
+        String many = format.formatName(BigDecimal.TEN, "dollar", "dollars");
+
+        //test
+        Assertions.assertEquals("1.00 dollar", one);
+        Assertions.assertEquals("10.00 dollars", many);
+    }
+}
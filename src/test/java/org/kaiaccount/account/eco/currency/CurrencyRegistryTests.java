@@ -0,0 +1,70 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.mockito.Mockito;
+
+import java.util.Optional;
+import java.util.OptionalInt;
+
+public class CurrencyRegistryTests {
+
+    @Test
+    public void canLookupByKeyAndSymbol() {
+        //setup
+        Currency<?> dollar = Mocks.currency("EcoTools", "dollar", "$");
+        Currency<?> pound = Mocks.currency("EcoTools", "pound", "£");
+        CurrencyRegistry registry = new CurrencyRegistry();
+
+        //run
+        registry.register(dollar);
+        registry.register(pound);
+
+        //test
+        Assertions.assertEquals(Optional.of(pound), registry.get("ecotools", "Pound"));
+        Assertions.assertEquals(Optional.of(dollar), registry.getBySymbol("$"));
+        Assertions.assertTrue(registry.get("Other", "dollar").isEmpty());
+    }
+
+    @Test
+    public void idsAreNotReused() {
+        //setup
+        Currency<?> dollar = Mocks.currency("EcoTools", "dollar", "$");
+        Currency<?> pound = Mocks.currency("EcoTools", "pound", "£");
+        CurrencyRegistry registry = new CurrencyRegistry();
+        int dollarId = registry.register(dollar);
+
+        //run
+        registry.deregister(dollar);
+        int poundId = registry.register(pound);
+
+        //test
+        Assertions.assertNotEquals(dollarId, poundId);
+        Assertions.assertNull(registry.getById(dollarId));
+        Assertions.assertEquals(pound, registry.getById(poundId));
+        Assertions.assertEquals(OptionalInt.empty(), registry.getId(dollar));
+        Assertions.assertEquals(2, registry.getIdCapacity());
+    }
+
+    @Test
+    public void defaultIsRecheckedAfterInvalidate() {
+        //setup
+        Currency<?> dollar = Mocks.currency("EcoTools", "dollar", "$");
+        Currency<?> pound = Mocks.currency("EcoTools", "pound", "£");
+        Mockito.when(dollar.isDefault()).thenReturn(true);
+        CurrencyRegistry registry = new CurrencyRegistry();
+        registry.register(dollar);
+        registry.register(pound);
+        registry.getDefault();
+        Mockito.when(dollar.isDefault()).thenReturn(false);
+        Mockito.when(pound.isDefault()).thenReturn(true);
+
+        //run
+        registry.invalidateDefault();
+
+        //test
+        Assertions.assertEquals(Optional.of(pound), registry.getDefault());
+    }
+}
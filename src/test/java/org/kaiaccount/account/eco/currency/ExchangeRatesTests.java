@@ -0,0 +1,59 @@
+package org.kaiaccount.account.eco.currency;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.inter.currency.Currency;
+
+import java.math.BigDecimal;
+import java.util.List;
+import java.util.Map;
+import java.util.Optional;
+
+public class ExchangeRatesTests {
+
+    @Test
+    public void canConvertBetweenCurrencies() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar", 1.0);
+        Currency<?> pound = Mocks.currency("pound", 2.0);
+        ExchangeRates.Table table = ExchangeRates.Table.of(List.of(dollar, pound));
+
+        //run
+        Optional<BigDecimal> converted = table.convert(BigDecimal.TEN, dollar, pound);
+
+        //test
+        Assertions.assertTrue(converted.isPresent());
+        Assertions.assertEquals(0, BigDecimal.valueOf(20).compareTo(converted.get()));
+    }
+
+    @Test
+    public void cannotConvertWithoutWorth() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar", 1.0);
+        Currency<?> tokens = Mocks.currency("tokens", null);
+        ExchangeRates.Table table = ExchangeRates.Table.of(List.of(dollar, tokens));
+
+        //run
+        Optional<BigDecimal> converted = table.convert(BigDecimal.TEN, tokens, dollar);
+
+        //test
+        Assertions.assertTrue(converted.isEmpty());
+        Assertions.assertFalse(table.hasWorth(tokens));
+    }
+
+    @Test
+    public void canTotalEqualBalances() {
+        //setup
+        Currency<?> dollar = Mocks.currency("dollar", 1.0);
+        Currency<?> euro = Mocks.currency("euro", 1.0);
+        Currency<?> tokens = Mocks.currency("tokens", null);
+        ExchangeRates.Table table = ExchangeRates.Table.of(List.of(dollar, euro, tokens));
+
+        //run
+        BigDecimal total = table.convertAll(Map.of(dollar, BigDecimal.TEN, euro, BigDecimal.TEN, tokens, BigDecimal.ONE), dollar);
+
+        //test
+        Assertions.assertEquals(0, BigDecimal.valueOf(20).compareTo(total));
+    }
+}
@@ -0,0 +1,223 @@
+package org.kaiaccount.account.eco.currency.migration;
+
+import org.bukkit.Bukkit;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.AccountKeys;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.result.TransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.successful.SuccessfulTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.AccountType;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+import java.util.concurrent.CompletableFuture;
+import java.util.concurrent.ConcurrentHashMap;
+
+public class CurrencyMigrationTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final Map<Account, BigDecimal> balances = new ConcurrentHashMap<>();
+    private final List<Account> exchanged = new ArrayList<>();
+    private final List<String> reports = new ArrayList<>();
+    private final List<CurrencyMigration> completed = new ArrayList<>();
+    private MockedStatic<Bukkit> bukkitMocked;
+    private Currency<?> dollar;
+    private Currency<?> pound;
+    private boolean failNext;
+
+    @TempDir
+    File folder;
+
+    @BeforeEach
+    public void setup() {
+        bukkitMocked = Mockito.mockStatic(Bukkit.class);
+        bukkitMocked.when(Bukkit::getScheduler).thenReturn(Mockito.mock(BukkitScheduler.class));
+        dollar = Mocks.currency(manager, "dollar");
+        pound = Mocks.currency(manager, "pound");
+    }
+
+    @AfterEach
+    public void close() {
+        manager.getCurrencyHolders().stop();
+        bukkitMocked.close();
+    }
+
+    private PlayerAccount holder() {
+        PlayerAccount account = Mockito.mock(PlayerAccount.class, Mockito.withSettings().extraInterfaces(AccountType.class));
+        Mockito.when(account.getPlayer()).thenReturn(Mocks.player(UUID.randomUUID(), null));
+        Mockito.when(account.getBalance(dollar)).thenAnswer(invocation -> balances.get(account));
+        Mockito.when(account.getBalances()).thenAnswer(invocation -> Map.of(dollar, balances.get(account)));
+        balances.put(account, BigDecimal.TEN);
+        return account;
+    }
+
+    private List<PlayerAccount> holders(int count) {
+        List<PlayerAccount> holders = new ArrayList<>();
+        for (int i = 0; i < count; i++) {
+            holders.add(holder());
+        }
+        return holders;
+    }
+
+    private CompletableFuture<TransactionResult> exchange(Currency<?> from, Currency<?> to, List<AccountType> chunk) {
+        if (failNext) {
+            failNext = false;
+            FailedTransactionResult failed = Mockito.mock(FailedTransactionResult.class);
+            Mockito.when(failed.getReason()).thenReturn("test");
+            return CompletableFuture.completedFuture(failed);
+        }
+        for (AccountType account : chunk) {
+            exchanged.add((Account) account);
+            balances.put((Account) account, BigDecimal.ZERO);
+        }
+        return CompletableFuture.completedFuture(Mockito.mock(SuccessfulTransactionResult.class));
+    }
+
+    private CurrencyMigration migration(List<? extends Account> holders, int chunkSize) {
+        List<String> keys = new ArrayList<>();
+        Map<String, Account> accounts = new HashMap<>();
+        for (Account account : holders) {
+            String key = AccountKeys.toKey(account).orElseThrow();
+            keys.add(key);
+            accounts.put(key, account);
+        }
+        CurrencyMigration migration = new CurrencyMigration(dollar, pound, keys, accounts, folder, chunkSize,
+                Long.MAX_VALUE, reports::add, completed::add, this::exchange);
+        migration.writeKeys();
+        return migration;
+    }
+
+    @Test
+    public void canExchangeAChunkEachRun() {
+        //setup
+        CurrencyMigration migration = migration(holders(5), 2);
+
+        //run
+        migration.run();
+
+        //test
+        Assertions.assertEquals(2, migration.getPosition());
+        Assertions.assertEquals(2, migration.getMigrated());
+        Assertions.assertEquals(2, exchanged.size());
+        Assertions.assertEquals(CurrencyMigration.State.RUNNING, migration.getState());
+        Assertions.assertTrue(reports.stream().anyMatch(report -> report.contains("40%")));
+    }
+
+    @Test
+    public void canWriteCheckpointAfterChunk() {
+        //setup
+        CurrencyMigration migration = migration(holders(5), 2);
+
+        //run
+        migration.run();
+
+        //test
+        YamlConfiguration checkpoint = YamlConfiguration.loadConfiguration(migration.getCheckpointFile());
+        Assertions.assertEquals(2, checkpoint.getInt(CurrencyMigration.POSITION));
+        Assertions.assertEquals(2, checkpoint.getInt(CurrencyMigration.MIGRATED));
+        Assertions.assertEquals("dollar", checkpoint.getString(CurrencyMigration.FROM_KEY));
+        Assertions.assertEquals("pound", checkpoint.getString(CurrencyMigration.TO_KEY));
+        Assertions.assertTrue(migration.getKeysFile().exists());
+    }
+
+    @Test
+    public void canResumeFromCheckpointWithoutExchangingTwice() {
+        //setup
+        List<PlayerAccount> holders = holders(5);
+        CurrencyMigration first = migration(holders, 2);
+        first.run();
+        YamlConfiguration checkpoint = YamlConfiguration.loadConfiguration(first.getCheckpointFile());
+        CurrencyMigration second = migration(holders, 2);
+        second.resumeFrom(checkpoint.getInt(CurrencyMigration.POSITION), checkpoint.getInt(CurrencyMigration.MIGRATED));
+
+        //run
+        second.run();
+        second.run();
+
+        //test
+        Assertions.assertEquals(CurrencyMigration.State.COMPLETE, second.getState());
+        Assertions.assertEquals(5, second.getMigrated());
+        Assertions.assertEquals(5, exchanged.size());
+        Assertions.assertEquals(5, new HashSet<>(exchanged).size());
+    }
+
+    @Test
+    public void canPickUpLateHolders() {
+        //setup
+        manager.getCurrencyHolders().start(List.of());
+        CurrencyMigration migration = migration(holders(3), 2);
+        migration.run();
+        PlayerAccount late = holder();
+
+        //run
+        manager.getCurrencyHolders().add(late);
+        migration.run();
+        migration.run();
+
+        //test
+        Assertions.assertEquals(4, migration.getSize());
+        Assertions.assertTrue(exchanged.contains(late));
+        Assertions.assertEquals(CurrencyMigration.State.COMPLETE, migration.getState());
+    }
+
+    @Test
+    public void canDeregisterOnlyAfterLastChunk() {
+        //setup
+        CurrencyMigration migration = migration(holders(3), 2);
+
+        //run
+        migration.run();
+        boolean registeredAfterFirst = manager.getCurrencyRegistry().getId(dollar).isPresent();
+        migration.run();
+
+        //test
+        Assertions.assertTrue(registeredAfterFirst);
+        Assertions.assertTrue(manager.getCurrencyRegistry().getId(dollar).isEmpty());
+        Assertions.assertEquals(List.of(migration), completed);
+        Assertions.assertFalse(migration.getCheckpointFile().exists());
+        Mockito.verify(dollar).delete();
+    }
+
+    @Test
+    public void canResumeAfterFailure() {
+        //setup
+        CurrencyMigration migration = migration(holders(2), 2);
+        failNext = true;
+        migration.run();
+        CurrencyMigration.State failedState = migration.getState();
+
+        //run
+        boolean resumed = migration.resume(Mockito.mock(Plugin.class));
+        migration.run();
+
+        //test
+        Assertions.assertEquals(CurrencyMigration.State.FAILED, failedState);
+        Assertions.assertTrue(resumed);
+        Assertions.assertEquals(CurrencyMigration.State.COMPLETE, migration.getState());
+        Assertions.assertEquals(2, exchanged.size());
+    }
+}
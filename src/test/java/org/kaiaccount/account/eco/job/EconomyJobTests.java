@@ -0,0 +1,144 @@
+package org.kaiaccount.account.eco.job;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.transfer.result.failed.FailedTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.CompletableFuture;
+
+public class EconomyJobTests {
+
+    private MockedStatic<EcoToolPlugin> ecoToolPluginMock;
+
+    @BeforeEach
+    public void setup() {
+        EcoToolPlugin plugin = Mockito.mock(EcoToolPlugin.class);
+        Mockito.when(plugin.getName()).thenReturn("EcoTools");
+        ecoToolPluginMock = Mockito.mockStatic(EcoToolPlugin.class);
+        ecoToolPluginMock.when(EcoToolPlugin::getInstance).thenReturn(plugin);
+    }
+
+    @AfterEach
+    public void close() {
+        ecoToolPluginMock.close();
+    }
+
+    private Account mockAccount(Currency<?> currency, long balance) {
+        Account account = Mockito.mock(Account.class);
+        Mockito.when(account.getBalance(currency)).thenReturn(BigDecimal.valueOf(balance));
+        return account;
+    }
+
+    @Test
+    public void canDryRunWithoutChanges() {
+        //setup
+        Currency<?> dollar = Mockito.mock(Currency.class);
+        Account rich = mockAccount(dollar, 200);
+        Account poor = mockAccount(dollar, 0);
+        List<String> reports = new ArrayList<>();
+        EconomyJob job = new EconomyJob("tax", List.of(rich, poor), JobActions.tax(dollar, BigDecimal.TEN), true, 1,
+                Long.MAX_VALUE, reports::add);
+
+        //run
+        job.run();
+        job.run();
+
+        //test
+        Assertions.assertEquals(EconomyJob.State.COMPLETE, job.getState());
+        Assertions.assertEquals(1, job.getChanged());
+        Assertions.assertEquals(0, BigDecimal.valueOf(-20).compareTo(job.getChange().get(dollar)));
+        Mockito.verify(rich, Mockito.never()).withdraw(Mockito.any());
+        Assertions.assertFalse(reports.isEmpty());
+    }
+
+    @Test
+    public void canStopAtChunkSize() {
+        //setup
+        Currency<?> dollar = Mockito.mock(Currency.class);
+        List<Account> accounts = List.of(mockAccount(dollar, 1), mockAccount(dollar, 2), mockAccount(dollar, 3));
+        EconomyJob job = new EconomyJob("airdrop", accounts, JobActions.airdrop(dollar, BigDecimal.ONE), true, 2,
+                Long.MAX_VALUE, message -> {
+        });
+
+        //run
+        job.run();
+
+        //test
+        Assertions.assertEquals(2, job.getPosition());
+        Assertions.assertEquals(EconomyJob.State.RUNNING, job.getState());
+        Assertions.assertEquals(Map.of(dollar, BigDecimal.valueOf(2)), job.getChange());
+    }
+
+    @Test
+    public void canCapWealth() {
+        //setup
+        Currency<?> dollar = Mockito.mock(Currency.class);
+        Account account = mockAccount(dollar, 150);
+
+        //run
+        List<JobPayment> payments = JobActions.wealthCap(dollar, BigDecimal.valueOf(100)).plan(account);
+
+        //test
+        Assertions.assertEquals(1, payments.size());
+        Assertions.assertEquals(JobPayment.Kind.WITHDRAW, payments.get(0).kind());
+        Assertions.assertEquals(BigDecimal.valueOf(50), payments.get(0).payment().getAmount());
+    }
+
+    @Test
+    public void canRoundTaxDown() {
+        //setup
+        Currency<?> dollar = Mockito.mock(Currency.class);
+        Account account = mockAccount(dollar, 1);
+
+        //run
+        List<JobPayment> payments = JobActions.tax(dollar, new BigDecimal("12.5")).plan(account);
+
+        //test
+        Assertions.assertEquals(1, payments.size());
+        Assertions.assertEquals(new BigDecimal("0.12"), payments.get(0).payment().getAmount());
+    }
+
+    @Test
+    public void canWaitForAsyncPaymentsBeforeReporting() {
+        //setup
+        Currency<?> dollar = Mockito.mock(Currency.class);
+        Account paid = mockAccount(dollar, 1);
+        Account refused = mockAccount(dollar, 1);
+        CompletableFuture<SingleTransactionResult> paidFuture = new CompletableFuture<>();
+        CompletableFuture<SingleTransactionResult> refusedFuture = new CompletableFuture<>();
+        Mockito.when(paid.deposit(Mockito.any())).thenReturn(paidFuture);
+        Mockito.when(refused.deposit(Mockito.any())).thenReturn(refusedFuture);
+        List<String> reports = new ArrayList<>();
+        EconomyJob job = new EconomyJob("airdrop", List.of(paid, refused), JobActions.airdrop(dollar, BigDecimal.ONE),
+                false, 2, Long.MAX_VALUE, reports::add);
+
+        //run
+        job.run();
+        EconomyJob.State beforePaid = job.getState();
+        Map<Currency<?>, BigDecimal> changeBeforePaid = job.getChange();
+        paidFuture.complete(Mockito.mock(SingleTransactionResult.class));
+        refusedFuture.complete(Mockito.mock(SingleTransactionResult.class,
+                Mockito.withSettings().extraInterfaces(FailedTransactionResult.class)));
+
+        //test
+        Assertions.assertEquals(EconomyJob.State.RUNNING, beforePaid);
+        Assertions.assertTrue(changeBeforePaid.isEmpty());
+        Assertions.assertEquals(EconomyJob.State.COMPLETE, job.getState());
+        Assertions.assertEquals(1, job.getChanged());
+        Assertions.assertEquals(1, job.getFailed());
+        Assertions.assertEquals(Map.of(dollar, BigDecimal.ONE), job.getChange());
+        Assertions.assertFalse(reports.isEmpty());
+    }
+}
@@ -0,0 +1,33 @@
+package org.kaiaccount.account.eco.message;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.message.type.MessageArgumentType;
+import org.kaiaccount.account.eco.message.type.MessageArgumentTypes;
+import org.kaiaccount.account.eco.message.type.generic.GenericMessageArgumentType;
+
+import java.util.Collection;
+
+public class MessageArgumentTypesTests {
+
+	@Test
+	public void canFindRegisteredTypeBySubclass() {
+		//setup
+		MessageArgumentType<CharSequence> length =
+				new GenericMessageArgumentType<>("length", CharSequence.class, text -> text.length() + "");
+		MessageArgumentTypes.getArgumentTypes(String.class);
+
+		//run
+		MessageArgumentTypes.register(length);
+
+		//test
+		try {
+			Collection<MessageArgumentType<String>> types = MessageArgumentTypes.getArgumentTypes(String.class);
+			Assertions.assertTrue(types.contains(length));
+			Assertions.assertFalse(MessageArgumentTypes.getArgumentTypes(Integer.class).contains(length));
+		} finally {
+			MessageArgumentTypes.unregister(length);
+		}
+		Assertions.assertFalse(MessageArgumentTypes.getArgumentTypes(String.class).contains(length));
+	}
+}
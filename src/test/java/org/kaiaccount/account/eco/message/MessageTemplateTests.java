@@ -0,0 +1,90 @@
+package org.kaiaccount.account.eco.message;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.message.messages.error.SourceOnlyCommandMessage;
+import org.kaiaccount.account.eco.message.type.MessageArgument;
+import org.kaiaccount.account.eco.message.type.generic.GenericMessageArgumentType;
+
+import java.util.Map;
+import java.util.Optional;
+
+public class MessageTemplateTests {
+
+	private static final MessageArgument<Integer> AMOUNT =
+			new MessageArgument<>(new GenericMessageArgumentType<>("amount", Integer.class));
+
+	private static Optional<MessageArgument<?>> amountOnly(String name) {
+		if (name.equalsIgnoreCase("amount")) {
+			return Optional.of(AMOUNT);
+		}
+		return Optional.empty();
+	}
+
+	@Test
+	public void canReplaceArguments() {
+		//setup
+		MessageTemplate template = MessageTemplate.compile("You have %amount% coins", MessageTemplateTests::amountOnly);
+
+		//run
+		String result = template.apply(Map.of(5, ""));
+
+		//test
+		Assertions.assertEquals("You have 5 coins", result);
+		Assertions.assertEquals(1, template.getArgumentCount());
+	}
+
+	@Test
+	public void canKeepUnknownArguments() {
+		//setup
+		MessageTemplate template = MessageTemplate.compile("100% of %other% is %amount%", MessageTemplateTests::amountOnly);
+
+		//run
+		String result = template.apply(Map.of(5, ""));
+
+		//test
+		Assertions.assertEquals("100% of %other% is 5", result);
+	}
+
+	@Test
+	public void canPickValueByPrefix() {
+		//setup
+		MessageTemplate template = MessageTemplate.compile("%to amount% from %from amount%",
+				name -> Optional.of(AMOUNT));
+
+		//run
+		String result = template.apply(Map.of(1, "from ", 2, "to "));
+
+		//test
+		Assertions.assertEquals("2 from 1", result);
+	}
+
+	@Test
+	public void canRecompileOnOverride() {
+		//setup
+		SourceOnlyCommandMessage message = new SourceOnlyCommandMessage(null);
+		message.getProcessedMessage(SourceOnlyCommandMessage.CONSOLE_SOURCE);
+
+		//run
+		message.setOverridingMessage("Only a %source type% can do that");
+
+		//test
+		Assertions.assertEquals("Only a Console can do that",
+				message.getProcessedMessage(SourceOnlyCommandMessage.CONSOLE_SOURCE));
+	}
+
+	@Test
+	public void canPickLocaleMessage() {
+		//setup
+		SourceOnlyCommandMessage message = new SourceOnlyCommandMessage(null);
+
+		//run
+		message.setLocaleMessages(Map.of("de", "Nur %source type%", "en_GB", "Only a %source type%, mate"));
+
+		//test
+		Map<Object, String> values = Map.of(SourceOnlyCommandMessage.PLAYER_SOURCE, "");
+		Assertions.assertEquals("Nur Player", message.getTemplate("de_AT").apply(values));
+		Assertions.assertEquals("Only a Player, mate", message.getTemplate("en_gb").apply(values));
+		Assertions.assertEquals("This is a Player only command", message.getTemplate("en_us").apply(values));
+	}
+}
@@ -4,6 +4,10 @@ import org.bukkit.command.CommandSender;
 import org.junit.jupiter.api.Assertions;
 import org.junit.jupiter.api.Test;
 import org.kaiaccount.account.eco.message.Messages;
+import org.kaiaccount.account.eco.message.messages.balance.TotalWorthMessage;
+import org.kaiaccount.account.eco.message.type.MessageArgumentType;
+import org.kaiaccount.account.eco.message.type.MessageArgumentTypes;
+import org.kaiaccount.account.eco.message.type.generic.GenericMessageArgumentType;
 import org.mockito.Mockito;
 
 import java.math.BigDecimal;
@@ -21,4 +25,24 @@ public class TotalWorthMessageTests {
 		//assert
 		Assertions.assertEquals("Total Worth: 10", result);
 	}
+
+	@Test
+	public void canSeeArgumentTypesRegisteredLater() {
+		//setup
+		TotalWorthMessage message = new TotalWorthMessage(null);
+		MessageArgumentType<CommandSender> type =
+				new GenericMessageArgumentType<>("test", CommandSender.class, sender -> "test");
+		int before = message.getArguments().size();
+
+		//run
+		MessageArgumentTypes.register(type);
+
+		//test
+		try {
+			Assertions.assertEquals(before + 1, message.getArguments().size());
+		} finally {
+			MessageArgumentTypes.unregister(type);
+		}
+		Assertions.assertEquals(before, message.getArguments().size());
+	}
 }
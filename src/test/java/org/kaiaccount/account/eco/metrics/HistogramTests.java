@@ -0,0 +1,55 @@
+package org.kaiaccount.account.eco.metrics;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+public class HistogramTests {
+
+    @Test
+    public void canReadPercentiles() {
+        //setup
+        Histogram histogram = new Histogram();
+
+        //run
+        for (int value = 1; value <= 1000; value++) {
+            histogram.record(value);
+        }
+
+        //test
+        Assertions.assertEquals(1000, histogram.getCount());
+        Assertions.assertEquals(500, histogram.getMean());
+        Assertions.assertEquals(1000, histogram.getMax());
+        long median = histogram.getPercentile(50);
+        Assertions.assertTrue(median >= 500 && median <= 625, "median was " + median);
+        Assertions.assertEquals(1000, histogram.getPercentile(100));
+    }
+
+    @Test
+    public void canBucketEveryValue() {
+        //setup
+        long[] values = {0, 1, 3, 4, 7, 8, 9, 1023, 1024, Long.MAX_VALUE};
+
+        //run
+        //test
+        for (long value : values) {
+            int index = Histogram.index(value);
+            Assertions.assertTrue(Histogram.upper(index) >= value, "bucket of " + value + " ends too soon");
+            if (index > 0) {
+                Assertions.assertTrue(Histogram.upper(index - 1) < value, "bucket of " + value + " starts too late");
+            }
+        }
+    }
+
+    @Test
+    public void canReadEmptyHistogram() {
+        //setup
+        Histogram histogram = new Histogram();
+
+        //run
+        histogram.record(-5);
+
+        //test
+        Assertions.assertEquals(0, histogram.getMax());
+        Assertions.assertEquals(0, new Histogram().getPercentile(99));
+    }
+}
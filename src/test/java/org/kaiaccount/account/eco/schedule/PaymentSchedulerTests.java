@@ -0,0 +1,214 @@
+package org.kaiaccount.account.eco.schedule;
+
+import org.bukkit.Bukkit;
+import org.bukkit.plugin.Plugin;
+import org.bukkit.scheduler.BukkitScheduler;
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.extension.RegisterExtension;
+import org.junit.jupiter.api.io.TempDir;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.EcoToolPlugin;
+import org.kaiaccount.account.eco.MockedManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.job.PaymentBatch;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.transfer.result.SingleTransactionResult;
+import org.kaiaccount.account.inter.type.Account;
+import org.kaiaccount.account.inter.type.AccountSynced;
+import org.kaiaccount.account.inter.type.named.NamedAccount;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+
+import java.io.File;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Map;
+import java.util.UUID;
+
+public class PaymentSchedulerTests {
+
+    @RegisterExtension
+    final MockedManager mocked = new MockedManager();
+    private final EcoManager manager = mocked.getManager();
+    private final List<String> reports = new ArrayList<>();
+    private final BukkitScheduler bukkitScheduler = Mockito.mock(BukkitScheduler.class);
+    private MockedStatic<Bukkit> bukkitMocked;
+    private PaymentScheduler scheduler;
+    private Currency<?> currency;
+    private File file;
+
+    @BeforeEach
+    public void setup(@TempDir Path folder) throws IOException {
+        bukkitMocked = Mockito.mockStatic(Bukkit.class);
+        bukkitMocked.when(Bukkit::getScheduler).thenReturn(bukkitScheduler);
+        currency = Mocks.currency(manager, "dollar");
+
+        file = folder.resolve("schedules.yml").toFile();
+        Files.writeString(file.toPath(), "");
+        scheduler = new PaymentScheduler(file);
+        scheduler.start(Mockito.mock(Plugin.class), manager, manager.getCurrencyRegistry(), 0, reports::add);
+    }
+
+    private NamedAccount namedAccount(String name) {
+        NamedAccount account = Mockito.mock(NamedAccount.class, Mockito.withSettings().extraInterfaces(AccountSynced.class));
+        Mockito.when(account.getAccountName()).thenReturn(name);
+        SingleTransactionResult result = Mockito.mock(SingleTransactionResult.class);
+        Mockito.when(((AccountSynced) account).withdrawSynced(Mockito.any())).thenReturn(result);
+        Mockito.when(((AccountSynced) account).depositSynced(Mockito.any())).thenReturn(result);
+        manager.registerNamedAccount(account);
+        return account;
+    }
+
+    @AfterEach
+    public void close() {
+        scheduler.stop();
+        bukkitMocked.close();
+    }
+
+    @Test
+    public void canFindNextDueBeforeDue() {
+        //run
+        long next = PaymentScheduler.nextDue(100, 10, 50);
+
+        //test
+        Assertions.assertEquals(110, next);
+    }
+
+    @Test
+    public void canFindNextDueOnDue() {
+        //run
+        long next = PaymentScheduler.nextDue(100, 10, 100);
+
+        //test
+        Assertions.assertEquals(110, next);
+    }
+
+    @Test
+    public void canSkipMissedRuns() {
+        //run
+        long next = PaymentScheduler.nextDue(100, 10, 135);
+
+        //test
+        Assertions.assertEquals(140, next);
+    }
+
+    @Test
+    public void canCancelOrder() {
+        //setup
+        StandingOrder order = scheduler.addOrder("player:" + UUID.randomUUID(), "named:gone", currency, BigDecimal.ONE,
+                60, StandingOrder.DEFAULT_REASON);
+
+        //run
+        boolean cancelled = scheduler.cancelOrder(order.getId());
+        scheduler.tick(order.getNextDue() + 1);
+
+        //test
+        Assertions.assertTrue(cancelled);
+        Assertions.assertTrue(scheduler.getOrders().isEmpty());
+        Assertions.assertTrue(reports.isEmpty());
+        Assertions.assertFalse(scheduler.cancelOrder(order.getId()));
+    }
+
+    @Test
+    public void canRemoveOrderWithMissingAccount() {
+        //setup
+        StandingOrder order = scheduler.addOrder("player:" + UUID.randomUUID(), "named:gone", currency, BigDecimal.ONE,
+                60, StandingOrder.DEFAULT_REASON);
+
+        //run
+        scheduler.tick(order.getNextDue() + 1);
+
+        //test
+        Assertions.assertTrue(scheduler.getOrder(order.getId()).isEmpty());
+        Assertions.assertEquals(1, reports.size());
+    }
+
+    @Test
+    public void canFailWithoutPaying() {
+        //setup
+        Account from = Mockito.mock(Account.class);
+        Account to = Mockito.mock(Account.class);
+        StandingOrder order = new StandingOrder(UUID.randomUUID(), "named:from", "named:to", currency, BigDecimal.ONE,
+                60, StandingOrder.DEFAULT_REASON, 0);
+
+        //run
+        StandingOrder.Outcome outcome;
+        try (PaymentBatch batch = new PaymentBatch()) {
+            outcome = order.pay(batch, Map.of("named:from", from, "named:to", to));
+        }
+
+        //test
+        Assertions.assertEquals(StandingOrder.Outcome.FAILED, outcome);
+        Mockito.verifyNoInteractions(from, to);
+    }
+
+    @Test
+    public void canPayDueOrder() {
+        //setup
+        NamedAccount from = namedAccount("from");
+        NamedAccount to = namedAccount("to");
+        StandingOrder order = scheduler.addOrder("named:from", "named:to", currency, BigDecimal.TEN, 60,
+                StandingOrder.DEFAULT_REASON);
+        long due = order.getNextDue();
+
+        //run
+        try (MockedStatic<EcoToolPlugin> ecoToolPluginMock = Mockito.mockStatic(EcoToolPlugin.class)) {
+            EcoToolPlugin plugin = Mockito.mock(EcoToolPlugin.class);
+            Mockito.when(plugin.getName()).thenReturn("EcoTools");
+            ecoToolPluginMock.when(EcoToolPlugin::getInstance).thenReturn(plugin);
+            scheduler.tick(due + 1);
+        }
+
+        //test
+        Mockito.verify((AccountSynced) from).withdrawSynced(
+                Mockito.argThat(payment -> payment.getAmount().compareTo(BigDecimal.TEN) == 0));
+        Mockito.verify((AccountSynced) to).depositSynced(
+                Mockito.argThat(payment -> payment.getAmount().compareTo(BigDecimal.TEN) == 0));
+        Assertions.assertTrue(reports.isEmpty());
+        Assertions.assertEquals(due + 60, order.getNextDue());
+    }
+
+    @Test
+    public void canReloadSavedOrders() {
+        //setup
+        StandingOrder order = scheduler.addOrder("named:from", "named:to", currency, BigDecimal.TEN, 60, "rent");
+
+        //run
+        scheduler.save();
+        scheduler.stop();
+        PaymentScheduler reloaded = new PaymentScheduler(file);
+        reloaded.start(Mockito.mock(Plugin.class), manager, manager.getCurrencyRegistry(), 0, reports::add);
+
+        //test
+        StandingOrder loaded = reloaded.getOrder(order.getId()).orElseThrow();
+        reloaded.stop();
+        Assertions.assertEquals("named:from", loaded.getFromKey());
+        Assertions.assertEquals("named:to", loaded.getToKey());
+        Assertions.assertEquals(currency, loaded.getCurrency());
+        Assertions.assertEquals(0, BigDecimal.TEN.compareTo(loaded.getAmount()));
+        Assertions.assertEquals(60, loaded.getIntervalSeconds());
+        Assertions.assertEquals("rent", loaded.getReason());
+        Assertions.assertEquals(order.getNextDue(), loaded.getNextDue());
+    }
+
+    @Test
+    public void canSaveOncePerTick() {
+        //setup
+        StandingOrder first = scheduler.addOrder("named:a", "named:b", currency, BigDecimal.ONE, 60,
+                StandingOrder.DEFAULT_REASON);
+
+        //run
+        scheduler.addOrder("named:b", "named:a", currency, BigDecimal.ONE, 60, StandingOrder.DEFAULT_REASON);
+        scheduler.cancelOrder(first.getId());
+
+        //test
+        Mockito.verify(bukkitScheduler, Mockito.times(1)).runTask(Mockito.any(Plugin.class), Mockito.any(Runnable.class));
+    }
+}
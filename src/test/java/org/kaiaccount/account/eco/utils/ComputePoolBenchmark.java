@@ -0,0 +1,332 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.bukkit.OfflinePlayer;
+import org.bukkit.command.CommandSender;
+import org.bukkit.configuration.file.YamlConfiguration;
+import org.junit.jupiter.api.AfterAll;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.api.Tag;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.AccountInterface;
+import org.kaiaccount.account.eco.EcoManager;
+import org.kaiaccount.account.eco.Mocks;
+import org.kaiaccount.account.eco.account.EcoAccount;
+import org.kaiaccount.account.eco.account.history.EntryTransactionHistory;
+import org.kaiaccount.account.eco.account.history.TransactionHistory;
+import org.kaiaccount.account.eco.commands.argument.account.PlayerBankArgument;
+import org.kaiaccount.account.eco.commands.exchange.ExchangeCommand;
+import org.kaiaccount.account.eco.io.EcoSerializers;
+import org.kaiaccount.account.eco.message.Message;
+import org.kaiaccount.account.eco.message.messages.balance.TotalWorthMessage;
+import org.kaiaccount.account.eco.message.type.MessageArgument;
+import org.kaiaccount.account.inter.currency.Currency;
+import org.kaiaccount.account.inter.type.named.bank.player.PlayerBankAccount;
+import org.kaiaccount.account.inter.type.player.PlayerAccount;
+import org.mockito.MockedStatic;
+import org.mockito.Mockito;
+import org.mose.command.context.ArgumentContext;
+import org.mose.command.context.CommandContext;
+
+import java.math.BigDecimal;
+import java.time.LocalDateTime;
+import java.util.AbstractMap;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.HashMap;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Locale;
+import java.util.Map;
+import java.util.Optional;
+import java.util.function.Supplier;
+import java.util.stream.Collectors;
+
+/**
+ * Times each call site moved off {@code parallelStream} against the code it replaced, on the same data.
+ * <p>
+ * Tagged {@code benchmark} so the unit test run skips it. Run it with {@code ./gradlew benchmark}, which prints the
+ * average time per call of the current method and of the old parallel stream.
+ */
+@Tag("benchmark")
+public class ComputePoolBenchmark {
+
+    private static final int WARMUP = 2_000;
+    private static final int ITERATIONS = 10_000;
+    private static final int BANKS = 5_000;
+    private static final int CURRENCIES = 200;
+    private static final int HISTORY = 20_000;
+
+    private static final EcoManager manager = new EcoManager();
+    private static MockedStatic<AccountInterface> accountMocked;
+    private static volatile Object blackhole;
+
+    @BeforeAll
+    public static void setup() {
+        accountMocked = Mockito.mockStatic(AccountInterface.class);
+        accountMocked.when(AccountInterface::getManager).thenReturn(manager);
+    }
+
+    @AfterAll
+    public static void close() {
+        accountMocked.close();
+    }
+
+    @Test
+    public void benchmarkProcessedMessage() {
+        //setup
+        TotalWorthMessage message = new TotalWorthMessage(null);
+        CommandSender sender = Mockito.mock(CommandSender.class);
+        Map<Object, String> values = new HashMap<>();
+        values.put(BigDecimal.TEN, "");
+        values.put(sender, "sender ");
+
+        //run
+        String current = compare("AbstractMessage.getProcessedMessage",
+                () -> message.getProcessedMessage(sender, BigDecimal.TEN),
+                () -> legacyProcessedMessage(message, message.getOverridingMessageElse(), values));
+
+        //test
+        Assertions.assertEquals(legacyProcessedMessage(message, message.getOverridingMessageElse(), values), current);
+    }
+
+    @Test
+    public void benchmarkBankSuggestion() {
+        //setup
+        List<PlayerBankAccount> banks = new ArrayList<>(BANKS);
+        for (int index = 0; index < BANKS; index++) {
+            PlayerBankAccount bank = mockBank("bank" + index, "owner" + (index % 100));
+            manager.registerBank(bank);
+            banks.add(bank);
+        }
+        PlayerBankArgument argument = PlayerBankArgument.allPlayerBanks("bank");
+        CommandContext commandContext = Mockito.mock(CommandContext.class);
+        ArgumentContext argumentContext = focus("bank12");
+
+        //run
+        Collection<String> current = compare("PlayerBankArgument.suggest",
+                () -> argument.suggest(commandContext, argumentContext),
+                () -> legacyBankSuggestion(banks, "bank12"));
+
+        //test
+        Assertions.assertTrue(new HashSet<>(legacyBankSuggestion(banks, "bank12")).containsAll(current));
+        for (PlayerBankAccount bank : banks) {
+            manager.deregisterBank(bank);
+        }
+    }
+
+    @Test
+    public void benchmarkExchangeCurrencies() {
+        //setup
+        List<Currency<?>> currencies = new ArrayList<>(CURRENCIES);
+        for (int index = 0; index < CURRENCIES; index++) {
+            Currency<?> currency = Mocks.currency("exchange" + index, index % 2 == 0 ? 1.0 : null);
+            manager.registerCurrency(currency);
+            currencies.add(currency);
+        }
+        CommandContext commandContext = Mockito.mock(CommandContext.class);
+        ArgumentContext argumentContext = focus("ecotools.exchange1");
+
+        //run
+        Collection<String> current = compare("ExchangeCommand.TO.suggest",
+                () -> ExchangeCommand.TO.suggest(commandContext, argumentContext),
+                () -> legacyExchangeSuggestion(currencies, "ecotools.exchange1"));
+
+        //test
+        Assertions.assertEquals(new HashSet<>(legacyExchangeSuggestion(currencies, "ecotools.exchange1")),
+                new HashSet<>(current));
+        currencies.forEach(manager::deregisterCurrency);
+    }
+
+    @Test
+    public void benchmarkHistoryBetween() {
+        //setup
+        LocalDateTime now = LocalDateTime.now();
+        List<EntryTransactionHistory> entries = new ArrayList<>(HISTORY);
+        for (int index = 0; index < HISTORY; index++) {
+            EntryTransactionHistory entry = Mockito.mock(EntryTransactionHistory.class, Mockito.withSettings().stubOnly());
+            Mockito.when(entry.getTime()).thenReturn(now.minusMinutes(index));
+            entries.add(entry);
+        }
+        TransactionHistory history = new TransactionHistory(Mockito.mock(EcoAccount.class), entries);
+        LocalDateTime start = now.minusDays(3);
+
+        //run
+        List<EntryTransactionHistory> current = compare("TransactionHistory.getBetween",
+                () -> history.getBetween(start, now),
+                () -> legacyHistoryBetween(history, start, now));
+
+        //test
+        Assertions.assertEquals(legacyHistoryBetween(history, start, now), current);
+    }
+
+    @Test
+    public void benchmarkReadBalances() {
+        //setup
+        YamlConfiguration configuration = new YamlConfiguration();
+        List<Currency<?>> currencies = new ArrayList<>(CURRENCIES);
+        for (int index = 0; index < CURRENCIES; index++) {
+            Currency<?> currency = Mocks.currency("balance" + index);
+            manager.registerCurrency(currency);
+            currencies.add(currency);
+            configuration.set("balance.EcoTools.balance" + index, (double) index);
+        }
+
+        //run
+        Map<Currency<?>, BigDecimal> current = compare("EcoSerializers.readBalances",
+                () -> EcoSerializers.readBalances(configuration.getConfigurationSection("balance"), "benchmark"),
+                () -> legacyReadBalances(currencies, configuration));
+
+        //test
+        Assertions.assertEquals(legacyReadBalances(currencies, configuration).keySet(), current.keySet());
+        currencies.forEach(manager::deregisterCurrency);
+    }
+
+    private static PlayerBankAccount mockBank(String name, String owner) {
+        OfflinePlayer player = Mockito.mock(OfflinePlayer.class, Mockito.withSettings().stubOnly());
+        Mockito.when(player.getName()).thenReturn(owner);
+        PlayerAccount holder = Mockito.mock(PlayerAccount.class, Mockito.withSettings().stubOnly());
+        Mockito.when(holder.getPlayer()).thenReturn(player);
+        PlayerBankAccount bank = Mockito.mock(PlayerBankAccount.class, Mockito.withSettings().stubOnly());
+        Mockito.when(bank.getAccountName()).thenReturn(name);
+        Mockito.when(bank.getAccountHolder()).thenReturn(holder);
+        return bank;
+    }
+
+    private static ArgumentContext focus(String typed) {
+        ArgumentContext argument = Mockito.mock(ArgumentContext.class);
+        Mockito.when(argument.getFocusArgument()).thenReturn(typed);
+        return argument;
+    }
+
+    private static <T> T compare(String name, Supplier<T> current, Supplier<?> legacy) {
+        for (int i = 0; i < WARMUP; i++) {
+            blackhole = current.get();
+            blackhole = legacy.get();
+        }
+        long currentNanos = time(current);
+        long legacyNanos = time(legacy);
+        System.out.printf(Locale.ROOT, "%-36s %10d ns/op    parallelStream %10d ns/op%n", name, currentNanos,
+                legacyNanos);
+        return current.get();
+    }
+
+    private static long time(Supplier<?> run) {
+        long start = System.nanoTime();
+        for (int i = 0; i < ITERATIONS; i++) {
+            blackhole = run.get();
+        }
+        return (System.nanoTime() - start) / ITERATIONS;
+    }
+
+    //the call sites as they were before the compute pool
+
+    private static String legacyProcessedMessage(Message message, CharSequence text, Map<Object, String> values) {
+        StringBuilder builder = new StringBuilder();
+        String argumentBuffer = null;
+        for (int i = 0; i < text.length(); i++) {
+            char at = text.charAt(i);
+            if (at != '%') {
+                if (argumentBuffer == null) {
+                    builder.append(at);
+                    continue;
+                }
+                argumentBuffer = argumentBuffer + at;
+                continue;
+            }
+            if (argumentBuffer == null) {
+                argumentBuffer = at + "";
+                continue;
+            }
+            String withoutPercent = argumentBuffer.substring(1);
+            Optional<MessageArgument<?>> opArgument = message.getArgument(withoutPercent);
+            if (opArgument.isEmpty()) {
+                builder.append(argumentBuffer);
+                continue;
+            }
+            Collection<Object> possibleValues = values.entrySet()
+                    .parallelStream()
+                    .filter(entry -> opArgument.get().getClassType().isInstance(entry.getKey()))
+                    .map(Map.Entry::getKey)
+                    .toList();
+            Object value;
+            if (possibleValues.size() > 1) {
+                Optional<Object> opValue = values.entrySet()
+                        .parallelStream()
+                        .filter(entry -> withoutPercent.startsWith(entry.getValue()))
+                        .findAny()
+                        .map(Map.Entry::getValue);
+                if (opValue.isEmpty()) {
+                    i++;
+                    continue;
+                }
+                value = opValue.get();
+            } else if (possibleValues.isEmpty()) {
+                i++;
+                continue;
+            } else {
+                value = possibleValues.iterator().next();
+            }
+            builder.append(process(opArgument.get(), value));
+            argumentBuffer = null;
+        }
+        return builder.toString();
+    }
+
+    @SuppressWarnings("unchecked")
+    private static <T> String process(MessageArgument<T> argument, Object value) {
+        return argument.apply((T) value);
+    }
+
+    private static List<String> legacyBankSuggestion(List<PlayerBankAccount> banks, String peek) {
+        return banks
+                .parallelStream()
+                .filter(name -> name.getAccountName().toLowerCase().startsWith(peek) || (name.getAccountHolder().getPlayer().getName() + "."
+                        + name.getAccountName()).toLowerCase().startsWith(peek))
+                .flatMap(name -> Arrays
+                        .asList(name.getAccountName(), name.getAccountHolder().getPlayer().getName() + "." + name.getAccountName())
+                        .parallelStream())
+                .toList();
+    }
+
+    private static List<String> legacyExchangeSuggestion(List<Currency<?>> all, String peek) {
+        List<Currency<?>> currencies = all.parallelStream().filter(c -> c.getWorth().isPresent()).toList();
+        List<String> symbolCurrencies = currencies.parallelStream()
+                .map(Currency::getSymbol)
+                .filter(currency -> currency.toLowerCase().startsWith(peek.toLowerCase()))
+                .sorted()
+                .toList();
+        List<String> nameCurrencies = currencies.parallelStream()
+                .map(cur -> cur.getPlugin().getName() + "." + cur.getKeyName())
+                .filter(name -> name.toLowerCase().startsWith(peek.toLowerCase()))
+                .sorted()
+                .toList();
+        List<String> ret = new ArrayList<>(nameCurrencies);
+        ret.addAll(symbolCurrencies);
+        return ret;
+    }
+
+    private static List<EntryTransactionHistory> legacyHistoryBetween(TransactionHistory history, LocalDateTime start,
+                                                                      LocalDateTime end) {
+        return history
+                .parallelStream()
+                .filter(entry -> entry.getTime().isAfter(start))
+                .filter(entry -> entry.getTime().isBefore(end))
+                .toList();
+    }
+
+    private static Map<Currency<?>, BigDecimal> legacyReadBalances(List<Currency<?>> currencies,
+                                                                  YamlConfiguration configuration) {
+        return currencies
+                .parallelStream()
+                .map(currency -> {
+                    double value = configuration.getDouble(
+                            "balance." + currency.getPlugin().getName() + "." + currency.getKeyName());
+                    return new AbstractMap.SimpleImmutableEntry<>(currency, value);
+                })
+                .filter(entry -> entry.getValue() != 0.0)
+                .collect(Collectors.toMap(AbstractMap.SimpleImmutableEntry::getKey,
+                        value -> BigDecimal.valueOf(value.getValue())));
+    }
+}
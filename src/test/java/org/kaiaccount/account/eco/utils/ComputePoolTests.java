@@ -0,0 +1,56 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.junit.jupiter.api.AfterEach;
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.BeforeEach;
+import org.junit.jupiter.api.Test;
+import org.kaiaccount.account.eco.utils.concurrent.ComputePool;
+
+import java.util.List;
+import java.util.stream.IntStream;
+
+public class ComputePoolTests {
+
+    private ComputePool pool;
+
+    @BeforeEach
+    public void setup() {
+        pool = new ComputePool(2, ComputePool.DEFAULT_PARALLEL_THRESHOLD);
+    }
+
+    @AfterEach
+    public void close() {
+        pool.shutdown();
+    }
+
+    @Test
+    public void canRunSmallCollectionOnCallingThread() {
+        //setup
+        List<Integer> values = List.of(1, 2, 3);
+        Thread caller = Thread.currentThread();
+
+        //run
+        Thread ran = pool.compute(values, stream -> stream.map(value -> Thread.currentThread()).findAny().orElseThrow());
+
+        //test
+        Assertions.assertFalse(pool.isParallel(values));
+        Assertions.assertEquals(caller, ran);
+    }
+
+    @Test
+    public void canRunLargeCollectionInsidePool() {
+        //setup
+        List<Integer> values = IntStream.range(0, ComputePool.DEFAULT_PARALLEL_THRESHOLD * 4).boxed().toList();
+
+        //run
+        boolean commonPoolUsed = pool.compute(values, stream -> stream
+                .map(value -> Thread.currentThread().getName())
+                .anyMatch(name -> name.startsWith("ForkJoinPool.commonPool")));
+        long sum = pool.compute(values, stream -> stream.mapToLong(Integer::longValue).sum());
+
+        //test
+        Assertions.assertTrue(pool.isParallel(values));
+        Assertions.assertFalse(commonPoolUsed);
+        Assertions.assertEquals(values.stream().mapToLong(Integer::longValue).sum(), sum);
+    }
+}
@@ -0,0 +1,69 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+
+public class HierarchicalTimerWheelTests {
+
+    @Test
+    public void canFireInDueOrder() {
+        //setup
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(4, 3, 0);
+        wheel.schedule(5, "second");
+        wheel.schedule(2, "first");
+        wheel.schedule(9, "third");
+
+        //run
+        List<String> fired = wheel.advance(10);
+
+        //test
+        Assertions.assertEquals(List.of("first", "second", "third"), fired);
+        Assertions.assertEquals(0, wheel.size());
+    }
+
+    @Test
+    public void canFireTimersFromHigherLevels() {
+        //setup
+        HierarchicalTimerWheel<Long> wheel = new HierarchicalTimerWheel<>(2, 2, 0);
+        wheel.schedule(7, 7L);
+        wheel.schedule(40, 40L);
+
+        //run
+        List<Long> early = wheel.advance(39);
+        List<Long> late = wheel.advance(40);
+
+        //test
+        Assertions.assertEquals(List.of(7L), early);
+        Assertions.assertEquals(List.of(40L), late);
+    }
+
+    @Test
+    public void canCancel() {
+        //setup
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(4, 2, 0);
+        HierarchicalTimerWheel.Timer<String> timer = wheel.schedule(3, "cancelled");
+        wheel.schedule(3, "kept");
+
+        //run
+        wheel.cancel(timer);
+
+        //test
+        Assertions.assertEquals(List.of("kept"), wheel.advance(3));
+        Assertions.assertTrue(timer.isCancelled());
+    }
+
+    @Test
+    public void canFirePassedTimersOnNextAdvance() {
+        //setup
+        HierarchicalTimerWheel<String> wheel = new HierarchicalTimerWheel<>(4, 2, 100);
+
+        //run
+        HierarchicalTimerWheel.Timer<String> timer = wheel.schedule(50, "late");
+
+        //test
+        Assertions.assertEquals(101, timer.getDue());
+        Assertions.assertEquals(List.of("late"), wheel.advance(101));
+    }
+}
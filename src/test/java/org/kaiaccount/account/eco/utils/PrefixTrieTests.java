@@ -0,0 +1,111 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.List;
+import java.util.Set;
+
+public class PrefixTrieTests {
+
+    @Test
+    public void canSuggestInOrderIgnoringCase() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        trie.put("Steve.Main", 1);
+        trie.put("steve.savings", 2);
+        trie.put("Main", 1);
+        trie.put("alex.main", 3);
+
+        //run
+        List<String> suggestions = trie.suggest("STEVE.", 10);
+
+        //test
+        Assertions.assertEquals(List.of("Steve.Main", "steve.savings"), suggestions);
+    }
+
+    @Test
+    public void canLimitSuggestions() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        for (int i = 0; i < 20; i++) {
+            trie.put("bank" + (char) ('a' + i), i);
+        }
+
+        //run
+        List<String> suggestions = trie.suggest("bank", 3);
+
+        //test
+        Assertions.assertEquals(List.of("banka", "bankb", "bankc"), suggestions);
+    }
+
+    @Test
+    public void canFilterSuggestions() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        trie.put("one", 1);
+        trie.put("only", 2);
+        trie.put("onward", 3);
+
+        //run
+        List<Integer> values = trie.search("on", 10, value -> value != 2);
+
+        //test
+        Assertions.assertEquals(List.of(1, 3), values);
+    }
+
+    @Test
+    public void canGetExactIgnoringCase() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        trie.put("main", 1);
+        trie.put("Main", 2);
+        trie.put("mainly", 3);
+
+        //run
+        Set<Integer> values = Set.copyOf(trie.get("MAIN"));
+
+        //test
+        Assertions.assertEquals(Set.of(1, 2), values);
+    }
+
+    @Test
+    public void canRemove() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        trie.put("main", 1);
+        trie.put("mainly", 2);
+
+        //run
+        trie.remove("MAIN", 1);
+
+        //test
+        Assertions.assertTrue(trie.get("main").isEmpty());
+        Assertions.assertEquals(List.of("mainly"), trie.suggest("m", 10));
+    }
+
+    @Test
+    public void canPruneAfterRemove() {
+        //setup
+        PrefixTrie<Integer> trie = new PrefixTrie<>();
+        PrefixTrie<Integer> kept = new PrefixTrie<>();
+        trie.put("steve.main", 0);
+        kept.put("steve.main", 0);
+        for (int i = 1; i < 200; i++) {
+            trie.put("steve.bank" + i, i);
+        }
+
+        //run
+        for (int i = 1; i < 200; i++) {
+            trie.remove("steve.bank" + i, i);
+        }
+
+        //test
+        Assertions.assertEquals(kept.countNodes(), trie.countNodes());
+        Assertions.assertEquals(List.of("steve.main"), trie.suggest("steve", 10));
+        Assertions.assertTrue(trie.suggest("steve.bank", 10).isEmpty());
+
+        trie.remove("steve.main", 0);
+        Assertions.assertEquals(1, trie.countNodes());
+    }
+}
@@ -0,0 +1,71 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.Random;
+import java.util.TreeSet;
+
+public class RankedTreeTests {
+
+    @Test
+    public void canFindRankAndValue() {
+        //setup
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.reverseOrder());
+
+        //run
+        tree.add(5);
+        tree.add(20);
+        tree.add(10);
+
+        //test
+        Assertions.assertEquals(3, tree.size());
+        Assertions.assertEquals(0, tree.indexOf(20));
+        Assertions.assertEquals(2, tree.indexOf(5));
+        Assertions.assertEquals(-1, tree.indexOf(7));
+        Assertions.assertEquals(10, tree.get(1));
+    }
+
+    @Test
+    public void canPage() {
+        //setup
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+        for (int i = 0; i < 25; i++) {
+            tree.add(i);
+        }
+
+        //run
+        List<Integer> page = tree.range(20, 10);
+
+        //test
+        Assertions.assertEquals(List.of(20, 21, 22, 23, 24), page);
+    }
+
+    @Test
+    public void matchesSortedSet() {
+        //setup
+        Random random = new Random(1);
+        RankedTree<Integer> tree = new RankedTree<>(Comparator.naturalOrder());
+        TreeSet<Integer> expected = new TreeSet<>();
+
+        //run
+        for (int i = 0; i < 10000; i++) {
+            int value = random.nextInt(500);
+            if (random.nextBoolean()) {
+                Assertions.assertEquals(expected.add(value), tree.add(value));
+            } else {
+                Assertions.assertEquals(expected.remove(value), tree.remove(value));
+            }
+        }
+
+        //test
+        List<Integer> ordered = new ArrayList<>(expected);
+        Assertions.assertEquals(ordered, tree.range(0, tree.size()));
+        for (int index = 0; index < ordered.size(); index++) {
+            Assertions.assertEquals(index, tree.indexOf(ordered.get(index)));
+        }
+    }
+}
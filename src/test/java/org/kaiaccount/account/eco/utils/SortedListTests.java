@@ -0,0 +1,53 @@
+package org.kaiaccount.account.eco.utils;
+
+import org.junit.jupiter.api.Assertions;
+import org.junit.jupiter.api.Test;
+
+import java.util.Comparator;
+import java.util.List;
+
+public class SortedListTests {
+
+    @Test
+    public void canAddInOrder() {
+        //setup
+        SortedList<Integer> list = new SortedList<>(Comparator.naturalOrder());
+
+        //run
+        list.add(1);
+        list.add(2);
+        list.add(3);
+
+        //test
+        Assertions.assertEquals(List.of(1, 2, 3), list);
+    }
+
+    @Test
+    public void canAddOutOfOrder() {
+        //setup
+        SortedList<Integer> list = new SortedList<>(List.of(5, 1, 3), Comparator.naturalOrder());
+
+        //run
+        list.add(4);
+        list.add(0);
+        list.add(6);
+        list.add(3);
+
+        //test
+        Assertions.assertEquals(List.of(0, 1, 3, 3, 4, 5, 6), list);
+        Assertions.assertEquals(0, list.getFirst());
+        Assertions.assertEquals(6, list.getLast());
+    }
+
+    @Test
+    public void canAddAllOutOfOrder() {
+        //setup
+        SortedList<Integer> list = new SortedList<>(List.of(2, 4), Comparator.naturalOrder());
+
+        //run
+        list.addAll(List.of(5, 1, 3));
+
+        //test
+        Assertions.assertEquals(List.of(1, 2, 3, 4, 5), list);
+    }
+}